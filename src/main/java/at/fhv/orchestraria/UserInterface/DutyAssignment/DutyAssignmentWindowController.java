@@ -119,6 +119,8 @@ public class DutyAssignmentWindowController {
         _duty = (IDuty) entry.getDuty();
         _dutyAssController = dutyAsstController;
         _sectionId = _dutyAssController.getSectionID();
+        //Musicians are loaded once for all tabs of this window
+        _dutyAssController.clearAvailableMusicians();
         _assignmentRosterThread = assignmentRosterThread;
 
 
@@ -293,6 +295,8 @@ public class DutyAssignmentWindowController {
         _duty = duty;
         _dutyAssController = dutyAsstController;
         _sectionId = _dutyAssController.getSectionID();
+        //Musicians are loaded once for all tabs of this window
+        _dutyAssController.clearAvailableMusicians();
         HashMap<String, IDutyPosition> stringMapping = new HashMap<>();
 
 //      Get instruments for tabs and position
@@ -6,12 +6,17 @@ import at.fhv.orchestraria.application.DutyAssignmentController;
 import at.fhv.orchestraria.domain.Imodel.IDuty;
 import at.fhv.orchestraria.domain.Imodel.IMusician;
 import at.fhv.orchestraria.domain.integrationInterfaces.IntegratableDuty;
+import at.fhv.teamb.symphoniacus.presentation.internal.tasks.TaskScheduler;
 import com.calendarfx.model.Calendar;
 import com.calendarfx.model.CalendarSource;
 import com.calendarfx.view.CalendarView;
+import javafx.concurrent.Task;
 
+import java.time.LocalDate;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
 
 public class AssignmentRosterThread extends RosterThread{
 
@@ -24,6 +29,8 @@ public class AssignmentRosterThread extends RosterThread{
     private Calendar _assignedDuties = new Calendar("Assigned");
     private IDuty _duty;
     private CalendarView _cview;
+    private LocalDate _loadedFrom;
+    private LocalDate _loadedTo;
 
     public static boolean isPreload = false;
 
@@ -78,13 +85,89 @@ public class AssignmentRosterThread extends RosterThread{
         _unassignedDuties.setStyle(Calendar.Style.STYLE5);
         _assignedDuties.setStyle(Calendar.Style.STYLE1);
 
-        //Add all Duties to the Calendars
-        Collection<IDuty> duties = _dAssController.getDuties();
+        //Add the Duties of the visible range plus one month on to the Calendars, others are loaded when navigating there
+        _loadedFrom = getFirstVisibleDay(_cview.getDate());
+        _loadedTo = getLoadedUntil(_cview.getDate());
+        Collection<IDuty> duties = _dAssController.getDuties(_loadedFrom.atStartOfDay(), _loadedTo.atStartOfDay());
         for(IDuty d : duties){
             _duty = d;
             OrchestraEntry<IntegratableDuty> e  = new OrchestraEntry<IntegratableDuty>((IntegratableDuty)d);
             sortDuty(e,d);
         }
+        _cview.dateProperty().addListener((observable, oldDate, newDate) -> enterMissingEntries(newDate));
+    }
+
+    /**
+     * Loads the duties around the date that are not loaded yet in the background and puts them into the calendar.
+     * A load that has not finished yet is cancelled when the CalendarView navigates again.
+     * @param date The date the CalendarView navigated to.
+     */
+    private synchronized void enterMissingEntries(LocalDate date) {
+        LocalDate from = getFirstVisibleDay(date);
+        LocalDate to = getLoadedUntil(date);
+        LocalDate loadedFrom = _loadedFrom;
+        LocalDate loadedTo = _loadedTo;
+        boolean loadEarlier = from.isBefore(loadedFrom);
+        boolean loadLater = to.isAfter(loadedTo);
+        if(!loadEarlier && !loadLater){
+            return;
+        }
+
+        Task<List<IDuty>> loader = new Task<>() {
+            @Override
+            protected List<IDuty> call() {
+                List<IDuty> duties = new LinkedList<>();
+                if(loadEarlier){
+                    duties.addAll(_dAssController.getDuties(from.atStartOfDay(), loadedFrom.atStartOfDay()));
+                }
+                if(loadLater){
+                    duties.addAll(_dAssController.getDuties(loadedTo.atStartOfDay(), to.atStartOfDay()));
+                }
+                return duties;
+            }
+        };
+        loader.setOnSucceeded(event -> enterLoadedEntries(loader.getValue(), from, to));
+        TaskScheduler.executeLatest(this, loader);
+    }
+
+    /**
+     * Puts the loaded duties into the calendar and extends the loaded range. Duties that were loaded by an
+     * earlier load in the meantime are skipped, so no entry is added twice.
+     * @param duties The loaded duties.
+     * @param from The first day of the load.
+     * @param to The end of the load (exclusive).
+     */
+    private synchronized void enterLoadedEntries(List<IDuty> duties, LocalDate from, LocalDate to) {
+        for(IDuty d : duties){
+            LocalDate start = d.getStart().toLocalDate();
+            if(start.isBefore(_loadedFrom) || !start.isBefore(_loadedTo)){
+                sortDuty(new OrchestraEntry<IntegratableDuty>((IntegratableDuty)d), d);
+            }
+        }
+        if(from.isBefore(_loadedFrom)){
+            _loadedFrom = from;
+        }
+        if(to.isAfter(_loadedTo)){
+            _loadedTo = to;
+        }
+    }
+
+    /**
+     * The month view also shows the last days of the previous month, so loading starts one month earlier.
+     * @param date The date shown by the CalendarView.
+     * @return The first day to load duties for.
+     */
+    private LocalDate getFirstVisibleDay(LocalDate date) {
+        return date.withDayOfMonth(1).minusMonths(1);
+    }
+
+    /**
+     * The month view also shows the first days of the next month, and one more month is loaded ahead.
+     * @param date The date shown by the CalendarView.
+     * @return The end of the days to load duties for (exclusive).
+     */
+    private LocalDate getLoadedUntil(LocalDate date) {
+        return date.withDayOfMonth(1).plusMonths(2);
     }
 
     /**
@@ -6,8 +6,9 @@ import at.fhv.orchestraria.UserInterface.MainWindow.MainWindow;
 import at.fhv.orchestraria.application.DutyAssignmentController;
 import at.fhv.orchestraria.domain.Imodel.IDuty;
 import at.fhv.orchestraria.domain.Imodel.IUser;
+import at.fhv.teamb.symphoniacus.application.MusicianManager;
 import at.fhv.teamb.symphoniacus.application.type.DomainUserType;
-import at.fhv.teamb.symphoniacus.domain.adapter.MusicianAdapter;
+import at.fhv.teamb.symphoniacus.domain.Musician;
 import at.fhv.teamb.symphoniacus.presentation.TabPaneController;
 import at.fhv.teamb.symphoniacus.presentation.internal.Parentable;
 import com.calendarfx.view.CalendarView;
@@ -93,11 +94,10 @@ public class RosterWindowController implements Parentable<TabPaneController> {
             _rosterThread = new AssignmentRosterThread(this,cview);
         }else{
             if (this.parentController.getParentController().getLoginUserType().equals(DomainUserType.DOMAIN_MUSICIAN)) {
+                Musician musician = this.parentController.getParentController().getCurrentMusician();
                 _rosterThread = new ViewRosterThread(
                     cview,
-                    new MusicianAdapter(
-                        this.parentController.getParentController().getCurrentMusician().getEntity()
-                    )
+                    () -> new MusicianManager().loadRosterMusician(musician).orElse(null)
                 );
             } else {
                 // If Team C had a logger, we would have used it.. lol
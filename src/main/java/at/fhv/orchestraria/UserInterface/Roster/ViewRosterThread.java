@@ -8,11 +8,13 @@ import com.calendarfx.model.CalendarSource;
 import com.calendarfx.view.CalendarView;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.function.Supplier;
 
 public class ViewRosterThread extends RosterThread {
 
     private CalendarView _cview;
     private IntegratableMusician _musicianEntity;
+    private Supplier<IntegratableMusician> _musicianLoader;
 
 
     //For testing porpuses
@@ -29,10 +31,14 @@ public class ViewRosterThread extends RosterThread {
     private Calendar _performanceDuties = new Calendar("Performances");
 
 
-    public ViewRosterThread(CalendarView cview, IntegratableMusician musician) {
+    /**
+     * @param cview the CalendarView to fill
+     * @param musicianLoader loads the musician with everything the roster shows, called by the thread
+     */
+    public ViewRosterThread(CalendarView cview, Supplier<IntegratableMusician> musicianLoader) {
         super();
         _cview = cview;
-        _musicianEntity = musician;
+        _musicianLoader = musicianLoader;
     }
 
 
@@ -46,6 +52,11 @@ public class ViewRosterThread extends RosterThread {
             _musicianEntity = (IntegratableMusician) LoginWindowController.getLoggedInUser().getMusician();
          */
 
+        _musicianEntity = _musicianLoader.get();
+        if(_musicianEntity == null){
+            return;
+        }
+
         enterEntries();
 
         //Set Popover to custom Popover
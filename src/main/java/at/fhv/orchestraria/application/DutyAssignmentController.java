@@ -6,8 +6,11 @@ import at.fhv.orchestraria.persistence.dao.DutyDAO;
 import at.fhv.orchestraria.persistence.dao.DutyPositionDAO;
 import at.fhv.orchestraria.persistence.dao.MusicianDAO;
 import at.fhv.orchestraria.domain.model.*;
+import at.fhv.teamb.symphoniacus.application.PointsLedgerManager;
+import at.fhv.teamb.symphoniacus.persistence.UnitOfWork;
 
 
+import java.time.LocalDateTime;
 import java.util.*;
 
 /**
@@ -21,6 +24,11 @@ public class DutyAssignmentController {
 
     private int _sectionID;
     private HashMap<ISeriesOfPerformances, IDuty> _previousMappings = new HashMap<>();
+    private IDuty _availableMusiciansDuty;
+    private List<MusicianEntityC> _availableMusicians;
+    private HashMap<String, List<MusicianEntityC>> _availableMusiciansByInstrument = new HashMap<>();
+    private Optional<MusicianEntityC> _externalMusician;
+    private PointsLedgerManager _pointsLedgerManager = new PointsLedgerManager();
 
     /**
      *
@@ -41,24 +49,24 @@ public class DutyAssignmentController {
         return Collections.unmodifiableCollection(dDAO.getDutiesBySectionID(_sectionID));
     }
 
+    /**
+     *
+     * @param from Start of the time window, null for no lower bound.
+     * @param to End of the time window (exclusive), null for no upper bound.
+     * @return The duties of the assigning musician's section starting within the time window.
+     */
+    public Collection<IDuty> getDuties(LocalDateTime from, LocalDateTime to) {
+        DutyDAO dDAO = (DutyDAO) JPADatabaseFacade.getInstance().getDAO(DutyEntityC.class);
+        return Collections.unmodifiableCollection(dDAO.getDutiesBySectionID(_sectionID, from, to));
+    }
+
     /**
      * Get all musicians for a non musical event
      * @param duty The event to check which musicians are available
      * @return All musicians available at that time of the assigning person's section
      */
     public Collection<IMusician> getSortedForDutyAvailableMusicians(IDuty duty) {
-        MusicianDAO mDAO = (MusicianDAO) JPADatabaseFacade.getInstance().getDAO(MusicianEntityC.class);
-        Collection<MusicianEntityC> availableMusicians = mDAO.getAllBySectionID(_sectionID);
-        LinkedList<MusicianEntityC> sortedMusicianEntities = new LinkedList<>();
-
-        //Iterates all musicians of the section and filters the available musicians
-        for(MusicianEntityC musician : availableMusicians){
-            if(musician.isAvailableAtDuty(duty) && musician.getMusicianId()!= MusicianEntityC.EXTERNAL_MUSICIAN_ID){
-                sortedMusicianEntities.add(musician);
-            }
-        }
-        //Sort the musicians first by wish and second by points
-        Collections.sort(sortedMusicianEntities, new MusicianComparator(duty));
+        LinkedList<MusicianEntityC> sortedMusicianEntities = new LinkedList<>(getSortedAvailableMusicians(duty));
 
         //Add the external musician
         sortedMusicianEntities.addLast(createExternal(sortedMusicianEntities));
@@ -72,24 +80,64 @@ public class DutyAssignmentController {
      * @return All musicians available at that time of the assigning person's section playing the specified instrument
      */
     public Collection<IMusician> getSortedForDutyAvailableMusiciansByInstrument(IDuty duty, String instrumentAbbreviation){
+        List<MusicianEntityC> availableMusicians = getSortedAvailableMusicians(duty);
+
+        //Filtering keeps the order, so every instrument is partitioned from the sorted musicians only once
+        List<MusicianEntityC> instrumentMusicians = _availableMusiciansByInstrument.computeIfAbsent(instrumentAbbreviation, instrument -> {
+            List<MusicianEntityC> musicians = new LinkedList<>();
+            for(MusicianEntityC musician : availableMusicians){
+                if(musician.canPlayInstrument(instrument)){
+                    musicians.add(musician);
+                }
+            }
+            return musicians;
+        });
+        LinkedList<MusicianEntityC> sortedMusicianEntities = new LinkedList<>(instrumentMusicians);
+
+        //Add external musician
+        sortedMusicianEntities.addLast(createExternal(sortedMusicianEntities));
+        return Collections.unmodifiableCollection(sortedMusicianEntities);
+    }
+
+    /**
+     * Loads the musicians of the section once per duty, keeps the available ones and sorts them.
+     * All instrument tabs of the duty are then filled from memory.
+     * @param duty The event to check which musicians are available
+     * @return The available musicians of the section without the external musician, sorted by wish and points
+     */
+    private List<MusicianEntityC> getSortedAvailableMusicians(IDuty duty){
+        if(duty.equals(_availableMusiciansDuty)){
+            return _availableMusicians;
+        }
+
         MusicianDAO mDAO = (MusicianDAO) JPADatabaseFacade.getInstance().getDAO(MusicianEntityC.class);
-        Collection<MusicianEntityC> availableMusicians = mDAO.getAllBySectionID(_sectionID);
-        LinkedList<MusicianEntityC> sortedMusicianEntities = new LinkedList<>();
+        Collection<MusicianEntityC> sectionMusicians = mDAO.getAllBySectionID(_sectionID);
+        List<MusicianEntityC> sortedMusicianEntities = new ArrayList<>(sectionMusicians.size());
 
         //Iterates all musicians of the section and filters the available musicians
-        for(MusicianEntityC musician : availableMusicians){
-            if(musician.canPlayInstrument(instrumentAbbreviation) && musician.isAvailableAtDuty(duty)
-                    && musician.getMusicianId()!= MusicianEntityC.EXTERNAL_MUSICIAN_ID){
+        for(MusicianEntityC musician : sectionMusicians){
+            if(musician.isAvailableAtDuty(duty) && musician.getMusicianId()!= MusicianEntityC.EXTERNAL_MUSICIAN_ID){
                 sortedMusicianEntities.add(musician);
             }
         }
-
         //Sort the musicians first by wish and second by points
-        Collections.sort(sortedMusicianEntities, new MusicianComparator(duty));
+        new MusicianComparator(duty).sort(sortedMusicianEntities);
 
-        //Add external musician
-        sortedMusicianEntities.addLast(createExternal(sortedMusicianEntities));
-        return Collections.unmodifiableCollection(sortedMusicianEntities);
+        _availableMusiciansDuty = duty;
+        _availableMusicians = sortedMusicianEntities;
+        _availableMusiciansByInstrument.clear();
+        _externalMusician = null;
+        return sortedMusicianEntities;
+    }
+
+    /**
+     * Forgets the loaded musicians, so they are loaded again the next time the musicians of a duty are requested.
+     */
+    public void clearAvailableMusicians(){
+        _availableMusiciansDuty = null;
+        _availableMusicians = null;
+        _availableMusiciansByInstrument.clear();
+        _externalMusician = null;
     }
 
     /**
@@ -98,8 +146,11 @@ public class DutyAssignmentController {
      * @return External musician
      */
     private MusicianEntityC createExternal(LinkedList<MusicianEntityC> sortedMusicianEntities){
-        //This section adds the external musician
-        Optional<MusicianEntityC> external =  JPADatabaseFacade.getInstance().getDAO(MusicianEntityC.class).get(MusicianEntityC.EXTERNAL_MUSICIAN_ID);
+        //This section adds the external musician, which is loaded once together with the musicians of the section
+        if(_externalMusician == null) {
+            _externalMusician = JPADatabaseFacade.getInstance().getDAO(MusicianEntityC.class).get(MusicianEntityC.EXTERNAL_MUSICIAN_ID);
+        }
+        Optional<MusicianEntityC> external = _externalMusician;
         MusicianEntityC ext = null;
         if(external.isPresent()) {
             ext = external.get();
@@ -125,6 +176,7 @@ public class DutyAssignmentController {
         MusicianDAO mDAO = (MusicianDAO) JPADatabaseFacade.getInstance().getDAO(MusicianEntityC.class);
         List<DutyPositionEntityC> dp =new LinkedList<>();
         LinkedList<MusicianEntityC> musicianEntities = new LinkedList<>();
+        Set<Integer> previousMusicianIds = getAssignedMusicianIds(duty);
 
         for (Map.Entry<IDutyPosition, IMusician> positionWithMusician : mapping.entrySet()) {
             DutyPositionEntityC realDutyPosition = (DutyPositionEntityC) positionWithMusician.getKey();
@@ -146,8 +198,18 @@ public class DutyAssignmentController {
                 }
             }
         }
-        dpmeDAO.savelist(dp);
-        mDAO.updatelist(musicianEntities);
+        //Save the assignment and keep the points ledger in sync within one transaction
+        boolean saved = UnitOfWork.callInTransaction(() -> {
+            dpmeDAO.savelist(dp);
+            mDAO.updatelist(musicianEntities);
+            return _pointsLedgerManager.applyAssignmentChange(duty.getDutyId(), previousMusicianIds, getAssignedMusicianIds(duty));
+        });
+
+        //Assignments change the availability and points of the musicians
+        clearAvailableMusicians();
+        if(!saved){
+            throw new IllegalStateException("Assignment of duty " + duty.getDutyId() + " could not be saved");
+        }
 
         //Enable the possibility for reassigning the previous musicians
         if(duty.getSeriesOfPerformances()!= null) {
@@ -156,6 +218,21 @@ public class DutyAssignmentController {
         }
     }
 
+    /**
+     * Collects the IDs of all musicians currently assigned to a position of the duty
+     * @param duty The duty to check
+     * @return IDs of the assigned musicians
+     */
+    private Set<Integer> getAssignedMusicianIds(IDuty duty){
+        Set<Integer> musicianIds = new HashSet<>();
+        for(IDutyPosition dutyPos : duty.getIDutyPositions()){
+            if(dutyPos.getMusician() != null){
+                musicianIds.add(dutyPos.getMusician().getMusicianId());
+            }
+        }
+        return musicianIds;
+    }
+
     //Add functionality later
     /**
      * Provides the possibility to assign the current assignment to every event of the series of performances.
@@ -4,6 +4,7 @@ import at.fhv.orchestraria.domain.Imodel.ISectionInstrumentation;
 import at.fhv.orchestraria.persistence.dao.JPADatabaseFacade;
 import at.fhv.orchestraria.persistence.dao.DaoBase;
 import at.fhv.orchestraria.domain.model.*;
+import at.fhv.teamb.symphoniacus.persistence.UnitOfWork;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -24,9 +25,17 @@ public class InstrumentationParser {
 
     /**
      * Void Method, which deletes all DutyPositions and InstrumentationPositions from the DB and replaces them with
-     * new ones for all the Duties currently in the DB
+     * new ones for all the Duties currently in the DB. Runs as one transaction, the collections of the duties are
+     * read within its session.
      */
     public void createDutyPositionsAndInstrumentationPositions() {
+        UnitOfWork.callInTransaction(() -> {
+            replacePositions();
+            return null;
+        });
+    }
+
+    private void replacePositions() {
         DaoBase<DutyEntityC> dutyDAO = JPADatabaseFacade.getInstance().getDAO(DutyEntityC.class);
         InstrumentationParser parser = new InstrumentationParser();
         DaoBase<DutyPositionEntityC> dutyPosDAO = JPADatabaseFacade.getInstance().getDAO(DutyPositionEntityC.class);
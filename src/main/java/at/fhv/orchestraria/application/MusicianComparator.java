@@ -3,7 +3,12 @@ package at.fhv.orchestraria.application;
 import at.fhv.orchestraria.domain.Imodel.IDuty;
 import at.fhv.orchestraria.domain.Imodel.IMusician;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
 
 /**
  * MusicianComparator to compare two IMusicians and rank them for a IDuty.
@@ -37,12 +42,34 @@ public class MusicianComparator implements Comparator<IMusician> {
         if(hasWish2){
             return 1;
         }
-        if(o1.getPointsOfMonth(_duty.getStart().toLocalDate()) < o2.getPointsOfMonth(_duty.getStart().toLocalDate())){
-            return -1;
-        }else if(o1.getPointsOfMonth(_duty.getStart().toLocalDate()) > o2.getPointsOfMonth(_duty.getStart().toLocalDate())){
-            return 1;
-        }else{
-            return 0;
+        LocalDate date = _duty.getStart().toLocalDate();
+        return Integer.compare(o1.getPointsOfMonth(date), o2.getPointsOfMonth(date));
+    }
+
+    /**
+     * Sorts the musicians in the same order as {@link #compare(IMusician, IMusician)} would, but checks the wishes
+     * and calculates the points of every musician only once instead of on every comparison.
+     * Musicians ranked equally keep their order.
+     * @param musicians The musicians to sort
+     * @param <T> Type of the musicians
+     */
+    public <T extends IMusician> void sort(List<T> musicians){
+        LocalDate date = _duty.getStart().toLocalDate();
+        List<T> unsorted = new ArrayList<>(musicians);
+        long[] keys = new long[unsorted.size()];
+        for(int i = 0; i < keys.length; i++){
+            T musician = unsorted.get(i);
+            //Musicians with wishes come first, all others by their points
+            int rank = hasAWish(musician) ? Integer.MIN_VALUE : musician.getPointsOfMonth(date);
+            //The index in the lower half makes every key unique and keeps equally ranked musicians in order
+            keys[i] = ((long) rank << 32) | i;
+        }
+        Arrays.sort(keys);
+
+        ListIterator<T> iterator = musicians.listIterator();
+        for(long key : keys){
+            iterator.next();
+            iterator.set(unsorted.get((int) key));
         }
     }
 
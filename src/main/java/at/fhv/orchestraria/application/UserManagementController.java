@@ -7,6 +7,7 @@ import at.fhv.orchestraria.domain.model.MusicianRoleMusicianEntityC;
 import at.fhv.orchestraria.persistence.dao.DBFacade;
 import at.fhv.teamb.symphoniacus.domain.adapter.MusicianRoleAdapter;
 import at.fhv.teamb.symphoniacus.application.type.AdministrativeAssistantType;
+import at.fhv.teamb.symphoniacus.persistence.UnitOfWork;
 import at.fhv.teamb.symphoniacus.persistence.dao.AdministrativeAssistantDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.ContractualObligationDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.InstrumentCategoryDao;
@@ -74,25 +75,33 @@ public class UserManagementController {
     }
 
     public Collection<IInstrumentCategoryEntity> getIInstrumentCategory() {
-        return Collections.unmodifiableCollection(this.categoryDao.getAll());
+        return UnitOfWork.call(
+            () -> Collections.unmodifiableCollection(this.categoryDao.getAll())
+        );
     }
 
     public Collection<at.fhv.orchestraria.domain.Imodel.IMusicianRole> getIMusicianRole() {
-        List<MusicianRoleAdapter> result = new LinkedList<>();
-        for (IMusicianRoleEntity role : musicianRoleDao
-            .getAll()) {
-            MusicianRoleAdapter adapter = new MusicianRoleAdapter(role);
-            result.add(adapter);
-        }
-        return new LinkedList<>(result);
+        return UnitOfWork.call(() -> {
+            List<MusicianRoleAdapter> result = new LinkedList<>();
+            for (IMusicianRoleEntity role : musicianRoleDao
+                .getAll()) {
+                MusicianRoleAdapter adapter = new MusicianRoleAdapter(role);
+                result.add(adapter);
+            }
+            return new LinkedList<>(result);
+        });
     }
 
     public Collection<ISectionEntity> getISections() {
-        return Collections.unmodifiableCollection(this.sectionDao.getAll());
+        return UnitOfWork.call(
+            () -> Collections.unmodifiableCollection(this.sectionDao.getAll())
+        );
     }
 
     public Collection<IUserEntity> getUsers() {
-        return Collections.unmodifiableCollection(this.userDao.getAll());
+        return UnitOfWork.call(
+            () -> Collections.unmodifiableCollection(this.userDao.getAllWithDetails())
+        );
     }
 
     public UserEntity updateUser(UserEntity ue) {
@@ -184,7 +193,14 @@ public class UserManagementController {
     }
 
 
+    /**
+     * Saves the user and its musician or administrative assistant within one transaction.
+     */
     public UserEntity saveGeneral(IUserEntity user, UserDTO userDTO) {
+        return UnitOfWork.callInTransaction(() -> save(user, userDTO));
+    }
+
+    private UserEntity save(IUserEntity user, UserDTO userDTO) {
 
         UserEntity userToEdit = (UserEntity) user;
 
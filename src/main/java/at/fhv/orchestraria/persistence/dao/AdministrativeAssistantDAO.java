@@ -1,8 +1,6 @@
 package at.fhv.orchestraria.persistence.dao;
 
 import at.fhv.orchestraria.domain.model.AdministrativeAssistantEntityC;
-import org.hibernate.Session;
-import org.hibernate.Transaction;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -21,49 +19,28 @@ public class AdministrativeAssistantDAO implements DaoBase<AdministrativeAssista
     }
 
     @Override
-    public synchronized Optional<AdministrativeAssistantEntityC> get(int id) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        Optional<AdministrativeAssistantEntityC> administrativeAssistantEntity = Optional.ofNullable(session.get(AdministrativeAssistantEntityC.class, id));
-        ta.commit();
-        return administrativeAssistantEntity;
+    public Optional<AdministrativeAssistantEntityC> get(int id) {
+        return _sessionManager.callInTransaction(session -> Optional.ofNullable(session.get(AdministrativeAssistantEntityC.class, id)));
     }
 
     @Override
-    public synchronized List<AdministrativeAssistantEntityC> getAll() {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        List<AdministrativeAssistantEntityC> administrativeAssistantEntities = session.createQuery("SELECT a FROM AdministrativeAssistantEntity a", AdministrativeAssistantEntityC.class).getResultList();
-        List<AdministrativeAssistantEntityC> wrappedAdministrativeAssistants = new ArrayList<>(administrativeAssistantEntities.size());
-        for(AdministrativeAssistantEntityC a : administrativeAssistantEntities){
-            wrappedAdministrativeAssistants.add(a);
-        }
-        ta.commit();
-        return wrappedAdministrativeAssistants;
+    public List<AdministrativeAssistantEntityC> getAll() {
+        return _sessionManager.callInTransaction(session ->
+                new ArrayList<>(session.createQuery("SELECT a FROM AdministrativeAssistantEntityC a", AdministrativeAssistantEntityC.class).getResultList()));
     }
 
     @Override
-    public synchronized void save(AdministrativeAssistantEntityC assistant) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        session.saveOrUpdate(assistant);
-        ta.commit();
+    public void save(AdministrativeAssistantEntityC assistant) {
+        _sessionManager.runInTransaction(session -> session.saveOrUpdate(assistant));
     }
 
     @Override
-    public synchronized AdministrativeAssistantEntityC update(AdministrativeAssistantEntityC assistant) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        AdministrativeAssistantEntityC aae = (AdministrativeAssistantEntityC) session.merge(assistant);
-        ta.commit();
-        return aae;
+    public AdministrativeAssistantEntityC update(AdministrativeAssistantEntityC assistant) {
+        return _sessionManager.callInTransaction(session -> (AdministrativeAssistantEntityC) session.merge(assistant));
     }
 
     @Override
-    public synchronized void delete(AdministrativeAssistantEntityC assistant) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        session.delete(assistant);
-        ta.commit();
+    public void delete(AdministrativeAssistantEntityC assistant) {
+        _sessionManager.runInTransaction(session -> session.delete(assistant));
     }
 }
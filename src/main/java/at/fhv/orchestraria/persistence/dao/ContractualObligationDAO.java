@@ -1,8 +1,6 @@
 package at.fhv.orchestraria.persistence.dao;
 
 import at.fhv.orchestraria.domain.model.ContractualObligationEntityC;
-import org.hibernate.Session;
-import org.hibernate.Transaction;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -21,49 +19,28 @@ public class ContractualObligationDAO implements DaoBase<ContractualObligationEn
     }
 
     @Override
-    public synchronized Optional<ContractualObligationEntityC> get(int id) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        Optional<ContractualObligationEntityC> coe = Optional.ofNullable(session.get(ContractualObligationEntityC.class, id));
-        ta.commit();
-        return coe;
+    public Optional<ContractualObligationEntityC> get(int id) {
+        return _sessionManager.callInTransaction(session -> Optional.ofNullable(session.get(ContractualObligationEntityC.class, id)));
     }
 
     @Override
-    public synchronized List<ContractualObligationEntityC> getAll() {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        List<ContractualObligationEntityC> coe = session.createQuery("SELECT a FROM ContractualObligationEntity a", ContractualObligationEntityC.class).getResultList();
-        List<ContractualObligationEntityC> wrappedObligations = new ArrayList<>(coe.size());
-        for(ContractualObligationEntityC c: coe){
-            wrappedObligations.add(c);
-        }
-        ta.commit();
-        return wrappedObligations;
+    public List<ContractualObligationEntityC> getAll() {
+        return _sessionManager.callInTransaction(session ->
+                new ArrayList<>(session.createQuery("SELECT a FROM ContractualObligationEntityC a", ContractualObligationEntityC.class).getResultList()));
     }
 
     @Override
-    public synchronized void save(ContractualObligationEntityC obligation) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        session.saveOrUpdate(obligation);
-        ta.commit();
+    public void save(ContractualObligationEntityC obligation) {
+        _sessionManager.runInTransaction(session -> session.saveOrUpdate(obligation));
     }
 
     @Override
-    public synchronized ContractualObligationEntityC update(ContractualObligationEntityC obligation) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        session.merge(obligation);
-        ta.commit();
-        return obligation;
+    public ContractualObligationEntityC update(ContractualObligationEntityC obligation) {
+        return _sessionManager.callInTransaction(session -> (ContractualObligationEntityC) session.merge(obligation));
     }
 
     @Override
-    public synchronized void delete(ContractualObligationEntityC obligation) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        session.delete(obligation);
-        ta.commit();
+    public void delete(ContractualObligationEntityC obligation) {
+        _sessionManager.runInTransaction(session -> session.delete(obligation));
     }
-}
\ No newline at end of file
+}
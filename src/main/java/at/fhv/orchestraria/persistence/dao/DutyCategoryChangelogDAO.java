@@ -30,7 +30,7 @@ public class DutyCategoryChangelogDAO implements DaoBase<DutyCategoryChangelogEn
     public List<DutyCategoryChangelogEntityC> getAll() {
         Session session = _sessionFactory.openSession();
         Transaction ta = session.beginTransaction();
-        List<DutyCategoryChangelogEntityC> dcces = session.createQuery("SELECT a FROM DutyCategoryChangelogEntity a", DutyCategoryChangelogEntityC.class).getResultList();
+        List<DutyCategoryChangelogEntityC> dcces = session.createQuery("SELECT a FROM DutyCategoryChangelogEntityC a", DutyCategoryChangelogEntityC.class).getResultList();
         ta.commit();
         List<DutyCategoryChangelogEntityC> wrappedChangelogs = new ArrayList<>(dcces.size());
         for(DutyCategoryChangelogEntityC dcce:dcces){
@@ -48,7 +48,7 @@ public class DutyCategoryChangelogDAO implements DaoBase<DutyCategoryChangelogEn
     }
 
     @Override
-    public synchronized DutyCategoryChangelogEntityC update(DutyCategoryChangelogEntityC changelog) {
+    public DutyCategoryChangelogEntityC update(DutyCategoryChangelogEntityC changelog) {
         Session session = _sessionFactory.openSession();
         Transaction ta = session.beginTransaction();
         DutyCategoryChangelogEntityC dcce = (DutyCategoryChangelogEntityC) session.merge(changelog);
@@ -57,7 +57,7 @@ public class DutyCategoryChangelogDAO implements DaoBase<DutyCategoryChangelogEn
     }
 
     @Override
-    public synchronized void delete(DutyCategoryChangelogEntityC changelog) {
+    public void delete(DutyCategoryChangelogEntityC changelog) {
         Session session = _sessionFactory.openSession();
         Transaction ta = session.beginTransaction();
         session.delete(changelog);
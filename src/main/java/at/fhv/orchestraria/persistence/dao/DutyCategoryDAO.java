@@ -30,7 +30,7 @@ public class DutyCategoryDAO implements DaoBase<DutyCategoryEntityC> {
     public List<DutyCategoryEntityC> getAll() {
         Session session = _sessionFactory.openSession();
         Transaction ta = session.beginTransaction();
-        List<DutyCategoryEntityC> dces = session.createQuery("SELECT a FROM DutyCategoryEntity a", DutyCategoryEntityC.class).getResultList();
+        List<DutyCategoryEntityC> dces = session.createQuery("SELECT a FROM DutyCategoryEntityC a", DutyCategoryEntityC.class).getResultList();
         ta.commit();
         List<DutyCategoryEntityC> wrappedCategories = new ArrayList<>(dces.size());
         for(DutyCategoryEntityC dce: dces){
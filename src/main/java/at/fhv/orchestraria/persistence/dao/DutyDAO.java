@@ -1,14 +1,17 @@
 package at.fhv.orchestraria.persistence.dao;
 
 import at.fhv.orchestraria.domain.model.DutyEntityC;
-import at.fhv.orchestraria.domain.model.DutySectionMonthlyScheduleEntityC;
-import at.fhv.orchestraria.domain.model.SectionMonthlyScheduleEntityC;
+import at.fhv.orchestraria.domain.model.SeriesOfPerformancesEntityC;
 import org.hibernate.Session;
-import org.hibernate.Transaction;
+import org.hibernate.jpa.QueryHints;
+import org.hibernate.query.Query;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * @author Team C
@@ -18,6 +21,14 @@ public class DutyDAO implements DaoBase<DutyEntityC> {
 
 
 
+    private static final List<String> SERIES_FETCHES = List.of(
+            "SELECT DISTINCT sop FROM SeriesOfPerformancesEntityC sop LEFT JOIN FETCH sop.seriesOfPerformancesMusicalPieces WHERE sop IN :series",
+            "SELECT DISTINCT sop FROM SeriesOfPerformancesEntityC sop LEFT JOIN FETCH sop.seriesOfPerformancesInstrumentations WHERE sop IN :series",
+            "SELECT DISTINCT sop FROM SeriesOfPerformancesEntityC sop LEFT JOIN FETCH sop.duties WHERE sop IN :series",
+            "SELECT DISTINCT d FROM DutyEntityC d LEFT JOIN FETCH d.dutyPositions WHERE d.seriesOfPerformances IN :series",
+            "SELECT DISTINCT i FROM InstrumentationEntityC i LEFT JOIN FETCH i.sectionInstrumentations WHERE i IN ("
+                    + "SELECT sopi.instrumentation FROM SeriesOfPerformancesInstrumentationEntityC sopi WHERE sopi.seriesOfPerformances IN :series)");
+
     private SessionManager _sessionManager;
 
     public DutyDAO(SessionManager sessionManager) {
@@ -25,25 +36,14 @@ public class DutyDAO implements DaoBase<DutyEntityC> {
     }
 
     @Override
-    public synchronized Optional<DutyEntityC> get(int id) {
-        Session s = _sessionManager.openConnection();
-        Transaction tx =s.beginTransaction();
-        Optional<DutyEntityC> duty = Optional.ofNullable(s.get(DutyEntityC.class, id));
-        tx.commit();
-        return duty;
+    public Optional<DutyEntityC> get(int id) {
+        return _sessionManager.callInTransaction(s -> Optional.ofNullable(s.get(DutyEntityC.class, id)));
     }
 
     @Override
-    public synchronized List<DutyEntityC> getAll() {
-        Session s = _sessionManager.openConnection();
-        Transaction tx =s.beginTransaction();
-        List<DutyEntityC> duties = s.createQuery("SELECT a FROM DutyEntity a", DutyEntityC.class).getResultList();
-        List<DutyEntityC> wrappedDuties = new ArrayList<>(duties.size());
-        for(DutyEntityC d :duties){
-            wrappedDuties.add(d);
-        }
-        tx.commit();
-        return wrappedDuties;
+    public List<DutyEntityC> getAll() {
+        return _sessionManager.callInTransaction(s ->
+                new ArrayList<>(s.createQuery("SELECT a FROM DutyEntityC a", DutyEntityC.class).getResultList()));
     }
 
     /**
@@ -51,19 +51,75 @@ public class DutyDAO implements DaoBase<DutyEntityC> {
      * @param sectionID ID of the section
      * @return duties of the section
      */
-    public synchronized List<DutyEntityC> getDutiesBySectionID(int sectionID){
-        List<DutyEntityC> fittingDuties = new ArrayList<>();
-
-        Session s = _sessionManager.openConnection();
-        Transaction tx = s.beginTransaction();
-        List<SectionMonthlyScheduleEntityC> sectionMonthlyScheduleEntities =  s.createQuery("SELECT a FROM SectionMonthlyScheduleEntity a WHERE a.section.sectionId ="+ sectionID, SectionMonthlyScheduleEntityC.class).getResultList();
-        for(SectionMonthlyScheduleEntityC smse : sectionMonthlyScheduleEntities){
-            for(DutySectionMonthlyScheduleEntityC dsmse : smse.getDutySectionMonthlySchedules()){
-               fittingDuties.add(dsmse.getDuty());
+    public List<DutyEntityC> getDutiesBySectionID(int sectionID){
+        return getDutiesBySectionID(sectionID, null, null);
+    }
+
+    /**
+     * Get the duties of a specified section starting within a time window. The duties are loaded with one query
+     * together with their category, series of performances and duty positions.
+     * @param sectionID ID of the section
+     * @param from start of the window, null for no lower bound
+     * @param to end of the window (exclusive), null for no upper bound
+     * @return duties of the section ordered by their start
+     */
+    public List<DutyEntityC> getDutiesBySectionID(int sectionID, LocalDateTime from, LocalDateTime to){
+        // the query string only depends on the bounds that are set, so its plan is cached by Hibernate
+        StringBuilder hql = new StringBuilder("SELECT DISTINCT d FROM DutyEntityC d"
+                + " JOIN d.dutySectionMonthlySchedules dsms"
+                + " JOIN FETCH d.weeklySchedule"
+                + " JOIN FETCH d.dutyCategory"
+                + " LEFT JOIN FETCH d.seriesOfPerformances"
+                + " LEFT JOIN FETCH d.dutyPositions dp"
+                + " LEFT JOIN FETCH dp.musician"
+                + " LEFT JOIN FETCH dp.instrumentationPosition"
+                + " WHERE dsms.sectionMonthlySchedule.section.sectionId = :sectionID");
+        if(from != null){
+            hql.append(" AND d.start >= :from");
+        }
+        if(to != null){
+            hql.append(" AND d.start < :to");
+        }
+        hql.append(" ORDER BY d.start");
+
+        return _sessionManager.callInTransaction(s -> {
+            Query<DutyEntityC> query = s.createQuery(hql.toString(), DutyEntityC.class);
+            query.setParameter("sectionID", sectionID);
+            if(from != null){
+                query.setParameter("from", from);
+            }
+            if(to != null){
+                query.setParameter("to", to);
+            }
+            // duplicates of the fetched duty positions are removed in memory
+            query.setHint(QueryHints.HINT_PASS_DISTINCT_THROUGH, false);
+            List<DutyEntityC> duties = query.getResultList();
+            fetchSeriesOfPerformances(s, duties);
+            return duties;
+        });
+    }
+
+    /**
+     * Initializes the collections of the series of performances that the roster and the assignment read after the
+     * session is closed: musical pieces, instrumentations with their section instrumentations and the other duties
+     * of the series with their duty positions. Every collection is fetched by its own query within the session,
+     * because Hibernate cannot fetch several bags at once.
+     * @param s the session the duties were loaded with
+     * @param duties the loaded duties
+     */
+    private static void fetchSeriesOfPerformances(Session s, List<DutyEntityC> duties){
+        Set<SeriesOfPerformancesEntityC> series = new HashSet<>();
+        for(DutyEntityC duty : duties){
+            if(duty.getSeriesOfPerformances() != null){
+                series.add(duty.getSeriesOfPerformances());
             }
         }
-        tx.commit();
-        return fittingDuties;
+        if(series.isEmpty()){
+            return;
+        }
+        for(String fetch : SERIES_FETCHES){
+            s.createQuery(fetch).setParameter("series", series).getResultList();
+        }
     }
 
     //TODO: Funktionierend schreiben
@@ -85,27 +141,17 @@ public class DutyDAO implements DaoBase<DutyEntityC> {
 //    }
 
     @Override
-    public synchronized void save(DutyEntityC entity) {
-        Session s = _sessionManager.openConnection();
-        Transaction tx = s.beginTransaction();
-        s.saveOrUpdate(entity);
-        tx.commit();
+    public void save(DutyEntityC entity) {
+        _sessionManager.runInTransaction(s -> s.saveOrUpdate(entity));
     }
 
     @Override
-    public synchronized DutyEntityC update(DutyEntityC entity) {
-        Session s = _sessionManager.openConnection();
-        Transaction tx = s.beginTransaction();
-        DutyEntityC de =  (DutyEntityC) s.merge(entity);
-        tx.commit();
-        return de;
+    public DutyEntityC update(DutyEntityC entity) {
+        return _sessionManager.callInTransaction(s -> (DutyEntityC) s.merge(entity));
     }
 
     @Override
-    public synchronized void delete(DutyEntityC entity) {
-        Session s = _sessionManager.openConnection();
-        Transaction tx = s.beginTransaction();
-        s.delete(entity);
-        tx.commit();
+    public void delete(DutyEntityC entity) {
+        _sessionManager.runInTransaction(s -> s.delete(entity));
     }
 }
\ No newline at end of file
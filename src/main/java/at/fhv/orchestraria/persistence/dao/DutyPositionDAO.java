@@ -1,8 +1,6 @@
 package at.fhv.orchestraria.persistence.dao;
 
 import at.fhv.orchestraria.domain.model.DutyPositionEntityC;
-import org.hibernate.Session;
-import org.hibernate.Transaction;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -19,51 +17,30 @@ public class DutyPositionDAO implements DaoBase<DutyPositionEntityC>{
         _sessionManager = sessionManager;
     }
     @Override
-    public synchronized Optional<DutyPositionEntityC> get(int id) {
-        Session s = _sessionManager.openConnection();
-        Transaction tx =s.beginTransaction();
-        Optional<DutyPositionEntityC> dutyPos = Optional.ofNullable(s.get(DutyPositionEntityC.class , id));
-        tx.commit();
-        return dutyPos;
+    public Optional<DutyPositionEntityC> get(int id) {
+        return _sessionManager.callInTransaction(s -> Optional.ofNullable(s.get(DutyPositionEntityC.class , id)));
     }
 
     @Override
-    public synchronized List<DutyPositionEntityC> getAll() {
-        Session s = _sessionManager.openConnection();
-        Transaction tx =s.beginTransaction();
-        List<DutyPositionEntityC> duties = s.createQuery("SELECT a FROM DutyPositionEntity a", DutyPositionEntityC.class).getResultList();
-        List<DutyPositionEntityC> wrappedDuties = new ArrayList<>(duties.size());
-        for(DutyPositionEntityC d :duties){
-            wrappedDuties.add(d);
-        }
-        tx.commit();
-        return wrappedDuties;
+    public List<DutyPositionEntityC> getAll() {
+        return _sessionManager.callInTransaction(s ->
+                new ArrayList<>(s.createQuery("SELECT a FROM DutyPositionEntityC a", DutyPositionEntityC.class).getResultList()));
     }
 
 
     @Override
-    public synchronized void save(DutyPositionEntityC entity) {
-        Session s = _sessionManager.openConnection();
-        Transaction tx = s.beginTransaction();
-        s.saveOrUpdate(entity);
-        tx.commit();
+    public void save(DutyPositionEntityC entity) {
+        _sessionManager.runInTransaction(s -> s.saveOrUpdate(entity));
     }
 
     @Override
-    public synchronized DutyPositionEntityC update(DutyPositionEntityC entity) {
-        Session s = _sessionManager.openConnection();
-        Transaction tx = s.beginTransaction();
-        DutyPositionEntityC de =  (DutyPositionEntityC) s.merge(entity);
-        tx.commit();
-        return de;
+    public DutyPositionEntityC update(DutyPositionEntityC entity) {
+        return _sessionManager.callInTransaction(s -> (DutyPositionEntityC) s.merge(entity));
     }
 
     @Override
-    public synchronized void delete(DutyPositionEntityC entity) {
-        Session s = _sessionManager.openConnection();
-        Transaction tx = s.beginTransaction();
-        s.delete(entity);
-        tx.commit();
+    public void delete(DutyPositionEntityC entity) {
+        _sessionManager.runInTransaction(s -> s.delete(entity));
     }
 
     /**
@@ -71,13 +48,12 @@ public class DutyPositionDAO implements DaoBase<DutyPositionEntityC>{
      * @param dutypos a list of dutypositions
      * updates a list with only one connection;
      */
-    public synchronized void updatelist(List<DutyPositionEntityC> dutypos){
-        Session s = _sessionManager.openConnection();
-        Transaction tx = s.beginTransaction();
-        for (DutyPositionEntityC d:dutypos) {
-            DutyPositionEntityC me = (DutyPositionEntityC) s.merge(d);
-        }
-        tx.commit();
+    public void updatelist(List<DutyPositionEntityC> dutypos){
+        _sessionManager.runInTransaction(s -> {
+            for (DutyPositionEntityC d:dutypos) {
+                s.merge(d);
+            }
+        });
     }
 
 
@@ -86,13 +62,12 @@ public class DutyPositionDAO implements DaoBase<DutyPositionEntityC>{
      * @param dutypos a list of dutypositions
      * updates a list with only one connection;
      */
-    public synchronized void savelist(List<DutyPositionEntityC> dutypos){
-        Session s = _sessionManager.openConnection();
-        Transaction tx = s.beginTransaction();
-        for (DutyPositionEntityC d:dutypos) {
-            s.saveOrUpdate(d);
-        }
-        tx.commit();
+    public void savelist(List<DutyPositionEntityC> dutypos){
+        _sessionManager.runInTransaction(s -> {
+            for (DutyPositionEntityC d:dutypos) {
+                s.saveOrUpdate(d);
+            }
+        });
     }
 
 }
@@ -1,8 +1,6 @@
 package at.fhv.orchestraria.persistence.dao;
 
 import at.fhv.orchestraria.domain.model.InstrumentCategoryEntityC;
-import org.hibernate.Session;
-import org.hibernate.Transaction;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -20,49 +18,28 @@ public class InstrumentCategoryDAO implements DaoBase<InstrumentCategoryEntityC>
     }
 
     @Override
-    public synchronized Optional<InstrumentCategoryEntityC> get(int id) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        Optional <InstrumentCategoryEntityC> ice = Optional.ofNullable(session.get(InstrumentCategoryEntityC.class, id));
-        ta.commit();
-        return ice;
+    public Optional<InstrumentCategoryEntityC> get(int id) {
+        return _sessionManager.callInTransaction(session -> Optional.ofNullable(session.get(InstrumentCategoryEntityC.class, id)));
     }
 
     @Override
-    public synchronized List<InstrumentCategoryEntityC> getAll() {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        List<InstrumentCategoryEntityC> ices = session.createQuery("SELECT a FROM InstrumentCategoryEntity a", InstrumentCategoryEntityC.class).getResultList();
-        List <InstrumentCategoryEntityC> wrappedInstrumentCategories = new ArrayList<>(ices.size());
-        for(InstrumentCategoryEntityC ice: ices){
-            wrappedInstrumentCategories.add(ice);
-        }
-        ta.commit();
-        return wrappedInstrumentCategories;
+    public List<InstrumentCategoryEntityC> getAll() {
+        return _sessionManager.callInTransaction(session ->
+                new ArrayList<>(session.createQuery("SELECT a FROM InstrumentCategoryEntityC a", InstrumentCategoryEntityC.class).getResultList()));
     }
 
     @Override
-    public synchronized void save(InstrumentCategoryEntityC instrumentCategoryEntity) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        session.saveOrUpdate(instrumentCategoryEntity);
-        ta.commit();
+    public void save(InstrumentCategoryEntityC instrumentCategoryEntity) {
+        _sessionManager.runInTransaction(session -> session.saveOrUpdate(instrumentCategoryEntity));
     }
 
     @Override
-    public synchronized InstrumentCategoryEntityC update(InstrumentCategoryEntityC instrumentCategoryEntity) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        session.saveOrUpdate(instrumentCategoryEntity);
-        ta.commit();
-        return instrumentCategoryEntity;
+    public InstrumentCategoryEntityC update(InstrumentCategoryEntityC instrumentCategoryEntity) {
+        return _sessionManager.callInTransaction(session -> (InstrumentCategoryEntityC) session.merge(instrumentCategoryEntity));
     }
 
     @Override
-    public synchronized void delete(InstrumentCategoryEntityC instrumentCategoryEntity) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        session.delete(instrumentCategoryEntity);
-        ta.commit();
+    public void delete(InstrumentCategoryEntityC instrumentCategoryEntity) {
+        _sessionManager.runInTransaction(session -> session.delete(instrumentCategoryEntity));
     }
 }
@@ -1,8 +1,6 @@
 package at.fhv.orchestraria.persistence.dao;
 
 import at.fhv.orchestraria.domain.model.InstrumentCategoryMusicianEntityC;
-import org.hibernate.Session;
-import org.hibernate.Transaction;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -14,49 +12,28 @@ public class InstrumentCategoryMusicianDAO implements DaoBase<InstrumentCategory
     protected InstrumentCategoryMusicianDAO(SessionManager sessionManager){ _sessionManager =sessionManager;}
 
     @Override
-    public synchronized Optional<InstrumentCategoryMusicianEntityC> get(int id) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        Optional<InstrumentCategoryMusicianEntityC> icme = Optional.ofNullable(session.get(InstrumentCategoryMusicianEntityC.class, id));
-        ta.commit();
-        return icme;
+    public Optional<InstrumentCategoryMusicianEntityC> get(int id) {
+        return _sessionManager.callInTransaction(session -> Optional.ofNullable(session.get(InstrumentCategoryMusicianEntityC.class, id)));
     }
 
     @Override
-    public synchronized List<InstrumentCategoryMusicianEntityC> getAll() {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        List<InstrumentCategoryMusicianEntityC> icmes=  session.createQuery("SELECT a FROM InstrumentCategoryMusicianEntity a", InstrumentCategoryMusicianEntityC.class).getResultList();
-        List<InstrumentCategoryMusicianEntityC> wrappedICME = new ArrayList<>(icmes.size());
-        for(InstrumentCategoryMusicianEntityC icme:icmes){
-            wrappedICME.add(icme);
-        }
-        ta.commit();
-        return wrappedICME;
+    public List<InstrumentCategoryMusicianEntityC> getAll() {
+        return _sessionManager.callInTransaction(session ->
+                new ArrayList<>(session.createQuery("SELECT a FROM InstrumentCategoryMusicianEntityC a", InstrumentCategoryMusicianEntityC.class).getResultList()));
     }
 
     @Override
-    public synchronized void save(InstrumentCategoryMusicianEntityC entity) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        session.saveOrUpdate(entity);
-        ta.commit();
+    public void save(InstrumentCategoryMusicianEntityC entity) {
+        _sessionManager.runInTransaction(session -> session.saveOrUpdate(entity));
     }
 
     @Override
-    public synchronized InstrumentCategoryMusicianEntityC update(InstrumentCategoryMusicianEntityC entity) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        InstrumentCategoryMusicianEntityC icme = (InstrumentCategoryMusicianEntityC) session.merge(entity);
-        ta.commit();
-        return icme;
+    public InstrumentCategoryMusicianEntityC update(InstrumentCategoryMusicianEntityC entity) {
+        return _sessionManager.callInTransaction(session -> (InstrumentCategoryMusicianEntityC) session.merge(entity));
     }
 
     @Override
-    public synchronized void delete(InstrumentCategoryMusicianEntityC entity) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        session.delete(entity);
-        ta.commit();
+    public void delete(InstrumentCategoryMusicianEntityC entity) {
+        _sessionManager.runInTransaction(session -> session.delete(entity));
     }
 }
@@ -1,8 +1,6 @@
 package at.fhv.orchestraria.persistence.dao;
 
 import at.fhv.orchestraria.domain.model.InstrumentationEntityC;
-import org.hibernate.Session;
-import org.hibernate.Transaction;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -20,49 +18,28 @@ public class InstrumentationDAO implements DaoBase<InstrumentationEntityC> {
     }
 
     @Override
-    public synchronized Optional<InstrumentationEntityC> get(int id) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        Optional<InstrumentationEntityC> ie = Optional.ofNullable(session.get(InstrumentationEntityC.class, id));
-        ta.commit();
-        return ie;
+    public Optional<InstrumentationEntityC> get(int id) {
+        return _sessionManager.callInTransaction(session -> Optional.ofNullable(session.get(InstrumentationEntityC.class, id)));
     }
 
     @Override
-    public synchronized List<InstrumentationEntityC> getAll() {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        List<InstrumentationEntityC> ies = session.createQuery("SELECT a FROM InstrumentationEntity a", InstrumentationEntityC.class).getResultList();
-        List<InstrumentationEntityC> wrappedInstrumentations = new ArrayList<>(ies.size());
-        for(InstrumentationEntityC ie : ies){
-            wrappedInstrumentations.add(ie);
-        }
-        ta.commit();
-        return wrappedInstrumentations;
+    public List<InstrumentationEntityC> getAll() {
+        return _sessionManager.callInTransaction(session ->
+                new ArrayList<>(session.createQuery("SELECT a FROM InstrumentationEntityC a", InstrumentationEntityC.class).getResultList()));
     }
 
     @Override
-    public synchronized void save(InstrumentationEntityC instrumentationEntity) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        session.saveOrUpdate(instrumentationEntity);
-        ta.commit();
+    public void save(InstrumentationEntityC instrumentationEntity) {
+        _sessionManager.runInTransaction(session -> session.saveOrUpdate(instrumentationEntity));
     }
 
     @Override
-    public synchronized InstrumentationEntityC update(InstrumentationEntityC instrumentationEntity) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        InstrumentationEntityC ie = (InstrumentationEntityC) session.merge(instrumentationEntity);
-        ta.commit();
-        return ie;
+    public InstrumentationEntityC update(InstrumentationEntityC instrumentationEntity) {
+        return _sessionManager.callInTransaction(session -> (InstrumentationEntityC) session.merge(instrumentationEntity));
     }
 
     @Override
-    public synchronized void delete(InstrumentationEntityC instrumentationEntity) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        session.delete(instrumentationEntity);
-        ta.commit();
+    public void delete(InstrumentationEntityC instrumentationEntity) {
+        _sessionManager.runInTransaction(session -> session.delete(instrumentationEntity));
     }
 }
@@ -1,8 +1,6 @@
 package at.fhv.orchestraria.persistence.dao;
 
 import at.fhv.orchestraria.domain.model.InstrumentationPositionEntityC;
-import org.hibernate.Session;
-import org.hibernate.Transaction;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -20,49 +18,28 @@ public class InstrumentationPositionDAO implements DaoBase<InstrumentationPositi
     }
 
     @Override
-    public synchronized Optional<InstrumentationPositionEntityC> get(int id) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        Optional<InstrumentationPositionEntityC> ipe = Optional.ofNullable(session.get(InstrumentationPositionEntityC.class, id));
-        ta.commit();
-        return ipe;
+    public Optional<InstrumentationPositionEntityC> get(int id) {
+        return _sessionManager.callInTransaction(session -> Optional.ofNullable(session.get(InstrumentationPositionEntityC.class, id)));
     }
 
     @Override
-    public synchronized List<InstrumentationPositionEntityC> getAll() {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        List<InstrumentationPositionEntityC> ipes =session.createQuery("SELECT a FROM InstrumentationPositionEntity a", InstrumentationPositionEntityC.class).getResultList();
-        List <InstrumentationPositionEntityC> wrappedInstrumentationPositions = new ArrayList<>(ipes.size());
-        for(InstrumentationPositionEntityC ipe: ipes){
-            wrappedInstrumentationPositions.add(ipe);
-        }
-        ta.commit();
-        return wrappedInstrumentationPositions;
+    public List<InstrumentationPositionEntityC> getAll() {
+        return _sessionManager.callInTransaction(session ->
+                new ArrayList<>(session.createQuery("SELECT a FROM InstrumentationPositionEntityC a", InstrumentationPositionEntityC.class).getResultList()));
     }
 
     @Override
-    public synchronized void save(InstrumentationPositionEntityC instrumentationPositionEntity) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        session.saveOrUpdate(instrumentationPositionEntity);
-        ta.commit();
+    public void save(InstrumentationPositionEntityC instrumentationPositionEntity) {
+        _sessionManager.runInTransaction(session -> session.saveOrUpdate(instrumentationPositionEntity));
     }
 
     @Override
-    public synchronized InstrumentationPositionEntityC update(InstrumentationPositionEntityC instrumentationPositionEntity) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        InstrumentationPositionEntityC ipe = (InstrumentationPositionEntityC) session.merge(instrumentationPositionEntity);
-        ta.commit();
-        return ipe;
+    public InstrumentationPositionEntityC update(InstrumentationPositionEntityC instrumentationPositionEntity) {
+        return _sessionManager.callInTransaction(session -> (InstrumentationPositionEntityC) session.merge(instrumentationPositionEntity));
     }
 
     @Override
-    public synchronized void delete(InstrumentationPositionEntityC instrumentationPositionEntity) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        session.delete(instrumentationPositionEntity);
-        ta.commit();
+    public void delete(InstrumentationPositionEntityC instrumentationPositionEntity) {
+        _sessionManager.runInTransaction(session -> session.delete(instrumentationPositionEntity));
     }
 }
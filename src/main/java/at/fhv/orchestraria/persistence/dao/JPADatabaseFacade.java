@@ -1,34 +1,36 @@
 package at.fhv.orchestraria.persistence.dao;
 
 import at.fhv.orchestraria.domain.model.*;
+import at.fhv.teamb.symphoniacus.persistence.PersistenceRuntime;
 import org.hibernate.SessionFactory;
 
-import javax.persistence.EntityManager;
-import javax.persistence.Persistence;
 import java.util.HashMap;
 import java.util.Map;
 
 public class JPADatabaseFacade implements DBFacade {
 
-    private EntityManager _entityManager;
     private SessionFactory _sessionFactory;
     private SessionManager _sessionManager;
 
-    private static JPADatabaseFacade _instance;
-
     private Map<Class, DaoBase> _daos;
 
 
+    /**
+     * The facade is used by the DAOs of several worker threads, the holder builds it exactly once
+     * on first use.
+     * @return the facade of the application
+     */
     public static JPADatabaseFacade getInstance() {
-        if (null == _instance) {
-            _instance = new JPADatabaseFacade();
-        }
-        return _instance;
+        return InstanceHolder.INSTANCE;
+    }
+
+    private static class InstanceHolder {
+        private static final JPADatabaseFacade INSTANCE = new JPADatabaseFacade();
     }
 
     private JPADatabaseFacade(){
-        _entityManager = Persistence.createEntityManagerFactory("domp").createEntityManager();
-        _sessionFactory = Persistence.createEntityManagerFactory("domp").unwrap(SessionFactory.class);
+        // shares the persistence unit of Symphoniacus instead of building its own
+        _sessionFactory = PersistenceRuntime.getSessionFactory();
         _sessionManager = new SessionManager(_sessionFactory);
 
         _daos= new HashMap<>();
@@ -54,13 +56,4 @@ public class JPADatabaseFacade implements DBFacade {
     }
 
    public void closeSession(){_sessionManager.closeSession();}
-
-
-   //Damit die JUNIT Tests Funktionieren! TODO Remove
-//    public static void resetFacade(){
-//        if(_instance!=null) {
-//            _instance._entityManager.clear();
-//            _instance = new JPADatabaseFacade();
-//        }
-//    }
 }
@@ -2,9 +2,6 @@ package at.fhv.orchestraria.persistence.dao;
 
 
 import at.fhv.orchestraria.domain.model.MusicianEntityC;
-import at.fhv.orchestraria.domain.model.SectionEntityC;
-import org.hibernate.Session;
-import org.hibernate.Transaction;
 
 import java.util.ArrayList;
 import java.util.Collection;
@@ -17,6 +14,9 @@ import java.util.Optional;
 
 public class MusicianDAO implements DaoBase<MusicianEntityC>{
 
+    private static final List<String> ASSIGNMENT_COLLECTIONS = List.of("musicianRoleMusicians", "instrumentCategoryMusicians",
+            "contractualObligations", "dutyPositions", "vacations", "positiveWishes", "negativeDutyWishes", "negativeDateWishes");
+
     private SessionManager _sessionManager;
 
     protected MusicianDAO(SessionManager sessionFactory){
@@ -28,43 +28,37 @@ public class MusicianDAO implements DaoBase<MusicianEntityC>{
      * @param sectionID sectionID of the searched musicians
      * @return Collection of musicians of the section
      */
-    public synchronized Collection<MusicianEntityC> getAllBySectionID(int sectionID) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        SectionEntityC section =  session.createQuery("FROM SectionEntity a WHERE a.sectionId="+sectionID, SectionEntityC.class).getSingleResult();
-        Collection<MusicianEntityC> musicians = section.getMusicians();
-        ta.commit();
-        return musicians;
+    public Collection<MusicianEntityC> getAllBySectionID(int sectionID) {
+        return _sessionManager.callInTransaction(session -> {
+            List<MusicianEntityC> musicians = session.createQuery("SELECT m FROM MusicianEntityC m WHERE m.section.sectionId = :sectionId", MusicianEntityC.class)
+                    .setParameter("sectionId", sectionID)
+                    .getResultList();
+            // the musicians are detached afterwards, so every collection the assignment reads is fetched here,
+            // one query per collection because Hibernate cannot fetch several bags at once
+            for(String collection : ASSIGNMENT_COLLECTIONS){
+                session.createQuery("SELECT DISTINCT m FROM MusicianEntityC m LEFT JOIN FETCH m." + collection
+                        + " WHERE m.section.sectionId = :sectionId", MusicianEntityC.class)
+                        .setParameter("sectionId", sectionID)
+                        .getResultList();
+            }
+            return new ArrayList<>(musicians);
+        });
     }
 
     @Override
-    public synchronized Optional<MusicianEntityC> get(int id) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        Optional<MusicianEntityC> me = Optional.ofNullable(session.get(MusicianEntityC.class , id));
-        ta.commit();
-        return me;
+    public Optional<MusicianEntityC> get(int id) {
+        return _sessionManager.callInTransaction(session -> Optional.ofNullable(session.get(MusicianEntityC.class , id)));
     }
 
     @Override
-    public synchronized List<MusicianEntityC> getAll() {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        List<MusicianEntityC> mes =  session.createQuery("SELECT a FROM MusicianEntity a", MusicianEntityC.class).getResultList();
-        List<MusicianEntityC> wrappedMusicians = new ArrayList<>(mes.size());
-        for(MusicianEntityC me : mes){
-            wrappedMusicians.add(me);
-        }
-        ta.commit();
-        return wrappedMusicians;
+    public List<MusicianEntityC> getAll() {
+        return _sessionManager.callInTransaction(session ->
+                new ArrayList<>(session.createQuery("SELECT a FROM MusicianEntityC a", MusicianEntityC.class).getResultList()));
     }
 
     @Override
-    public synchronized void save(MusicianEntityC musician) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        session.saveOrUpdate(musician);
-        ta.commit();
+    public void save(MusicianEntityC musician) {
+        _sessionManager.runInTransaction(session -> session.saveOrUpdate(musician));
     }
 
     /**
@@ -72,13 +66,12 @@ public class MusicianDAO implements DaoBase<MusicianEntityC>{
      * @param musicianlist is a list of musicians;
      * updates a list of musicians with only one transaction;
      */
-    public synchronized void updatelist(List<MusicianEntityC> musicianlist){
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        for (MusicianEntityC m:musicianlist) {
-            MusicianEntityC me = (MusicianEntityC) session.merge(m);
-        }
-        ta.commit();
+    public void updatelist(List<MusicianEntityC> musicianlist){
+        _sessionManager.runInTransaction(session -> {
+            for (MusicianEntityC m:musicianlist) {
+                session.merge(m);
+            }
+        });
     }
 
     /**
@@ -86,28 +79,20 @@ public class MusicianDAO implements DaoBase<MusicianEntityC>{
      * @param musicanlist is a list of musicians;
      * saves a list of musicians with only one transaction;
      */
-    public synchronized void savelist(List<MusicianEntityC> musicanlist){
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        for (MusicianEntityC d:musicanlist) {
-            session.saveOrUpdate(d);
-        }
-        ta.commit();
+    public void savelist(List<MusicianEntityC> musicanlist){
+        _sessionManager.runInTransaction(session -> {
+            for (MusicianEntityC d:musicanlist) {
+                session.saveOrUpdate(d);
+            }
+        });
     }
 
-    public synchronized MusicianEntityC update(MusicianEntityC musician) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        MusicianEntityC m = (MusicianEntityC) session.merge(musician);
-        ta.commit();
-        return m;
+    public MusicianEntityC update(MusicianEntityC musician) {
+        return _sessionManager.callInTransaction(session -> (MusicianEntityC) session.merge(musician));
     }
 
     @Override
-    public synchronized void delete(MusicianEntityC musician) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        session.delete(musician);
-        ta.commit();
+    public void delete(MusicianEntityC musician) {
+        _sessionManager.runInTransaction(session -> session.delete(musician));
     }
 }
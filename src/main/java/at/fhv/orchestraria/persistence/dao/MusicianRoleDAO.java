@@ -1,8 +1,6 @@
 package at.fhv.orchestraria.persistence.dao;
 
 import at.fhv.orchestraria.domain.model.MusicianRoleEntityC;
-import org.hibernate.Session;
-import org.hibernate.Transaction;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -20,49 +18,28 @@ public class MusicianRoleDAO implements DaoBase<MusicianRoleEntityC> {
     }
 
     @Override
-    public synchronized Optional<MusicianRoleEntityC> get(int id) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        Optional <MusicianRoleEntityC> mre = Optional.ofNullable(session.get(MusicianRoleEntityC.class , id));
-        ta.commit();
-        return mre;
+    public Optional<MusicianRoleEntityC> get(int id) {
+        return _sessionManager.callInTransaction(session -> Optional.ofNullable(session.get(MusicianRoleEntityC.class, id)));
     }
 
     @Override
-    public synchronized List<MusicianRoleEntityC> getAll() {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        List <MusicianRoleEntityC> mres = session.createQuery("SELECT a FROM MusicianRoleEntity a", MusicianRoleEntityC.class).getResultList();
-        List<MusicianRoleEntityC> wrappedMusicianRoles = new ArrayList<>(mres.size());
-        for(MusicianRoleEntityC mre : mres){
-            wrappedMusicianRoles.add(mre);
-        }
-        ta.commit();
-        return wrappedMusicianRoles;
+    public List<MusicianRoleEntityC> getAll() {
+        return _sessionManager.callInTransaction(session ->
+                new ArrayList<>(session.createQuery("SELECT a FROM MusicianRoleEntityC a", MusicianRoleEntityC.class).getResultList()));
     }
 
     @Override
-    public synchronized void save(MusicianRoleEntityC musicianRoleEntity) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        session.saveOrUpdate(musicianRoleEntity);
-        ta.commit();
+    public void save(MusicianRoleEntityC musicianRoleEntity) {
+        _sessionManager.runInTransaction(session -> session.saveOrUpdate(musicianRoleEntity));
     }
 
     @Override
-    public synchronized MusicianRoleEntityC update(MusicianRoleEntityC musicianRoleEntity) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        MusicianRoleEntityC ipe = (MusicianRoleEntityC) session.merge(musicianRoleEntity);
-        ta.commit();
-        return ipe;
+    public MusicianRoleEntityC update(MusicianRoleEntityC musicianRoleEntity) {
+        return _sessionManager.callInTransaction(session -> (MusicianRoleEntityC) session.merge(musicianRoleEntity));
     }
 
     @Override
-    public synchronized void delete(MusicianRoleEntityC musicianRoleEntity) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        session.delete(musicianRoleEntity);
-        ta.commit();
+    public void delete(MusicianRoleEntityC musicianRoleEntity) {
+        _sessionManager.runInTransaction(session -> session.delete(musicianRoleEntity));
     }
 }
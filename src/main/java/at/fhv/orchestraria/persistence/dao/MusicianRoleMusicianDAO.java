@@ -1,8 +1,6 @@
 package at.fhv.orchestraria.persistence.dao;
 
 import at.fhv.orchestraria.domain.model.MusicianRoleMusicianEntityC;
-import org.hibernate.Session;
-import org.hibernate.Transaction;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -20,49 +18,28 @@ public class MusicianRoleMusicianDAO implements DaoBase<MusicianRoleMusicianEnti
     }
 
     @Override
-    public synchronized Optional<MusicianRoleMusicianEntityC> get(int id) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        Optional<MusicianRoleMusicianEntityC> mrme = Optional.ofNullable(session.get(MusicianRoleMusicianEntityC.class , id));
-        ta.commit();
-        return mrme;
+    public Optional<MusicianRoleMusicianEntityC> get(int id) {
+        return _sessionManager.callInTransaction(session -> Optional.ofNullable(session.get(MusicianRoleMusicianEntityC.class, id)));
     }
 
     @Override
-    public synchronized List<MusicianRoleMusicianEntityC> getAll() {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        List <MusicianRoleMusicianEntityC> mrmes = session.createQuery("SELECT a FROM MusicianRoleMusicianEntity a", MusicianRoleMusicianEntityC.class).getResultList();
-        List<MusicianRoleMusicianEntityC> wrappedMRME = new ArrayList<>(mrmes.size());
-        for(MusicianRoleMusicianEntityC mrme: mrmes){
-            wrappedMRME.add(mrme);
-        }
-        ta.commit();
-        return wrappedMRME;
+    public List<MusicianRoleMusicianEntityC> getAll() {
+        return _sessionManager.callInTransaction(session ->
+                new ArrayList<>(session.createQuery("SELECT a FROM MusicianRoleMusicianEntityC a", MusicianRoleMusicianEntityC.class).getResultList()));
     }
 
     @Override
-    public synchronized void save(MusicianRoleMusicianEntityC musicianRoleMusicianEntity) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta= session.beginTransaction();
-        session.saveOrUpdate(musicianRoleMusicianEntity);
-        ta.commit();
+    public void save(MusicianRoleMusicianEntityC musicianRoleMusicianEntity) {
+        _sessionManager.runInTransaction(session -> session.saveOrUpdate(musicianRoleMusicianEntity));
     }
 
     @Override
-    public synchronized MusicianRoleMusicianEntityC update(MusicianRoleMusicianEntityC musicianRoleMusicianEntity) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        MusicianRoleMusicianEntityC ipe = (MusicianRoleMusicianEntityC) session.merge(musicianRoleMusicianEntity);
-        ta.commit();
-        return ipe;
+    public MusicianRoleMusicianEntityC update(MusicianRoleMusicianEntityC musicianRoleMusicianEntity) {
+        return _sessionManager.callInTransaction(session -> (MusicianRoleMusicianEntityC) session.merge(musicianRoleMusicianEntity));
     }
 
     @Override
-    public synchronized void delete(MusicianRoleMusicianEntityC musicianRoleMusicianEntity) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        session.delete(musicianRoleMusicianEntity);
-        ta.commit();
+    public void delete(MusicianRoleMusicianEntityC musicianRoleMusicianEntity) {
+        _sessionManager.runInTransaction(session -> session.delete(musicianRoleMusicianEntity));
     }
 }
@@ -1,8 +1,6 @@
 package at.fhv.orchestraria.persistence.dao;
 
 import at.fhv.orchestraria.domain.model.SectionEntityC;
-import org.hibernate.Session;
-import org.hibernate.Transaction;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -20,49 +18,28 @@ public class SectionDAO implements DaoBase<SectionEntityC>{
     }
 
     @Override
-    public synchronized Optional<SectionEntityC> get(int id) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        Optional<SectionEntityC> se =  Optional.ofNullable(session.get(SectionEntityC.class, id));
-        ta.commit();
-        return se;
+    public Optional<SectionEntityC> get(int id) {
+        return _sessionManager.callInTransaction(session -> Optional.ofNullable(session.get(SectionEntityC.class, id)));
     }
 
     @Override
-    public synchronized List<SectionEntityC> getAll() {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        List<SectionEntityC> ses=  session.createQuery("SELECT a FROM SectionEntity a", SectionEntityC.class).getResultList();
-        List<SectionEntityC> wrappedSections = new ArrayList<>(ses.size());
-        for(SectionEntityC se: ses){
-            wrappedSections.add(se);
-        }
-        ta.commit();
-        return wrappedSections;
+    public List<SectionEntityC> getAll() {
+        return _sessionManager.callInTransaction(session ->
+                new ArrayList<>(session.createQuery("SELECT a FROM SectionEntityC a", SectionEntityC.class).getResultList()));
     }
 
     @Override
-    public synchronized void save(SectionEntityC sectionEntity) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        session.saveOrUpdate(sectionEntity);
-        ta.commit();
+    public void save(SectionEntityC sectionEntity) {
+        _sessionManager.runInTransaction(session -> session.saveOrUpdate(sectionEntity));
     }
 
     @Override
-    public synchronized SectionEntityC update(SectionEntityC sectionEntity) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        SectionEntityC se = (SectionEntityC) session.merge(sectionEntity);
-        ta.commit();
-        return se;
+    public SectionEntityC update(SectionEntityC sectionEntity) {
+        return _sessionManager.callInTransaction(session -> (SectionEntityC) session.merge(sectionEntity));
     }
 
     @Override
-    public synchronized void delete(SectionEntityC sectionEntity) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        session.delete(sectionEntity);
-        ta.commit();
+    public void delete(SectionEntityC sectionEntity) {
+        _sessionManager.runInTransaction(session -> session.delete(sectionEntity));
     }
 }
@@ -2,8 +2,6 @@ package at.fhv.orchestraria.persistence.dao;
 
 
 import at.fhv.orchestraria.domain.model.SectionInstrumentationEntityC;
-import org.hibernate.Session;
-import org.hibernate.Transaction;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -21,49 +19,28 @@ public class SectionInstrumentationDAO implements DaoBase<SectionInstrumentation
     }
 
     @Override
-    public synchronized Optional<SectionInstrumentationEntityC> get(int id) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        Optional<SectionInstrumentationEntityC> sie = Optional.ofNullable(session.get(SectionInstrumentationEntityC.class, id));
-        ta.commit();
-        return sie;
+    public Optional<SectionInstrumentationEntityC> get(int id) {
+        return _sessionManager.callInTransaction(session -> Optional.ofNullable(session.get(SectionInstrumentationEntityC.class, id)));
     }
 
     @Override
-    public synchronized List<SectionInstrumentationEntityC> getAll() {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        List<SectionInstrumentationEntityC> sies = session.createQuery("SELECT a FROM SectionInstrumentationEntity a", SectionInstrumentationEntityC.class).getResultList();
-        List<SectionInstrumentationEntityC> wrappedSectionInstrumentations = new ArrayList<>(sies.size());
-        for(SectionInstrumentationEntityC sie: sies){
-            wrappedSectionInstrumentations.add(sie);
-        }
-        ta.commit();
-        return wrappedSectionInstrumentations;
+    public List<SectionInstrumentationEntityC> getAll() {
+        return _sessionManager.callInTransaction(session ->
+                new ArrayList<>(session.createQuery("SELECT a FROM SectionInstrumentationEntityC a", SectionInstrumentationEntityC.class).getResultList()));
     }
 
     @Override
-    public synchronized void save(SectionInstrumentationEntityC sectionInstrumentationEntity) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        session.saveOrUpdate(sectionInstrumentationEntity);
-        ta.commit();
+    public void save(SectionInstrumentationEntityC sectionInstrumentationEntity) {
+        _sessionManager.runInTransaction(session -> session.saveOrUpdate(sectionInstrumentationEntity));
     }
 
     @Override
-    public synchronized SectionInstrumentationEntityC update(SectionInstrumentationEntityC sectionInstrumentationEntity) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        SectionInstrumentationEntityC sie = (SectionInstrumentationEntityC) session.merge(sectionInstrumentationEntity);
-        ta.commit();
-        return sie;
+    public SectionInstrumentationEntityC update(SectionInstrumentationEntityC sectionInstrumentationEntity) {
+        return _sessionManager.callInTransaction(session -> (SectionInstrumentationEntityC) session.merge(sectionInstrumentationEntity));
     }
 
     @Override
-    public synchronized void delete(SectionInstrumentationEntityC sectionInstrumentationEntity) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        session.delete(sectionInstrumentationEntity);
-        ta.commit();
+    public void delete(SectionInstrumentationEntityC sectionInstrumentationEntity) {
+        _sessionManager.runInTransaction(session -> session.delete(sectionInstrumentationEntity));
     }
 }
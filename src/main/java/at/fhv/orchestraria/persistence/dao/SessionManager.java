@@ -1,37 +1,78 @@
 package at.fhv.orchestraria.persistence.dao;
 
+import at.fhv.teamb.symphoniacus.persistence.UnitOfWork;
 import org.hibernate.Session;
 import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
 
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Opens a new session with its own transaction for every operation, so DAOs can be used
+ * by several threads at once without synchronizing. Operations called within a unit of work
+ * of Symphoniacus join its session and transaction instead.
+ */
 public class SessionManager {
-    private static Session _session;
     private SessionFactory _factory;
 
     protected SessionManager(SessionFactory sessionFactory){
         _factory = sessionFactory;
     }
 
-    public Session openConnection(){
-        if(_session == null){
-            _session = _factory.openSession();
-            System.out.println("Session opened");
-            return _session;
-        }else{
-            if(_session.getTransaction().isActive()){
-                _session.getTransaction().commit();
+    /**
+     * Runs the work in a new session and transaction, the transaction is committed if the work
+     * succeeds and rolled back otherwise. The session is always closed afterwards.
+     * If a unit of work is open, the work joins it and is committed together with it.
+     * @param work the work to do with the session
+     * @param <T> the type of the result
+     * @return result of the work
+     */
+    public <T> T callInTransaction(Function<Session, T> work){
+        if(UnitOfWork.isActive()){
+            return UnitOfWork.callInTransaction(() -> {
+                Session session = UnitOfWork.currentSession();
+                T result = work.apply(session);
+                session.flush();
+                return result;
+            });
+        }
+
+        Session session = _factory.openSession();
+        Transaction ta = session.beginTransaction();
+        try{
+            T result = work.apply(session);
+            ta.commit();
+            return result;
+        } catch(RuntimeException e){
+            if(ta.isActive()){
+                ta.rollback();
             }
-            return _session;
+            throw e;
+        } finally {
+            session.close();
         }
     }
 
+    /**
+     * Runs the work in a new session and transaction, see {@link #callInTransaction(Function)}
+     * @param work the work to do with the session
+     */
+    public void runInTransaction(Consumer<Session> work){
+        callInTransaction(session -> {
+            work.accept(session);
+            return null;
+        });
+    }
+
     public Session newSession(){
         Session session = _factory.openSession();
         return session;
     }
 
+    /**
+     * Sessions are closed after every operation, there is nothing left to close.
+     */
     public void closeSession(){
-        System.out.println("Session closed");
-        _session.close();
-        _session = null;
     }
 }
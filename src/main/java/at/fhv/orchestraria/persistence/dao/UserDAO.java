@@ -3,8 +3,6 @@ package at.fhv.orchestraria.persistence.dao;
 
 
 import at.fhv.orchestraria.domain.model.UserEntityC;
-import org.hibernate.Session;
-import org.hibernate.Transaction;
 
 import javax.persistence.NoResultException;
 import javax.persistence.Query;
@@ -25,51 +23,30 @@ public class UserDAO implements DaoBase<UserEntityC> {
     }
 
     @Override
-    public synchronized Optional<UserEntityC> get(int id) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        Optional<UserEntityC> ue =  Optional.ofNullable(session.get(UserEntityC.class , id));
-        ta.commit();
-        return ue;
+    public Optional<UserEntityC> get(int id) {
+        return _sessionManager.callInTransaction(session -> Optional.ofNullable(session.get(UserEntityC.class , id)));
     }
 
     @Override
-    public synchronized List<UserEntityC> getAll() {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        List<UserEntityC> user = session.createQuery("SELECT a FROM UserEntity a", UserEntityC.class).getResultList();
-        List<UserEntityC> wrappedusers = new ArrayList<>(user.size());
-        for(UserEntityC d :user){
-            wrappedusers.add(d);
-        }
-        ta.commit();
-        return wrappedusers;
+    public List<UserEntityC> getAll() {
+        return _sessionManager.callInTransaction(session ->
+                new ArrayList<>(session.createQuery("SELECT a FROM UserEntityC a", UserEntityC.class).getResultList()));
     }
 
 
     @Override
-    public synchronized void save(UserEntityC entity) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        session.saveOrUpdate(entity);
-        ta.commit();
+    public void save(UserEntityC entity) {
+        _sessionManager.runInTransaction(session -> session.saveOrUpdate(entity));
     }
 
     @Override
-    public synchronized UserEntityC update(UserEntityC entity) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        UserEntityC de = (UserEntityC) session.merge(entity);
-        ta.commit();
-        return de;
+    public UserEntityC update(UserEntityC entity) {
+        return _sessionManager.callInTransaction(session -> (UserEntityC) session.merge(entity));
     }
 
     @Override
-    public synchronized void delete(UserEntityC entity) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        session.delete(entity);
-        ta.commit();
+    public void delete(UserEntityC entity) {
+        _sessionManager.runInTransaction(session -> session.delete(entity));
     }
 
     /**
@@ -77,28 +54,24 @@ public class UserDAO implements DaoBase<UserEntityC> {
      * @param user is a list of unsers;
      * saves a list of users with only one transaction;
      */
-    public synchronized void savelist(List<UserEntityC> user){
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        for (UserEntityC d:user) {
-            session.saveOrUpdate(d);
-        }
-        ta.commit();
+    public void savelist(List<UserEntityC> user){
+        _sessionManager.runInTransaction(session -> {
+            for (UserEntityC d:user) {
+                session.saveOrUpdate(d);
+            }
+        });
     }
 
-    public synchronized Optional<UserEntityC> getByShortcut(String shorty) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        Query userquery = session.createQuery("SELECT a FROM UserEntity a where shortcut = :shorty ", UserEntityC.class);
-        userquery.setParameter("shorty", shorty);
-        Optional<UserEntityC> user = Optional.empty();
-        try{
-            user= Optional.ofNullable((UserEntityC)userquery.getSingleResult());
-        } catch(NoResultException e){
-            return user;
-        }
-        ta.commit();
-        return user;
+    public Optional<UserEntityC> getByShortcut(String shorty) {
+        return _sessionManager.callInTransaction(session -> {
+            Query userquery = session.createQuery("SELECT a FROM UserEntityC a where shortcut = :shorty ", UserEntityC.class);
+            userquery.setParameter("shorty", shorty);
+            try{
+                return Optional.ofNullable((UserEntityC)userquery.getSingleResult());
+            } catch(NoResultException e){
+                return Optional.empty();
+            }
+        });
     }
 
 
@@ -107,18 +80,13 @@ public class UserDAO implements DaoBase<UserEntityC> {
      * @param shorty is the first name of a user
      * @return list of all users with the first name
      */
-    public synchronized List<UserEntityC> getFname(String shorty) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        Query userquery = session.createQuery("SELECT a FROM UserEntity a where firstName = :shorty ", UserEntityC.class);
-        userquery.setParameter("shorty", shorty);
-        List<UserEntityC> user=userquery.getResultList();
-        List<UserEntityC> wrappedusers = new ArrayList<>(user.size());
-        for(UserEntityC d :user){
-            wrappedusers.add(d);
-        }
-        ta.commit();
-        return wrappedusers;
+    public List<UserEntityC> getFname(String shorty) {
+        return _sessionManager.callInTransaction(session -> {
+            Query userquery = session.createQuery("SELECT a FROM UserEntityC a where firstName = :shorty ", UserEntityC.class);
+            userquery.setParameter("shorty", shorty);
+            List<UserEntityC> user=userquery.getResultList();
+            return new ArrayList<>(user);
+        });
     }
 
     /**
@@ -126,17 +94,12 @@ public class UserDAO implements DaoBase<UserEntityC> {
      * @param shorty is the secondname
      * @return list of users with the second name
      */
-    public synchronized List<UserEntityC> getSname(String shorty) {
-        Session session = _sessionManager.openConnection();
-        Transaction ta = session.beginTransaction();
-        Query userquery = session.createQuery("SELECT a FROM UserEntity a where lastName = :shorty ", UserEntityC.class);
-        userquery.setParameter("shorty", shorty);
-        List<UserEntityC> user=userquery.getResultList();
-        List<UserEntityC> wrappedusers = new ArrayList<>(user.size());
-        for(UserEntityC d :user){
-            wrappedusers.add(d);
-        }
-        ta.commit();
-        return wrappedusers;
+    public List<UserEntityC> getSname(String shorty) {
+        return _sessionManager.callInTransaction(session -> {
+            Query userquery = session.createQuery("SELECT a FROM UserEntityC a where lastName = :shorty ", UserEntityC.class);
+            userquery.setParameter("shorty", shorty);
+            List<UserEntityC> user=userquery.getResultList();
+            return new ArrayList<>(user);
+        });
     }
 }
\ No newline at end of file
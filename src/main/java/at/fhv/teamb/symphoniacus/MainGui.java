@@ -1,5 +1,7 @@
 package at.fhv.teamb.symphoniacus;
 
+import at.fhv.teamb.symphoniacus.application.ApplicationBootstrap;
+import at.fhv.teamb.symphoniacus.presentation.internal.tasks.TaskScheduler;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.geometry.Rectangle2D;
@@ -25,6 +27,9 @@ public class MainGui extends Application {
 
     @Override
     public void start(Stage stage) {
+        // Warm up the persistence layer while the user enters the credentials
+        ApplicationBootstrap.start();
+
         try {
             Locale locale = new Locale("en", "UK");
             Locale.setDefault(locale);
@@ -55,6 +60,11 @@ public class MainGui extends Application {
         }
     }
 
+    @Override
+    public void stop() {
+        TaskScheduler.shutdown();
+    }
+
     public static void main() {
         launch();
     }
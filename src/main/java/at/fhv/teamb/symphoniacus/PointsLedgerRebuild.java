@@ -0,0 +1,44 @@
+package at.fhv.teamb.symphoniacus;
+
+import at.fhv.teamb.symphoniacus.application.PointsLedgerManager;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Command line entry point rebuilding the musician month points ledger.
+ */
+public class PointsLedgerRebuild {
+    private static final Logger LOG = LogManager.getLogger(PointsLedgerRebuild.class);
+
+    /**
+     * Rebuilds the ledger for a range of months.
+     *
+     * @param args The first and the last month to rebuild, formatted as {@code yyyy-MM}.
+     *             Defaults to all months of the current year.
+     */
+    public static void main(String[] args) {
+        YearMonth from = Year.now().atMonth(1);
+        YearMonth to = Year.now().atMonth(12);
+        try {
+            if (args.length > 0 && !args[0].isBlank()) {
+                from = YearMonth.parse(args[0]);
+            }
+            if (args.length > 1 && !args[1].isBlank()) {
+                to = YearMonth.parse(args[1]);
+            }
+        } catch (DateTimeParseException e) {
+            LOG.error("Months have to be formatted as yyyy-MM", e);
+            System.exit(1);
+        }
+
+        LOG.info("Rebuilding points ledger from {} to {}", from, to);
+        if (!new PointsLedgerManager().rebuild(from, to)) {
+            LOG.error("Points ledger could not be rebuilt completely");
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+}
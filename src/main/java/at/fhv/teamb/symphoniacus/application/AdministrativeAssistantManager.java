@@ -1,6 +1,7 @@
 package at.fhv.teamb.symphoniacus.application;
 
 import at.fhv.teamb.symphoniacus.domain.AdministrativeAssistant;
+import at.fhv.teamb.symphoniacus.persistence.UnitOfWork;
 import at.fhv.teamb.symphoniacus.persistence.dao.AdministrativeAssistantDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.IAdministrativeAssistantDao;
 import at.fhv.teamb.symphoniacus.persistence.model.MusicianEntity;
@@ -33,11 +34,13 @@ public class AdministrativeAssistantManager {
      * @return A Musician object representing the provided User
      */
     public Optional<AdministrativeAssistant> loadAdministrativeAssistant(IUserEntity user) {
-        if (user == null) {
-            LOG.error("Cannot load musician with null user.");
-            return Optional.empty();
-        }
-        return loadAdministrativeAssistant(user.getUserId());
+        return UnitOfWork.call(() -> {
+            if (user == null) {
+                LOG.error("Cannot load musician with null user.");
+                return Optional.empty();
+            }
+            return loadAdministrativeAssistant(user.getUserId());
+        });
     }
 
     /**
@@ -47,17 +50,19 @@ public class AdministrativeAssistantManager {
      * @return Optional which is filled when loading worked, else empty
      */
     public Optional<AdministrativeAssistant> loadAdministrativeAssistant(int userId) {
-        Optional<IAdministrativeAssistantEntity> aa = this.aad.find(userId);
+        return UnitOfWork.call(() -> {
+            Optional<IAdministrativeAssistantEntity> aa = this.aad.find(userId);
 
-        // Load attempt failed
-        if (aa.isEmpty()) {
-            LOG.error("Could not load administrative assistant with userId {}", userId);
-            return Optional.empty();
-        }
+            // Load attempt failed
+            if (aa.isEmpty()) {
+                LOG.error("Could not load administrative assistant with userId {}", userId);
+                return Optional.empty();
+            }
 
-        // Load attempt succeeded
-        LOG.debug("Loaded Administrative Assistant with userId {}", userId);
-        AdministrativeAssistant aaDomain = new AdministrativeAssistant(aa.get());
-        return Optional.of(aaDomain);
+            // Load attempt succeeded
+            LOG.debug("Loaded Administrative Assistant with userId {}", userId);
+            AdministrativeAssistant aaDomain = new AdministrativeAssistant(aa.get());
+            return Optional.of(aaDomain);
+        });
     }
 }
@@ -0,0 +1,90 @@
+package at.fhv.teamb.symphoniacus.application;
+
+import at.fhv.teamb.symphoniacus.persistence.UnitOfWork;
+import at.fhv.teamb.symphoniacus.persistence.dao.UserDao;
+import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.IUserDao;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Warms up the persistence layer in the background while the login screen is shown.
+ *
+ * <p>Building the EntityManagerFactory, scanning the entities and compiling the first queries
+ * takes several seconds. Starting it as soon as the application launches takes this cold start
+ * off the login, which only waits for the part that is still missing.
+ */
+public final class ApplicationBootstrap {
+    private static final Logger LOG = LogManager.getLogger(ApplicationBootstrap.class);
+    private static final AtomicBoolean STARTED = new AtomicBoolean();
+    private static final CompletableFuture<Void> READY = new CompletableFuture<>();
+
+    private ApplicationBootstrap() {
+    }
+
+    /**
+     * Starts warming up the persistence layer on a background thread, subsequent calls have
+     * no effect.
+     */
+    public static void start() {
+        if (!STARTED.compareAndSet(false, true)) {
+            return;
+        }
+
+        Thread thread = new Thread(ApplicationBootstrap::warmUp, "symphoniacus-bootstrap");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Blocks until the persistence layer is warmed up. Returns immediately if the warm-up was
+     * never started or has already finished.
+     *
+     * <p>A failed warm-up is only logged, the caller then runs into the same error itself.
+     */
+    public static void awaitReady() {
+        if (!STARTED.get()) {
+            return;
+        }
+
+        try {
+            READY.join();
+        } catch (CompletionException e) {
+            LOG.error("Warming up the persistence layer failed", e.getCause());
+        }
+    }
+
+    /**
+     * Returns whether the warm-up has finished.
+     *
+     * @return True if the persistence layer is warmed up or the warm-up failed
+     */
+    public static boolean isReady() {
+        return READY.isDone();
+    }
+
+    private static void warmUp() {
+        long started = System.nanoTime();
+        try {
+            UnitOfWork.run(() -> {
+                // Builds the EntityManagerFactory and compiles the query of the login
+                IUserDao userDao = new UserDao();
+                userDao.loadUserForLogin("");
+            });
+            READY.complete(null);
+            LOG.debug(
+                "Persistence layer warmed up in {} ms",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)
+            );
+        } catch (Throwable e) {
+            // Any failure has to complete READY, else the login waits forever
+            READY.completeExceptionally(e);
+            if (e instanceof Error) {
+                throw (Error) e;
+            }
+        }
+    }
+}
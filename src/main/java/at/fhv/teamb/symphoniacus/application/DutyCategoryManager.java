@@ -5,6 +5,7 @@ import at.fhv.teamb.symphoniacus.application.dto.DutyCategoryDto;
 import at.fhv.teamb.symphoniacus.domain.DutyCategory;
 import at.fhv.teamb.symphoniacus.domain.DutyCategoryChangelog;
 import at.fhv.teamb.symphoniacus.persistence.PersistenceState;
+import at.fhv.teamb.symphoniacus.persistence.UnitOfWork;
 import at.fhv.teamb.symphoniacus.persistence.dao.DutyCategoryDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.IDutyCategoryDao;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyCategoryChangelogEntity;
@@ -34,29 +35,31 @@ public class DutyCategoryManager {
      * @return A List of duty category objects
      */
     public List<DutyCategoryDto> getDutyCategories() {
-        // Fetch duty categories from database if not present
-        if (this.dutyCategories == null) {
-            // Get duty category entities from database
-            this.dutyCategories = new LinkedList<>();
-            if (this.dutyCategoryEntities == null) {
-                this.dutyCategoryEntities = this.categoryDao.getAll();
-            }
-
-            // Convert duty category entities to domain objects
-            for (IDutyCategoryEntity entity : this.dutyCategoryEntities) {
-                // Convert duty category changelog entities to domain objects
-                List<DutyCategoryChangelog> changelogList = new LinkedList<>();
-                for (IDutyCategoryChangelogEntity changelogEntity :
-                    entity.getDutyCategoryChangelogs()
-                ) {
-                    changelogList.add(new DutyCategoryChangelog(changelogEntity));
+        return UnitOfWork.call(() -> {
+            // Fetch duty categories from database if not present
+            if (this.dutyCategories == null) {
+                // Get duty category entities from database
+                this.dutyCategories = new LinkedList<>();
+                if (this.dutyCategoryEntities == null) {
+                    this.dutyCategoryEntities = this.categoryDao.getAll();
                 }
 
-                // Create domain object
-                this.dutyCategories.add(new DutyCategory(entity, changelogList));
+                // Convert duty category entities to domain objects
+                for (IDutyCategoryEntity entity : this.dutyCategoryEntities) {
+                    // Convert duty category changelog entities to domain objects
+                    List<DutyCategoryChangelog> changelogList = new LinkedList<>();
+                    for (IDutyCategoryChangelogEntity changelogEntity :
+                        entity.getDutyCategoryChangelogs()
+                    ) {
+                        changelogList.add(new DutyCategoryChangelog(changelogEntity));
+                    }
+
+                    // Create domain object
+                    this.dutyCategories.add(new DutyCategory(entity, changelogList));
+                }
             }
-        }
-        return convertCategoriesToDto(this.dutyCategories);
+            return convertCategoriesToDto(this.dutyCategories);
+        });
     }
 
     private List<DutyCategoryDto> convertCategoriesToDto(List<DutyCategory> cats) {
@@ -97,22 +100,25 @@ public class DutyCategoryManager {
      * @param dutyCategory The duty category to persist
      */
     public void persist(DutyCategory dutyCategory) {
-        Optional<IDutyCategoryEntity> persisted = this.categoryDao.update(dutyCategory.getEntity());
+        UnitOfWork.run(() -> {
+            Optional<IDutyCategoryEntity> persisted =
+                this.categoryDao.update(dutyCategory.getEntity());
 
-        if (persisted.isPresent()) {
-            dutyCategory.setPersistenceState(PersistenceState.PERSISTED);
-            LOG.debug(
-                "Persisted duty category {{}, '{}'}",
-                dutyCategory.getEntity().getDutyCategoryId(),
-                dutyCategory.getEntity().getType()
-            );
-        } else {
-            LOG.error(
-                "Could not persist duty category {{}, '{}'}",
-                dutyCategory.getEntity().getDutyCategoryId(),
-                dutyCategory.getEntity().getType()
-            );
-        }
+            if (persisted.isPresent()) {
+                dutyCategory.setPersistenceState(PersistenceState.PERSISTED);
+                LOG.debug(
+                    "Persisted duty category {{}, '{}'}",
+                    dutyCategory.getEntity().getDutyCategoryId(),
+                    dutyCategory.getEntity().getType()
+                );
+            } else {
+                LOG.error(
+                    "Could not persist duty category {{}, '{}'}",
+                    dutyCategory.getEntity().getDutyCategoryId(),
+                    dutyCategory.getEntity().getType()
+                );
+            }
+        });
     }
 
     private DutyCategoryDto convertCategoryEntityToDto(IDutyCategoryEntity dutyCat) {
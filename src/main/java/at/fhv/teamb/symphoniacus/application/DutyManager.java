@@ -10,26 +10,28 @@ import at.fhv.teamb.symphoniacus.domain.Duty;
 import at.fhv.teamb.symphoniacus.domain.DutyCategory;
 import at.fhv.teamb.symphoniacus.domain.Section;
 import at.fhv.teamb.symphoniacus.persistence.PersistenceState;
+import at.fhv.teamb.symphoniacus.persistence.UnitOfWork;
 import at.fhv.teamb.symphoniacus.persistence.dao.DutyCategoryChangeLogDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.DutyCategoryDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.DutyDao;
+import at.fhv.teamb.symphoniacus.persistence.dao.DutyPositionDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.InstrumentationDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.MusicianDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.SeriesOfPerformancesDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.IDutyCategoryChangeLogDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.IDutyCategoryDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.IDutyDao;
+import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.IDutyPositionDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.IInstrumentationDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.IMusicianDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.ISeriesOfPerformancesDao;
+import at.fhv.teamb.symphoniacus.persistence.model.DutyCalendarRow;
 import at.fhv.teamb.symphoniacus.persistence.model.DutyCategoryChangelogEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.DutyEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.SectionEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyCategoryChangelogEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyCategoryEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyEntity;
-import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyPositionEntity;
-import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IInstrumentCategoryEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IInstrumentationEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IMonthlyScheduleEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IMusicalPieceEntity;
@@ -47,6 +49,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -65,11 +68,14 @@ public class DutyManager {
     private final SectionMonthlyScheduleManager sectionMonthlyScheduleManager;
     private final SeriesOfPerformancesManager seriesOfPerformancesManager;
     private final WeeklyScheduleManager weeklyScheduleManager;
+    private final PointsLedgerManager pointsLedgerManager;
     private final IDutyCategoryChangeLogDao changeLogDao;
     private final ISeriesOfPerformancesDao seriesDao;
     private final IDutyCategoryDao dutyCategoryDao;
     private final IInstrumentationDao instrumentationDao;
     private final IMusicianDao musicianDao;
+    private final IDutyPositionDao dutyPositionDao;
+    private final DutyRangeCache calendarRowCache;
     protected IDutyDao dutyDao;
 
     /**
@@ -81,12 +87,15 @@ public class DutyManager {
         this.sectionMonthlyScheduleManager = new SectionMonthlyScheduleManager();
         this.seriesOfPerformancesManager = new SeriesOfPerformancesManager();
         this.weeklyScheduleManager = new WeeklyScheduleManager();
+        this.pointsLedgerManager = new PointsLedgerManager();
         this.changeLogDao = new DutyCategoryChangeLogDao();
         this.dutyDao = new DutyDao();
         this.seriesDao = new SeriesOfPerformancesDao();
         this.dutyCategoryDao = new DutyCategoryDao();
         this.instrumentationDao = new InstrumentationDao();
         this.musicianDao = new MusicianDao();
+        this.dutyPositionDao = new DutyPositionDao();
+        this.calendarRowCache = DutyRangeCache.getShared();
     }
 
     /**
@@ -121,8 +130,10 @@ public class DutyManager {
      * @return A minimal-loaded duty
      */
     public Optional<Duty> loadDutyDetails(Integer dutyId) {
-        Optional<IDutyEntity> dutyEntity = this.dutyDao.find(dutyId);
-        return dutyEntity.map(Duty::new);
+        return UnitOfWork.call(() -> {
+            Optional<IDutyEntity> dutyEntity = this.dutyDao.findWithDetails(dutyId);
+            return dutyEntity.map(Duty::new);
+        });
     }
 
     /**
@@ -132,94 +143,80 @@ public class DutyManager {
      * @return A minimal-loaded duty
      */
     public Optional<DutyDto> loadDutyDetailsDto(Integer dutyId) {
-        Optional<IDutyEntity> dutyEntity = this.dutyDao.find(dutyId);
-        Optional<Duty> duty = dutyEntity.map(Duty::new);
-        return duty.map(this::dutyToDto);
+        return UnitOfWork.call(() -> {
+            Optional<IDutyEntity> dutyEntity = this.dutyDao.findWithDetails(dutyId);
+            Optional<Duty> duty = dutyEntity.map(Duty::new);
+            return duty.map(this::dutyToDto);
+        });
     }
 
     /**
-     * Finds all duties within a full week (any Date can be given).
-     * converts the given Date the last Monday
+     * Loads read-only calendar rows of all duties in a specific range of time for a section
+     * chunk by chunk.
      *
-     * @param start is any given Date
-     * @return a List of all matching duties
-     */
-    public List<Duty> findAllInWeek(LocalDate start) {
-        List<IDutyEntity> entityList = this.dutyDao.findAllInWeek(
-            getLastMondayDate(start).atStartOfDay()
-        );
-
-        List<Duty> dutyList = new LinkedList<>();
-        for (IDutyEntity entity : entityList) {
-            dutyList.add(new Duty(entity));
-        }
-
-        return dutyList;
-    }
-
-    /**
-     * Finds all duties in a within the week of a given Date for a section.
-     *
-     * @param sectionOfUser The section of the current user
-     * @param start         A LocalDate that represents the start
-     * @return A List of the matching duties
-     */
-    public List<Duty> findAllInWeekWithSection(
-        SectionDto sectionOfUser,
-        LocalDate start
-    ) {
-        SectionEntity sectionEntity = sectionDtoToSectionEntity(sectionOfUser);
-        return convertEntitiesToDomainObjects(
-            this.dutyDao.findAllInWeekWithSection(
-                sectionEntity,
-                getLastMondayDate(start).atStartOfDay(),
-                false,
-                false,
-                false
-            )
-        );
-    }
-
-    /**
-     * Finds all duties in a specific range of time for a section.
+     * <p>Weeks that were loaded before are served from the {@link DutyRangeCache}.
      *
-     * @param section The section of the current user
-     * @param start   A LocalDate that represents the start
-     * @param end     A LocalDate that represents the end
-     * @return A List of the matching duties
+     * @param section  The section of the current user
+     * @param start    A LocalDate that represents the start
+     * @param end      A LocalDate that represents the end
+     * @param consumer Receives the rows of every chunk, ordered by their start
      */
-    public List<Duty> findAllInRangeWithSection(
+    public void streamCalendarRowsInRangeWithSection(
         SectionDto section,
         LocalDate start,
-        LocalDate end
+        LocalDate end,
+        Consumer<List<DutyCalendarRow>> consumer
     ) {
-        SectionEntity sectionEntity = sectionDtoToSectionEntity(section);
-        return convertEntitiesToDomainObjects(
-            this.dutyDao.findAllInRangeWithSection(
-                sectionEntity,
-                start.atStartOfDay(),
-                end.atStartOfDay(),
-                true,
-                false,
-                false
-            )
-        );
+        UnitOfWork.run(() -> {
+            SectionEntity sectionEntity = sectionDtoToSectionEntity(section);
+            this.calendarRowCache.stream(
+                List.of(section.getSectionId(), true, false, false),
+                start,
+                end,
+                (loadStart, loadEnd, chunkConsumer) ->
+                    this.dutyDao.streamCalendarRowsInRangeWithSection(
+                        sectionEntity,
+                        loadStart,
+                        loadEnd,
+                        true,
+                        false,
+                        false,
+                        DutyDao.DEFAULT_CHUNK_SIZE,
+                        chunkConsumer
+                    ),
+                consumer
+            );
+        });
     }
 
     /**
-     * Finds all duties in a specific range of time.
+     * Loads read-only calendar rows of all duties in a specific range of time chunk by chunk.
+     *
+     * <p>Weeks that were loaded before are served from the {@link DutyRangeCache}.
      *
-     * @param start A LocalDate that represents the start
-     * @param end   A LocalDate that represents the end
-     * @return A List of the matching duties
+     * @param start    A LocalDate that represents the start
+     * @param end      A LocalDate that represents the end
+     * @param consumer Receives the rows of every chunk, ordered by their start
      */
-    public List<Duty> findAllInRange(LocalDate start, LocalDate end) {
-        return convertEntitiesToDomainObjects(
-            this.dutyDao.findAllInRange(
-                start.atStartOfDay(),
-                end.atStartOfDay()
-            )
-        );
+    public void streamCalendarRowsInRange(
+        LocalDate start,
+        LocalDate end,
+        Consumer<List<DutyCalendarRow>> consumer
+    ) {
+        UnitOfWork.run(() -> {
+            this.calendarRowCache.stream(
+                List.of(),
+                start,
+                end,
+                (loadStart, loadEnd, chunkConsumer) -> this.dutyDao.streamCalendarRowsInRange(
+                    loadStart,
+                    loadEnd,
+                    DutyDao.DEFAULT_CHUNK_SIZE,
+                    chunkConsumer
+                ),
+                consumer
+            );
+        });
     }
 
     /**
@@ -232,40 +229,42 @@ public class DutyManager {
         SectionDto section,
         Integer numberOfDuties
     ) {
-        // Look whether it is a SoP or not.
-        if (duty == null) {
-            LOG.error("Cannot getLastDuties when duty is null");
-            return new LinkedList<>();
-        }
+        return UnitOfWork.call(() -> {
+            // Look whether it is a SoP or not.
+            if (duty == null) {
+                LOG.error("Cannot getLastDuties when duty is null");
+                return new LinkedList<>();
+            }
 
-        ISeriesOfPerformancesEntity sop = duty
-            .getEntity()
-            .getSeriesOfPerformances();
-
-        List<IDutyEntity> resultList;
-        if (sop.getSeriesOfPerformancesId() != null) {
-            // get last duties for this SoP
-            resultList = this.dutyDao.getOtherDutiesForSeriesOfPerformances(
-                sop,
-                duty.getEntity().getStart(),
-                numberOfDuties
-            );
-        } else {
-            SectionEntity sectionEntity = sectionDtoToSectionEntity(section);
-            // get last duties of section
-            resultList = this.dutyDao.getOtherDutiesForSection(
-                duty.getEntity(),
-                sectionEntity,
-                numberOfDuties
-            );
-        }
+            ISeriesOfPerformancesEntity sop = duty
+                .getEntity()
+                .getSeriesOfPerformances();
+
+            List<IDutyEntity> resultList;
+            if (sop.getSeriesOfPerformancesId() != null) {
+                // get last duties for this SoP
+                resultList = this.dutyDao.getOtherDutiesForSeriesOfPerformances(
+                    sop,
+                    duty.getEntity().getStart(),
+                    numberOfDuties
+                );
+            } else {
+                SectionEntity sectionEntity = sectionDtoToSectionEntity(section);
+                // get last duties of section
+                resultList = this.dutyDao.getOtherDutiesForSection(
+                    duty.getEntity(),
+                    sectionEntity,
+                    numberOfDuties
+                );
+            }
 
-        if (resultList == null || resultList.isEmpty()) {
-            LOG.error("No results found for getOtherDutiesForSopOrSection");
-            return new LinkedList<>();
-        }
+            if (resultList == null || resultList.isEmpty()) {
+                LOG.error("No results found for getOtherDutiesForSopOrSection");
+                return new LinkedList<>();
+            }
 
-        return convertEntitiesToDomainObjects(resultList);
+            return convertEntitiesToDomainObjects(resultList);
+        });
     }
 
     /**
@@ -325,6 +324,9 @@ public class DutyManager {
      * from {@link PersistenceState#EDITED} to {@link PersistenceState#PERSISTED}, provided
      * that the database update was successful.
      *
+     * <p>The duty, its duty positions and changed points are written in one transaction, the
+     * duty positions as a single batch.
+     *
      * @param newDuty       The new Duty to create
      * @param pointsChanged Whether the points vary from default points
      * @return A ValidationResult containing the validated DutyDto, if successful
@@ -333,61 +335,99 @@ public class DutyManager {
         DutyDto newDuty,
         boolean pointsChanged
     ) {
-        // Create Duty entity
-        IDutyEntity dutyEntity = createDutyEntity(
-            newDuty.getDescription(),
-            Duty.calculateTimeOfDay(newDuty.getStart()),
-            newDuty.getStart(),
-            newDuty.getEnd()
-        );
+        ValidationResult<DutyDto> result = UnitOfWork.call(() -> {
+            // Create Duty entity
+            IDutyEntity dutyEntity = createDutyEntity(
+                newDuty.getDescription(),
+                Duty.calculateTimeOfDay(newDuty.getStart()),
+                newDuty.getStart(),
+                newDuty.getEnd()
+            );
 
-        // Fill Duty Entity with data from DTO
-        this.fillNewDutyWithData(newDuty, dutyEntity);
+            // Fill Duty Entity with data from DTO
+            this.fillNewDutyWithData(newDuty, dutyEntity);
 
-        // Domain object validation
-        Duty duty = new Duty(dutyEntity);
-        ValidationResult<DutyDto> validationResult = duty.isValid();
-        if (!validationResult.isValid()) {
-            LOG.error("Duty to persist is not valid");
-            validationResult.setMessage("Persisting the new Duty failed. Please try again..");
-            return validationResult;
-        }
+            // Domain object validation
+            Duty duty = new Duty(dutyEntity);
+            ValidationResult<DutyDto> validationResult = duty.isValid();
+            if (!validationResult.isValid()) {
+                LOG.error("Duty to persist is not valid");
+                validationResult.setMessage("Persisting the new Duty failed. Please try again..");
+                return validationResult;
+            }
 
-        // Validation OK, persist Duty
-        Optional<IDutyEntity> persistedDuty = this.dutyDao.persist(dutyEntity);
+            // Validation OK, persist Duty
+            boolean persisted = this.persistNewDuty(dutyEntity, newDuty, pointsChanged);
 
-        // Update points if user has updated them
-        if (pointsChanged) {
-            this.updateDutyCategoryPoints(dutyEntity, newDuty.getPoints());
-        }
+            DutyDto.DutyDtoBuilder dutyDtoBuilder = new DutyDto.DutyDtoBuilder()
+                .withDutyId(dutyEntity.getDutyId())
+                .withStart(dutyEntity.getStart())
+                .withEnd(dutyEntity.getEnd())
+                .withTimeOfDay(dutyEntity.getTimeOfDay())
+                .withDescription(dutyEntity.getDescription());
+
+            if (persisted) {
+                LOG.debug(
+                    "Persisted duty {{}, '{}'}",
+                    dutyEntity.getDutyId(),
+                    dutyEntity.getDescription()
+                );
+                dutyDtoBuilder.withPersistenceState(PersistenceState.PERSISTED);
+            } else {
+                LOG.error(
+                    "Could not persist duty {{}, '{}'}",
+                    dutyEntity.getDutyId(),
+                    dutyEntity.getDescription()
+                );
+                dutyDtoBuilder.withPersistenceState(PersistenceState.EDITED);
+            }
+            validationResult.setValid(persisted);
+            validationResult.setPayload(dutyDtoBuilder.build());
 
-        DutyDto.DutyDtoBuilder dutyDtoBuilder = new DutyDto.DutyDtoBuilder()
-            .withDutyId(dutyEntity.getDutyId())
-            .withStart(dutyEntity.getStart())
-            .withEnd(dutyEntity.getEnd())
-            .withTimeOfDay(dutyEntity.getTimeOfDay())
-            .withDescription(dutyEntity.getDescription());
-
-        boolean persisted = persistedDuty.isPresent();
-        if (persisted) {
-            LOG.debug(
-                "Persisted duty {{}, '{}'}",
-                dutyEntity.getDutyId(),
-                dutyEntity.getDescription()
-            );
-            dutyDtoBuilder.withPersistenceState(PersistenceState.PERSISTED);
-        } else {
-            LOG.error(
-                "Could not persist duty {{}, '{}'}",
-                dutyEntity.getDutyId(),
-                dutyEntity.getDescription()
+            return validationResult;
+        });
+
+        // Invalidate once the transaction is committed
+        if (result.isValid() && pointsChanged) {
+            // The points of the duty category changed for all later duties
+            this.calendarRowCache.invalidateAll();
+        } else if (result.isValid()) {
+            result.getPayload().ifPresent(
+                duty -> this.calendarRowCache.invalidate(duty.getStart(), duty.getEnd())
             );
-            dutyDtoBuilder.withPersistenceState(PersistenceState.EDITED);
         }
-        validationResult.setValid(persisted);
-        validationResult.setPayload(dutyDtoBuilder.build());
+        return result;
+    }
 
-        return validationResult;
+    /**
+     * Persists a new duty, creates its duty positions and updates the points of its duty
+     * category in one transaction.
+     *
+     * @param dutyEntity    The duty to persist
+     * @param newDuty       The DutyDto with the instrumentations and points
+     * @param pointsChanged Whether the points vary from default points
+     * @return True if everything was persisted, false if the transaction is rolled back
+     */
+    private boolean persistNewDuty(
+        IDutyEntity dutyEntity,
+        DutyDto newDuty,
+        boolean pointsChanged
+    ) {
+        try (UnitOfWork unitOfWork = UnitOfWork.beginTransaction()) {
+            boolean persisted = this.dutyDao.persist(dutyEntity).isPresent()
+                && this.dutyPositionDao.persistAll(
+                    this.dutyPositionManager.createDutyPositions(
+                        convertInstrumentationToEntityObjects(newDuty.getInstrumentations()),
+                        dutyEntity
+                    )
+                )
+                && (!pointsChanged
+                || this.updateDutyCategoryPoints(dutyEntity, newDuty.getPoints()));
+            if (!persisted) {
+                unitOfWork.setRollbackOnly();
+            }
+            return persisted;
+        }
     }
 
     /**
@@ -400,22 +440,26 @@ public class DutyManager {
      * @param duty The duty to update
      */
     public void update(Duty duty) {
-        Optional<IDutyEntity> persisted = this.dutyDao.update(duty.getEntity());
-
-        if (persisted.isPresent()) {
-            duty.setPersistenceState(PersistenceState.PERSISTED);
-            LOG.debug(
-                "Persisted duty {{}, '{}'}",
-                duty.getEntity().getDutyId(),
-                duty.getTitle()
-            );
-        } else {
-            LOG.error(
-                "Could not persist duty {{}, '{}'}",
-                duty.getEntity().getDutyId(),
-                duty.getTitle()
-            );
-        }
+        UnitOfWork.run(() -> {
+            Optional<IDutyEntity> persisted = this.dutyDao.update(duty.getEntity());
+
+            // The duty might have been moved, so its former weeks are unknown
+            this.calendarRowCache.invalidateAll();
+            if (persisted.isPresent()) {
+                duty.setPersistenceState(PersistenceState.PERSISTED);
+                LOG.debug(
+                    "Persisted duty {{}, '{}'}",
+                    duty.getEntity().getDutyId(),
+                    duty.getTitle()
+                );
+            } else {
+                LOG.error(
+                    "Could not persist duty {{}, '{}'}",
+                    duty.getEntity().getDutyId(),
+                    duty.getTitle()
+                );
+            }
+        });
     }
 
     /**
@@ -434,52 +478,52 @@ public class DutyManager {
         LocalDateTime startingDate,
         LocalDateTime endingDate,
         DutyCategoryDto category) {
+        return UnitOfWork.call(() -> {
+            Optional<IDutyCategoryEntity> dutyCat = this.dutyCategoryDao.find(
+                category.getDutyCategoryId()
+            );
 
-        Optional<IDutyCategoryEntity> dutyCat = this.dutyCategoryDao.find(
-            category.getDutyCategoryId()
-        );
-
-        //Convert List of instDTO to instEntity
-        List<IInstrumentationEntity> newInstrumentations = new LinkedList<>();
-        Optional<IInstrumentationEntity> inst = Optional.empty();
-
-        for (InstrumentationDto i : instrumentations) {
-            inst = this.instrumentationDao.find(i.getInstrumentationId());
-            inst.ifPresent(newInstrumentations::add);
-        }
+            //Convert List of instDTO to instEntity
+            List<IInstrumentationEntity> newInstrumentations = new LinkedList<>();
+            Optional<IInstrumentationEntity> inst = Optional.empty();
 
-        Optional<ISeriesOfPerformancesEntity> series = this.seriesDao.find(
-            seriesOfPerformances.getSeriesOfPerformancesId()
-        );
+            for (InstrumentationDto i : instrumentations) {
+                inst = this.instrumentationDao.find(i.getInstrumentationId());
+                inst.ifPresent(newInstrumentations::add);
+            }
 
-        if (series.isPresent() && dutyCat.isPresent() && !newInstrumentations.isEmpty()) {
-            return this.dutyDao.doesDutyAlreadyExists(
-                series.get(),
-                newInstrumentations,
-                startingDate,
-                endingDate,
-                dutyCat.get()
+            Optional<ISeriesOfPerformancesEntity> series = this.seriesDao.find(
+                seriesOfPerformances.getSeriesOfPerformancesId()
             );
-        } else {
-            return false;
-        }
+
+            if (series.isPresent() && dutyCat.isPresent() && !newInstrumentations.isEmpty()) {
+                return this.dutyDao.doesDutyAlreadyExists(
+                    series.get(),
+                    newInstrumentations,
+                    startingDate,
+                    endingDate,
+                    dutyCat.get()
+                );
+            } else {
+                return false;
+            }
+        });
     }
 
     /**
-     * Converts a DutyDto to Duty Domain Object.
+     * Returns the calendar row of the duty of a DutyDto.
      *
      * @param duty given DutyDto
-     * @return Duty Domain Object
+     * @return The calendar row of the duty, empty if the duty does not exist
      */
-    public Duty getDutyByDutyDto(DutyDto duty) {
-        Optional<IDutyEntity> dutyEntity = this.dutyDao.find(duty.getDutyId());
-
-        if (dutyEntity.isPresent()) {
-            return new Duty(dutyEntity.get());
-        } else {
-            LOG.error("A Duty with given DutyId from Dto does not exists");
-            return null;
-        }
+    public Optional<DutyCalendarRow> getCalendarRowByDutyDto(DutyDto duty) {
+        return UnitOfWork.call(() -> {
+            Optional<IDutyEntity> dutyEntity = this.dutyDao.find(duty.getDutyId());
+            if (dutyEntity.isEmpty()) {
+                LOG.error("A Duty with given DutyId from Dto does not exists");
+            }
+            return dutyEntity.map(DutyCalendarRow::of);
+        });
     }
 
     /**
@@ -489,69 +533,76 @@ public class DutyManager {
      * @return Duties found
      */
     public Set<DutyDto> findFutureUnscheduledDutiesForMusician(Integer userId) {
-        LOG.debug(userId);
-        Optional<IMusicianEntity> musicianEntity = this.musicianDao.findMusicianByUserId(userId);
+        return UnitOfWork.call(() -> {
+            LOG.debug(userId);
+            Optional<IMusicianEntity> musicianEntity =
+                this.musicianDao.findMusicianByUserId(userId);
+
+            if (musicianEntity.isEmpty()) {
+                LOG.error("Did not find user");
+                return new HashSet<>();
+            }
 
-        if (musicianEntity.isEmpty()) {
-            LOG.error("Did not find user");
-            return new HashSet<>();
-        }
+            Set<IDutyEntity> dutiesForMusician = this.findFutureUnscheduledDutiesForMusician(
+                musicianEntity.get()
+            );
 
-        // Get instrument categories of User
-        IMusicianEntity musician = musicianEntity.get();
-        List<IInstrumentCategoryEntity> categories = musician.getInstrumentCategories();
+            // Convert to DTO
+            Set<DutyDto> result = new HashSet<>();
+            for (IDutyEntity dutyEntity : dutiesForMusician) {
+                DutyDto dutyDto = new DutyDto.DutyDtoBuilder()
+                    .withDutyId(dutyEntity.getDutyId())
+                    .withDescription(dutyEntity.getDescription())
+                    .withDutyCategory(
+                        new DutyCategoryDto.DutyCategoryDtoBuilder(dutyEntity.getDutyId())
+                            .withType(dutyEntity.getDutyCategory().getType())
+                            .withPoints(dutyEntity.getDutyCategory().getPoints())
+                            .build()
+                    )
+                    .withStart(dutyEntity.getStart())
+                    .withEnd(dutyEntity.getEnd())
+                    .withSeriesOfPerformances(
+                        this.seriesOfPerformancesManager.convertSopToDto(
+                            dutyEntity.getSeriesOfPerformances()
+                        )
+                    ).build();
+                result.add(dutyDto);
+            }
+            return result;
+        });
+    }
 
-        // Planned duties for this section
-        // where we can still make wishes
-        // still need to check instrument category of Musician!
-        List<IDutyEntity> plannedDutyEntities = this.dutyDao.findFutureUnscheduledDuties(
-            musician.getSection()
-        );
-        LOG.debug("Found {} planned duties", plannedDutyEntities.size());
-
-        Set<IDutyEntity> dutiesForMusician = new HashSet<>();
-        for (IDutyEntity dutyEntity : plannedDutyEntities) {
-            Set<IDutyPositionEntity> dutyPositionEntities = dutyEntity.getDutyPositions();
-            for (IDutyPositionEntity dpe : dutyPositionEntities) {
-                IInstrumentCategoryEntity ice = dpe
-                    .getInstrumentationPosition()
-                    .getInstrumentCategory();
-
-                if (categories.contains(ice)) {
-                    LOG.debug(
-                        "DutyPosition {} fits for {}",
-                        dpe.getInstrumentationPosition().getPositionDescription(),
-                        ice.getDescription());
+    /**
+     * Finds all unscheduled duties for a musician, checking the instrument categories of all
+     * duty positions in a single query.
+     *
+     * @param musician The musician to use
+     * @return Duties found
+     */
+    public Set<IDutyEntity> findFutureUnscheduledDutiesForMusician(IMusicianEntity musician) {
+        return UnitOfWork.call(() -> {
+            // Planned duties for this section
+            // where we can still make wishes
+            List<IDutyEntity> plannedDutyEntities = this.dutyDao.findFutureUnscheduledDuties(
+                musician.getSection()
+            );
+            LOG.debug("Found {} planned duties", plannedDutyEntities.size());
+
+            // Only duties with a position for an instrument category of the musician
+            Set<Integer> fittingDutyIds = this.dutyPositionDao.findDutyIdsWithInstrumentCategories(
+                plannedDutyEntities,
+                musician.getInstrumentCategories()
+            );
+            Set<IDutyEntity> dutiesForMusician = new LinkedHashSet<>();
+            for (IDutyEntity dutyEntity : plannedDutyEntities) {
+                if (fittingDutyIds.contains(dutyEntity.getDutyId())) {
                     dutiesForMusician.add(dutyEntity);
-                    break;
                 }
             }
-        }
-
-        LOG.debug("Found {} duties for musician", dutiesForMusician.size());
 
-        // Convert to DTO
-        Set<DutyDto> result = new HashSet<>();
-        for (IDutyEntity dutyEntity : dutiesForMusician) {
-            DutyDto dutyDto = new DutyDto.DutyDtoBuilder()
-                .withDutyId(dutyEntity.getDutyId())
-                .withDescription(dutyEntity.getDescription())
-                .withDutyCategory(
-                    new DutyCategoryDto.DutyCategoryDtoBuilder(dutyEntity.getDutyId())
-                        .withType(dutyEntity.getDutyCategory().getType())
-                        .withPoints(dutyEntity.getDutyCategory().getPoints())
-                        .build()
-                )
-                .withStart(dutyEntity.getStart())
-                .withEnd(dutyEntity.getEnd())
-                .withSeriesOfPerformances(
-                    this.seriesOfPerformancesManager.convertSopToDto(
-                        dutyEntity.getSeriesOfPerformances()
-                    )
-                ).build();
-            result.add(dutyDto);
-        }
-        return result;
+            LOG.debug("Found {} duties for musician", dutiesForMusician.size());
+            return dutiesForMusician;
+        });
     }
 
     /**
@@ -619,11 +670,6 @@ public class DutyManager {
                 dutyEntity.getDutyId()
             );
         }
-
-        this.dutyPositionManager.createDutyPositions(
-            convertInstrumentationToEntityObjects(newDuty.getInstrumentations()),
-            dutyEntity
-        );
     }
 
     /**
@@ -631,23 +677,37 @@ public class DutyManager {
      *
      * @param dutyEntity The Duty Entity to use
      * @param points     The new amount of points
+     * @return True if the points were updated, false if the transaction is rolled back
      */
-    private void updateDutyCategoryPoints(IDutyEntity dutyEntity, int points) {
-        if (this.changeLogDao.doesLogAlreadyExists(dutyEntity)) {
-            Optional<IDutyCategoryChangelogEntity> changeLog =
-                this.changeLogDao.getChangelogByDetails(dutyEntity);
-            if (changeLog.isPresent()) {
-                changeLog.get().setPoints(points);
-                changeLogDao.update(changeLog.get());
+    private boolean updateDutyCategoryPoints(IDutyEntity dutyEntity, int points) {
+        try (UnitOfWork unitOfWork = UnitOfWork.beginTransaction()) {
+            boolean stored;
+            if (this.changeLogDao.doesLogAlreadyExists(dutyEntity)) {
+                Optional<IDutyCategoryChangelogEntity> changeLog =
+                    this.changeLogDao.getChangelogByDetails(dutyEntity);
+                if (changeLog.isPresent()) {
+                    changeLog.get().setPoints(points);
+                    stored = changeLogDao.update(changeLog.get()).isPresent();
+                } else {
+                    LOG.error("Returned changelog is null but shouldn't be null! @save");
+                    stored = false;
+                }
             } else {
-                LOG.error("Returned changelog is null but shouldn't be null! @save");
+                IDutyCategoryChangelogEntity changeLog = new DutyCategoryChangelogEntity();
+                changeLog.setDutyCategory(dutyEntity.getDutyCategory());
+                changeLog.setPoints(points);
+                changeLog.setStartDate(dutyEntity.getStart().toLocalDate());
+                stored = changeLogDao.persist(changeLog).isPresent();
             }
-        } else {
-            IDutyCategoryChangelogEntity changeLog = new DutyCategoryChangelogEntity();
-            changeLog.setDutyCategory(dutyEntity.getDutyCategory());
-            changeLog.setPoints(points);
-            changeLog.setStartDate(dutyEntity.getStart().toLocalDate());
-            changeLogDao.persist(changeLog);
+            if (!stored || !this.pointsLedgerManager.recalculateCategory(
+                dutyEntity.getDutyCategory(),
+                dutyEntity.getStart().toLocalDate()
+            )) {
+                unitOfWork.setRollbackOnly();
+                LOG.error("Points of duty category could not be updated");
+                return false;
+            }
+            return true;
         }
     }
 
@@ -4,8 +4,11 @@ import at.fhv.teamb.symphoniacus.persistence.model.DutyEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.DutyPositionEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.InstrumentationPositionEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyPositionEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IInstrumentationEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IInstrumentationPositionEntity;
+import java.util.LinkedList;
+import java.util.List;
 import java.util.Set;
 
 public class DutyPositionManager {
@@ -16,11 +19,14 @@ public class DutyPositionManager {
      *
      * @param instrumentations The instrumentations to use
      * @param duty             The duty to use
+     * @return The created duty positions, which are not persisted yet
      */
-    public void createDutyPositions(
+    public List<IDutyPositionEntity> createDutyPositions(
         Set<IInstrumentationEntity> instrumentations,
         IDutyEntity duty
     ) {
+        List<IDutyPositionEntity> positions = new LinkedList<>();
+
         // Create duty position for each instrumentation position
         for (IInstrumentationEntity inst : instrumentations) {
             for (IInstrumentationPositionEntity instPosition : inst.getInstrumentationPositions()) {
@@ -31,7 +37,9 @@ public class DutyPositionManager {
                 pos.setInstrumentationPosition(instPosition);
                 pos.setSection(instPosition.getSectionInstrumentation().getSection());
                 duty.addDutyPosition(pos);
+                positions.add(pos);
             }
         }
+        return positions;
     }
 }
@@ -0,0 +1,205 @@
+package at.fhv.teamb.symphoniacus.application;
+
+import at.fhv.teamb.symphoniacus.persistence.model.DutyCalendarRow;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Keeps the {@link DutyCalendarRow} objects of already loaded weeks in memory, so showing the
+ * same weeks again does not query the database.
+ *
+ * <p>Rows are stored per query, for example a section and its publish-state flags, and per
+ * week starting on Monday. A duty belongs to the week it starts in. When more than the
+ * maximum number of weeks are stored, the weeks requested least recently are evicted.
+ *
+ * <p>Every change of a duty, its series of performances or its duty category has to invalidate
+ * the cache once it is committed. Loads that were running while the cache got invalidated are
+ * not stored, as they might contain outdated rows.
+ *
+ * <p>Only the rows shown in the calendar are cached. The details of a single duty, e.g. for its
+ * popover or for editing it, are always loaded from the database.
+ */
+public final class DutyRangeCache {
+    /**
+     * Default number of weeks kept by the shared cache.
+     */
+    public static final int DEFAULT_MAX_WEEKS = 520;
+    private static final Logger LOG = LogManager.getLogger(DutyRangeCache.class);
+    private static final DutyRangeCache SHARED = new DutyRangeCache(DEFAULT_MAX_WEEKS);
+    private final Map<List<Object>, List<DutyCalendarRow>> weeks;
+    private long generation;
+
+    /**
+     * Creates an empty cache.
+     *
+     * @param maxWeeks The maximum number of weeks to keep
+     */
+    public DutyRangeCache(int maxWeeks) {
+        this.weeks = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(
+                Map.Entry<List<Object>, List<DutyCalendarRow>> eldest
+            ) {
+                return this.size() > maxWeeks;
+            }
+        };
+    }
+
+    /**
+     * Returns the cache shared by all managers of the application.
+     *
+     * @return The shared cache
+     */
+    public static DutyRangeCache getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Hands over the rows of all duties starting at or after the start and ending at or before
+     * the end of the range.
+     *
+     * <p>If all weeks of the range are cached, the rows are handed over at once. Otherwise the
+     * weeks are loaded, the rows are handed over chunk by chunk while loading and the weeks are
+     * stored afterwards.
+     *
+     * @param query    Identifies the query, for example the section and publish-state flags
+     * @param start    A LocalDate that represents the start
+     * @param end      A LocalDate that represents the end
+     * @param loader   Loads the rows of a range of time from the database
+     * @param consumer Receives the rows, ordered by their start
+     */
+    public void stream(
+        List<Object> query,
+        LocalDate start,
+        LocalDate end,
+        Loader loader,
+        Consumer<List<DutyCalendarRow>> consumer
+    ) {
+        LocalDateTime rangeStart = start.atStartOfDay();
+        LocalDateTime rangeEnd = end.atStartOfDay();
+        LocalDate firstMonday = start.with(DayOfWeek.MONDAY);
+        LocalDate lastMonday = end.minusDays(1).with(DayOfWeek.MONDAY);
+
+        List<DutyCalendarRow> cached = new LinkedList<>();
+        long loadGeneration;
+        synchronized (this) {
+            boolean complete = true;
+            for (LocalDate monday = firstMonday;
+                !monday.isAfter(lastMonday) && complete;
+                monday = monday.plusWeeks(1)) {
+                List<DutyCalendarRow> week = this.weeks.get(List.of(query, monday));
+                if (week == null) {
+                    complete = false;
+                } else {
+                    cached.addAll(filter(week, rangeStart, rangeEnd));
+                }
+            }
+
+            if (complete) {
+                LOG.debug("Served duties from {} to {} from cache", start, end);
+                consumer.accept(cached);
+                return;
+            }
+            loadGeneration = this.generation;
+        }
+
+        // Duties running over midnight at the end of the last week still belong to it
+        LocalDateTime loadEnd = lastMonday.plusWeeks(1).atStartOfDay();
+        List<DutyCalendarRow> loaded = new LinkedList<>();
+        loader.load(firstMonday.atStartOfDay(), loadEnd.plusDays(1), chunk -> {
+            loaded.addAll(chunk);
+            List<DutyCalendarRow> rows = filter(chunk, rangeStart, rangeEnd);
+            if (!rows.isEmpty()) {
+                consumer.accept(rows);
+            }
+        });
+
+        synchronized (this) {
+            if (loadGeneration != this.generation) {
+                LOG.debug("Discarded duties from {} to {} loaded while invalidated", start, end);
+                return;
+            }
+
+            Map<LocalDate, List<DutyCalendarRow>> rowsByWeek = new HashMap<>();
+            for (DutyCalendarRow row : loaded) {
+                if (row.getStart().isBefore(loadEnd)) {
+                    rowsByWeek.computeIfAbsent(
+                        row.getStart().toLocalDate().with(DayOfWeek.MONDAY),
+                        monday -> new LinkedList<>()
+                    ).add(row);
+                }
+            }
+            for (LocalDate monday = firstMonday;
+                !monday.isAfter(lastMonday);
+                monday = monday.plusWeeks(1)) {
+                this.weeks.put(
+                    List.of(query, monday),
+                    rowsByWeek.getOrDefault(monday, new LinkedList<>())
+                );
+            }
+        }
+    }
+
+    /**
+     * Removes all cached weeks of all queries touched by the given range of time.
+     *
+     * @param start The start of the changed duty
+     * @param end   The end of the changed duty
+     */
+    public synchronized void invalidate(LocalDateTime start, LocalDateTime end) {
+        LocalDate firstMonday = start.toLocalDate().with(DayOfWeek.MONDAY);
+        LocalDate lastMonday = end.toLocalDate().with(DayOfWeek.MONDAY);
+        this.weeks.keySet().removeIf(key -> {
+            LocalDate monday = (LocalDate) key.get(1);
+            return !monday.isBefore(firstMonday) && !monday.isAfter(lastMonday);
+        });
+        this.generation++;
+    }
+
+    /**
+     * Removes all cached weeks.
+     */
+    public synchronized void invalidateAll() {
+        this.weeks.clear();
+        this.generation++;
+    }
+
+    private static List<DutyCalendarRow> filter(
+        List<DutyCalendarRow> rows,
+        LocalDateTime start,
+        LocalDateTime end
+    ) {
+        List<DutyCalendarRow> filtered = new LinkedList<>();
+        for (DutyCalendarRow row : rows) {
+            if (!row.getStart().isBefore(start) && !row.getEnd().isAfter(end)) {
+                filtered.add(row);
+            }
+        }
+        return filtered;
+    }
+
+    /**
+     * Loads the rows of all duties in a range of time from the database.
+     */
+    @FunctionalInterface
+    public interface Loader {
+        /**
+         * Loads the rows of all duties starting at or after the start and ending at or before
+         * the end chunk by chunk.
+         *
+         * @param start    The start of the range
+         * @param end      The end of the range
+         * @param consumer Receives the rows of every chunk, ordered by their start
+         */
+        void load(LocalDateTime start, LocalDateTime end, Consumer<List<DutyCalendarRow>> consumer);
+    }
+}
@@ -2,13 +2,16 @@ package at.fhv.teamb.symphoniacus.application;
 
 import at.fhv.teamb.symphoniacus.application.dto.SectionDto;
 import at.fhv.teamb.symphoniacus.domain.ActualSectionInstrumentation;
+import at.fhv.teamb.symphoniacus.domain.AvailabilityMatrix;
 import at.fhv.teamb.symphoniacus.domain.Duty;
+import at.fhv.teamb.symphoniacus.domain.DutyConflictIndex;
 import at.fhv.teamb.symphoniacus.domain.DutyPosition;
 import at.fhv.teamb.symphoniacus.domain.MusicalPiece;
 import at.fhv.teamb.symphoniacus.domain.Musician;
 import at.fhv.teamb.symphoniacus.domain.Points;
 import at.fhv.teamb.symphoniacus.domain.Section;
 import at.fhv.teamb.symphoniacus.persistence.PersistenceState;
+import at.fhv.teamb.symphoniacus.persistence.UnitOfWork;
 import at.fhv.teamb.symphoniacus.persistence.dao.DutyDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.DutyPositionDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.MusicalPieceDao;
@@ -27,9 +30,12 @@ import at.fhv.teamb.symphoniacus.persistence.model.interfaces.ISectionEntity;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import org.apache.logging.log4j.LogManager;
@@ -48,10 +54,11 @@ public class DutyScheduleManager {
     private final IMusicianDao musicianDao;
     private final IMusicalPieceDao musicalPieceDao;
     private final PointsManager pointsManager;
-    private final Set<Musician> setMusicians;
-    private final Set<Musician> unsetMusicians;
+    private final PointsLedgerManager pointsLedgerManager;
+    private final Map<Integer, Set<Integer>> persistedMusicianIds;
     private final WishRequestManager wishRequestManager;
-    private List<Duty> dutiesOfThisDay;
+    private AvailabilityMatrix availabilityMatrix;
+    private DutyConflictIndex conflictIndex;
     private List<IMusicianEntity> externalMusicianEntities;
     private List<IMusicianEntity> sectionMusicianEntities;
     private Set<Musician> sectionMusicians;
@@ -65,8 +72,8 @@ public class DutyScheduleManager {
         this.musicianDao = new MusicianDao();
         this.musicalPieceDao = new MusicalPieceDao();
         this.pointsManager = new PointsManager();
-        this.setMusicians = new HashSet<>();
-        this.unsetMusicians = new HashSet<>();
+        this.pointsLedgerManager = new PointsLedgerManager();
+        this.persistedMusicianIds = new HashMap<>();
         this.wishRequestManager = new WishRequestManager();
     }
 
@@ -83,106 +90,125 @@ public class DutyScheduleManager {
         Duty duty,
         SectionDto section
     ) {
-        if (duty == null || section == null) {
-            LOG.error(
-                "Fetching instrumentation details not possible - either duty or section is null"
+        return UnitOfWork.call(() -> {
+            if (duty == null || section == null) {
+                LOG.error(
+                    "Fetching instrumentation details not possible - either duty or section is null"
+                );
+                return Optional.empty();
+            }
+            ISectionEntity sectionEntity = new SectionEntity();
+            sectionEntity.setSectionId(section.getSectionId());
+            sectionEntity.setSectionShortcut(section.getSectionShortcut());
+            sectionEntity.setDescription(section.getDescription());
+
+            // Get all DutyPosition entities from database
+            List<IDutyPositionEntity> dutyPositionEntities =
+                this.dutyPositionDao.findCorrespondingPositions(duty.getEntity(), sectionEntity);
+
+            // Get all Musical Pieces
+            List<IMusicalPieceEntity> musicalPieces = this.musicalPieceDao.getMusicalPiecesOfDuty(
+                duty.getEntity()
+            );
+            List<MusicalPiece> musicalPiecesDomain = new LinkedList<>();
+            for (IMusicalPieceEntity entity : musicalPieces) {
+                musicalPiecesDomain.add(new MusicalPiece(entity));
+            }
+
+            // Remember persisted assignments to update the points ledger on persist
+            this.persistedMusicianIds.put(
+                duty.getEntity().getDutyId(),
+                getAssignedMusicianIds(dutyPositionEntities)
             );
-            return Optional.empty();
-        }
-        ISectionEntity sectionEntity = new SectionEntity();
-        sectionEntity.setSectionId(section.getSectionId());
-        sectionEntity.setSectionShortcut(section.getSectionShortcut());
-        sectionEntity.setDescription(section.getDescription());
-
-        // Get all DutyPosition entities from database
-        List<IDutyPositionEntity> dutyPositionEntities =
-            this.dutyPositionDao.findCorrespondingPositions(duty.getEntity(), sectionEntity);
-
-        // Get all Musical Pieces
-        List<IMusicalPieceEntity> musicalPieces = this.musicalPieceDao.getMusicalPiecesOfDuty(
-            duty.getEntity()
-        );
-        List<MusicalPiece> musicalPiecesDomain = new LinkedList<>();
-        for (IMusicalPieceEntity entity : musicalPieces) {
-            musicalPiecesDomain.add(new MusicalPiece(entity));
-        }
 
-        // Create DutyPosition domain objects
-        List<DutyPosition> dutyPositions = new LinkedList<>();
-        for (IDutyPositionEntity dpEntity : dutyPositionEntities) {
-            DutyPosition dp = new DutyPosition(dpEntity);
+            // Create DutyPosition domain objects
+            List<DutyPosition> dutyPositions = new LinkedList<>();
+            for (IDutyPositionEntity dpEntity : dutyPositionEntities) {
+                DutyPosition dp = new DutyPosition(dpEntity);
 
-            // #00 <TEXT>
-            String instPosDesc = dpEntity.getInstrumentationPosition().getPositionDescription();
+                // #00 <TEXT>
+                String instPosDesc = dpEntity.getInstrumentationPosition().getPositionDescription();
 
-            int posNumber = Integer.parseInt(instPosDesc.substring(1, 3));
-            String posDescription = instPosDesc.substring(4);
-            posDescription = posDescription.trim();
+                int posNumber = Integer.parseInt(instPosDesc.substring(1, 3));
+                String posDescription = instPosDesc.substring(4);
+                posDescription = posDescription.trim();
 
-            dp.setPositionNumber(posNumber);
-            dp.setPositionDescription(posDescription);
-            dutyPositions.add(dp);
-        }
+                dp.setPositionNumber(posNumber);
+                dp.setPositionDescription(posDescription);
+                dutyPositions.add(dp);
+            }
 
-        // Fill Duty with available information
-        Duty dutyWithInformation = new Duty(duty.getEntity(), dutyPositions, musicalPiecesDomain);
-        dutyWithInformation.setPersistenceState(PersistenceState.PERSISTED);
+            // Fill Duty with available information
+            Duty dutyWithInformation =
+                new Duty(duty.getEntity(), dutyPositions, musicalPiecesDomain);
+            dutyWithInformation.setPersistenceState(PersistenceState.PERSISTED);
 
-        return Optional.of(new ActualSectionInstrumentation(dutyWithInformation));
+            return Optional.of(new ActualSectionInstrumentation(dutyWithInformation));
+        });
     }
 
     /**
-     * Returns a Set of {@link Musician}s that are available for a given {@link DutyPosition}.
+     * Returns the availability of all section {@link Musician}s for every {@link DutyPosition}
+     * of the given instrumentation.
      *
-     * @param duty     The currently edited duty
-     * @param position The position to determine musicians for
-     * @return A Set of available musicians for the given duty position
+     * <p>The matrix is calculated once per duty and kept up to date by
+     * {@link #assignMusicianToPosition(ActualSectionInstrumentation, Musician, DutyPosition)} and
+     * {@link #removeMusicianFromPosition(ActualSectionInstrumentation, Musician, DutyPosition)}.
+     *
+     * @param instrumentation The currently edited instrumentation
+     * @return The availability of the section musicians for all positions
      */
-    public Set<Musician> getMusiciansAvailableForPosition(
-        Duty duty,
-        DutyPosition position
-    ) {
-        if (position == null) {
-            LOG.error("Fetching available musicians not possible - duty position is null");
-            return new HashSet<>();
-        }
-
-        // Fetch section musicians from database if not present
-        if (this.sectionMusicians == null) {
-            // Get musician entities from database
-            this.fetchMusicians(position);
-
-            // Tell PointsManager to cache duties locally
-            this.pointsManager.loadAllDutiesOfMusicians(
-                this.sectionMusicianEntities,
-                duty.getEntity().getStart().toLocalDate()
-            );
-
-            // Tell WishRequestManager to cache wish requests locally
-            this.wishRequestManager.loadAllWishRequests(duty.getEntity());
-
-            // Convert musician entities to domain objects
-            this.convertMusicianEntitiesToDomainObjects(duty);
-        }
-
-        // Fetch duties from database if not present
-        if (this.dutiesOfThisDay == null) {
-            // Get all duties that occur at the same day
-            this.dutiesOfThisDay = DutyManager.convertEntitiesToDomainObjects(
-                this.dutyDao.findAllInRange(
-                    LocalDateTime.of(duty.getEntity().getStart().toLocalDate(), LocalTime.MIN),
-                    LocalDateTime.of(duty.getEntity().getStart().toLocalDate(), LocalTime.MAX)
-                )
+    public AvailabilityMatrix getAvailabilityMatrix(ActualSectionInstrumentation instrumentation) {
+        return UnitOfWork.call(() -> {
+            Duty duty = instrumentation.getDuty();
+            if (this.availabilityMatrix != null && this.availabilityMatrix.getDuty() == duty) {
+                return this.availabilityMatrix;
+            }
+
+            // Fetch section musicians from database if not present
+            if (this.sectionMusicians == null && !duty.getDutyPositions().isEmpty()) {
+                // Get musician entities from database
+                this.fetchMusicians(duty.getDutyPositions().get(0));
+
+                // Tell PointsManager to cache duties locally
+                this.pointsManager.loadAllDutiesOfMusicians(
+                    this.sectionMusicianEntities,
+                    duty.getEntity().getStart().toLocalDate()
+                );
+
+                // Tell WishRequestManager to cache wish requests locally
+                this.wishRequestManager.loadAllWishRequests(duty.getEntity());
+
+                // Convert musician entities to domain objects
+                this.convertMusicianEntitiesToDomainObjects(duty);
+            }
+
+            // Fetch duties from database if not present
+            if (this.conflictIndex == null) {
+                // Index all duties that occur at the same day
+                this.conflictIndex = new DutyConflictIndex(
+                    DutyManager.convertEntitiesToDomainObjects(
+                        this.dutyDao.findAllInRange(
+                            LocalDateTime.of(
+                                duty.getEntity().getStart().toLocalDate(),
+                                LocalTime.MIN
+                            ),
+                            LocalDateTime.of(
+                                duty.getEntity().getStart().toLocalDate(),
+                                LocalTime.MAX
+                            )
+                        )
+                    )
+                );
+            }
+
+            this.availabilityMatrix = new AvailabilityMatrix(
+                duty,
+                Objects.requireNonNullElseGet(this.sectionMusicians, HashSet::new),
+                this.conflictIndex
             );
-        }
-
-        return duty.determineAvailableMusicians(
-            this.sectionMusicians,
-            this.dutiesOfThisDay,
-            this.setMusicians,
-            this.unsetMusicians,
-            position
-        );
+            return this.availabilityMatrix;
+        });
     }
 
     /**
@@ -199,10 +225,8 @@ public class DutyScheduleManager {
         Musician oldMusician,
         DutyPosition position
     ) {
-        // Update local musician list
-        this.unsetMusicians.add(oldMusician);
-
-        // Delegate to default method
+        // Delegate to default methods
+        this.removeMusicianFromPosition(instrumentation, oldMusician, position);
         this.assignMusicianToPosition(instrumentation, newMusician, position);
     }
 
@@ -218,9 +242,11 @@ public class DutyScheduleManager {
         Musician musician,
         DutyPosition position
     ) {
-        // Update local musician lists
-        this.setMusicians.add(musician);
-        this.unsetMusicians.remove(musician);
+        // Update availability of the musician for the other positions
+        if (this.availabilityMatrix != null
+            && this.availabilityMatrix.getDuty() == instrumentation.getDuty()) {
+            this.availabilityMatrix.assign(musician, position);
+        }
 
         // Update object state
         instrumentation.getDuty().setPersistenceState(PersistenceState.EDITED);
@@ -241,9 +267,11 @@ public class DutyScheduleManager {
         Musician musician,
         DutyPosition position
     ) {
-        // Update local musician lists
-        this.setMusicians.remove(musician);
-        this.unsetMusicians.add(musician);
+        // Update availability of the musician for the other positions
+        if (this.availabilityMatrix != null
+            && this.availabilityMatrix.getDuty() == instrumentation.getDuty()) {
+            this.availabilityMatrix.unassign(position);
+        }
 
         // Update object state
         instrumentation.getDuty().setPersistenceState(PersistenceState.EDITED);
@@ -259,29 +287,83 @@ public class DutyScheduleManager {
      * from {@link PersistenceState#EDITED} to {@link PersistenceState#PERSISTED}, provided
      * that the database update was successful.
      *
+     * <p>Only the duty positions of the section are written, as a single batch. The changed
+     * assignments are applied to the points ledger in the same transaction, so the duty
+     * positions are only persisted together with the points.
+     *
      * @param instrumentation The instrumentation to persist
      */
     public void persist(ActualSectionInstrumentation instrumentation) {
-        Optional<IDutyEntity> persisted = this.dutyDao.update(
-            instrumentation.getDuty().getEntity()
-        );
+        Duty duty = instrumentation.getDuty();
+        List<IDutyPositionEntity> positions = getPositionEntities(duty);
+        Set<Integer> assigned = getAssignedMusicianIds(positions);
+        boolean persisted;
+        try (UnitOfWork unitOfWork = UnitOfWork.beginTransaction()) {
+            persisted = this.dutyPositionDao.updateAll(positions)
+                && this.updatePointsLedger(duty, assigned);
+            if (!persisted) {
+                unitOfWork.setRollbackOnly();
+            }
+        }
 
-        if (persisted.isPresent()) {
-            instrumentation.getDuty().setPersistenceState(PersistenceState.PERSISTED);
+        if (persisted) {
+            this.persistedMusicianIds.put(duty.getEntity().getDutyId(), assigned);
+            DutyRangeCache.getShared().invalidate(
+                duty.getEntity().getStart(),
+                duty.getEntity().getEnd()
+            );
+            duty.setPersistenceState(PersistenceState.PERSISTED);
             LOG.debug(
                 "Persisted instrumentation of duty {{}, '{}'}",
-                instrumentation.getDuty().getEntity().getDutyId(),
-                instrumentation.getDuty().getTitle()
+                duty.getEntity().getDutyId(),
+                duty.getTitle()
             );
         } else {
             LOG.error(
                 "Could not persist instrumentation of duty {{}, '{}'}",
-                instrumentation.getDuty().getEntity().getDutyId(),
-                instrumentation.getDuty().getTitle()
+                duty.getEntity().getDutyId(),
+                duty.getTitle()
             );
         }
     }
 
+    /**
+     * Applies the changed assignments of a duty to the points ledger.
+     *
+     * @param duty     The duty to persist
+     * @param assigned The ids of the musicians assigned to the duty
+     * @return True if the ledger was updated, false otherwise
+     */
+    private boolean updatePointsLedger(Duty duty, Set<Integer> assigned) {
+        Set<Integer> previous = this.persistedMusicianIds.get(duty.getEntity().getDutyId());
+        if (previous == null) {
+            return true;
+        }
+        return this.pointsLedgerManager.applyAssignmentChange(
+            duty.getEntity(),
+            previous,
+            assigned
+        );
+    }
+
+    private static List<IDutyPositionEntity> getPositionEntities(Duty duty) {
+        List<IDutyPositionEntity> positions = new LinkedList<>();
+        for (DutyPosition position : duty.getDutyPositions()) {
+            positions.add(position.getEntity());
+        }
+        return positions;
+    }
+
+    private static Set<Integer> getAssignedMusicianIds(List<IDutyPositionEntity> positions) {
+        Set<Integer> musicianIds = new HashSet<>();
+        for (IDutyPositionEntity position : positions) {
+            if (position.getMusician() != null) {
+                musicianIds.add(position.getMusician().getMusicianId());
+            }
+        }
+        return musicianIds;
+    }
+
     /**
      * Fetches {@link MusicianEntity} objects from the database.
      *
@@ -310,12 +392,14 @@ public class DutyScheduleManager {
      * @param start    Start of month
      */
     public void addBalancePointsToMusician(Musician musician, LocalDate start) {
-        Points balancePoints = this.pointsManager.getBalanceFromMusician(
-            musician.getEntity(),
-            start
-        );
-        musician.setBalancePoints(balancePoints);
-        LOG.debug("Balance Points set to {}", balancePoints.getValue());
+        UnitOfWork.run(() -> {
+            Points balancePoints = this.pointsManager.getBalanceFromMusician(
+                musician.getEntity(),
+                start
+            );
+            musician.setBalancePoints(balancePoints);
+            LOG.debug("Balance Points set to {}", balancePoints.getValue());
+        });
     }
 
     /**
@@ -324,11 +408,13 @@ public class DutyScheduleManager {
      * @param musician Musician to add points
      */
     public void addDebitPointsToMusician(Musician musician) {
-        Points debitPoints = this.pointsManager.getDebitPointsFromMusician(
-            musician.getEntity()
-        );
-        musician.setDebitPoints(debitPoints);
-        LOG.debug("Debit Points set to {}", debitPoints.getValue());
+        UnitOfWork.run(() -> {
+            Points debitPoints = this.pointsManager.getDebitPointsFromMusician(
+                musician.getEntity()
+            );
+            musician.setDebitPoints(debitPoints);
+            LOG.debug("Debit Points set to {}", debitPoints.getValue());
+        });
     }
 
     /**
@@ -338,12 +424,14 @@ public class DutyScheduleManager {
      * @param start    Start of month
      */
     public void addGainedPointsToMusician(Musician musician, LocalDate start) {
-        Points gainedPoints = this.pointsManager.getGainedPointsForMonthFromMusician(
-            musician.getEntity(),
-            start
-        );
-        musician.setGainedPoints(gainedPoints);
-        LOG.debug("Gained Points set to {}", gainedPoints.getValue());
+        UnitOfWork.run(() -> {
+            Points gainedPoints = this.pointsManager.getGainedPointsForMonthFromMusician(
+                musician.getEntity(),
+                start
+            );
+            musician.setGainedPoints(gainedPoints);
+            LOG.debug("Gained Points set to {}", gainedPoints.getValue());
+        });
     }
 
     /**
@@ -353,15 +441,14 @@ public class DutyScheduleManager {
      */
     private void convertMusicianEntitiesToDomainObjects(Duty duty) {
         for (IMusicianEntity entity : this.sectionMusicianEntities) {
-            // Get balancePoints for musician
-
             // Create domain object
             Musician m = new Musician(entity);
 
-            // add points
-            addBalancePointsToMusician(m, duty.getEntity().getStart().toLocalDate());
+            // add points, all of them were calculated at once when the section was loaded
+            LocalDate month = duty.getEntity().getStart().toLocalDate();
+            addBalancePointsToMusician(m, month);
             addDebitPointsToMusician(m);
-            // Gained Points are lazily loaded because of heavy performance impact
+            addGainedPointsToMusician(m, month);
 
             // Fill domain object with wish requests
             this.wishRequestManager.setMusicianWishRequest(m, duty.getEntity());
@@ -2,9 +2,13 @@ package at.fhv.teamb.symphoniacus.application;
 
 import at.fhv.teamb.symphoniacus.application.dto.LoginUserDto;
 import at.fhv.teamb.symphoniacus.application.type.DomainUserType;
+import at.fhv.teamb.symphoniacus.domain.AdministrativeAssistant;
+import at.fhv.teamb.symphoniacus.domain.Musician;
 import at.fhv.teamb.symphoniacus.domain.User;
+import at.fhv.teamb.symphoniacus.persistence.UnitOfWork;
 import at.fhv.teamb.symphoniacus.persistence.dao.UserDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.IUserDao;
+import at.fhv.teamb.symphoniacus.persistence.model.UserLoginRow;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IUserEntity;
 import java.security.NoSuchAlgorithmException;
 import java.util.Optional;
@@ -33,64 +37,58 @@ public class LoginManager {
      */
     public Optional<LoginUserDto> login(LoginUserDto dto)
         throws NoSuchAlgorithmException {
-        if (dto.getUserShortcut() == null || dto.getPassword() == null) {
-            LOG.error("Login not possible - either userShortCut or userPassword is null");
-            return Optional.empty();
-        }
+        try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+            if (dto.getUserShortcut() == null || dto.getPassword() == null) {
+                LOG.error("Login not possible - either userShortCut or userPassword is null");
+                return Optional.empty();
+            }
 
-        // Get User
-        Optional<IUserEntity> userEntity = this.userDao.loadUser(dto.getUserShortcut());
-        if (userEntity.isEmpty()) {
-            LOG.error("Credentials incorrect");
-            return Optional.empty();
-        }
-        LOG.debug("Loaded user");
+            // Get user, password hash and roles at once
+            Optional<UserLoginRow> loginRow = this.userDao.loadUserForLogin(dto.getUserShortcut());
+            if (loginRow.isEmpty()) {
+                LOG.error("Credentials incorrect");
+                return Optional.empty();
+            }
+            LOG.debug("Loaded user");
 
-        // Generate Hash
-        IUserEntity entity = userEntity.get();
-        Optional<String> inputPasswordHash = entity.getHashFromPlaintext(dto.getPassword());
-        if (inputPasswordHash.isEmpty()) {
-            LOG.error("Login not possible");
-            return Optional.empty();
-        }
+            // Compare Credentials
+            IUserEntity entity = loginRow.get().getUser();
+            if (!entity.isPasswordCorrect(dto.getPassword())) {
+                LOG.debug("Credentials invalid");
+                return Optional.empty();
+            }
+            LOG.debug("Credentials valid");
 
-        // Compare Credentials
-        boolean isLoginCorrect = this.userDao.isLoginCorrect(
-            dto.getUserShortcut(),
-            inputPasswordHash.get()
-        );
-        if (isLoginCorrect == false) {
-            LOG.debug("Credentials invalid");
-            return Optional.empty();
-        }
-        LOG.debug("Credentials valid");
+            this.currentLoggedInUser = new User(entity);
 
-        this.currentLoggedInUser = new User(userEntity.get());
+            // Login attempt succeeded
+            Musician musician = null;
+            AdministrativeAssistant administrativeAssistant = null;
+            if (loginRow.get().getMusician() != null) {
+                this.currentLoggedInUser.setType(DomainUserType.DOMAIN_MUSICIAN);
+                musician = new Musician(loginRow.get().getMusician());
+            } else if (loginRow.get().getAdministrativeAssistant() != null) {
+                this.currentLoggedInUser.setType(DomainUserType.DOMAIN_ADMINISTRATIVE_ASSISTANT);
+                administrativeAssistant =
+                    new AdministrativeAssistant(loginRow.get().getAdministrativeAssistant());
+            }
+            LOG.debug(
+                "Current Logged In User Type is: '{}'",
+                this.currentLoggedInUser.getType()
+            );
 
-        // Login attempt succeeded
-        if (this.userDao.isUserMusician(this.currentLoggedInUser.getUserEntity())) {
-            this.currentLoggedInUser.setType(DomainUserType.DOMAIN_MUSICIAN);
-        } else if (
-            this.userDao.isUserAdministrativeAssistant(
-                this.currentLoggedInUser.getUserEntity()
-            )
-        ) {
-            this.currentLoggedInUser.setType(DomainUserType.DOMAIN_ADMINISTRATIVE_ASSISTANT);
-        }
-        LOG.debug(
-            "Current Logged In User Type is: '{}'",
-            this.currentLoggedInUser.getType()
-        );
-
-        IUserEntity e = this.currentLoggedInUser.getUserEntity();
+            IUserEntity e = this.currentLoggedInUser.getUserEntity();
 
-        // create DTO
-        LoginUserDto resultDto = new LoginUserDto.UserDtoBuilder(e.getUserId())
-            .withUserShortcut(e.getShortcut())
-            .withType(this.currentLoggedInUser.getType())
-            .withFullName(this.currentLoggedInUser.getFullName())
-            .build();
+            // create DTO
+            LoginUserDto resultDto = new LoginUserDto.UserDtoBuilder(e.getUserId())
+                .withUserShortcut(e.getShortcut())
+                .withType(this.currentLoggedInUser.getType())
+                .withFullName(this.currentLoggedInUser.getFullName())
+                .withMusician(musician)
+                .withAdministrativeAssistant(administrativeAssistant)
+                .build();
 
-        return Optional.of(resultDto);
+            return Optional.of(resultDto);
+        }
     }
 }
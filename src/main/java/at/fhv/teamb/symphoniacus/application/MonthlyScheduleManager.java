@@ -1,5 +1,6 @@
 package at.fhv.teamb.symphoniacus.application;
 
+import at.fhv.teamb.symphoniacus.persistence.UnitOfWork;
 import at.fhv.teamb.symphoniacus.persistence.dao.MonthlyScheduleDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.IMonthlyScheduleDao;
 import at.fhv.teamb.symphoniacus.persistence.model.MonthlyScheduleEntity;
@@ -28,30 +29,32 @@ public class MonthlyScheduleManager {
      * @return A monthly schedule entity
      */
     public IMonthlyScheduleEntity createIfNotExists(YearMonth yearMonth) {
-        int month = yearMonth.getMonthValue();
-        int year = yearMonth.getYear();
+        return UnitOfWork.call(() -> {
+            int month = yearMonth.getMonthValue();
+            int year = yearMonth.getYear();
 
-        // Fetch monthly schedule from database
-        Optional<IMonthlyScheduleEntity> optional =
-            this.monthlyScheduleDao.findForMonthAndYear(month, year);
-        if (optional.isPresent()) {
-            // Return monthly schedule if present
-            LOG.debug("Returning monthly schedule from database");
-            return optional.get();
-        } else {
-            // Create new monthly schedule and return
-            MonthlyScheduleEntity msEntity = new MonthlyScheduleEntity();
-            msEntity.setMonth(month);
-            msEntity.setYear(year);
-            msEntity.setPublished(false);
-            msEntity.setEndWish(yearMonth.minusMonths(2).atEndOfMonth());
-            msEntity.setEndDateClassification(yearMonth.minusMonths(1).atDay(14));
+            // Fetch monthly schedule from database
+            Optional<IMonthlyScheduleEntity> optional =
+                this.monthlyScheduleDao.findForMonthAndYear(month, year);
+            if (optional.isPresent()) {
+                // Return monthly schedule if present
+                LOG.debug("Returning monthly schedule from database");
+                return optional.get();
+            } else {
+                // Create new monthly schedule and return
+                MonthlyScheduleEntity msEntity = new MonthlyScheduleEntity();
+                msEntity.setMonth(month);
+                msEntity.setYear(year);
+                msEntity.setPublished(false);
+                msEntity.setEndWish(yearMonth.minusMonths(2).atEndOfMonth());
+                msEntity.setEndDateClassification(yearMonth.minusMonths(1).atDay(14));
 
-            LOG.debug("Returning newly created monthly schedule for {}, {}",
-                msEntity.getYear(),
-                msEntity.getMonth()
-            );
-            return msEntity;
-        }
+                LOG.debug("Returning newly created monthly schedule for {}, {}",
+                    msEntity.getYear(),
+                    msEntity.getMonth()
+                );
+                return msEntity;
+            }
+        });
     }
 }
@@ -3,6 +3,7 @@ package at.fhv.teamb.symphoniacus.application;
 import at.fhv.teamb.symphoniacus.application.dto.InstrumentationDto;
 import at.fhv.teamb.symphoniacus.application.dto.MusicalPieceDto;
 import at.fhv.teamb.symphoniacus.application.dto.SectionInstrumentationDto;
+import at.fhv.teamb.symphoniacus.persistence.UnitOfWork;
 import at.fhv.teamb.symphoniacus.persistence.dao.InstrumentationDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.MusicalPieceDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.IInstrumentationDao;
@@ -35,11 +36,13 @@ public class MusicalPieceManager {
      * @return A Set of MusicalPieces
      */
     public Set<MusicalPieceDto> getAllMusicalPieces() {
-        Set<MusicalPieceDto> pieces = new LinkedHashSet<>();
-        for (IMusicalPieceEntity piece : this.musicalPieceDao.getAll()) {
-            pieces.add(convertMusicalPieceToDto(piece));
-        }
-        return pieces;
+        return UnitOfWork.call(() -> {
+            Set<MusicalPieceDto> pieces = new LinkedHashSet<>();
+            for (IMusicalPieceEntity piece : this.musicalPieceDao.getAll()) {
+                pieces.add(convertMusicalPieceToDto(piece));
+            }
+            return pieces;
+        });
     }
 
     private MusicalPieceDto convertMusicalPieceToDto(IMusicalPieceEntity entity) {
@@ -71,31 +74,33 @@ public class MusicalPieceManager {
     public Set<InstrumentationDto> getInstrumentations(
         Set<MusicalPieceDto> musicalPieces
     ) {
+        return UnitOfWork.call(() -> {
+            // Convert Musical piece DTO to enities for dao query
+            Set<IMusicalPieceEntity> musicalPieceEntities = new LinkedHashSet<>();
+            for (MusicalPieceDto piece : musicalPieces) {
+                IMusicalPieceEntity mpentity = new MusicalPieceEntity();
+                // Andere attribute werden nicht befüllt,
+                // weil query nicht mehr als id braucen sollte
+                mpentity.setMusicalPieceId(piece.getMusicalPieceId());
+                musicalPieceEntities.add(mpentity);
+            }
 
-        // Convert Musical piece DTO to enities for dao query
-        Set<IMusicalPieceEntity> musicalPieceEntities = new LinkedHashSet<>();
-        for (MusicalPieceDto piece : musicalPieces) {
-            IMusicalPieceEntity mpentity = new MusicalPieceEntity();
-            // Andere attribute werden nicht befüllt, weil query nicht mehr als id braucen sollte
-            mpentity.setMusicalPieceId(piece.getMusicalPieceId());
-            musicalPieceEntities.add(mpentity);
-        }
-
-        // Fill in instrumentationDtos
-        Set<InstrumentationDto> instrumentationDtos = new LinkedHashSet<>();
-        for (IInstrumentationEntity instEntity : this.instrumentationDao
-            .getInstrumentationsToMusicalPieces(musicalPieceEntities)) {
-            instrumentationDtos.add(
-                new InstrumentationDto.InstrumentationDtoBuilder(instEntity
-                    .getInstrumentationId())
-                    .withName(instEntity.getName())
-                    .withSectionInstrumentations(
-                        convertSectionInstrumentationsToDto(
-                            instEntity.getSectionInstrumentations()))
-                    .withMusicalPiece(convertMusicalPieceToDto(instEntity.getMusicalPiece()))
-                    .build());
-        }
-        return instrumentationDtos;
+            // Fill in instrumentationDtos
+            Set<InstrumentationDto> instrumentationDtos = new LinkedHashSet<>();
+            for (IInstrumentationEntity instEntity : this.instrumentationDao
+                .getInstrumentationsToMusicalPieces(musicalPieceEntities)) {
+                instrumentationDtos.add(
+                    new InstrumentationDto.InstrumentationDtoBuilder(instEntity
+                        .getInstrumentationId())
+                        .withName(instEntity.getName())
+                        .withSectionInstrumentations(
+                            convertSectionInstrumentationsToDto(
+                                instEntity.getSectionInstrumentations()))
+                        .withMusicalPiece(convertMusicalPieceToDto(instEntity.getMusicalPiece()))
+                        .build());
+            }
+            return instrumentationDtos;
+        });
     }
 
     private MusicalPieceDto convertMusicalPiecesDto(IMusicalPieceEntity entity) {
@@ -125,11 +130,14 @@ public class MusicalPieceManager {
      * @return A musical piece entity
      */
     public Optional<MusicalPieceDto> getByName(String name) {
-        Optional<IMusicalPieceEntity> entity = this.musicalPieceDao.getMusicalPieceFromName(name);
-        if (entity.isPresent()) {
-            return Optional.of(convertMusicalPieceToDto(entity.get()));
-        } else {
-            return Optional.empty();
-        }
+        return UnitOfWork.call(() -> {
+            Optional<IMusicalPieceEntity> entity =
+                this.musicalPieceDao.getMusicalPieceFromName(name);
+            if (entity.isPresent()) {
+                return Optional.of(convertMusicalPieceToDto(entity.get()));
+            } else {
+                return Optional.empty();
+            }
+        });
     }
 }
@@ -1,11 +1,23 @@
 package at.fhv.teamb.symphoniacus.application;
 
+import at.fhv.orchestraria.domain.integrationInterfaces.IntegratableMusician;
 import at.fhv.teamb.symphoniacus.domain.Musician;
+import at.fhv.teamb.symphoniacus.domain.adapter.MusicianAdapter;
+import at.fhv.teamb.symphoniacus.persistence.UnitOfWork;
+import at.fhv.teamb.symphoniacus.persistence.dao.DutyPositionDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.MusicianDao;
+import at.fhv.teamb.symphoniacus.persistence.dao.SeriesOfPerformancesDao;
+import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.IDutyPositionDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.IMusicianDao;
+import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.ISeriesOfPerformancesDao;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyPositionEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IMusicianEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.ISeriesOfPerformancesEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IUserEntity;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -18,9 +30,16 @@ import org.apache.logging.log4j.Logger;
 public class MusicianManager {
     private static final Logger LOG = LogManager.getLogger(MusicianManager.class);
     private IMusicianDao musicianDao;
+    private IDutyPositionDao dutyPositionDao;
+    private ISeriesOfPerformancesDao seriesOfPerformancesDao;
 
+    /**
+     * Initializes the MusicianManager.
+     */
     public MusicianManager() {
         this.musicianDao = new MusicianDao();
+        this.dutyPositionDao = new DutyPositionDao();
+        this.seriesOfPerformancesDao = new SeriesOfPerformancesDao();
     }
 
     /**
@@ -32,11 +51,13 @@ public class MusicianManager {
      * @return A Musician object representing the provided User
      */
     public Optional<Musician> loadMusician(IUserEntity user) {
-        if (user == null) {
-            LOG.error("Cannot load musician with null user.");
-            return Optional.empty();
-        }
-        return loadMusician(user.getUserId());
+        return UnitOfWork.call(() -> {
+            if (user == null) {
+                LOG.error("Cannot load musician with null user.");
+                return Optional.empty();
+            }
+            return loadMusician(user.getUserId());
+        });
     }
 
     /**
@@ -46,20 +67,58 @@ public class MusicianManager {
      * @return Optional which is filled when loading worked, else empty
      */
     public Optional<Musician> loadMusician(int userId) {
-        Optional<IMusicianEntity> musicianEntity = this.musicianDao.findMusicianByUserId(userId);
+        return UnitOfWork.call(() -> {
+            Optional<IMusicianEntity> musicianEntity =
+                this.musicianDao.findMusicianByUserId(userId);
 
-        // Load attempt failed
-        if (musicianEntity.isEmpty()) {
-            LOG.error("Could not load musician with userId {}", userId);
-            return Optional.empty();
-        }
+            // Load attempt failed
+            if (musicianEntity.isEmpty()) {
+                LOG.error("Could not load musician with userId {}", userId);
+                return Optional.empty();
+            }
 
-        // Load attempt succeeded
-        LOG.debug(
-            "Loaded musician with musicianId {}",
-            musicianEntity.get().getMusicianId()
-        );
-        return Optional.of(new Musician(musicianEntity.get()));
+            // Load attempt succeeded
+            LOG.debug(
+                "Loaded musician with musicianId {}",
+                musicianEntity.get().getMusicianId()
+            );
+            return Optional.of(new Musician(musicianEntity.get()));
+        });
     }
 
+    /**
+     * Loads the duties of a {@link Musician} for the duty roster of Team C.
+     *
+     * <p>The roster and its popovers run outside of a unit of work, so the duty positions of the
+     * musician and of its section, the duties and their series of performances are all loaded
+     * here.
+     *
+     * @param musician The musician to use
+     * @return Optional which is filled when loading worked, else empty
+     */
+    public Optional<IntegratableMusician> loadRosterMusician(Musician musician) {
+        return UnitOfWork.call(() -> {
+            Optional<IMusicianEntity> musicianEntity = this.musicianDao
+                .findWithDutyPositions(musician.getEntity().getMusicianId());
+            if (musicianEntity.isEmpty()) {
+                LOG.error(
+                    "Could not load duties of musician {}",
+                    musician.getEntity().getMusicianId()
+                );
+                return Optional.empty();
+            }
+
+            Set<ISeriesOfPerformancesEntity> series = new LinkedHashSet<>();
+            for (IDutyPositionEntity position : musicianEntity.get().getDutyPositions()) {
+                if (position.getDuty().getSeriesOfPerformances() != null) {
+                    series.add(position.getDuty().getSeriesOfPerformances());
+                }
+            }
+            this.seriesOfPerformancesDao.findAllWithDetails(series);
+
+            List<IDutyPositionEntity> sectionDutyPositions =
+                this.dutyPositionDao.findSectionPositionsOfMusicianDuties(musicianEntity.get());
+            return Optional.of(new MusicianAdapter(musicianEntity.get(), sectionDutyPositions));
+        });
+    }
 }
@@ -0,0 +1,395 @@
+package at.fhv.teamb.symphoniacus.application;
+
+import at.fhv.teamb.symphoniacus.domain.DutyCategoryChangelogIndex;
+import at.fhv.teamb.symphoniacus.domain.SectionPointsCalculator;
+import at.fhv.teamb.symphoniacus.persistence.UnitOfWork;
+import at.fhv.teamb.symphoniacus.persistence.dao.DutyCategoryChangeLogDao;
+import at.fhv.teamb.symphoniacus.persistence.dao.DutyDao;
+import at.fhv.teamb.symphoniacus.persistence.dao.MusicianDao;
+import at.fhv.teamb.symphoniacus.persistence.dao.MusicianMonthPointsDao;
+import at.fhv.teamb.symphoniacus.persistence.dao.SectionDao;
+import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.IDutyCategoryChangeLogDao;
+import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.IDutyDao;
+import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.IMusicianDao;
+import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.IMusicianMonthPointsDao;
+import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.ISectionDao;
+import at.fhv.teamb.symphoniacus.persistence.model.MusicianMonthPointsEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyCategoryEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyPositionEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IMusicianEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IMusicianMonthPointsEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.ISectionEntity;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Maintains the persistent musician month points ledger.
+ *
+ * <p>Assignment changes are applied as deltas, changelog edits trigger a recalculation of the
+ * affected musicians and months. Rows that are missing are calculated when they are read for the
+ * first time and {@link #rebuild(YearMonth, YearMonth)} repairs drift for a range of months.
+ *
+ * @see MusicianMonthPointsEntity
+ */
+public class PointsLedgerManager {
+    private static final Logger LOG = LogManager.getLogger(PointsLedgerManager.class);
+
+    private final ISectionDao sectionDao;
+    protected IDutyCategoryChangeLogDao changelogDao;
+    protected IDutyDao dutyDao;
+    protected IMusicianDao musicianDao;
+    protected IMusicianMonthPointsDao ledgerDao;
+
+    /**
+     * Initializes the PointsLedgerManager.
+     */
+    public PointsLedgerManager() {
+        this.changelogDao = new DutyCategoryChangeLogDao();
+        this.dutyDao = new DutyDao();
+        this.musicianDao = new MusicianDao();
+        this.ledgerDao = new MusicianMonthPointsDao();
+        this.sectionDao = new SectionDao();
+    }
+
+    /**
+     * Returns the ledger rows of the given musicians in a month with a single read. Rows that
+     * do not exist yet are calculated and stored.
+     *
+     * @param musicians The musicians to use
+     * @param month     Any day of the month to use
+     * @return The ledger rows mapped by musician id, empty if missing rows could not be stored
+     */
+    public Optional<Map<Integer, IMusicianMonthPointsEntity>> loadLedger(
+        List<IMusicianEntity> musicians,
+        LocalDate month
+    ) {
+        return UnitOfWork.call(() -> {
+            LocalDate firstDay = YearMonth.from(month).atDay(1);
+            Map<Integer, IMusicianMonthPointsEntity> ledger = mapByMusician(
+                this.ledgerDao.findAllOfMonth(musicians, firstDay)
+            );
+
+            List<IMusicianEntity> missing = new LinkedList<>();
+            for (IMusicianEntity musician : musicians) {
+                if (!ledger.containsKey(musician.getMusicianId())) {
+                    missing.add(musician);
+                }
+            }
+            if (!missing.isEmpty()) {
+                LOG.debug("Ledger of {} misses {} musicians", firstDay, missing.size());
+                Optional<Map<Integer, IMusicianMonthPointsEntity>> recalculated =
+                    this.recalculate(missing, firstDay);
+                if (recalculated.isEmpty()) {
+                    return Optional.empty();
+                }
+                ledger.putAll(recalculated.get());
+            }
+            return Optional.of(ledger);
+        });
+    }
+
+    /**
+     * Applies the change of the musicians assigned to a duty to the ledger.
+     *
+     * <p>The points of the duty are added to or subtracted from the existing rows of the
+     * musicians. Musicians without a row in the month get their row calculated from all their
+     * duties instead. All changes are written in one transaction, which joins the transaction
+     * of the caller, so either all of them are applied or none.
+     *
+     * @param duty   The duty whose assignments changed
+     * @param before The ids of the musicians assigned to the duty before the change
+     * @param after  The ids of the musicians assigned to the duty after the change
+     * @return True if the ledger was updated, false if the transaction is rolled back
+     */
+    public boolean applyAssignmentChange(
+        IDutyEntity duty,
+        Set<Integer> before,
+        Set<Integer> after
+    ) {
+        // The sign of the change of every musician, 1 if added and -1 if removed
+        Map<Integer, Integer> changes = new LinkedHashMap<>();
+        for (Integer musicianId : after) {
+            if (!before.contains(musicianId)) {
+                changes.put(musicianId, 1);
+            }
+        }
+        for (Integer musicianId : before) {
+            if (!after.contains(musicianId)) {
+                changes.put(musicianId, -1);
+            }
+        }
+        if (changes.isEmpty()) {
+            return true;
+        }
+
+        try (UnitOfWork unitOfWork = UnitOfWork.beginTransaction()) {
+            int dutyPoints = this.getChangelogIndex(duty.getDutyCategory()).getPoints(duty);
+            int categoryPoints = duty.getDutyCategory().getPoints();
+            LocalDate month = YearMonth.from(duty.getStart()).atDay(1);
+
+            List<IMusicianEntity> musicians = new LinkedList<>();
+            for (Integer musicianId : changes.keySet()) {
+                this.musicianDao.find(musicianId).ifPresent(musicians::add);
+            }
+            Map<Integer, IMusicianMonthPointsEntity> ledger = mapByMusician(
+                this.ledgerDao.findAllOfMonth(musicians, month)
+            );
+
+            // A new row has to hold all duties of the month, not only the changed one
+            List<IMusicianEntity> missing = new LinkedList<>();
+            for (IMusicianEntity musician : musicians) {
+                int sign = changes.get(musician.getMusicianId());
+                if (!ledger.containsKey(musician.getMusicianId())) {
+                    missing.add(musician);
+                } else if (!this.ledgerDao.addPoints(
+                    musician.getMusicianId(),
+                    month,
+                    sign * dutyPoints,
+                    sign * categoryPoints,
+                    sign
+                )) {
+                    unitOfWork.setRollbackOnly();
+                    break;
+                }
+            }
+            if (!missing.isEmpty() && !unitOfWork.isRollbackOnly()
+                && this.recalculate(missing, month).isEmpty()) {
+                unitOfWork.setRollbackOnly();
+            }
+
+            if (unitOfWork.isRollbackOnly()) {
+                LOG.error("Could not update ledger for duty {}", duty.getDutyId());
+                return false;
+            }
+            LOG.debug(
+                "Ledger of {} updated for duty {}: {} changed, {} recalculated",
+                month,
+                duty.getDutyId(),
+                changes.size(),
+                missing.size()
+            );
+            return true;
+        }
+    }
+
+    /**
+     * Applies the change of the musicians assigned to a duty to the ledger.
+     *
+     * @param dutyId The id of the duty whose assignments changed
+     * @param before The ids of the musicians assigned to the duty before the change
+     * @param after  The ids of the musicians assigned to the duty after the change
+     * @return True if the ledger was updated, false otherwise
+     */
+    public boolean applyAssignmentChange(
+        Integer dutyId,
+        Set<Integer> before,
+        Set<Integer> after
+    ) {
+        return UnitOfWork.call(() -> {
+            Optional<IDutyEntity> duty = this.dutyDao.find(dutyId);
+            if (duty.isPresent()) {
+                return this.applyAssignmentChange(duty.get(), before, after);
+            }
+            LOG.error("Could not update ledger, duty {} not found", dutyId);
+            return false;
+        });
+    }
+
+    /**
+     * Recalculates the ledger rows of all musicians assigned to duties of a duty category
+     * starting at or after the given date, e.g. because a changelog of the category changed.
+     *
+     * <p>All months are stored in one transaction, which joins the transaction of the caller.
+     * If one of them cannot be stored, the transaction is rolled back.
+     *
+     * @param category The duty category to use
+     * @param from     The earliest affected date
+     * @return True if the ledger was recalculated, false if the transaction is rolled back
+     */
+    public boolean recalculateCategory(IDutyCategoryEntity category, LocalDate from) {
+        try (UnitOfWork unitOfWork = UnitOfWork.beginTransaction()) {
+            unitOfWork.removeResource(changelogIndexKey(category));
+            Map<YearMonth, Map<Integer, IMusicianEntity>> affected = new TreeMap<>();
+            List<IDutyEntity> duties =
+                this.dutyDao.findAllOfCategoryFrom(category, from.atStartOfDay());
+            for (IDutyEntity duty : duties) {
+                for (IDutyPositionEntity position : duty.getDutyPositions()) {
+                    if (position.getMusician() != null) {
+                        affected
+                            .computeIfAbsent(YearMonth.from(duty.getStart()), m -> new HashMap<>())
+                            .put(position.getMusician().getMusicianId(), position.getMusician());
+                    }
+                }
+            }
+
+            for (Map.Entry<YearMonth, Map<Integer, IMusicianEntity>> entry : affected.entrySet()) {
+                Optional<Map<Integer, IMusicianMonthPointsEntity>> recalculated = this.recalculate(
+                    new LinkedList<>(entry.getValue().values()),
+                    entry.getKey().atDay(1)
+                );
+                if (recalculated.isEmpty()) {
+                    unitOfWork.setRollbackOnly();
+                    LOG.error(
+                        "Could not recalculate ledger for category {}",
+                        category.getDutyCategoryId()
+                    );
+                    return false;
+                }
+            }
+            LOG.debug(
+                "Recalculated ledger of {} months for category {}",
+                affected.size(),
+                category.getDutyCategoryId()
+            );
+            return true;
+        }
+    }
+
+    /**
+     * Returns the index of the changelogs of a duty category. The changelogs are only loaded
+     * the first time the index of the category is requested within the current unit of work.
+     *
+     * @param category The duty category to use
+     * @return The changelog index of the category
+     */
+    public DutyCategoryChangelogIndex getChangelogIndex(IDutyCategoryEntity category) {
+        try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+            return unitOfWork.getResource(
+                changelogIndexKey(category),
+                () -> new DutyCategoryChangelogIndex(
+                    this.changelogDao.getDutyCategoryChangelogs(category)
+                )
+            );
+        }
+    }
+
+    private static String changelogIndexKey(IDutyCategoryEntity category) {
+        return "changelogIndex:" + category.getDutyCategoryId();
+    }
+
+    /**
+     * Recalculates and stores the ledger rows of the given musicians in a month from their
+     * duties.
+     *
+     * <p>The rows are stored in one transaction, which joins the transaction of the caller. If
+     * they cannot be stored, the transaction is rolled back.
+     *
+     * @param musicians The musicians to use
+     * @param month     Any day of the month to use
+     * @return The recalculated ledger rows mapped by musician id, empty if they were not stored
+     */
+    public Optional<Map<Integer, IMusicianMonthPointsEntity>> recalculate(
+        List<IMusicianEntity> musicians,
+        LocalDate month
+    ) {
+        LocalDate firstDay = YearMonth.from(month).atDay(1);
+        try (UnitOfWork unitOfWork = UnitOfWork.beginTransaction()) {
+            try {
+                Set<IDutyEntity> duties = this.dutyDao.getAllDutiesOfMusicians(musicians, firstDay);
+                Set<IDutyCategoryEntity> categories = new LinkedHashSet<>();
+                for (IDutyEntity duty : duties) {
+                    categories.add(duty.getDutyCategory());
+                }
+                SectionPointsCalculator calculator = new SectionPointsCalculator(
+                    duties,
+                    this.changelogDao.getDutyCategoryChangelogs(categories)
+                );
+
+                Map<Integer, IMusicianMonthPointsEntity> ledger = mapByMusician(
+                    this.ledgerDao.findAllOfMonth(musicians, firstDay)
+                );
+                List<IMusicianMonthPointsEntity> created = new LinkedList<>();
+                for (IMusicianEntity musician : musicians) {
+                    IMusicianMonthPointsEntity row = ledger.get(musician.getMusicianId());
+                    if (row == null) {
+                        row = new MusicianMonthPointsEntity();
+                        row.setMusician(musician);
+                        row.setMonth(firstDay);
+                        created.add(row);
+                        ledger.put(musician.getMusicianId(), row);
+                    }
+                    row.setDutyPoints(calculator.sumDutyPoints(musician));
+                    row.setCategoryPoints(calculator.sumCategoryPoints(musician));
+                    row.setDutyCount(calculator.countDuties(musician));
+                }
+
+                Collection<IMusicianMonthPointsEntity> updated = new LinkedList<>(ledger.values());
+                updated.removeAll(created);
+                if (!this.ledgerDao.persistAll(created) || !this.ledgerDao.updateAll(updated)) {
+                    unitOfWork.setRollbackOnly();
+                    LOG.error("Could not store ledger of {}", firstDay);
+                    return Optional.empty();
+                }
+                return Optional.of(ledger);
+            } catch (RuntimeException e) {
+                unitOfWork.setRollbackOnly();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Recalculates the ledger rows of all musicians with an active contract for a range of
+     * months, repairing any drift.
+     *
+     * <p>Every month of every section is recalculated and committed in its own unit of work,
+     * so the persistence context does not grow with the range and a failing month does not
+     * roll back the others.
+     *
+     * @param from The first month to rebuild
+     * @param to   The last month to rebuild
+     * @return True if all months were rebuilt, false if at least one could not be stored
+     */
+    public boolean rebuild(YearMonth from, YearMonth to) {
+        int failed = 0;
+        for (ISectionEntity section : UnitOfWork.call(this.sectionDao::getAll)) {
+            for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+                LocalDate firstDay = month.atDay(1);
+                boolean rebuilt = UnitOfWork.call(() -> {
+                    List<IMusicianEntity> musicians =
+                        this.musicianDao.findAllWithSectionAndActiveContract(section);
+                    return musicians.isEmpty()
+                        || this.recalculate(musicians, firstDay).isPresent();
+                });
+                if (!rebuilt) {
+                    failed++;
+                    LOG.error(
+                        "Could not rebuild ledger of section {} in {}",
+                        section.getSectionShortcut(),
+                        month
+                    );
+                }
+            }
+            LOG.info(
+                "Rebuilt ledger of section {} from {} to {}",
+                section.getSectionShortcut(),
+                from,
+                to
+            );
+        }
+        return failed == 0;
+    }
+
+    private static Map<Integer, IMusicianMonthPointsEntity> mapByMusician(
+        List<IMusicianMonthPointsEntity> rows
+    ) {
+        Map<Integer, IMusicianMonthPointsEntity> ledger = new LinkedHashMap<>();
+        for (IMusicianMonthPointsEntity row : rows) {
+            ledger.put(row.getMusician().getMusicianId(), row);
+        }
+        return ledger;
+    }
+}
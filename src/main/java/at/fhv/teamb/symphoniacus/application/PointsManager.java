@@ -1,24 +1,28 @@
 package at.fhv.teamb.symphoniacus.application;
 
 import at.fhv.teamb.symphoniacus.domain.Points;
-import at.fhv.teamb.symphoniacus.persistence.dao.ContractualObligationDao;
+import at.fhv.teamb.symphoniacus.domain.SectionPointsCalculator;
+import at.fhv.teamb.symphoniacus.domain.SectionPointsCalculator.MusicianPoints;
+import at.fhv.teamb.symphoniacus.persistence.UnitOfWork;
 import at.fhv.teamb.symphoniacus.persistence.dao.DutyCategoryChangeLogDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.DutyDao;
-import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.IContractualObligationDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.IDutyCategoryChangeLogDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.IDutyDao;
 import at.fhv.teamb.symphoniacus.persistence.model.DutyCategoryEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.DutyEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.MusicianEntity;
-import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyCategoryChangelogEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyCategoryEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyEntity;
-import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyPositionEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IMusicianEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IMusicianMonthPointsEntity;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -31,29 +35,58 @@ import org.apache.logging.log4j.Logger;
  */
 public class PointsManager {
     private static final Logger LOG = LogManager.getLogger(PointsManager.class);
-    private final IContractualObligationDao conDao;
     private final IDutyCategoryChangeLogDao dutyCatChangeDao;
     private final IDutyDao dutyDao;
-    private Set<IDutyEntity> allDuties;
+    private final PointsLedgerManager ledgerManager;
+    private Map<Integer, MusicianPoints> sectionPoints;
 
     /**
      * Initializes the PointsManager.
      */
     public PointsManager() {
-        this.conDao = new ContractualObligationDao();
         this.dutyCatChangeDao = new DutyCategoryChangeLogDao();
         this.dutyDao = new DutyDao();
+        this.ledgerManager = new PointsLedgerManager();
     }
 
     /**
      * Is important for preloading all Duties of given musicians within a month,
      * so that it isn't necessary to fetch all duties from every musician by itself.
      *
+     * <p>The debit, gained and balance points of all given musicians are calculated at once
+     * by a {@link SectionPointsCalculator}. Points of other months than the current one do not
+     * depend on the time of day and are read from the ledger maintained by the
+     * {@link PointsLedgerManager} instead, unless missing rows of the ledger could not be
+     * stored.
+     *
      * @param musicians List of MusicianEntity
      * @param month     LocalDate any day of a month represents the whole month
      */
     public void loadAllDutiesOfMusicians(List<IMusicianEntity> musicians, LocalDate month) {
-        this.allDuties = this.dutyDao.getAllDutiesOfMusicians(musicians, month);
+        UnitOfWork.run(() -> {
+            Optional<Map<Integer, IMusicianMonthPointsEntity>> ledger = Optional.empty();
+            if (!YearMonth.from(month).equals(YearMonth.now())) {
+                ledger = this.ledgerManager.loadLedger(musicians, month);
+            }
+            if (ledger.isEmpty()) {
+                Set<IDutyEntity> allDuties = this.dutyDao.getAllDutiesOfMusicians(musicians, month);
+                this.sectionPoints = this.createCalculator(allDuties).calculate(musicians);
+                LOG.debug("Calculated points of {} musicians", this.sectionPoints.size());
+                return;
+            }
+
+            this.sectionPoints = new LinkedHashMap<>();
+            for (IMusicianEntity musician : musicians) {
+                this.sectionPoints.put(
+                    musician.getMusicianId(),
+                    SectionPointsCalculator.ofLedger(
+                        musician,
+                        ledger.get().get(musician.getMusicianId())
+                    )
+                );
+            }
+            LOG.debug("Read points of {} musicians from ledger", this.sectionPoints.size());
+        });
     }
 
     /**
@@ -65,18 +98,7 @@ public class PointsManager {
      * @see Points#getValue()
      */
     public Points getDebitPointsFromMusician(IMusicianEntity musician) {
-        if (isMusicianExternal(musician)) {
-            return Points.getZeroPoints();
-        } else {
-            // DutyDAO has been modified so that in this case, only one CO
-            // should be loaded at this point. However, we need to double-check.
-            if (musician.getContractualObligations().size() != 1) {
-                LOG.error("More than one contractual obligation is not supported "
-                    + "at this stage for musician {}", musician.getUser().getShortcut());
-                return Points.getZeroPoints();
-            }
-            return Points.calcDebitPoints(musician.getContractualObligations().get(0));
-        }
+        return SectionPointsCalculator.calcDebitPoints(musician);
     }
 
     /**
@@ -92,33 +114,7 @@ public class PointsManager {
         IMusicianEntity musician,
         LocalDate month
     ) {
-        if (isMusicianExternal(musician)) {
-            return Points.getZeroPoints();
-        } else {
-            // Beware! If allDuties isn't loaded this method will load
-            // the musicians individually from the DAO
-            List<IDutyEntity> listOfDutiesFromMusician = this.getDutiesFromMusician(
-                musician,
-                month
-            );
-
-            // Return 0 points if musician has no duties
-            if (listOfDutiesFromMusician.isEmpty()) {
-                return Points.getZeroPoints();
-            }
-
-            // Get all dutyCategoryChangelogs to all dutyCategories
-            List<IDutyCategoryChangelogEntity> dutyCategoryChangelogs = new LinkedList<>();
-            for (IDutyCategoryEntity dc : this.getAllDutyCategories(listOfDutiesFromMusician)) {
-                List<IDutyCategoryChangelogEntity> changelogEntityList =
-                    this.dutyCatChangeDao.getDutyCategoryChangelogs(dc);
-                if (changelogEntityList != null) {
-                    dutyCategoryChangelogs.addAll(changelogEntityList);
-                }
-            }
-
-            return Points.calcGainedPoints(listOfDutiesFromMusician, dutyCategoryChangelogs);
-        }
+        return UnitOfWork.call(() -> this.getMusicianPoints(musician, month).getGainedPoints());
     }
 
     /**
@@ -127,28 +123,12 @@ public class PointsManager {
      * @return the correct number of Points of given Duty at a given Date
      */
     public Points getPointsOfDuty(IDutyEntity duty) {
-        return Points.getPointsOfDuty(duty);
-    }
-
-    /**
-     * Filters all duties to the given musician.
-     * Utilizes local 'allDuties' attribute.
-     *
-     * @param musician given musician
-     * @return List of DutyEntities from the given musician
-     */
-    private List<IDutyEntity> getAllDutiesFromMusician(IMusicianEntity musician) {
-        List<IDutyEntity> duties = new LinkedList<>();
-        for (IDutyEntity duty : this.allDuties) {
-            for (IDutyPositionEntity dp : duty.getDutyPositions()) {
-                if (dp.getMusician() != null
-                    && dp.getMusician().getMusicianId().equals(musician.getMusicianId())
-                ) {
-                    duties.add(duty);
-                }
-            }
-        }
-        return duties;
+        return UnitOfWork.call(() -> {
+            return Points.getPointsOfDuty(
+                duty,
+                this.ledgerManager.getChangelogIndex(duty.getDutyCategory())
+            );
+        });
     }
 
     /**
@@ -161,51 +141,41 @@ public class PointsManager {
      * @see Points#getValue()
      */
     public Points getBalanceFromMusician(IMusicianEntity musician, LocalDate month) {
-        if (isMusicianExternal(musician)) {
-            return Points.getZeroPoints();
-        } else {
-            // Beware! If allDuties isn't loaded this method will load
-            // the musicians individually from the DAO
-            List<IDutyEntity> listOfDutiesFromMusician = this.getDutiesFromMusician(
-                musician,
-                month
-            );
-
-            // Return 0 points if musician has no duties
-            if (listOfDutiesFromMusician.isEmpty()) {
-                return Points.getZeroPoints();
-            }
-
-            return Points.calcBalancePoints(
-                listOfDutiesFromMusician,
-                this.getAllDutyCategories(listOfDutiesFromMusician)
-            );
-        }
-    }
-
-    private boolean isMusicianExternal(IMusicianEntity musician) {
-        return musician.getUser().getFirstName().equals("Extern");
+        return UnitOfWork.call(() -> this.getMusicianPoints(musician, month).getBalancePoints());
     }
 
     /**
-     * Returns a List of {@link DutyEntity} objects that the musician is assigned to for
-     * a given month.
+     * Returns the points of a musician. If the musician was not part of the preloaded
+     * musicians, his duties of the given month are loaded individually.
      *
      * @param musician The musician to use
      * @param month    The month to use
-     * @return A List of DutyEntity objects
+     * @return The points of the musician
      */
-    private List<IDutyEntity> getDutiesFromMusician(IMusicianEntity musician, LocalDate month) {
-        List<IDutyEntity> listOfDutiesFromMusician;
-        if (this.allDuties == null) {
-            listOfDutiesFromMusician = this.dutyDao.getAllDutiesInRangeFromMusician(
-                musician,
-                month
-            );
-        } else {
-            listOfDutiesFromMusician = this.getAllDutiesFromMusician(musician);
+    private MusicianPoints getMusicianPoints(IMusicianEntity musician, LocalDate month) {
+        if (this.sectionPoints != null) {
+            MusicianPoints points = this.sectionPoints.get(musician.getMusicianId());
+            if (points != null) {
+                return points;
+            }
         }
-        return listOfDutiesFromMusician;
+        return this.createCalculator(
+            this.dutyDao.getAllDutiesInRangeFromMusician(musician, month)
+        ).calculate(musician);
+    }
+
+    /**
+     * Creates a {@link SectionPointsCalculator} for the given duties, loading the changelogs
+     * of all their duty categories with a single query.
+     *
+     * @param duties The duties to use
+     * @return The calculator
+     */
+    private SectionPointsCalculator createCalculator(Collection<IDutyEntity> duties) {
+        return new SectionPointsCalculator(
+            duties,
+            this.dutyCatChangeDao.getDutyCategoryChangelogs(this.getAllDutyCategories(duties))
+        );
     }
 
     /**
@@ -215,7 +185,7 @@ public class PointsManager {
      * @param duties The duties to use
      * @return A List of DutyCategoryEntity objects
      */
-    private Set<IDutyCategoryEntity> getAllDutyCategories(List<IDutyEntity> duties) {
+    private Set<IDutyCategoryEntity> getAllDutyCategories(Collection<IDutyEntity> duties) {
         Set<IDutyCategoryEntity> dutyCategories = new LinkedHashSet<>();
         for (IDutyEntity d : duties) {
             dutyCategories.add(d.getDutyCategory());
@@ -1,6 +1,7 @@
 package at.fhv.teamb.symphoniacus.application;
 
 import at.fhv.teamb.symphoniacus.application.dto.SectionDto;
+import at.fhv.teamb.symphoniacus.persistence.UnitOfWork;
 import at.fhv.teamb.symphoniacus.persistence.dao.SectionDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.ISectionDao;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.ISectionEntity;
@@ -28,18 +29,17 @@ public class SectionManager {
      * @return List of all Sections
      */
     public List<SectionDto> getAll() {
-        List<ISectionEntity> sectionEntities = this.sectionDao.getAll();
-        List<SectionDto> sections = new LinkedList<>();
-        for (ISectionEntity se : sectionEntities) {
-            SectionDto.SectionDtoBuilder dtob = new SectionDto.SectionDtoBuilder(se.getSectionId());
-            dtob.withSectionShortcut(se.getSectionShortcut());
-            dtob.withDescription(se.getDescription());
-            dtob.withSectionMonthlySchedules(se.getSectionMonthlySchedules());
-            dtob.withMusicians(se.getMusicians());
-            dtob.withDutyPositions(se.getDutyPositions());
-            dtob.withSectionInstrumentations(se.getSectionInstrumentations());
-            sections.add(dtob.build());
-        }
-        return sections;
+        return UnitOfWork.call(() -> {
+            List<ISectionEntity> sectionEntities = this.sectionDao.getAll();
+            List<SectionDto> sections = new LinkedList<>();
+            for (ISectionEntity se : sectionEntities) {
+                SectionDto.SectionDtoBuilder dtob =
+                    new SectionDto.SectionDtoBuilder(se.getSectionId());
+                dtob.withSectionShortcut(se.getSectionShortcut());
+                dtob.withDescription(se.getDescription());
+                sections.add(dtob.build());
+            }
+            return sections;
+        });
     }
 }
@@ -4,6 +4,7 @@ import at.fhv.teamb.symphoniacus.application.dto.SectionDto;
 import at.fhv.teamb.symphoniacus.domain.Section;
 import at.fhv.teamb.symphoniacus.domain.SectionMonthlySchedule;
 import at.fhv.teamb.symphoniacus.persistence.PersistenceState;
+import at.fhv.teamb.symphoniacus.persistence.UnitOfWork;
 import at.fhv.teamb.symphoniacus.persistence.dao.DutyPositionDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.SectionDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.SectionMonthlyScheduleDao;
@@ -53,24 +54,26 @@ public class SectionMonthlyScheduleManager {
      * @return A List of section monthly schedules of this year
      */
     public Set<SectionMonthlySchedule> getSectionMonthlySchedules(SectionDto section, Year year) {
-        Set<SectionMonthlySchedule> sectionMonthlySchedules = new HashSet<>();
-
-        ISectionEntity sectionEntity = new SectionEntity();
-        sectionEntity.setSectionId(section.getSectionId());
-        sectionEntity.setSectionShortcut(section.getSectionShortcut());
-        sectionEntity.setDescription(section.getDescription());
-
-        // Fetch section monthly schedules from database
-        for (ISectionMonthlyScheduleEntity smsEntity : this.smsDao
-            .findAllInYear(sectionEntity, year)
-        ) {
-            // Convert entity to domain object
-            SectionMonthlySchedule sms = new SectionMonthlySchedule(smsEntity);
-            setPersistenceState(sms);
-            sectionMonthlySchedules.add(sms);
-        }
+        return UnitOfWork.call(() -> {
+            Set<SectionMonthlySchedule> sectionMonthlySchedules = new HashSet<>();
+
+            ISectionEntity sectionEntity = new SectionEntity();
+            sectionEntity.setSectionId(section.getSectionId());
+            sectionEntity.setSectionShortcut(section.getSectionShortcut());
+            sectionEntity.setDescription(section.getDescription());
+
+            // Fetch section monthly schedules from database
+            for (ISectionMonthlyScheduleEntity smsEntity : this.smsDao
+                .findAllInYear(sectionEntity, year)
+            ) {
+                // Convert entity to domain object
+                SectionMonthlySchedule sms = new SectionMonthlySchedule(smsEntity);
+                setPersistenceState(sms);
+                sectionMonthlySchedules.add(sms);
+            }
 
-        return sectionMonthlySchedules;
+            return sectionMonthlySchedules;
+        });
     }
 
     /**
@@ -86,15 +89,17 @@ public class SectionMonthlyScheduleManager {
         Year year,
         Month month
     ) {
-        // Fetch section monthly schedule from database
-        ISectionMonthlyScheduleEntity smsEntity =
-            this.smsDao.findAllInYearAndMonth(section.getEntity(), year, month);
+        return UnitOfWork.call(() -> {
+            // Fetch section monthly schedule from database
+            ISectionMonthlyScheduleEntity smsEntity =
+                this.smsDao.findAllInYearAndMonth(section.getEntity(), year, month);
 
-        // Convert entity to domain object
-        SectionMonthlySchedule sms = new SectionMonthlySchedule(smsEntity);
-        setPersistenceState(sms);
+            // Convert entity to domain object
+            SectionMonthlySchedule sms = new SectionMonthlySchedule(smsEntity);
+            setPersistenceState(sms);
 
-        return sms;
+            return sms;
+        });
     }
 
     /**
@@ -104,36 +109,40 @@ public class SectionMonthlyScheduleManager {
      * @param sectionMonthlySchedule The section monthly schedule to publish
      */
     public void makeAvailableForOrganisationManager(SectionMonthlySchedule sectionMonthlySchedule) {
-        // Fetch database to get amount of positions without musicians
-        Long dutyPositionsWithoutMusicians = this.dutyPositionDao
-            .findCorrespondingPositionsWithoutMusician(sectionMonthlySchedule.getEntity());
-
-        // Abort if domain object assesses that publishing is not possible
-        if (!sectionMonthlySchedule.isReadyForPublishing(dutyPositionsWithoutMusicians)) {
-            return;
-        }
+        UnitOfWork.run(() -> {
+            // Fetch database to get amount of positions without musicians
+            Long dutyPositionsWithoutMusicians = this.dutyPositionDao
+                .findCorrespondingPositionsWithoutMusician(sectionMonthlySchedule.getEntity());
+
+            // Abort if domain object assesses that publishing is not possible
+            if (!sectionMonthlySchedule.isReadyForPublishing(dutyPositionsWithoutMusicians)) {
+                return;
+            }
 
-        // Update section monthly schedule internals
-        sectionMonthlySchedule.getEntity().setReadyForDutyScheduler(false);
-        sectionMonthlySchedule.getEntity().setReadyForOrganisationManager(true);
-
-        // Write update to database and set publish state
-        Optional<ISectionMonthlyScheduleEntity> persisted =
-            this.smsDao.update(sectionMonthlySchedule.getEntity());
-        if (persisted.isPresent()) {
-            sectionMonthlySchedule.setPublishState(
-                SectionMonthlySchedule.PublishState.READY_FOR_ORGANISATION_MANAGER
-            );
-            LOG.debug(
-                "Persisted section monthly schedule '{}'",
-                sectionMonthlySchedule.getEntity().getSectionMonthlyScheduleId()
-            );
-        } else {
-            LOG.error(
-                "Could not persist section monthly schedule '{}'",
-                sectionMonthlySchedule.getEntity().getSectionMonthlyScheduleId()
-            );
-        }
+            // Update section monthly schedule internals
+            sectionMonthlySchedule.getEntity().setReadyForDutyScheduler(false);
+            sectionMonthlySchedule.getEntity().setReadyForOrganisationManager(true);
+
+            // Write update to database and set publish state
+            Optional<ISectionMonthlyScheduleEntity> persisted =
+                this.smsDao.update(sectionMonthlySchedule.getEntity());
+            if (persisted.isPresent()) {
+                // Duties of the schedule are not shown to the duty scheduler anymore
+                DutyRangeCache.getShared().invalidateAll();
+                sectionMonthlySchedule.setPublishState(
+                    SectionMonthlySchedule.PublishState.READY_FOR_ORGANISATION_MANAGER
+                );
+                LOG.debug(
+                    "Persisted section monthly schedule '{}'",
+                    sectionMonthlySchedule.getEntity().getSectionMonthlyScheduleId()
+                );
+            } else {
+                LOG.error(
+                    "Could not persist section monthly schedule '{}'",
+                    sectionMonthlySchedule.getEntity().getSectionMonthlyScheduleId()
+                );
+            }
+        });
     }
 
     /**
@@ -150,26 +159,28 @@ public class SectionMonthlyScheduleManager {
         int month,
         IMonthlyScheduleEntity monthlySchedule
     ) {
-        // Fetch section monthly schedules from database
-        List<ISectionMonthlyScheduleEntity> sectionMonthlySchedules =
-            this.smsDao.findAllInYearAndMonth(Year.of(year), Month.of(month));
-
-        // Create section monthly schedules for every section
-        if (sectionMonthlySchedules.isEmpty()) {
-            for (ISectionEntity section : this.sectionDao.getAll()) {
-                // Create new section monthly schedule
-                ISectionMonthlyScheduleEntity sms = new SectionMonthlyScheduleEntity();
-                sms.setMonthlySchedule(monthlySchedule);
-                sms.setSection(section);
-                sms.setReadyForDutyScheduler(false);
-                sms.setReadyForOrganisationManager(false);
-                sms.setPublished(false);
-
-                sectionMonthlySchedules.add(sms);
+        return UnitOfWork.call(() -> {
+            // Fetch section monthly schedules from database
+            List<ISectionMonthlyScheduleEntity> sectionMonthlySchedules =
+                this.smsDao.findAllInYearAndMonth(Year.of(year), Month.of(month));
+
+            // Create section monthly schedules for every section
+            if (sectionMonthlySchedules.isEmpty()) {
+                for (ISectionEntity section : this.sectionDao.getAll()) {
+                    // Create new section monthly schedule
+                    ISectionMonthlyScheduleEntity sms = new SectionMonthlyScheduleEntity();
+                    sms.setMonthlySchedule(monthlySchedule);
+                    sms.setSection(section);
+                    sms.setReadyForDutyScheduler(false);
+                    sms.setReadyForOrganisationManager(false);
+                    sms.setPublished(false);
+
+                    sectionMonthlySchedules.add(sms);
+                }
             }
-        }
 
-        return sectionMonthlySchedules;
+            return sectionMonthlySchedules;
+        });
     }
 
     /**
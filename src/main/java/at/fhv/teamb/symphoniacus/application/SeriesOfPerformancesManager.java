@@ -5,6 +5,7 @@ import at.fhv.teamb.symphoniacus.application.dto.InstrumentationDto;
 import at.fhv.teamb.symphoniacus.application.dto.MusicalPieceDto;
 import at.fhv.teamb.symphoniacus.application.dto.SeriesOfPerformancesDto;
 import at.fhv.teamb.symphoniacus.domain.SeriesOfPerformances;
+import at.fhv.teamb.symphoniacus.persistence.UnitOfWork;
 import at.fhv.teamb.symphoniacus.persistence.dao.InstrumentationDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.SeriesOfPerformancesDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.IInstrumentationDao;
@@ -49,28 +50,39 @@ public class SeriesOfPerformancesManager {
      * @return true if persisting was successful, false otherwise
      */
     public ValidationResult<SeriesOfPerformancesDto> save(SeriesOfPerformancesDto seriesDto) {
-        ValidationResult<SeriesOfPerformancesDto> validationResult = this.validate(seriesDto);
+        ValidationResult<SeriesOfPerformancesDto> saved = UnitOfWork.call(() -> {
+            ValidationResult<SeriesOfPerformancesDto> validationResult = this.validate(seriesDto);
 
-        if (validationResult.isValid()) {
-            SeriesOfPerformancesEntity series = new SeriesOfPerformancesEntity();
-            series.setDescription(seriesDto.getDescription());
-            series.setMusicalPieces(convertMusicalPieceDtoToEntities(seriesDto.getMusicalPieces()));
-            series.setInstrumentations(
-                convertInstrumentationDtoToEntites(seriesDto.getInstrumentations())
-            );
-            series.setStartDate(seriesDto.getStartDate());
-            series.setEndDate(seriesDto.getEndDate());
-            series.setIsTour(seriesDto.isTour());
+            if (validationResult.isValid()) {
+                SeriesOfPerformancesEntity series = new SeriesOfPerformancesEntity();
+                series.setDescription(seriesDto.getDescription());
+                series.setMusicalPieces(
+                    convertMusicalPieceDtoToEntities(seriesDto.getMusicalPieces())
+                );
+                series.setInstrumentations(
+                    convertInstrumentationDtoToEntites(seriesDto.getInstrumentations())
+                );
+                series.setStartDate(seriesDto.getStartDate());
+                series.setEndDate(seriesDto.getEndDate());
+                series.setIsTour(seriesDto.isTour());
 
-            Optional<ISeriesOfPerformancesEntity> result = this.seriesOfPerformancesDao.persist(
-                series
-            );
-            result.ifPresentOrElse(
-                persistedSeries -> validationResult.setPayload(convertSopToDto(persistedSeries)),
-                () -> validationResult.setValid(false)
-            );
+                Optional<ISeriesOfPerformancesEntity> result = this.seriesOfPerformancesDao.persist(
+                    series
+                );
+                result.ifPresentOrElse(
+                    persistedSeries ->
+                        validationResult.setPayload(convertSopToDto(persistedSeries)),
+                    () -> validationResult.setValid(false)
+                );
+            }
+            return validationResult;
+        });
+
+        // Calendar rows show the description of the series of their duty
+        if (saved.isValid()) {
+            DutyRangeCache.getShared().invalidateAll();
         }
-        return validationResult;
+        return saved;
     }
 
     private Set<IMusicalPieceEntity> convertMusicalPieceDtoToEntities(Set<MusicalPieceDto> dtos) {
@@ -113,7 +125,11 @@ public class SeriesOfPerformancesManager {
         LocalDate startingDate,
         LocalDate endingDate
     ) {
-        return this.seriesOfPerformancesDao.doesSeriesAlreadyExist(title, startingDate, endingDate);
+        return UnitOfWork.call(() -> this.seriesOfPerformancesDao.doesSeriesAlreadyExist(
+            title,
+            startingDate,
+            endingDate
+        ));
     }
 
     /**
@@ -126,17 +142,19 @@ public class SeriesOfPerformancesManager {
     public Set<InstrumentationDto> getAllInstrumentations(
         SeriesOfPerformancesDto series
     ) {
-        Optional<ISeriesOfPerformancesEntity> seriesOfPerf = this.seriesOfPerformancesDao.find(
-            series.getSeriesOfPerformancesId()
-        );
+        return UnitOfWork.call(() -> {
+            Optional<ISeriesOfPerformancesEntity> seriesOfPerf = this.seriesOfPerformancesDao.find(
+                series.getSeriesOfPerformancesId()
+            );
 
-        if (seriesOfPerf.isPresent()) {
-            Set<IInstrumentationEntity> instrumentations =
-                this.instrumentationDao.getAllInstrumentationsToSeries(seriesOfPerf.get());
-            return convertInstrumentationsToDto(instrumentations);
-        } else {
-            return new LinkedHashSet<>();
-        }
+            if (seriesOfPerf.isPresent()) {
+                Set<IInstrumentationEntity> instrumentations =
+                    this.instrumentationDao.getAllInstrumentationsToSeries(seriesOfPerf.get());
+                return convertInstrumentationsToDto(instrumentations);
+            } else {
+                return new LinkedHashSet<>();
+            }
+        });
     }
 
     /**
@@ -145,21 +163,23 @@ public class SeriesOfPerformancesManager {
      * @return all Series of Performances
      */
     public List<SeriesOfPerformancesDto> getAllSeries() {
-        List<ISeriesOfPerformancesEntity> seriesList = this.seriesOfPerformancesDao.getAll();
+        return UnitOfWork.call(() -> {
+            List<ISeriesOfPerformancesEntity> seriesList = this.seriesOfPerformancesDao.getAll();
 
-        List<SeriesOfPerformancesDto> seriesDtoList = new LinkedList<>();
-        for (ISeriesOfPerformancesEntity series : seriesList) {
-            SeriesOfPerformancesDto seriesDto =
-                new SeriesOfPerformancesDto
-                    .SeriesOfPerformancesDtoBuilder(series.getSeriesOfPerformancesId())
-                    .withDescription(series.getDescription())
-                    .withStartDate(series.getStartDate())
-                    .withEndDate(series.getEndDate())
-                    .withMusicalPieces(convertMusicalPiecesToDto(series.getMusicalPieces()))
-                    .build();
-            seriesDtoList.add(seriesDto);
-        }
-        return seriesDtoList;
+            List<SeriesOfPerformancesDto> seriesDtoList = new LinkedList<>();
+            for (ISeriesOfPerformancesEntity series : seriesList) {
+                SeriesOfPerformancesDto seriesDto =
+                    new SeriesOfPerformancesDto
+                        .SeriesOfPerformancesDtoBuilder(series.getSeriesOfPerformancesId())
+                        .withDescription(series.getDescription())
+                        .withStartDate(series.getStartDate())
+                        .withEndDate(series.getEndDate())
+                        .withMusicalPieces(convertMusicalPiecesToDto(series.getMusicalPieces()))
+                        .build();
+                seriesDtoList.add(seriesDto);
+            }
+            return seriesDtoList;
+        });
     }
 
     /**
@@ -169,18 +189,20 @@ public class SeriesOfPerformancesManager {
      * @return A List of filtered SeriesOfPerformancesDto
      */
     public List<SeriesOfPerformancesDto> getFilteredSeries(LocalDate startedBeforeOrEqual) {
-        List<SeriesOfPerformancesDto> allSeries = getAllSeries();
-        List<SeriesOfPerformancesDto> filteredSeries = new LinkedList<>();
-        for (SeriesOfPerformancesDto series : allSeries) {
-            if ((series.getStartDate().isBefore(startedBeforeOrEqual)
-                || series.getStartDate().isEqual(startedBeforeOrEqual))
-                && (series.getEndDate().isAfter(startedBeforeOrEqual)
-                || series.getEndDate().isEqual(startedBeforeOrEqual))
-            ) {
-                filteredSeries.add(series);
+        return UnitOfWork.call(() -> {
+            List<SeriesOfPerformancesDto> allSeries = getAllSeries();
+            List<SeriesOfPerformancesDto> filteredSeries = new LinkedList<>();
+            for (SeriesOfPerformancesDto series : allSeries) {
+                if ((series.getStartDate().isBefore(startedBeforeOrEqual)
+                    || series.getStartDate().isEqual(startedBeforeOrEqual))
+                    && (series.getEndDate().isAfter(startedBeforeOrEqual)
+                    || series.getEndDate().isEqual(startedBeforeOrEqual))
+                ) {
+                    filteredSeries.add(series);
+                }
             }
-        }
-        return filteredSeries;
+            return filteredSeries;
+        });
     }
 
     private Set<MusicalPieceDto> convertMusicalPiecesToDto(Set<IMusicalPieceEntity> mp) {
@@ -1,5 +1,6 @@
 package at.fhv.teamb.symphoniacus.application;
 
+import at.fhv.teamb.symphoniacus.persistence.UnitOfWork;
 import at.fhv.teamb.symphoniacus.persistence.dao.WeeklyScheduleDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.IWeeklyScheduleDao;
 import at.fhv.teamb.symphoniacus.persistence.model.WeeklyScheduleEntity;
@@ -30,26 +31,28 @@ public class WeeklyScheduleManager {
      * @return A weekly schedule entity
      */
     public IWeeklyScheduleEntity createIfNotExists(LocalDate day, int year) {
-        // Fetch weekly schedule from database
-        Optional<IWeeklyScheduleEntity> optional =
-            this.weeklyScheduleDao.findForDayAndYear(day, year);
-        if (optional.isPresent()) {
-            // Return weekly schedule if present
-            LOG.debug("Returning weekly schedule from database");
-            return optional.get();
-        } else {
-            // Create new weekly schedule and return
-            IWeeklyScheduleEntity wsEntity = new WeeklyScheduleEntity();
-            wsEntity.setYear(year);
-            wsEntity.setStartDate(day.with(DayOfWeek.MONDAY));
-            wsEntity.setEndDate(day.with(DayOfWeek.SUNDAY));
-            wsEntity.setConfirmed(false);
+        return UnitOfWork.call(() -> {
+            // Fetch weekly schedule from database
+            Optional<IWeeklyScheduleEntity> optional =
+                this.weeklyScheduleDao.findForDayAndYear(day, year);
+            if (optional.isPresent()) {
+                // Return weekly schedule if present
+                LOG.debug("Returning weekly schedule from database");
+                return optional.get();
+            } else {
+                // Create new weekly schedule and return
+                IWeeklyScheduleEntity wsEntity = new WeeklyScheduleEntity();
+                wsEntity.setYear(year);
+                wsEntity.setStartDate(day.with(DayOfWeek.MONDAY));
+                wsEntity.setEndDate(day.with(DayOfWeek.SUNDAY));
+                wsEntity.setConfirmed(false);
 
-            LOG.debug("Returning newly created weekly schedule for {} - {}",
-                wsEntity.getStartDate(),
-                wsEntity.getEndDate()
-            );
-            return wsEntity;
-        }
+                LOG.debug("Returning newly created weekly schedule for {} - {}",
+                    wsEntity.getStartDate(),
+                    wsEntity.getEndDate()
+                );
+                return wsEntity;
+            }
+        });
     }
 }
@@ -1,6 +1,5 @@
 package at.fhv.teamb.symphoniacus.application;
 
-import at.fhv.teamb.symphoniacus.application.dto.DutyDto;
 import at.fhv.teamb.symphoniacus.application.dto.MusicalPieceApiDto;
 import at.fhv.teamb.symphoniacus.application.dto.wishdtos.DateWishDto;
 import at.fhv.teamb.symphoniacus.application.dto.wishdtos.DutyWishDto;
@@ -12,7 +11,9 @@ import at.fhv.teamb.symphoniacus.domain.Duty;
 import at.fhv.teamb.symphoniacus.domain.MusicalPiece;
 import at.fhv.teamb.symphoniacus.domain.Musician;
 import at.fhv.teamb.symphoniacus.domain.Wish;
+import at.fhv.teamb.symphoniacus.domain.WishEntryIndex;
 import at.fhv.teamb.symphoniacus.domain.WishRequest;
+import at.fhv.teamb.symphoniacus.persistence.UnitOfWork;
 import at.fhv.teamb.symphoniacus.persistence.dao.DutyDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.MusicalPieceDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.MusicianDao;
@@ -48,6 +49,7 @@ import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -68,8 +70,8 @@ public class WishRequestManager {
     private final IDutyDao dutyDao;
     private final ISeriesOfPerformancesDao seriesOfPerformancesDao;
     private final IMusicalPieceDao musicalPieceDao;
-    private Set<WishRequestable> allWishRequests;
-    private List<IWishEntryEntity> wishEntries;
+    private Map<Integer, WishRequest> wishRequestsByMusician;
+    private WishEntryIndex wishEntryIndex;
     private DutyManager dutyManager;
 
     /**
@@ -93,10 +95,13 @@ public class WishRequestManager {
      * @param duty duty
      */
     public void loadAllWishRequests(IDutyEntity duty) {
-        this.allWishRequests = new LinkedHashSet<>();
-        this.allWishRequests.addAll(positiveWishDao.getAllPositiveWishes(duty));
-        this.allWishRequests.addAll(negDateWishDao.getAllNegativeDateWishes(duty));
-        this.allWishRequests.addAll(negDutyWishDao.getAllNegativeDutyWishes(duty));
+        UnitOfWork.run(() -> {
+            Set<WishRequestable> allWishRequests = new LinkedHashSet<>();
+            allWishRequests.addAll(positiveWishDao.getAllPositiveWishes(duty));
+            allWishRequests.addAll(negDateWishDao.getAllNegativeDateWishes(duty));
+            allWishRequests.addAll(negDutyWishDao.getAllNegativeDutyWishes(duty));
+            this.wishRequestsByMusician = WishRequest.mapByMusician(allWishRequests);
+        });
     }
 
 
@@ -109,18 +114,13 @@ public class WishRequestManager {
     public Musician setMusicianWishRequest(Musician musician, IDutyEntity duty) {
         // Beware! if allWish isn't loaded this method will load
         // the wishes individually from the DAO
-        if (this.allWishRequests == null) {
+        if (this.wishRequestsByMusician == null) {
             // TODO - lösung überlegen ist nur Alternative,
             //  falls man das laden vergisst, nicht zwingend Notwendig
         } else {
-            Optional<WishRequest> wishRequest =
-                WishRequest
-                    .getWishRequestToMusician(musician.getEntity(), this.allWishRequests);
-            if (wishRequest.isPresent()) {
-                musician.setWishRequest(wishRequest.get());
-            } else {
-                musician.setWishRequest(null);
-            }
+            musician.setWishRequest(
+                this.wishRequestsByMusician.get(musician.getEntity().getMusicianId())
+            );
         }
         return musician;
     }
@@ -132,31 +132,35 @@ public class WishRequestManager {
      * @return Set of DateWishDtos
      */
     public Set<WishDto<DateWishDto>> getAllNegativeDateWishesForUser(Integer userId) {
-        Optional<IMusicianEntity> musicianEntity = this.musicianDao.findMusicianByUserId(userId);
-        if (musicianEntity.isPresent()) {
-            Set<WishDto<DateWishDto>> dateWishRequests = new LinkedHashSet<>();
-            for (INegativeDateWishEntity ndwe :
-                this.negDateWishDao.getAllNegativeDateWishesOfMusician(musicianEntity.get())) {
-                DateWishDto dateWishDto = new DateWishDto(ndwe.getStartDate(), ndwe.getEndDate());
-                WishDto<DateWishDto> wishDto = new WishDto.WishBuilder<DateWishDto>()
-                    .withWishId(ndwe.getNegativeDateId())
-                    .withWishType(WishType.NEGATIVE)
-                    .withTarget(WishTargetType.DATE)
-                    .withStatus(WishStatusType.REVIEW)
-                    .withReason(ndwe.getDescription())
-                    .withDetails(dateWishDto)
-                    .build();
+        return UnitOfWork.call(() -> {
+            Optional<IMusicianEntity> musicianEntity =
+                this.musicianDao.findMusicianByUserId(userId);
+            if (musicianEntity.isPresent()) {
+                Set<WishDto<DateWishDto>> dateWishRequests = new LinkedHashSet<>();
+                for (INegativeDateWishEntity ndwe :
+                    this.negDateWishDao.getAllNegativeDateWishesOfMusician(musicianEntity.get())) {
+                    DateWishDto dateWishDto =
+                        new DateWishDto(ndwe.getStartDate(), ndwe.getEndDate());
+                    WishDto<DateWishDto> wishDto = new WishDto.WishBuilder<DateWishDto>()
+                        .withWishId(ndwe.getNegativeDateId())
+                        .withWishType(WishType.NEGATIVE)
+                        .withTarget(WishTargetType.DATE)
+                        .withStatus(WishStatusType.REVIEW)
+                        .withReason(ndwe.getDescription())
+                        .withDetails(dateWishDto)
+                        .build();
 
-                dateWishRequests.add(wishDto);
-            }
-            return dateWishRequests;
+                    dateWishRequests.add(wishDto);
+                }
+                return dateWishRequests;
 
-        }
-        LOG.error(
-                "Delivered User Id:{} could not be found @getAllNegativeDateWishesForUser",
-                 userId
-        );
-        return new LinkedHashSet<>();
+            }
+            LOG.error(
+                    "Delivered User Id:{} could not be found @getAllNegativeDateWishesForUser",
+                     userId
+            );
+            return new LinkedHashSet<>();
+        });
     }
 
     /**
@@ -166,26 +170,28 @@ public class WishRequestManager {
      * @return Optional.empty if values are missing, optional of Dto Object if Success
      */
     public Optional<WishDto<DateWishDto>> getNegativeDateWish(Integer dateWishId) {
-        Optional<INegativeDateWishEntity> ndwe = this.negDateWishDao.find(dateWishId);
-        if (ndwe.isPresent()) {
-            DateWishDto dateWishDto = new DateWishDto(
-                ndwe.get().getStartDate(),
-                ndwe.get().getEndDate()
-            );
-            Optional<WishDto<DateWishDto>> wishDto
-                = Optional.of(new WishDto.WishBuilder<DateWishDto>()
-                .withWishId(ndwe.get().getNegativeDateId())
-                .withWishType(WishType.NEGATIVE)
-                .withTarget(WishTargetType.DATE)
-                .withStatus(WishStatusType.REVIEW)
-                .withReason(ndwe.get().getDescription())
-                .withDetails(dateWishDto)
-                .build());
-
-            return wishDto;
-        }
-        LOG.error("Delivered Date Id:{} could not be found @getNegativeDateWish", dateWishId);
-        return Optional.empty();
+        return UnitOfWork.call(() -> {
+            Optional<INegativeDateWishEntity> ndwe = this.negDateWishDao.find(dateWishId);
+            if (ndwe.isPresent()) {
+                DateWishDto dateWishDto = new DateWishDto(
+                    ndwe.get().getStartDate(),
+                    ndwe.get().getEndDate()
+                );
+                Optional<WishDto<DateWishDto>> wishDto
+                    = Optional.of(new WishDto.WishBuilder<DateWishDto>()
+                    .withWishId(ndwe.get().getNegativeDateId())
+                    .withWishType(WishType.NEGATIVE)
+                    .withTarget(WishTargetType.DATE)
+                    .withStatus(WishStatusType.REVIEW)
+                    .withReason(ndwe.get().getDescription())
+                    .withDetails(dateWishDto)
+                    .build());
+
+                return wishDto;
+            }
+            LOG.error("Delivered Date Id:{} could not be found @getNegativeDateWish", dateWishId);
+            return Optional.empty();
+        });
     }
 
     /**
@@ -199,27 +205,29 @@ public class WishRequestManager {
         WishDto<DateWishDto> dateWish,
         Integer userId
     ) {
-        Optional<INegativeDateWishEntity> opDateWishEntity
-            = fillInNegativeDateWish(dateWish, userId);
+        return UnitOfWork.call(() -> {
+            Optional<INegativeDateWishEntity> opDateWishEntity
+                = fillInNegativeDateWish(dateWish, userId);
 
-        if (opDateWishEntity.isEmpty()) {
-            LOG.error("Could not fill in negative date wish details");
-            return Optional.empty();
-        }
+            if (opDateWishEntity.isEmpty()) {
+                LOG.error("Could not fill in negative date wish details");
+                return Optional.empty();
+            }
 
-        INegativeDateWishEntity dateWishEntity = opDateWishEntity.get();
-        if (!validateDateRequest(dateWish, dateWishEntity)) {
-            return Optional.empty();
-        }
+            INegativeDateWishEntity dateWishEntity = opDateWishEntity.get();
+            if (!validateDateRequest(dateWish, dateWishEntity)) {
+                return Optional.empty();
+            }
 
-        // Persist
-        Optional<INegativeDateWishEntity> result = this.negDateWishDao.persist(dateWishEntity);
-        if (result.isPresent()) {
-            return getNegativeDateWish(result.get().getNegativeDateId());
-        } else {
-            LOG.error("NegativeDateWish couldn't be persisted");
-            return Optional.empty();
-        }
+            // Persist
+            Optional<INegativeDateWishEntity> result = this.negDateWishDao.persist(dateWishEntity);
+            if (result.isPresent()) {
+                return getNegativeDateWish(result.get().getNegativeDateId());
+            } else {
+                LOG.error("NegativeDateWish couldn't be persisted");
+                return Optional.empty();
+            }
+        });
     }
 
     private boolean validateDateRequest(
@@ -263,30 +271,32 @@ public class WishRequestManager {
         WishDto<DateWishDto> dateWish,
         Integer userId
     ) {
-        if (dateWish.getWishId() == null || dateWish.getWishType() == null
-            || dateWish.getReason() == null
-            || dateWish.getDetails().getStart() == null
-            || dateWish.getDetails().getEnd() == null
-        ) {
-            LOG.error("Some value @update was null @updateNegativeDateWish");
-            return Optional.empty();
-        }
-        Optional<INegativeDateWishEntity> opDateWishEntity
-            = fillInNegativeDateWish(dateWish, userId);
-        INegativeDateWishEntity dateWishEntity = null;
-        if (opDateWishEntity.isPresent()) {
-            dateWishEntity = opDateWishEntity.get();
-        } else {
-            return Optional.empty();
-        }
-        dateWishEntity.setNegativeDateId(dateWish.getWishId());
+        return UnitOfWork.call(() -> {
+            if (dateWish.getWishId() == null || dateWish.getWishType() == null
+                || dateWish.getReason() == null
+                || dateWish.getDetails().getStart() == null
+                || dateWish.getDetails().getEnd() == null
+            ) {
+                LOG.error("Some value @update was null @updateNegativeDateWish");
+                return Optional.empty();
+            }
+            Optional<INegativeDateWishEntity> opDateWishEntity
+                = fillInNegativeDateWish(dateWish, userId);
+            INegativeDateWishEntity dateWishEntity = null;
+            if (opDateWishEntity.isPresent()) {
+                dateWishEntity = opDateWishEntity.get();
+            } else {
+                return Optional.empty();
+            }
+            dateWishEntity.setNegativeDateId(dateWish.getWishId());
 
-        if (!validateDateRequest(dateWish, dateWishEntity)) {
-            return Optional.empty();
-        }
+            if (!validateDateRequest(dateWish, dateWishEntity)) {
+                return Optional.empty();
+            }
 
-        this.negDateWishDao.update(dateWishEntity);
-        return Optional.of(dateWish);
+            this.negDateWishDao.update(dateWishEntity);
+            return Optional.of(dateWish);
+        });
     }
 
     /**
@@ -296,22 +306,25 @@ public class WishRequestManager {
      * @return true if removed, false if removing failed
      */
     public boolean removeNegativeDateWish(Integer dateWishId) {
-        Optional<INegativeDateWishEntity> opDateWishEntity = this.negDateWishDao.find(dateWishId);
-        if (opDateWishEntity.isPresent()) {
-
-            WishDto<DateWishDto> wishDto = new WishDto<>();
-            wishDto.setTarget(WishTargetType.DATE);
-            wishDto.setWishType(WishType.NEGATIVE);
-            if (!validateDateRequest(wishDto, opDateWishEntity.get())) {
-                LOG.debug("Cannot delete date request");
+        return UnitOfWork.call(() -> {
+            Optional<INegativeDateWishEntity> opDateWishEntity =
+                this.negDateWishDao.find(dateWishId);
+            if (opDateWishEntity.isPresent()) {
+
+                WishDto<DateWishDto> wishDto = new WishDto<>();
+                wishDto.setTarget(WishTargetType.DATE);
+                wishDto.setWishType(WishType.NEGATIVE);
+                if (!validateDateRequest(wishDto, opDateWishEntity.get())) {
+                    LOG.debug("Cannot delete date request");
+                    return false;
+                }
+
+                return this.negDateWishDao.remove(opDateWishEntity.get());
+            } else {
+                LOG.debug("Given DateWish Id by API does not exist in DB:{} ", dateWishId);
                 return false;
             }
-
-            return this.negDateWishDao.remove(opDateWishEntity.get());
-        } else {
-            LOG.debug("Given DateWish Id by API does not exist in DB:{} ", dateWishId);
-            return false;
-        }
+        });
     }
 
     // creates of given Dto a DateWishEntity
@@ -340,45 +353,16 @@ public class WishRequestManager {
         return Optional.of(dateWishEntity);
     }
 
+    /**
+     * Preloads all wish entries for a given duty and its series of performances.
+     *
+     * @param duty duty
+     */
     public void loadAllWishEntriesForDuty(Duty duty) {
-        this.wishEntries = this.wishEntryDao.findAll();
-    }
-
-    private boolean checkSopOrMusicalPieceWish(
-        IWishEntryEntity wishEntry,
-        int wishMusicianId,
-        int musicianId,
-        IDutyEntity duty,
-        IMusicalPieceEntity musicalPiece
-    ) {
-        LOG.debug("Checking SOP or MusicalPiece wish");
-        if (wishMusicianId == musicianId) {
-            LOG.debug("Wish {} has musician: {}", wishEntry.getWishEntryId(), musicianId);
-            // This wish is for the given musician
-            for (IMusicalPieceEntity mp : wishEntry.getMusicalPieces()) {
-                // Wish for whole SOP
-                boolean isSopRequest = isWishEntryDutySopSame(wishEntry, duty);
-                if (isSopRequest) {
-                    LOG.debug(
-                        "WishEntry {} is for whole series {}",
-                        wishEntry.getWishEntryId(),
-                        duty.getSeriesOfPerformances().getDescription()
-                    );
-                    return true;
-                }
-                // Wish for this musical piece
-                if (duty.getDutyId().equals(wishEntry.getDuty().getDutyId())
-                    && mp.getMusicalPieceId().equals(musicalPiece.getMusicalPieceId())) {
-                    LOG.debug(
-                        "WishEntry {} is for Musical Piece {}",
-                        wishEntry.getWishEntryId(),
-                        mp.getName()
-                    );
-                    return true;
-                }
-            }
-        }
-        return false;
+        UnitOfWork.run(() -> {
+            this.wishEntryIndex =
+                new WishEntryIndex(this.wishEntryDao.findAllOfDuty(duty.getEntity()));
+        });
     }
 
     /**
@@ -394,32 +378,11 @@ public class WishRequestManager {
         MusicalPiece musicalPiece,
         Duty duty
     ) {
-        boolean hasRequest = false;
-
-        for (IWishEntryEntity wishEntry : this.wishEntries) {
-            int wishMusicianId = -1;
-            if (wishEntry.getPositiveWish() != null) {
-                wishMusicianId = wishEntry
-                    .getPositiveWish()
-                    .getMusician()
-                    .getMusicianId();
-            } else if (wishEntry.getNegativeDutyWish() != null) {
-                wishMusicianId = wishEntry
-                    .getNegativeDutyWish()
-                    .getMusician()
-                    .getMusicianId();
-            }
-            hasRequest = checkSopOrMusicalPieceWish(
-                wishEntry,
-                wishMusicianId,
-                m.getEntity().getMusicianId(),
-                duty.getEntity(),
-                musicalPiece.getEntity()
-            );
-            if (hasRequest) {
-                return true;
-            }
-        }
+        boolean hasRequest = this.wishEntryIndex.hasWish(
+            m.getEntity().getMusicianId(),
+            duty.getEntity(),
+            musicalPiece.getEntity().getMusicalPieceId()
+        );
 
         LOG.debug(
             "Does Musician {} have a wish for Duty {} with MusicalPiece {}? {}",
@@ -433,18 +396,6 @@ public class WishRequestManager {
         return hasRequest;
     }
 
-    private boolean isWishEntryDutySopSame(IWishEntryEntity wishEntry, IDutyEntity duty) {
-        if (wishEntry.getSeriesOfPerformances() != null
-            && wishEntry.getSeriesOfPerformances().getSeriesOfPerformancesId()
-            .equals(
-                duty.getSeriesOfPerformances().getSeriesOfPerformancesId()
-            )
-        ) {
-            return true;
-        }
-        return false;
-    }
-
     /**
      * get all positive and negative duty wishes for a given dutyId and a given userId.
      *
@@ -456,67 +407,56 @@ public class WishRequestManager {
         Integer userId,
         Integer dutyId
     ) {
-        Optional<IDutyEntity> dutyEntity = this.dutyDao.find(dutyId);
-        Optional<IMusicianEntity> musicianEntity = this.musicianDao.findMusicianByUserId(userId);
-
-        if (dutyEntity.isPresent() && musicianEntity.isPresent()) {
-            List<IPositiveWishEntity> posWishes = new LinkedList<>((this.positiveWishDao
-                .getAllPositiveWishesForMusician(
-                    dutyEntity.get(), musicianEntity.get())));
-            List<INegativeDutyWishEntity> negWishes = new LinkedList<>(this.negDutyWishDao
-                .getAllNegativeDutyWishesForMusician(
-                    dutyEntity.get(), musicianEntity.get()));
-
-            Set<WishDto<DutyWishDto>> wishDtos = new LinkedHashSet<>();
-            //add positive Duty wishes
-            for (IPositiveWishEntity wish : posWishes) {
-
-                Optional<IWishEntryEntity> wishEntryEntity = this.positiveWishDao
-                    .getWishEntryByPositiveWish(
-                        wish, dutyEntity.get());
-
-                if (wishEntryEntity.isPresent()) {
-                    DutyWishDto dutyWishDto = new DutyWishDto();
-                    dutyWishDto.setDutyId(dutyId);
-                    dutyWishDto.setForEntireSop((wishEntryEntity.get()
-                        .getSeriesOfPerformances() != null));
-                    for (IMusicalPieceEntity mp : wishEntryEntity.get().getMusicalPieces()) {
-                        dutyWishDto.addMusicalPiece(mp.getMusicalPieceId(), mp.getName());
+        return UnitOfWork.call(() -> {
+            Optional<IDutyEntity> dutyEntity = this.dutyDao.find(dutyId);
+            Optional<IMusicianEntity> musicianEntity =
+                this.musicianDao.findMusicianByUserId(userId);
+
+            if (dutyEntity.isPresent() && musicianEntity.isPresent()) {
+                List<IPositiveWishEntity> posWishes = new LinkedList<>((this.positiveWishDao
+                    .getAllPositiveWishesForMusician(
+                        dutyEntity.get(), musicianEntity.get())));
+                List<INegativeDutyWishEntity> negWishes = new LinkedList<>(this.negDutyWishDao
+                    .getAllNegativeDutyWishesForMusician(
+                        dutyEntity.get(), musicianEntity.get()));
+
+                Set<WishDto<DutyWishDto>> wishDtos = new LinkedHashSet<>();
+                //add positive Duty wishes
+                for (IPositiveWishEntity wish : posWishes) {
+
+                    Optional<IWishEntryEntity> wishEntryEntity = this.positiveWishDao
+                        .getWishEntryByPositiveWish(
+                            wish, dutyEntity.get());
+
+                    if (wishEntryEntity.isPresent()) {
+                        wishDtos.add(createDutyWishDto(
+                            wishEntryEntity.get(),
+                            dutyId,
+                            wish.getDescription(),
+                            WishType.POSITIVE
+                        ));
                     }
-                    wishDtos.add(new WishDto.WishBuilder<DutyWishDto>()
-                        .withWishId(wishEntryEntity.get().getWishEntryId())
-                        .withReason(wish.getDescription())
-                        .withWishType(WishType.POSITIVE)
-                        .withTarget(WishTargetType.DUTY)
-                        .withDetails(dutyWishDto).build());
                 }
-            }
 
-            //add negative Duty wishes
-            for (INegativeDutyWishEntity wish : negWishes) {
-
-                Optional<IWishEntryEntity> wishEntryEntity = this.negDutyWishDao
-                    .getWishEntryByNegativeDutyWish(
-                        wish, dutyEntity.get());
-                if (wishEntryEntity.isPresent()) {
-                    DutyWishDto dutyWishDto = new DutyWishDto();
-                    dutyWishDto.setDutyId(dutyId);
-                    dutyWishDto.setForEntireSop((wishEntryEntity.get()
-                        .getSeriesOfPerformances() != null));
-                    for (IMusicalPieceEntity mp : wishEntryEntity.get().getMusicalPieces()) {
-                        dutyWishDto.addMusicalPiece(mp.getMusicalPieceId(), mp.getName());
+                //add negative Duty wishes
+                for (INegativeDutyWishEntity wish : negWishes) {
+
+                    Optional<IWishEntryEntity> wishEntryEntity = this.negDutyWishDao
+                        .getWishEntryByNegativeDutyWish(
+                            wish, dutyEntity.get());
+                    if (wishEntryEntity.isPresent()) {
+                        wishDtos.add(createDutyWishDto(
+                            wishEntryEntity.get(),
+                            dutyId,
+                            wish.getDescription(),
+                            WishType.NEGATIVE
+                        ));
                     }
-                    wishDtos.add(new WishDto.WishBuilder<DutyWishDto>()
-                        .withWishId(wishEntryEntity.get().getWishEntryId())
-                        .withReason(wish.getDescription())
-                        .withWishType(WishType.NEGATIVE)
-                        .withTarget(WishTargetType.DUTY)
-                        .withDetails(dutyWishDto).build());
                 }
+                return wishDtos;
             }
-            return wishDtos;
-        }
-        return new LinkedHashSet<>();
+            return new LinkedHashSet<>();
+        });
     }
 
     /**
@@ -530,26 +470,28 @@ public class WishRequestManager {
         WishDto<DutyWishDto> dutyWish,
         Integer userId
     ) {
-        // Construct entity from DTO
-        Optional<IWishEntryEntity> opWishEntry = fillInWishEntry(dutyWish, userId);
-        IWishEntryEntity wishEntry = null;
-        if (opWishEntry.isPresent()) {
-            wishEntry = opWishEntry.get();
-        } else {
-            return Optional.empty();
-        }
+        return UnitOfWork.call(() -> {
+            // Construct entity from DTO
+            Optional<IWishEntryEntity> opWishEntry = fillInWishEntry(dutyWish, userId);
+            IWishEntryEntity wishEntry = null;
+            if (opWishEntry.isPresent()) {
+                wishEntry = opWishEntry.get();
+            } else {
+                return Optional.empty();
+            }
 
-        if (!validateDutyRequest(dutyWish, wishEntry)) {
-            return Optional.empty();
-        }
+            if (!validateDutyRequest(dutyWish, wishEntry)) {
+                return Optional.empty();
+            }
 
-        Optional<IWishEntryEntity> result = this.wishEntryDao.persist(wishEntry);
-        if (result.isPresent()) {
-            return getDutyWish(result.get().getWishEntryId());
-        } else {
-            LOG.error("WishEntry couldn't be persisted");
-            return Optional.empty();
-        }
+            Optional<IWishEntryEntity> result = this.wishEntryDao.persist(wishEntry);
+            if (result.isPresent()) {
+                return getDutyWish(result.get().getWishEntryId());
+            } else {
+                LOG.error("WishEntry couldn't be persisted");
+                return Optional.empty();
+            }
+        });
     }
 
     private boolean validateDutyRequest(WishDto<DutyWishDto> dutyWish, IWishEntryEntity wishEntry) {
@@ -630,47 +572,53 @@ public class WishRequestManager {
      *      optional Dto of WishDto<DutyWishDto/> if success
      */
     public Optional<WishDto<DutyWishDto>> getDutyWish(Integer wishId) {
-        // Get the WishEntry from DB
-        Optional<IWishEntryEntity> opWishEntry = this.wishEntryDao.find(wishId);
-        IWishEntryEntity wishEntry = null;
-        if (opWishEntry.isPresent()) {
-            wishEntry = opWishEntry.get();
-        } else {
-            LOG.error("Wish entry Id:{} could not be found", wishId);
-            return Optional.empty();
-        }
+        return UnitOfWork.call(() -> {
+            // Get the WishEntry from DB
+            Optional<IWishEntryEntity> opWishEntry = this.wishEntryDao.find(wishId);
+            IWishEntryEntity wishEntry = null;
+            if (opWishEntry.isPresent()) {
+                wishEntry = opWishEntry.get();
+            } else {
+                LOG.error("Wish entry Id:{} could not be found", wishId);
+                return Optional.empty();
+            }
 
-        //Build DutyWishDto
-        boolean isSop = false;
-        if (wishEntry.getSeriesOfPerformances() != null) {
-            isSop = true;
-        }
-        DutyWishDto dutyWishDto = new DutyWishDto(wishEntry.getDuty().getDutyId(), isSop);
-        List<MusicalPieceApiDto> musicalPieceApiDtos = new LinkedList<>();
-        for (IMusicalPieceEntity musicalPiece : wishEntry.getMusicalPieces()) {
-            musicalPieceApiDtos.add(
-                new MusicalPieceApiDto(musicalPiece.getMusicalPieceId(), musicalPiece.getName()));
-        }
-        dutyWishDto.setMusicalPieces(musicalPieceApiDtos);
-
-        WishDto.WishBuilder<DutyWishDto> result = new WishDto.WishBuilder<DutyWishDto>();
-        result.withWishId(wishEntry.getWishEntryId());
-        result.withDetails(dutyWishDto);
-        result.withTarget(WishTargetType.DUTY);
-
-        if (wishEntry.getPositiveWish() != null) {
-            result.withWishType(WishType.POSITIVE);
-            result.withReason(wishEntry.getPositiveWish().getDescription());
-        } else if (wishEntry.getNegativeDutyWish() != null) {
-            result.withWishType(WishType.NEGATIVE);
-            result.withReason(wishEntry.getNegativeDutyWish().getDescription());
-        } else {
-            LOG.error(
-                "WishEntry id:{} contains neither a positive, nor negative wish @getDutyWish",
-                wishEntry.getWishEntryId()
-            );
-        }
-        return Optional.of(result.build());
+            //Build DutyWishDto
+            boolean isSop = false;
+            if (wishEntry.getSeriesOfPerformances() != null) {
+                isSop = true;
+            }
+            DutyWishDto dutyWishDto = new DutyWishDto(wishEntry.getDuty().getDutyId(), isSop);
+            List<MusicalPieceApiDto> musicalPieceApiDtos = new LinkedList<>();
+            for (IMusicalPieceEntity musicalPiece : wishEntry.getMusicalPieces()) {
+                musicalPieceApiDtos.add(
+                    new MusicalPieceApiDto(
+                        musicalPiece.getMusicalPieceId(),
+                        musicalPiece.getName()
+                    )
+                );
+            }
+            dutyWishDto.setMusicalPieces(musicalPieceApiDtos);
+
+            WishDto.WishBuilder<DutyWishDto> result = new WishDto.WishBuilder<DutyWishDto>();
+            result.withWishId(wishEntry.getWishEntryId());
+            result.withDetails(dutyWishDto);
+            result.withTarget(WishTargetType.DUTY);
+
+            if (wishEntry.getPositiveWish() != null) {
+                result.withWishType(WishType.POSITIVE);
+                result.withReason(wishEntry.getPositiveWish().getDescription());
+            } else if (wishEntry.getNegativeDutyWish() != null) {
+                result.withWishType(WishType.NEGATIVE);
+                result.withReason(wishEntry.getNegativeDutyWish().getDescription());
+            } else {
+                LOG.error(
+                    "WishEntry id:{} contains neither a positive, nor negative wish @getDutyWish",
+                    wishEntry.getWishEntryId()
+                );
+            }
+            return Optional.of(result.build());
+        });
     }
 
 
@@ -686,45 +634,48 @@ public class WishRequestManager {
         WishDto<DutyWishDto> dutyWish,
         Integer userId
     ) {
-        if (dutyWish.getWishId() == null || dutyWish.getWishType() == null
-            || dutyWish.getReason() == null
-            || dutyWish.getDetails().getDutyId() == null) {
-            LOG.error("Some value @update was null @updateDutyWish");
-            return Optional.empty();
-        }
+        return UnitOfWork.call(() -> {
+            if (dutyWish.getWishId() == null || dutyWish.getWishType() == null
+                || dutyWish.getReason() == null
+                || dutyWish.getDetails().getDutyId() == null) {
+                LOG.error("Some value @update was null @updateDutyWish");
+                return Optional.empty();
+            }
 
-        Optional<IWishEntryEntity> opWishEntry = fillInWishEntry(dutyWish, userId);
-        IWishEntryEntity wishEntry = null;
-        if (opWishEntry.isPresent()) {
-            wishEntry = opWishEntry.get();
-        } else {
-            return Optional.empty();
-        }
-        wishEntry.setWishEntryId(dutyWish.getWishId());
-
-        // Set correct Wish Id's
-        Optional<IWishEntryEntity> opOriginalEntry = this.wishEntryDao.find(dutyWish.getWishId());
-        IWishEntryEntity originalEntry = null;
-        if (opOriginalEntry.isPresent()) {
-            originalEntry = opOriginalEntry.get();
-            if (originalEntry.getPositiveWish() != null) {
-                wishEntry.getPositiveWish()
-                    .setPositiveWishId(originalEntry.getPositiveWish().getPositiveWishId());
-            } else if (originalEntry.getNegativeDutyWish() != null) {
-                wishEntry.getNegativeDutyWish()
-                    .setNegativeDutyId(originalEntry.getNegativeDutyWish().getNegativeDutyId());
+            Optional<IWishEntryEntity> opWishEntry = fillInWishEntry(dutyWish, userId);
+            IWishEntryEntity wishEntry = null;
+            if (opWishEntry.isPresent()) {
+                wishEntry = opWishEntry.get();
             } else {
                 return Optional.empty();
             }
-        }
+            wishEntry.setWishEntryId(dutyWish.getWishId());
+
+            // Set correct Wish Id's
+            Optional<IWishEntryEntity> opOriginalEntry =
+                this.wishEntryDao.find(dutyWish.getWishId());
+            IWishEntryEntity originalEntry = null;
+            if (opOriginalEntry.isPresent()) {
+                originalEntry = opOriginalEntry.get();
+                if (originalEntry.getPositiveWish() != null) {
+                    wishEntry.getPositiveWish()
+                        .setPositiveWishId(originalEntry.getPositiveWish().getPositiveWishId());
+                } else if (originalEntry.getNegativeDutyWish() != null) {
+                    wishEntry.getNegativeDutyWish()
+                        .setNegativeDutyId(originalEntry.getNegativeDutyWish().getNegativeDutyId());
+                } else {
+                    return Optional.empty();
+                }
+            }
 
-        // Validate with domain logic
-        if (!validateDutyRequest(dutyWish, wishEntry)) {
-            return Optional.empty();
-        }
+            // Validate with domain logic
+            if (!validateDutyRequest(dutyWish, wishEntry)) {
+                return Optional.empty();
+            }
 
-        this.wishEntryDao.update(wishEntry);
-        return Optional.of(dutyWish);
+            this.wishEntryDao.update(wishEntry);
+            return Optional.of(dutyWish);
+        });
     }
 
     // creates of given Dto a WishEntryEntity
@@ -802,29 +753,31 @@ public class WishRequestManager {
      * @return true if removed, false if removing failed
      */
     public boolean removeDutyWish(Integer dutyWishId) {
-        Optional<IWishEntryEntity> opWishEntry = this.wishEntryDao.find(dutyWishId);
-
-        if (opWishEntry.isPresent()) {
-            IWishEntryEntity wishEntryEntity = opWishEntry.get();
+        return UnitOfWork.call(() -> {
+            Optional<IWishEntryEntity> opWishEntry = this.wishEntryDao.find(dutyWishId);
+
+            if (opWishEntry.isPresent()) {
+                IWishEntryEntity wishEntryEntity = opWishEntry.get();
+
+                WishDto<DutyWishDto> wishDto = new WishDto<>();
+                wishDto.setTarget(WishTargetType.DUTY);
+                if (wishEntryEntity.getPositiveWish() != null) {
+                    wishDto.setWishType(WishType.POSITIVE);
+                } else if (wishEntryEntity.getNegativeDutyWish() != null) {
+                    wishDto.setWishType(WishType.NEGATIVE);
+                }
+                // Validate with domain logic
+                if (!validateDutyRequest(wishDto, opWishEntry.get())) {
+                    LOG.debug("Cannot remove duty request");
+                    return false;
+                }
 
-            WishDto<DutyWishDto> wishDto = new WishDto<>();
-            wishDto.setTarget(WishTargetType.DUTY);
-            if (wishEntryEntity.getPositiveWish() != null) {
-                wishDto.setWishType(WishType.POSITIVE);
-            } else if (wishEntryEntity.getNegativeDutyWish() != null) {
-                wishDto.setWishType(WishType.NEGATIVE);
-            }
-            // Validate with domain logic
-            if (!validateDutyRequest(wishDto, opWishEntry.get())) {
-                LOG.debug("Cannot remove duty request");
+                return this.wishEntryDao.remove(opWishEntry.get());
+            } else {
+                LOG.debug("Given Wish Entry Id by API does not exist in DB:{} ", dutyWishId);
                 return false;
             }
-
-            return this.wishEntryDao.remove(opWishEntry.get());
-        } else {
-            LOG.debug("Given Wish Entry Id by API does not exist in DB:{} ", dutyWishId);
-            return false;
-        }
+        });
     }
 
     /**
@@ -834,30 +787,64 @@ public class WishRequestManager {
      * @return Set of all Duty Wishes
      */
     public Set<WishDto<DutyWishDto>> getAllFutureDutyWishesOfUser(int userId) {
-        // Find all future unscheduled duties of user
-        Set<DutyDto> duties = this.dutyManager.findFutureUnscheduledDutiesForMusician(userId);
-        LOG.debug("Found {} future unscheduled duties for user", duties.size());
-
-        // Store all wishes here
-        Set<WishDto<DutyWishDto>> result = new HashSet<>();
-
-        // get duty wishes from those duties
-        for (DutyDto dto : duties) {
-            Set<WishDto<DutyWishDto>> wishes = getAllDutyWishesForUserAndDuty(
-                userId,
-                dto.getDutyId()
-            );
-            LOG.debug(
-                "Found {} duty wishes duties for user {} and duty {}",
-                wishes.size(),
-                userId,
-                dto.getDutyId()
+        return UnitOfWork.call(() -> {
+            Optional<IMusicianEntity> musician = this.musicianDao.findMusicianByUserId(userId);
+            if (musician.isEmpty()) {
+                LOG.error("Did not find musician of user {}", userId);
+                return new HashSet<>();
+            }
+
+            // Find all future unscheduled duties of user
+            Set<IDutyEntity> duties = this.dutyManager.findFutureUnscheduledDutiesForMusician(
+                musician.get()
             );
+            LOG.debug("Found {} future unscheduled duties for user", duties.size());
+
+            // Get duty wishes of all those duties at once
+            Set<WishDto<DutyWishDto>> result = new HashSet<>();
+            for (IWishEntryEntity wishEntry
+                : this.wishEntryDao.findAllOfMusicianForDuties(musician.get(), duties)) {
+                Integer dutyId = wishEntry.getDuty().getDutyId();
+                if (wishEntry.getPositiveWish() != null) {
+                    result.add(createDutyWishDto(
+                        wishEntry,
+                        dutyId,
+                        wishEntry.getPositiveWish().getDescription(),
+                        WishType.POSITIVE
+                    ));
+                }
+                if (wishEntry.getNegativeDutyWish() != null) {
+                    result.add(createDutyWishDto(
+                        wishEntry,
+                        dutyId,
+                        wishEntry.getNegativeDutyWish().getDescription(),
+                        WishType.NEGATIVE
+                    ));
+                }
+            }
 
-            result.addAll(wishes);
-        }
+            LOG.debug("Found {} duty wishes for user", result.size());
+            return result;
+        });
+    }
 
-        LOG.debug("Found {} duty wishes for user", result.size());
-        return result;
+    private static WishDto<DutyWishDto> createDutyWishDto(
+        IWishEntryEntity wishEntry,
+        Integer dutyId,
+        String reason,
+        WishType wishType
+    ) {
+        DutyWishDto dutyWishDto = new DutyWishDto();
+        dutyWishDto.setDutyId(dutyId);
+        dutyWishDto.setForEntireSop(wishEntry.getSeriesOfPerformances() != null);
+        for (IMusicalPieceEntity mp : wishEntry.getMusicalPieces()) {
+            dutyWishDto.addMusicalPiece(mp.getMusicalPieceId(), mp.getName());
+        }
+        return new WishDto.WishBuilder<DutyWishDto>()
+            .withWishId(wishEntry.getWishEntryId())
+            .withReason(reason)
+            .withWishType(wishType)
+            .withTarget(WishTargetType.DUTY)
+            .withDetails(dutyWishDto).build();
     }
 }
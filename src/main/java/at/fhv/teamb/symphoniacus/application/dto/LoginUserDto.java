@@ -1,6 +1,9 @@
 package at.fhv.teamb.symphoniacus.application.dto;
 
 import at.fhv.teamb.symphoniacus.application.type.DomainUserType;
+import at.fhv.teamb.symphoniacus.domain.AdministrativeAssistant;
+import at.fhv.teamb.symphoniacus.domain.Musician;
+import java.util.Optional;
 
 /**
  * LoginDTO for User.
@@ -14,19 +17,25 @@ public class LoginUserDto {
     private final String password;
     private final String fullName;
     private final DomainUserType type;
+    private final Musician musician;
+    private final AdministrativeAssistant administrativeAssistant;
 
     private LoginUserDto(
         int userId,
         String userShortcut,
         String password,
         String fullName,
-        DomainUserType type
+        DomainUserType type,
+        Musician musician,
+        AdministrativeAssistant administrativeAssistant
     ) {
         this.userId = userId;
         this.userShortcut = userShortcut;
         this.password = password;
         this.fullName = fullName;
         this.type = type;
+        this.musician = musician;
+        this.administrativeAssistant = administrativeAssistant;
     }
 
     public int getUserId() {
@@ -49,12 +58,32 @@ public class LoginUserDto {
         return this.fullName;
     }
 
+    /**
+     * Returns the musician resolved during the login.
+     *
+     * @return The musician, if the user is a musician and was resolved
+     */
+    public Optional<Musician> getMusician() {
+        return Optional.ofNullable(this.musician);
+    }
+
+    /**
+     * Returns the administrative assistant resolved during the login.
+     *
+     * @return The administrative assistant, if the user is one and was resolved
+     */
+    public Optional<AdministrativeAssistant> getAdministrativeAssistant() {
+        return Optional.ofNullable(this.administrativeAssistant);
+    }
+
     public static class UserDtoBuilder {
         private final int userId;
         private String userShortcut;
         private String password;
         private String fullName;
         private DomainUserType type;
+        private Musician musician;
+        private AdministrativeAssistant administrativeAssistant;
 
         // we need this to be set
         public UserDtoBuilder(int userId) {
@@ -81,6 +110,18 @@ public class LoginUserDto {
             return this;
         }
 
+        public UserDtoBuilder withMusician(Musician musician) {
+            this.musician = musician;
+            return this;
+        }
+
+        public UserDtoBuilder withAdministrativeAssistant(
+            AdministrativeAssistant administrativeAssistant
+        ) {
+            this.administrativeAssistant = administrativeAssistant;
+            return this;
+        }
+
         /**
          * Constructs a new UserDto with the previously set options in the builder.
          *
@@ -92,7 +133,9 @@ public class LoginUserDto {
                 this.userShortcut,
                 this.password,
                 this.fullName,
-                this.type
+                this.type,
+                this.musician,
+                this.administrativeAssistant
             );
         }
     }
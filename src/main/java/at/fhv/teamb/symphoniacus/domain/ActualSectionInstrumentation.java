@@ -1,6 +1,7 @@
 package at.fhv.teamb.symphoniacus.domain;
 
 import at.fhv.teamb.symphoniacus.persistence.PersistenceState;
+import org.hibernate.Hibernate;
 
 /**
  * Domain object responsible for handling the instrumentation for a {@link Duty}.
@@ -15,13 +16,18 @@ public class ActualSectionInstrumentation {
     }
 
     /**
-     * Assigns a {@link Musician} to a {@link DutyPosition}.
+     * Assigns a {@link Musician} to a {@link DutyPosition}. The duty positions of the
+     * musician are only updated if they are loaded already.
      *
      * @param musician     The musician to assign
      * @param dutyPosition The duty position to use
      */
     public void assignMusicianToPosition(Musician musician, DutyPosition dutyPosition) {
-        musician.getEntity().addDutyPosition(dutyPosition.getEntity());
+        if (Hibernate.isInitialized(musician.getEntity().getDutyPositions())) {
+            musician.getEntity().addDutyPosition(dutyPosition.getEntity());
+        } else {
+            dutyPosition.getEntity().setMusician(musician.getEntity());
+        }
     }
 
     /**
@@ -31,7 +37,11 @@ public class ActualSectionInstrumentation {
      * @param dutyPosition The position to use
      */
     public void removeMusicianFromPosition(Musician musician, DutyPosition dutyPosition) {
-        musician.getEntity().removeDutyPosition(dutyPosition.getEntity());
+        if (Hibernate.isInitialized(musician.getEntity().getDutyPositions())) {
+            musician.getEntity().removeDutyPosition(dutyPosition.getEntity());
+        } else {
+            dutyPosition.getEntity().setMusician(null);
+        }
     }
 
     public Duty getDuty() {
@@ -0,0 +1,184 @@
+package at.fhv.teamb.symphoniacus.domain;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Availability of the section {@link Musician}s for every {@link DutyPosition} of a
+ * {@link Duty}, stored as one bitset of musicians per position.
+ *
+ * <p>A musician is available for a position if they are neither assigned to an overlapping
+ * duty nor to a position of this duty that plays the same musical piece. If the duty has only
+ * one musical piece, all of its positions count. Local assignments are applied incrementally
+ * with {@link #assign(Musician, DutyPosition)} and {@link #unassign(DutyPosition)}, so the
+ * matrix is calculated only once per duty.
+ */
+public final class AvailabilityMatrix {
+    private static final int UNASSIGNED = -1;
+    private final Duty duty;
+    private final Musician[] musicians;
+    private final Map<Musician, Integer> musicianIndex;
+    private final Map<DutyPosition, Integer> positionIndex;
+    private final BitSet free;
+    private final BitSet[] available;
+    private final int[] groups;
+    private final int[] assignedMusicians;
+    private final int[][] assignmentCounts;
+
+    /**
+     * Calculates the availability of the given musicians for all positions of a duty.
+     *
+     * @param duty          The duty containing positions and musical pieces
+     * @param musicians     All musicians of the section, including external placeholders
+     * @param conflictIndex The duties overlapping with the given one
+     */
+    public AvailabilityMatrix(
+        Duty duty,
+        Collection<Musician> musicians,
+        DutyConflictIndex conflictIndex
+    ) {
+        this.duty = duty;
+        this.musicians = musicians.toArray(new Musician[0]);
+        this.musicianIndex = new HashMap<>();
+        for (int i = 0; i < this.musicians.length; i++) {
+            this.musicianIndex.put(this.musicians[i], i);
+        }
+
+        // Musicians assigned to an overlapping duty are not available at all
+        this.free = new BitSet(this.musicians.length);
+        this.free.set(0, this.musicians.length);
+        for (Musician busy : conflictIndex.findBusyMusicians(duty)) {
+            Integer index = this.musicianIndex.get(busy);
+            if (index != null) {
+                this.free.clear(index);
+            }
+        }
+
+        // Positions playing the same musical piece share a group
+        List<DutyPosition> positions = duty.getDutyPositions();
+        boolean singlePiece = duty.getMusicalPieces().size() == 1;
+        Map<MusicalPiece, Integer> pieceGroups = new HashMap<>();
+        this.positionIndex = new HashMap<>();
+        this.groups = new int[positions.size()];
+        this.available = new BitSet[positions.size()];
+        for (int i = 0; i < positions.size(); i++) {
+            DutyPosition position = positions.get(i);
+            this.positionIndex.put(position, i);
+            this.groups[i] = singlePiece ? 0 : pieceGroups.computeIfAbsent(
+                position.getMusicalPiece(),
+                piece -> pieceGroups.size()
+            );
+            this.available[i] = (BitSet) this.free.clone();
+        }
+
+        this.assignedMusicians = new int[positions.size()];
+        Arrays.fill(this.assignedMusicians, UNASSIGNED);
+        this.assignmentCounts = new int[Math.max(pieceGroups.size(), 1)][this.musicians.length];
+        for (int i = 0; i < positions.size(); i++) {
+            Integer musician = positions.get(i).getAssignedMusician()
+                .map(this.musicianIndex::get)
+                .orElse(null);
+            if (musician != null) {
+                this.block(i, musician);
+            }
+        }
+    }
+
+    /**
+     * Returns the musicians that are available for a position.
+     *
+     * @param position The position of the duty
+     * @return A new Set of available musicians
+     */
+    public Set<Musician> getAvailableMusicians(DutyPosition position) {
+        BitSet row = this.available[this.indexOf(position)];
+        Set<Musician> availableMusicians = new LinkedHashSet<>();
+        for (int i = row.nextSetBit(0); i >= 0; i = row.nextSetBit(i + 1)) {
+            availableMusicians.add(this.musicians[i]);
+        }
+        return availableMusicians;
+    }
+
+    /**
+     * Checks whether a musician is available for a position.
+     *
+     * @param position The position of the duty
+     * @param musician The musician to check
+     * @return True if the musician is part of the section and available
+     */
+    public boolean isAvailable(DutyPosition position, Musician musician) {
+        Integer index = this.musicianIndex.get(musician);
+        return index != null && this.available[this.indexOf(position)].get(index);
+    }
+
+    /**
+     * Applies the assignment of a musician to a position, replacing the musician that was
+     * assigned to it before.
+     *
+     * @param musician The assigned musician
+     * @param position The position of the duty
+     */
+    public void assign(Musician musician, DutyPosition position) {
+        int index = this.indexOf(position);
+        this.release(index);
+        Integer assigned = this.musicianIndex.get(musician);
+        if (assigned != null) {
+            this.block(index, assigned);
+        }
+    }
+
+    /**
+     * Applies the removal of the musician assigned to a position.
+     *
+     * @param position The position of the duty
+     */
+    public void unassign(DutyPosition position) {
+        this.release(this.indexOf(position));
+    }
+
+    public Duty getDuty() {
+        return this.duty;
+    }
+
+    private int indexOf(DutyPosition position) {
+        Integer index = this.positionIndex.get(position);
+        if (index == null) {
+            throw new IllegalArgumentException("Position does not belong to the duty");
+        }
+        return index;
+    }
+
+    private void block(int position, int musician) {
+        this.assignedMusicians[position] = musician;
+        int group = this.groups[position];
+        if (this.assignmentCounts[group][musician]++ == 0) {
+            this.update(group, musician, false);
+        }
+    }
+
+    private void release(int position) {
+        int musician = this.assignedMusicians[position];
+        if (musician == UNASSIGNED) {
+            return;
+        }
+        this.assignedMusicians[position] = UNASSIGNED;
+        int group = this.groups[position];
+        if (--this.assignmentCounts[group][musician] == 0 && this.free.get(musician)) {
+            this.update(group, musician, true);
+        }
+    }
+
+    private void update(int group, int musician, boolean value) {
+        for (int i = 0; i < this.groups.length; i++) {
+            if (this.groups[i] == group) {
+                this.available[i].set(musician, value);
+            }
+        }
+    }
+}
@@ -8,13 +8,11 @@ import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyEntity;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.ResourceBundle;
-import java.util.Set;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -63,68 +61,6 @@ public class Duty implements Validatable {
         this.resources = ResourceBundle.getBundle("bundles.language", locale);
     }
 
-    /**
-     * Determines which {@link Musician}s are available for a given {@link DutyPosition} that
-     * belongs to this {@link Duty}.
-     *
-     * @param allSectionMusicians   A Set of all {@link Section} musicians
-     * @param dutiesOfThisDay       A List of duties
-     * @param locallySetMusicians   A Set of musicians locally assigned to a duty position
-     * @param locallyUnsetMusicians A Set of musicians locally removed from a duty position
-     * @param selectedPosition      The selected duty position from the GUI
-     * @return A Set of musicians that are available for a given position
-     */
-    public Set<Musician> determineAvailableMusicians(
-        Set<Musician> allSectionMusicians,
-        List<Duty> dutiesOfThisDay,
-        Set<Musician> locallySetMusicians,
-        Set<Musician> locallyUnsetMusicians,
-        DutyPosition selectedPosition
-    ) {
-        Set<Musician> availableMusicians = new HashSet<>(allSectionMusicians);
-
-        // Remove the current duty from the list of possible conflicts
-        dutiesOfThisDay.remove(this);
-
-        // Mark all musicians as unavailable that are already assigned to another duty position
-        // when the there's either only one musical piece or the piece equals the conflict's one
-        for (DutyPosition possibleConflict : this.getDutyPositions()) {
-            if ((this.musicalPieces.size() == 1
-                && possibleConflict.getAssignedMusician().isPresent())
-                || (possibleConflict.getMusicalPiece().equals(selectedPosition.getMusicalPiece())
-                && possibleConflict.getAssignedMusician().isPresent())
-            ) {
-                availableMusicians.remove(possibleConflict.getAssignedMusician().get());
-            }
-        }
-
-        // Remove all musicians that are assigned to other duties which happen at the same time
-        for (Duty duty : dutiesOfThisDay) {
-            if (this.entity.getStart().isBefore(duty.getEntity().getEnd())
-                && this.entity.getEnd().isAfter(duty.getEntity().getStart())
-            ) {
-                for (DutyPosition possibleConflict : duty.getDutyPositions()) {
-                    if (possibleConflict.getAssignedMusician().isPresent()
-                        // If musician is a placeholder for an external, don't mark as unavailable
-                        && !possibleConflict.getAssignedMusician().get().isExternal()
-                    ) {
-                        availableMusicians.remove(possibleConflict.getAssignedMusician().get());
-                    }
-                }
-            }
-        }
-
-        // Mark all musicians as unavailable that are locally already assigned to a duty position
-        availableMusicians.removeAll(locallySetMusicians);
-        locallySetMusicians.clear();
-
-        // Mark all musicians as available that are locally not assigned to a duty position anymore
-        availableMusicians.addAll(locallyUnsetMusicians);
-        locallyUnsetMusicians.clear();
-
-        return availableMusicians;
-    }
-
     /**
      * Checks whether this Duty is valid or not.
      *
@@ -162,37 +98,62 @@ public class Duty implements Validatable {
     public String getTitle() {
         if (this.title == null) {
             LOG.debug("No title generated yet - generating");
+            this.title = createTitle(
+                this.entity.getDutyCategory() == null
+                    ? null : this.entity.getDutyCategory().getType(),
+                this.entity.getSeriesOfPerformances() == null
+                    ? null : this.entity.getSeriesOfPerformances().getDescription(),
+                this.entity.getDescription(),
+                this.resources
+            );
+        }
+        return this.title;
+    }
 
-            StringBuilder sb = new StringBuilder();
-            if (this.entity.getDutyCategory() != null) {
-                // <CATEGORY>
-                sb.append(this.entity.getDutyCategory().getType());
-            }
+    /**
+     * Creates the title of a duty based on its parts.
+     *
+     * @param categoryType      The type of the duty category, may be null
+     * @param seriesDescription The description of the series of performances, may be null
+     * @param description       The description of the duty, may be null
+     * @param resources         The resource bundle to translate the title with
+     * @return String that looks like this: CATEGORY for SERIES (DESCRIPTION), where the
+     *     "for SERIES", "(DESCRIPTION)" parts are optional.
+     * @see #getTitle()
+     */
+    public static String createTitle(
+        String categoryType,
+        String seriesDescription,
+        String description,
+        ResourceBundle resources
+    ) {
+        StringBuilder sb = new StringBuilder();
+        if (categoryType != null) {
+            // <CATEGORY>
+            sb.append(categoryType);
+        }
 
-            // for <SOP>
-            if (this.entity.getSeriesOfPerformances() != null) {
-                sb.append(" ");
-                sb.append(this.resources.getString("domain.duty.title.for"));
-                sb.append(" ");
-                sb.append(this.entity.getSeriesOfPerformances().getDescription());
-            }
+        // for <SOP>
+        if (seriesDescription != null) {
+            sb.append(" ");
+            sb.append(resources.getString("domain.duty.title.for"));
+            sb.append(" ");
+            sb.append(seriesDescription);
+        }
 
-            if (this.entity.getDescription() != null && !this.entity.getDescription().isEmpty()) {
-                sb.append(" ");
-                if (!this.entity.getDescription().startsWith("(")) {
-                    sb.append("(");
-                }
+        if (description != null && !description.isEmpty()) {
+            sb.append(" ");
+            if (!description.startsWith("(")) {
+                sb.append("(");
+            }
 
-                sb.append(this.entity.getDescription());
+            sb.append(description);
 
-                if (!this.entity.getDescription().endsWith(")")) {
-                    sb.append(")");
-                }
+            if (!description.endsWith(")")) {
+                sb.append(")");
             }
-
-            this.title = sb.toString();
         }
-        return this.title;
+        return sb.toString();
     }
 
     /**
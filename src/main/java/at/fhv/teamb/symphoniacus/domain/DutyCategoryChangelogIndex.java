@@ -0,0 +1,72 @@
+package at.fhv.teamb.symphoniacus.domain;
+
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyCategoryChangelogEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyEntity;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Index of duty category changelogs answering "points of category C on date D" with a single
+ * floor lookup.
+ *
+ * <p>The changelogs are grouped by their duty category and sorted by their start date once.
+ * A changelog is valid from its start date (inclusive) until the start date of the next
+ * changelog of the same category. Dates before the first changelog of a category use the
+ * points of that first changelog.
+ */
+public class DutyCategoryChangelogIndex {
+    private final Map<Integer, NavigableMap<LocalDate, Integer>> pointsByCategory =
+        new HashMap<>();
+
+    /**
+     * Builds the index from the given changelogs.
+     *
+     * @param changelogs The changelogs to index, in any order
+     */
+    public DutyCategoryChangelogIndex(Collection<IDutyCategoryChangelogEntity> changelogs) {
+        for (IDutyCategoryChangelogEntity changelog : changelogs) {
+            this.pointsByCategory
+                .computeIfAbsent(
+                    changelog.getDutyCategory().getDutyCategoryId(),
+                    id -> new TreeMap<>()
+                )
+                .put(changelog.getStartDate(), changelog.getPoints());
+        }
+    }
+
+    /**
+     * Returns the points of a duty category valid on the given date.
+     *
+     * @param dutyCategoryId The identifier of the duty category
+     * @param date           The date to use
+     * @return The number of points, 0 if there is no changelog for the category
+     */
+    public int getPoints(Integer dutyCategoryId, LocalDate date) {
+        NavigableMap<LocalDate, Integer> points = this.pointsByCategory.get(dutyCategoryId);
+        if (points == null) {
+            return 0;
+        }
+        Map.Entry<LocalDate, Integer> entry = points.floorEntry(date);
+        if (entry == null) {
+            entry = points.firstEntry();
+        }
+        return entry.getValue();
+    }
+
+    /**
+     * Returns the points of the category of a duty valid on the start date of the duty.
+     *
+     * @param duty The duty to use
+     * @return The number of points, 0 if there is no changelog for the category
+     */
+    public int getPoints(IDutyEntity duty) {
+        return this.getPoints(
+            duty.getDutyCategory().getDutyCategoryId(),
+            duty.getStart().toLocalDate()
+        );
+    }
+}
@@ -0,0 +1,154 @@
+package at.fhv.teamb.symphoniacus.domain;
+
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyPositionEntity;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable interval tree of the {@link Duty} objects of a loaded time window, used to find
+ * the duties that overlap a given duty.
+ *
+ * <p>The duties are sorted by their start and form an implicit balanced tree where every node
+ * knows the latest end of its subtree, so a query only visits subtrees that can contain an
+ * overlapping duty. The musicians assigned to every duty are captured once on creation, so the
+ * index can be queried from several threads at once.
+ */
+public final class DutyConflictIndex {
+    private final Duty[] duties;
+    private final LocalDateTime[] maxEnds;
+    private final Map<Duty, Set<Musician>> assignedMusicians;
+
+    /**
+     * Builds the index of the given duties. Duties without start or end are ignored.
+     *
+     * @param duties The duties of the loaded time window
+     */
+    public DutyConflictIndex(Collection<Duty> duties) {
+        List<Duty> sorted = new ArrayList<>(duties.size());
+        Map<Duty, Set<Musician>> musicians = new HashMap<>();
+        for (Duty duty : duties) {
+            if (duty.getEntity().getStart() != null && duty.getEntity().getEnd() != null) {
+                sorted.add(duty);
+                musicians.put(duty, collectAssignedMusicians(duty));
+            }
+        }
+        sorted.sort(Comparator.comparing(d -> d.getEntity().getStart()));
+
+        this.duties = sorted.toArray(new Duty[0]);
+        this.maxEnds = new LocalDateTime[this.duties.length];
+        this.assignedMusicians = Collections.unmodifiableMap(musicians);
+        this.build(0, this.duties.length);
+    }
+
+    /**
+     * Returns all other duties that overlap the given duty.
+     *
+     * @param duty The duty to check
+     * @return The overlapping duties ordered by their start, without the given duty itself
+     */
+    public List<Duty> findOverlapping(Duty duty) {
+        List<Duty> overlapping = new LinkedList<>();
+        this.collect(
+            0,
+            this.duties.length,
+            duty.getEntity().getStart(),
+            duty.getEntity().getEnd(),
+            overlapping
+        );
+        overlapping.remove(duty);
+        return overlapping;
+    }
+
+    /**
+     * Returns all musicians that are assigned to another duty overlapping the given duty.
+     * Placeholders for externals are never busy.
+     *
+     * @param duty The duty to check
+     * @return The busy musicians
+     */
+    public Set<Musician> findBusyMusicians(Duty duty) {
+        Set<Musician> busy = new HashSet<>();
+        for (Duty overlapping : this.findOverlapping(duty)) {
+            busy.addAll(this.assignedMusicians.get(overlapping));
+        }
+        return busy;
+    }
+
+    /**
+     * Returns the number of indexed duties.
+     *
+     * @return The number of duties
+     */
+    public int size() {
+        return this.duties.length;
+    }
+
+    private LocalDateTime build(int low, int high) {
+        if (low >= high) {
+            return null;
+        }
+        int mid = (low + high) >>> 1;
+        LocalDateTime maxEnd = this.duties[mid].getEntity().getEnd();
+        maxEnd = latest(maxEnd, this.build(low, mid));
+        maxEnd = latest(maxEnd, this.build(mid + 1, high));
+        this.maxEnds[mid] = maxEnd;
+        return maxEnd;
+    }
+
+    private void collect(
+        int low,
+        int high,
+        LocalDateTime start,
+        LocalDateTime end,
+        List<Duty> result
+    ) {
+        if (low >= high) {
+            return;
+        }
+        int mid = (low + high) >>> 1;
+        // No duty of this subtree ends after the start
+        if (!this.maxEnds[mid].isAfter(start)) {
+            return;
+        }
+
+        this.collect(low, mid, start, end, result);
+
+        // Duties of the right subtree start even later
+        Duty duty = this.duties[mid];
+        if (duty.getEntity().getStart().isBefore(end)) {
+            if (duty.getEntity().getEnd().isAfter(start)) {
+                result.add(duty);
+            }
+            this.collect(mid + 1, high, start, end, result);
+        }
+    }
+
+    private static LocalDateTime latest(LocalDateTime first, LocalDateTime second) {
+        if (second == null || first.isAfter(second)) {
+            return first;
+        }
+        return second;
+    }
+
+    private static Set<Musician> collectAssignedMusicians(Duty duty) {
+        Set<Musician> musicians = new HashSet<>();
+        for (IDutyPositionEntity position : duty.getEntity().getDutyPositions()) {
+            if (position.getMusician() != null) {
+                Musician musician = new Musician(position.getMusician());
+                if (!musician.isExternal()) {
+                    musicians.add(musician);
+                }
+            }
+        }
+        return Collections.unmodifiableSet(musicians);
+    }
+}
@@ -1,7 +1,6 @@
 package at.fhv.teamb.symphoniacus.domain;
 
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IContractualObligationEntity;
-import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyCategoryChangelogEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyCategoryEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyEntity;
 import java.time.LocalDate;
@@ -25,28 +24,28 @@ public class Points {
         this.value = value;
     }
 
+    /**
+     * Wraps an already calculated number of points.
+     *
+     * @param value The number of points
+     * @return Points
+     */
+    static Points of(int value) {
+        return new Points(value);
+    }
+
     /**
      * Gives the correct number of Points of a duty observing its startDate.
      *
-     * @param duty given duty
+     * @param duty          given duty
+     * @param catChangeLogs Index of the changelogs of the duty category of the duty
      * @return the correct number of Points of given Duty at a given Date
      */
-    public static Points getPointsOfDuty(IDutyEntity duty) {
-        LocalDate timeOfDuty = duty.getStart().toLocalDate();
-        IDutyCategoryChangelogEntity temp = null;
-        int points = 0;
-        for (IDutyCategoryChangelogEntity dcl : duty.getDutyCategory()
-            .getDutyCategoryChangelogs()) {
-            if (temp == null || (dcl.getStartDate().isAfter(temp.getStartDate())
-                && timeOfDuty.isAfter(dcl.getStartDate()))
-                || timeOfDuty.isEqual(dcl.getStartDate())
-            ) {
-                temp = dcl;
-                points = temp.getPoints();
-            }
-        }
-        return new Points(points);
-
+    public static Points getPointsOfDuty(
+        IDutyEntity duty,
+        DutyCategoryChangelogIndex catChangeLogs
+    ) {
+        return new Points(catChangeLogs.getPoints(duty));
     }
 
     public int getValue() {
@@ -68,13 +67,13 @@ public class Points {
      *
      * @param duties        All given Duties by the Points Manager
      *                      -> All of the duties are within the same month
-     * @param catChangeLogs List of changelogs containing
+     * @param catChangeLogs Index of the changelogs containing
      *                      history of changed points to dutycategories
      * @return Points
      */
     public static Points calcGainedPoints(
         List<IDutyEntity> duties,
-        List<IDutyCategoryChangelogEntity> catChangeLogs
+        DutyCategoryChangelogIndex catChangeLogs
     ) {
         if (duties.isEmpty()) {
             LOG.error("No duties delivered -> Points cannot be calculated");
@@ -85,7 +84,7 @@ public class Points {
             if (duty.getStart().isBefore(LocalDateTime.now())
                 || duty.getStart().isEqual(LocalDateTime.now())
             ) {
-                points += giveChangeLogPointsOfDuty(duty, catChangeLogs);
+                points += catChangeLogs.getPoints(duty);
             }
         }
         return new Points(points);
@@ -118,35 +117,6 @@ public class Points {
         return new Points(0);
     }
 
-    /**
-     * Search for the correct ChangeLog (containing the changed number of Points) to a given duty.
-     *
-     * @param duty          Duty that delivers the startTime to get the right changelog
-     * @param catChangeLogs List of DutyCategoryChangelogEntities
-     * @return The number of relevant/correct points at the time of the duty
-     */
-    private static int giveChangeLogPointsOfDuty(
-        IDutyEntity duty,
-        List<IDutyCategoryChangelogEntity> catChangeLogs
-    ) {
-        int points = 0;
-        IDutyCategoryChangelogEntity temp = null;
-        LocalDate dutyTime = duty.getStart().toLocalDate();
-        for (IDutyCategoryChangelogEntity catChangeLogEntity : catChangeLogs) {
-            if (duty.getDutyCategory().getDutyCategoryId()
-                .equals(catChangeLogEntity.getDutyCategory().getDutyCategoryId())) {
-                if (temp == null
-                    || (catChangeLogEntity.getStartDate().isAfter(temp.getStartDate()))
-                    && dutyTime.isAfter(catChangeLogEntity.getStartDate())
-                ) {
-                    temp = catChangeLogEntity;
-                    points = temp.getPoints();
-                }
-            }
-        }
-        return points;
-    }
-
     /**
      * Returns 0 points for musicians.
      *
@@ -0,0 +1,248 @@
+package at.fhv.teamb.symphoniacus.domain;
+
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyCategoryChangelogEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyCategoryEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyPositionEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IMusicianEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IMusicianMonthPointsEntity;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Calculates debit, gained and balance {@link Points} of all musicians of a section for one
+ * month at once.
+ *
+ * <p>The preloaded duties of the month are grouped by the musicians assigned to their positions
+ * and the changelogs are indexed by their duty category and start date, both only once.
+ * Afterwards the points of every musician are calculated from his own duties only, without
+ * further database access.
+ *
+ * @see Points
+ */
+public class SectionPointsCalculator {
+    private static final Logger LOG = LogManager.getLogger(SectionPointsCalculator.class);
+    private final Map<Integer, List<IDutyEntity>> dutiesByMusician = new HashMap<>();
+    private final DutyCategoryChangelogIndex changelogIndex;
+    private final Set<IDutyCategoryEntity> dutyCategories = new LinkedHashSet<>();
+
+    /**
+     * Initializes the calculator with the duties of a month and a snapshot of the changelogs
+     * of their duty categories.
+     *
+     * @param duties     All duties of the month the musicians are assigned to
+     * @param changelogs The changelogs of all duty categories of the given duties
+     */
+    public SectionPointsCalculator(
+        Collection<IDutyEntity> duties,
+        Collection<IDutyCategoryChangelogEntity> changelogs
+    ) {
+        for (IDutyEntity duty : duties) {
+            this.dutyCategories.add(duty.getDutyCategory());
+            Set<Integer> musiciansOfDuty = new LinkedHashSet<>();
+            for (IDutyPositionEntity position : duty.getDutyPositions()) {
+                if (position.getMusician() != null) {
+                    musiciansOfDuty.add(position.getMusician().getMusicianId());
+                }
+            }
+            for (Integer musicianId : musiciansOfDuty) {
+                this.dutiesByMusician
+                    .computeIfAbsent(musicianId, id -> new LinkedList<>())
+                    .add(duty);
+            }
+        }
+        this.changelogIndex = new DutyCategoryChangelogIndex(changelogs);
+    }
+
+    /**
+     * Calculates the points of all given musicians.
+     *
+     * @param musicians The musicians to calculate the points for
+     * @return The points of every musician, mapped by musician id
+     */
+    public Map<Integer, MusicianPoints> calculate(Collection<IMusicianEntity> musicians) {
+        Map<Integer, MusicianPoints> points = new LinkedHashMap<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (IMusicianEntity musician : musicians) {
+            points.put(musician.getMusicianId(), this.calculate(musician, now));
+        }
+        return points;
+    }
+
+    /**
+     * Calculates the points of a single musician.
+     *
+     * @param musician The musician to calculate the points for
+     * @return The points of the musician
+     */
+    public MusicianPoints calculate(IMusicianEntity musician) {
+        return this.calculate(musician, LocalDateTime.now());
+    }
+
+    private MusicianPoints calculate(IMusicianEntity musician, LocalDateTime now) {
+        Points debitPoints = calcDebitPoints(musician);
+        List<IDutyEntity> duties = this.getDuties(musician);
+        if (isExternal(musician) || duties.isEmpty()) {
+            return new MusicianPoints(debitPoints, Points.getZeroPoints(), Points.getZeroPoints());
+        }
+
+        int gainedPoints = 0;
+        for (IDutyEntity duty : duties) {
+            if (!duty.getStart().isAfter(now)) {
+                gainedPoints += this.changelogIndex.getPoints(duty);
+            }
+        }
+
+        return new MusicianPoints(
+            debitPoints,
+            Points.of(gainedPoints),
+            Points.calcBalancePoints(duties, this.dutyCategories)
+        );
+    }
+
+    /**
+     * Returns the sum of the points valid on the days of all duties of a musician.
+     *
+     * @param musician The musician to use
+     * @return The sum of the points
+     * @see DutyCategoryChangelogIndex
+     */
+    public int sumDutyPoints(IMusicianEntity musician) {
+        int points = 0;
+        for (IDutyEntity duty : this.getDuties(musician)) {
+            points += this.changelogIndex.getPoints(duty);
+        }
+        return points;
+    }
+
+    /**
+     * Returns the sum of the current points of the duty categories of all duties of a musician.
+     *
+     * @param musician The musician to use
+     * @return The sum of the points
+     */
+    public int sumCategoryPoints(IMusicianEntity musician) {
+        int points = 0;
+        for (IDutyEntity duty : this.getDuties(musician)) {
+            points += duty.getDutyCategory().getPoints();
+        }
+        return points;
+    }
+
+    /**
+     * Returns the number of duties of a musician.
+     *
+     * @param musician The musician to use
+     * @return The number of duties
+     */
+    public int countDuties(IMusicianEntity musician) {
+        return this.getDuties(musician).size();
+    }
+
+    /**
+     * Creates the points of a musician from his ledger row of a month that is not the
+     * current month.
+     *
+     * <p>All duties of a past month are already gained and none of them is left for the balance,
+     * all duties of a future month are still left for the balance.
+     *
+     * @param musician The musician to use
+     * @param ledger   The ledger row of the musician
+     * @return The points of the musician
+     * @throws IllegalArgumentException if the ledger row belongs to the current month
+     */
+    public static MusicianPoints ofLedger(
+        IMusicianEntity musician,
+        IMusicianMonthPointsEntity ledger
+    ) {
+        YearMonth month = YearMonth.from(ledger.getMonth());
+        if (month.equals(YearMonth.now())) {
+            throw new IllegalArgumentException("Points of the current month depend on the time");
+        }
+        Points debitPoints = calcDebitPoints(musician);
+        if (isExternal(musician)) {
+            return new MusicianPoints(debitPoints, Points.getZeroPoints(), Points.getZeroPoints());
+        }
+        if (month.isBefore(YearMonth.now())) {
+            return new MusicianPoints(
+                debitPoints,
+                Points.of(ledger.getDutyPoints()),
+                Points.getZeroPoints()
+            );
+        }
+        return new MusicianPoints(
+            debitPoints,
+            Points.getZeroPoints(),
+            Points.of(ledger.getCategoryPoints())
+        );
+    }
+
+    /**
+     * Calculates the debit points ("Soll-Punkte") of a musician.
+     *
+     * @param musician The musician to use
+     * @return The debit points of the musician
+     */
+    public static Points calcDebitPoints(IMusicianEntity musician) {
+        if (isExternal(musician)) {
+            return Points.getZeroPoints();
+        }
+        // Only one contractual obligation should be loaded at this point.
+        // However, we need to double-check.
+        if (musician.getContractualObligations().size() != 1) {
+            LOG.error("More than one contractual obligation is not supported "
+                + "at this stage for musician {}", musician.getUser().getShortcut());
+            return Points.getZeroPoints();
+        }
+        return Points.calcDebitPoints(musician.getContractualObligations().get(0));
+    }
+
+    private List<IDutyEntity> getDuties(IMusicianEntity musician) {
+        return this.dutiesByMusician.getOrDefault(
+            musician.getMusicianId(),
+            Collections.emptyList()
+        );
+    }
+
+    private static boolean isExternal(IMusicianEntity musician) {
+        return musician.getUser().getFirstName().equals("Extern");
+    }
+
+    /**
+     * Debit, gained and balance points of one musician.
+     */
+    public static class MusicianPoints {
+        private final Points debitPoints;
+        private final Points gainedPoints;
+        private final Points balancePoints;
+
+        private MusicianPoints(Points debitPoints, Points gainedPoints, Points balancePoints) {
+            this.debitPoints = debitPoints;
+            this.gainedPoints = gainedPoints;
+            this.balancePoints = balancePoints;
+        }
+
+        public Points getDebitPoints() {
+            return this.debitPoints;
+        }
+
+        public Points getGainedPoints() {
+            return this.gainedPoints;
+        }
+
+        public Points getBalancePoints() {
+            return this.balancePoints;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package at.fhv.teamb.symphoniacus.domain;
+
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IMusicalPieceEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IWishEntryEntity;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Index of wish entries answering "has musician M a wish for musical piece P of duty D" with
+ * a single lookup.
+ *
+ * <p>A wish entry for a series of performances counts for every duty and musical piece of the
+ * series, a wish entry for a duty only counts for the musical pieces it names. Wish entries
+ * without musical pieces are ignored.
+ */
+public class WishEntryIndex {
+    private final Set<List<Integer>> seriesWishes = new HashSet<>();
+    private final Set<List<Integer>> musicalPieceWishes = new HashSet<>();
+
+    /**
+     * Builds the index from the given wish entries.
+     *
+     * @param wishEntries The wish entries to index
+     */
+    public WishEntryIndex(Collection<IWishEntryEntity> wishEntries) {
+        for (IWishEntryEntity wishEntry : wishEntries) {
+            Integer musicianId = getMusicianId(wishEntry);
+            if (musicianId == null || wishEntry.getMusicalPieces().isEmpty()) {
+                continue;
+            }
+
+            if (wishEntry.getSeriesOfPerformances() != null) {
+                this.seriesWishes.add(List.of(
+                    musicianId,
+                    wishEntry.getSeriesOfPerformances().getSeriesOfPerformancesId()
+                ));
+            }
+            if (wishEntry.getDuty() != null) {
+                for (IMusicalPieceEntity musicalPiece : wishEntry.getMusicalPieces()) {
+                    this.musicalPieceWishes.add(List.of(
+                        musicianId,
+                        wishEntry.getDuty().getDutyId(),
+                        musicalPiece.getMusicalPieceId()
+                    ));
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if a musician has a wish for a musical piece of a duty.
+     *
+     * @param musicianId     The identifier of the musician
+     * @param duty           The duty to use
+     * @param musicalPieceId The identifier of the musical piece
+     * @return True if the musician wished for the piece or the whole series of performances
+     */
+    public boolean hasWish(Integer musicianId, IDutyEntity duty, Integer musicalPieceId) {
+        if (duty.getSeriesOfPerformances() != null && this.seriesWishes.contains(List.of(
+            musicianId,
+            duty.getSeriesOfPerformances().getSeriesOfPerformancesId()
+        ))) {
+            return true;
+        }
+        return this.musicalPieceWishes.contains(
+            List.of(musicianId, duty.getDutyId(), musicalPieceId)
+        );
+    }
+
+    private static Integer getMusicianId(IWishEntryEntity wishEntry) {
+        if (wishEntry.getPositiveWish() != null) {
+            return wishEntry.getPositiveWish().getMusician().getMusicianId();
+        } else if (wishEntry.getNegativeDutyWish() != null) {
+            return wishEntry.getNegativeDutyWish().getMusician().getMusicianId();
+        }
+        return null;
+    }
+}
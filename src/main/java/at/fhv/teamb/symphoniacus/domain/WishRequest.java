@@ -5,9 +5,10 @@ import at.fhv.teamb.symphoniacus.persistence.model.NegativeDateWishEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.NegativeDutyWishEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.PositiveWishEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.WishRequestable;
-import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IMusicianEntity;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -41,41 +42,42 @@ public class WishRequest {
     }
 
     /**
-     * Finds the first matching wish of a musician of a given Set of wishes.
+     * Creates the domain object of a wish, resolving its type.
      *
-     * @param musician     musician
-     * @param wishRequests Set of wishRequests
-     * @return WishRequest or optional.empty if no wish was found
+     * @param wish The wish to use
+     * @return WishRequest or optional.empty if the type of the wish is unknown
      */
-    public static Optional<WishRequest> getWishRequestToMusician(
-        IMusicianEntity musician,
-        Set<WishRequestable> wishRequests
+    public static Optional<WishRequest> of(WishRequestable wish) {
+        if (wish instanceof PositiveWishEntity) {
+            return Optional.of(new WishRequest(true, WishRequestType.POSITIVE_WISH, wish));
+        } else if (wish instanceof NegativeDutyWishEntity) {
+            return Optional.of(new WishRequest(false, WishRequestType.NEGATIVE_DUTY_WISH, wish));
+        } else if (wish instanceof NegativeDateWishEntity) {
+            return Optional.of(new WishRequest(false, WishRequestType.NEGATIVE_DATE_WISH, wish));
+        }
+        // Validation für zukünfigte Erweiterbarkeit der Wunscharten
+        LOG.error("A WishRequestType wasn't checked in WishRequest.of");
+        return Optional.empty();
+    }
+
+    /**
+     * Maps the first wish of every musician of a given Collection of wishes to the id of the
+     * musician.
+     *
+     * @param wishRequests Collection of wishRequests
+     * @return WishRequests mapped by musician id
+     */
+    public static Map<Integer, WishRequest> mapByMusician(
+        Collection<? extends WishRequestable> wishRequests
     ) {
+        Map<Integer, WishRequest> wishesByMusician = new HashMap<>();
         for (WishRequestable wish : wishRequests) {
-            if (wish.getMusician().getMusicianId().equals(musician.getMusicianId())) {
-                WishRequestType tempType = null;
-                boolean isPositive = true;
-                if (wish instanceof PositiveWishEntity) {
-                    tempType = WishRequestType.POSITIVE_WISH;
-                } else if (wish instanceof NegativeDutyWishEntity) {
-                    tempType = WishRequestType.NEGATIVE_DUTY_WISH;
-                    isPositive = false;
-                } else if (wish instanceof NegativeDateWishEntity) {
-                    tempType = WishRequestType.NEGATIVE_DATE_WISH;
-                    isPositive = false;
-                }
-                // Validation für zukünfigte Erweiterbarkeit der Wunscharten
-                if (tempType != null) {
-                    return Optional.of(new WishRequest(isPositive, tempType, wish));
-                } else {
-                    LOG.error("A WishRequestType wasn't checked in getWishRequestToMusician");
-                    return Optional.empty();
-                }
+            Integer musicianId = wish.getMusician().getMusicianId();
+            if (!wishesByMusician.containsKey(musicianId)) {
+                of(wish).ifPresent(w -> wishesByMusician.put(musicianId, w));
             }
         }
-        // Returns empty when there was no wish by this musician inside the wish Set
-        LOG.error("Musician has no wish inside the given wishes");
-        return Optional.empty();
+        return wishesByMusician;
     }
 
     public WishRequestType getWishRequestType() {
@@ -12,9 +12,24 @@ import java.util.List;
 
 public class MusicianAdapter implements IntegratableMusician {
     private final IMusicianEntity musician;
+    private final List<IDutyPositionEntity> sectionDutyPositions;
 
     public MusicianAdapter(IMusicianEntity musician) {
+        this(musician, null);
+    }
+
+    /**
+     * Creates an adapter whose section only offers the given duty positions.
+     *
+     * @param musician             The musician to use
+     * @param sectionDutyPositions The loaded duty positions of the section of the musician
+     */
+    public MusicianAdapter(
+        IMusicianEntity musician,
+        List<IDutyPositionEntity> sectionDutyPositions
+    ) {
         this.musician = musician;
+        this.sectionDutyPositions = sectionDutyPositions;
     }
 
     @Override
@@ -28,7 +43,7 @@ public class MusicianAdapter implements IntegratableMusician {
 
     @Override
     public IntegratableSection getSection() {
-        return new SectionAdapter(this.musician.getSection());
+        return new SectionAdapter(this.musician.getSection(), this.sectionDutyPositions);
     }
 
     @Override
@@ -10,15 +10,36 @@ import java.util.List;
 
 public class SectionAdapter implements IntegratableSection {
     private final ISectionEntity section;
+    private final Collection<IDutyPositionEntity> sectionDutyPositions;
 
     public SectionAdapter(ISectionEntity section) {
+        this(section, null);
+    }
+
+    /**
+     * Creates an adapter that only offers the given duty positions of the section instead of
+     * all of them.
+     *
+     * @param section              The section to use
+     * @param sectionDutyPositions The loaded duty positions of the section
+     */
+    public SectionAdapter(
+        ISectionEntity section,
+        Collection<IDutyPositionEntity> sectionDutyPositions
+    ) {
         this.section = section;
+        this.sectionDutyPositions = sectionDutyPositions;
     }
 
     @Override
     public Collection<IntegratableDutyPosition> getIntegratableDutyPositions() {
+        Collection<IDutyPositionEntity> positions = this.sectionDutyPositions;
+        if (positions == null) {
+            positions = this.section.getDutyPositions();
+        }
+
         List<IntegratableDutyPosition> dutyPositions = new LinkedList<>();
-        for (IDutyPositionEntity dutyPosition : this.section.getDutyPositions()) {
+        for (IDutyPositionEntity dutyPosition : positions) {
             dutyPositions.add(new DutyPositionAdapter(dutyPosition));
         }
         return dutyPositions;
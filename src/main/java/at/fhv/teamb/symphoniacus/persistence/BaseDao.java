@@ -1,31 +1,57 @@
 package at.fhv.teamb.symphoniacus.persistence;
 
+import at.fhv.teamb.symphoniacus.persistence.cache.ReferenceDataCache;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.hibernate.Hibernate;
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.EntityTransaction;
-import javax.persistence.Persistence;
 import javax.persistence.TypedQuery;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Root;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * This class acts as a base for all DAOs by handling the {@link EntityManagerFactory} and
  * {@link EntityManager} and therefore managing the database connections.
  *
+ * <p>The EntityManager is not shared between threads. Each DAO call uses the EntityManager of
+ * the {@link UnitOfWork} that is open on the calling thread.
+ *
  * @param <T> The type of DAO, based on JPA entities
  */
 public abstract class BaseDao<T> implements Dao<T> {
+    /**
+     * Property defining after how many elements a batch write is flushed to the database.
+     */
+    public static final String PROPERTY_FLUSH_INTERVAL = "symphoniacus.batch.flushInterval";
+    private static final String PROPERTY_BATCH_SIZE = "hibernate.jdbc.batch_size";
+    private static final int DEFAULT_FLUSH_INTERVAL = 50;
     private static final Logger LOG = LogManager.getLogger(BaseDao.class);
     protected static EntityManagerFactory entityManagerFactory =
-        Persistence.createEntityManagerFactory(
-            "mysqldb"
-        );
-    protected static EntityManager entityManager = entityManagerFactory.createEntityManager();
+        PersistenceRuntime.getEntityManagerFactory();
+    private static final int FLUSH_INTERVAL = readFlushInterval();
+    private static final ReferenceDataCache REFERENCE_DATA_CACHE =
+        new ReferenceDataCache(entityManagerFactory);
+
+    /**
+     * Returns the EntityManager of the current thread.
+     *
+     * @return The EntityManager to use
+     * @see UnitOfWork
+     */
+    protected static EntityManager getEntityManager() {
+        return UnitOfWork.currentEntityManager();
+    }
 
     /**
      * Finds the object based on the provided primary key.
@@ -38,7 +64,7 @@ public abstract class BaseDao<T> implements Dao<T> {
     protected Optional<T> find(Class<?> clazz, Integer key) {
         // Disable cache because duty positions could be set.
         //entityManager.clear();
-        return Optional.ofNullable((T) entityManager.find(clazz, key));
+        return Optional.ofNullable((T) getEntityManager().find(clazz, key));
     }
 
     /**
@@ -49,18 +75,9 @@ public abstract class BaseDao<T> implements Dao<T> {
      * @return Optional.empty if persisting not possible
      */
     protected Optional<T> persist(Class<?> clazz, T elem) {
-        EntityTransaction transaction = null;
-        try {
-            transaction = entityManager.getTransaction();
-            transaction.begin();
-            entityManager.persist(elem);
-            transaction.commit();
+        if (executeInTransaction(em -> em.persist(elem), "Could not persist element")) {
+            REFERENCE_DATA_CACHE.invalidate(clazz);
             return Optional.of(elem);
-        } catch (Exception e) {
-            if (transaction != null && transaction.isActive()) {
-                transaction.rollback();
-            }
-            LOG.error("Could not persist element", e);
         }
         return Optional.empty();
     }
@@ -70,40 +87,201 @@ public abstract class BaseDao<T> implements Dao<T> {
      *
      * @param clazz Class of the object
      * @param elem  The object to update
-     * @return Optional.empty if updating not possible
+     * @return The managed object, Optional.empty if updating not possible
      */
     protected Optional<T> update(Class<?> clazz, T elem) {
-        EntityTransaction transaction = null;
+        Optional<T> merged = callInTransaction(em -> em.merge(elem), "Could not update element");
+        if (merged.isPresent()) {
+            REFERENCE_DATA_CACHE.invalidate(clazz);
+        }
+        return merged;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean persistAll(Collection<T> elems) {
+        boolean persisted = executeInTransaction(
+            em -> writeInBatches(em, elems, EntityManager::persist),
+            "Could not persist elements"
+        );
+        if (persisted) {
+            invalidateCachedReferenceData(elems);
+        }
+        return persisted;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean updateAll(Collection<T> elems) {
+        boolean updated = executeInTransaction(
+            em -> writeInBatches(em, elems, EntityManager::merge),
+            "Could not update elements"
+        );
+        if (updated) {
+            invalidateCachedReferenceData(elems);
+        }
+        return updated;
+    }
+
+    /**
+     * Removes an existing object.
+     *
+     * @param elem The object to remove
+     * @return True if removing was successful, false otherwise
+     */
+    protected boolean removeElement(T elem) {
+        if (executeInTransaction(em -> em.remove(elem), "Could not remove element")) {
+            REFERENCE_DATA_CACHE.invalidate(Hibernate.getClass(elem));
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Invalidates the cached reference data of all classes of the written elements.
+     *
+     * @param elems The written elements
+     * @see ReferenceDataCache#invalidate(Class)
+     */
+    private void invalidateCachedReferenceData(Collection<T> elems) {
+        Set<Class<?>> classes = new LinkedHashSet<>();
+        for (T elem : elems) {
+            classes.add(Hibernate.getClass(elem));
+        }
+        for (Class<?> clazz : classes) {
+            REFERENCE_DATA_CACHE.invalidate(clazz);
+        }
+    }
+
+    /**
+     * Executes a write operation in a transaction.
+     *
+     * <p>If the current {@link UnitOfWork} already has an active transaction, the operation joins
+     * it and is committed together with the unit of work. Otherwise a new transaction is started
+     * and committed immediately.
+     *
+     * @param operation    The operation to execute
+     * @param errorMessage The message to log if the operation fails
+     * @return True if the operation was successful, false otherwise
+     */
+    protected boolean executeInTransaction(Consumer<EntityManager> operation, String errorMessage) {
+        return callInTransaction(
+            em -> {
+                operation.accept(em);
+                return Boolean.TRUE;
+            },
+            errorMessage
+        ).isPresent();
+    }
+
+    /**
+     * Executes a write operation in a transaction and returns its result, see
+     * {@link #executeInTransaction(Consumer, String)}.
+     *
+     * @param operation    The operation to execute
+     * @param errorMessage The message to log if the operation fails
+     * @param <R>          The type of the result
+     * @return The result of the operation, Optional.empty if the operation failed
+     */
+    protected <R> Optional<R> callInTransaction(
+        Function<EntityManager, R> operation,
+        String errorMessage
+    ) {
+        EntityManager entityManager = getEntityManager();
+        EntityTransaction transaction = entityManager.getTransaction();
+        boolean joined = transaction.isActive();
         try {
-            transaction = entityManager.getTransaction();
-            transaction.begin();
-            entityManager.merge(elem);
-            transaction.commit();
-            return Optional.of(elem);
+            if (!joined) {
+                transaction.begin();
+            }
+            R result = operation.apply(entityManager);
+            if (joined) {
+                entityManager.flush();
+            } else {
+                transaction.commit();
+            }
+            return Optional.ofNullable(result);
         } catch (Exception e) {
-            if (transaction != null && transaction.isActive()) {
-                transaction.rollback();
+            if (transaction.isActive()) {
+                if (joined) {
+                    transaction.setRollbackOnly();
+                } else {
+                    transaction.rollback();
+                }
             }
-            LOG.error("Could not update element", e);
+            LOG.error(errorMessage, e);
         }
         return Optional.empty();
     }
 
     /**
-     * Returns all objects from a class.
+     * Writes all elements and flushes the EntityManager after every {@link #FLUSH_INTERVAL}
+     * elements, so that Hibernate sends the statements as JDBC batches.
+     *
+     * @param entityManager The EntityManager to use
+     * @param elems         The elements to write
+     * @param operation     The write operation to execute for every element
+     */
+    private void writeInBatches(
+        EntityManager entityManager,
+        Collection<T> elems,
+        BiConsumer<EntityManager, T> operation
+    ) {
+        int count = 0;
+        for (T elem : elems) {
+            operation.accept(entityManager, elem);
+            if (++count % FLUSH_INTERVAL == 0) {
+                entityManager.flush();
+            }
+        }
+        LOG.debug("Wrote {} elements in batches of {}", count, FLUSH_INTERVAL);
+    }
+
+    /**
+     * Reads the flush interval for batch writes from the persistence unit.
+     *
+     * @return The configured flush interval, the JDBC batch size or a default value
+     */
+    private static int readFlushInterval() {
+        Object value = entityManagerFactory.getProperties().get(PROPERTY_FLUSH_INTERVAL);
+        if (value == null) {
+            value = entityManagerFactory.getProperties().get(PROPERTY_BATCH_SIZE);
+        }
+        if (value == null) {
+            return DEFAULT_FLUSH_INTERVAL;
+        }
+        try {
+            return Math.max(1, Integer.parseInt(value.toString().trim()));
+        } catch (NumberFormatException e) {
+            LOG.error("Invalid flush interval {}, using {}", value, DEFAULT_FLUSH_INTERVAL);
+            return DEFAULT_FLUSH_INTERVAL;
+        }
+    }
+
+    /**
+     * Returns all objects from a class. The result is cached if the class is reference data.
      *
      * @param clazz Class of the object
      * @return A List of objects
+     * @see ReferenceDataCache
      */
     @SuppressWarnings("unchecked")
     public List<T> getAll(Class<?> clazz) {
         LOG.debug("Get All method called for class {}", clazz.getSimpleName());
+        EntityManager entityManager = getEntityManager();
         CriteriaBuilder cb = entityManager.getCriteriaBuilder();
         CriteriaQuery<?> cq = cb.createQuery(clazz);
         Root rootEntry = cq.from(clazz);
         CriteriaQuery<?> all = cq.select(rootEntry);
 
         TypedQuery<?> allQuery = entityManager.createQuery(all);
+        if (ReferenceDataCache.isReferenceData(clazz)) {
+            ReferenceDataCache.cacheable(allQuery);
+        }
         // cast is necessary here
         return (List<T>) allQuery.getResultList();
     }
@@ -1,5 +1,6 @@
 package at.fhv.teamb.symphoniacus.persistence;
 
+import java.util.Collection;
 import java.util.Optional;
 
 public interface Dao<T> {
@@ -24,9 +25,31 @@ public interface Dao<T> {
      * Updates an existing object.
      *
      * @param elem The object to update
-     * @return Optional.empty if updating not possible
+     * @return The managed object, Optional.empty if updating not possible
      */
     Optional<T> update(T elem);
 
+    /**
+     * Persists all objects of a collection in a single transaction.
+     *
+     * <p>The inserts are sent to the database in JDBC batches. If one of the objects cannot be
+     * persisted, none of them are.
+     *
+     * @param elems The objects to persist
+     * @return True if all objects were persisted, false otherwise
+     */
+    boolean persistAll(Collection<T> elems);
+
+    /**
+     * Updates all objects of a collection in a single transaction.
+     *
+     * <p>The updates are sent to the database in JDBC batches. If one of the objects cannot be
+     * updated, none of them are.
+     *
+     * @param elems The objects to update
+     * @return True if all objects were updated, false otherwise
+     */
+    boolean updateAll(Collection<T> elems);
+
     boolean remove(T elem);
 }
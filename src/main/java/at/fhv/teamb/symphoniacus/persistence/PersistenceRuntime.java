@@ -0,0 +1,45 @@
+package at.fhv.teamb.symphoniacus.persistence;
+
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+import org.hibernate.SessionFactory;
+
+/**
+ * Holds the single {@link EntityManagerFactory} of the application.
+ *
+ * <p>The DAOs of Symphoniacus and the DAOs of the integrated Team C windows both use this
+ * factory, so they share one metamodel, one connection pool and one second-level cache.
+ * The factory is built on first use.
+ */
+public final class PersistenceRuntime {
+    /**
+     * Name of the persistence unit containing the entities of all teams.
+     */
+    public static final String PERSISTENCE_UNIT = "mysqldb";
+
+    private PersistenceRuntime() {
+    }
+
+    /**
+     * Returns the shared EntityManagerFactory, building it if necessary.
+     *
+     * @return The EntityManagerFactory of the application
+     */
+    public static EntityManagerFactory getEntityManagerFactory() {
+        return Holder.ENTITY_MANAGER_FACTORY;
+    }
+
+    /**
+     * Returns the Hibernate SessionFactory behind the shared EntityManagerFactory.
+     *
+     * @return The SessionFactory of the application
+     */
+    public static SessionFactory getSessionFactory() {
+        return getEntityManagerFactory().unwrap(SessionFactory.class);
+    }
+
+    private static class Holder {
+        private static final EntityManagerFactory ENTITY_MANAGER_FACTORY =
+            Persistence.createEntityManagerFactory(PERSISTENCE_UNIT);
+    }
+}
@@ -0,0 +1,265 @@
+package at.fhv.teamb.symphoniacus.persistence;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.EntityTransaction;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hibernate.Session;
+
+/**
+ * A unit of work binds a short-lived {@link EntityManager} to the current thread.
+ *
+ * <p>Every {@link BaseDao} resolves its EntityManager through {@link #currentEntityManager()},
+ * so all DAO calls made while a unit of work is open share one persistence context which is
+ * closed again as soon as the unit of work ends. Background tasks running in their own unit of
+ * work therefore never touch the EntityManager of another thread and the persistence context
+ * does not grow over the lifetime of the application.
+ *
+ * <p>Units of work can be nested, an inner unit of work simply joins the outer one. The managers
+ * of the application layer open a unit of work for every call, DAOs must not be used outside of
+ * one. The EntityManager is only created once a DAO needs it.
+ *
+ * <p>Values derived from the persistence context, e.g. indexes built from loaded entities, can
+ * be bound to the unit of work as resources. They are dropped together with the persistence
+ * context.
+ */
+public final class UnitOfWork implements AutoCloseable {
+    private static final Logger LOG = LogManager.getLogger(UnitOfWork.class);
+    private static final ThreadLocal<UnitOfWork> CURRENT = new ThreadLocal<>();
+
+    private final Map<Object, Object> resources = new HashMap<>();
+    private EntityManager entityManager;
+    private boolean transactional;
+    private boolean rollbackOnly;
+    private int depth;
+
+    private UnitOfWork() {
+        this.depth = 1;
+    }
+
+    /**
+     * Opens a new unit of work for the current thread or joins the one already open.
+     *
+     * @return The unit of work, which has to be closed by the caller
+     */
+    public static UnitOfWork begin() {
+        UnitOfWork current = CURRENT.get();
+        if (current != null) {
+            current.depth++;
+            return current;
+        }
+
+        current = new UnitOfWork();
+        CURRENT.set(current);
+        LOG.debug("Unit of work opened on {}", Thread.currentThread().getName());
+        return current;
+    }
+
+    /**
+     * Opens a new unit of work for the current thread and starts a transaction that is
+     * committed when the outermost unit of work is closed.
+     *
+     * @return The unit of work, which has to be closed by the caller
+     */
+    public static UnitOfWork beginTransaction() {
+        UnitOfWork unitOfWork = begin();
+        unitOfWork.transactional = true;
+        if (unitOfWork.entityManager != null) {
+            EntityTransaction transaction = unitOfWork.entityManager.getTransaction();
+            if (!transaction.isActive()) {
+                transaction.begin();
+            }
+        }
+        return unitOfWork;
+    }
+
+    /**
+     * Executes the given work within its own unit of work.
+     *
+     * @param work The work to execute
+     * @param <R>  The type of the result
+     * @return The result of the work
+     */
+    public static <R> R call(Supplier<R> work) {
+        try (UnitOfWork unitOfWork = begin()) {
+            return work.get();
+        }
+    }
+
+    /**
+     * Executes the given work within its own unit of work.
+     *
+     * @param work The work to execute
+     */
+    public static void run(Runnable work) {
+        try (UnitOfWork unitOfWork = begin()) {
+            work.run();
+        }
+    }
+
+    /**
+     * Executes the given work within its own unit of work and a single transaction.
+     *
+     * @param work The work to execute
+     * @param <R>  The type of the result
+     * @return The result of the work
+     */
+    public static <R> R callInTransaction(Supplier<R> work) {
+        try (UnitOfWork unitOfWork = beginTransaction()) {
+            try {
+                return work.get();
+            } catch (RuntimeException e) {
+                unitOfWork.setRollbackOnly();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Returns whether the current thread has an open unit of work.
+     *
+     * @return True if a unit of work is open, false otherwise
+     */
+    public static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    /**
+     * Returns the EntityManager of the unit of work of the current thread, creating it on first
+     * use.
+     *
+     * @return The EntityManager of the open unit of work
+     * @throws IllegalStateException If the current thread has no open unit of work
+     */
+    static EntityManager currentEntityManager() {
+        UnitOfWork current = CURRENT.get();
+        if (current == null) {
+            throw new IllegalStateException(
+                "No unit of work open on " + Thread.currentThread().getName()
+            );
+        }
+
+        if (current.entityManager == null) {
+            current.entityManager = getEntityManagerFactory().createEntityManager();
+            if (current.transactional) {
+                current.entityManager.getTransaction().begin();
+            }
+        }
+        return current.entityManager;
+    }
+
+    /**
+     * Returns the Hibernate session behind the EntityManager of the unit of work of the current
+     * thread, so that code working with sessions can join the unit of work.
+     *
+     * @return The session of the open unit of work
+     * @throws IllegalStateException If the current thread has no open unit of work
+     */
+    public static Session currentSession() {
+        return currentEntityManager().unwrap(Session.class);
+    }
+
+    private static EntityManagerFactory getEntityManagerFactory() {
+        return PersistenceRuntime.getEntityManagerFactory();
+    }
+
+    /**
+     * Returns a resource bound to this unit of work, creating it with the given factory on first
+     * use. The factory may use DAOs and open nested units of work.
+     *
+     * @param key     The key of the resource
+     * @param factory Creates the resource if none is bound to the key yet
+     * @param <R>     The type of the resource
+     * @return The resource bound to the key
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R getResource(Object key, Supplier<R> factory) {
+        Object resource = this.resources.get(key);
+        if (resource == null) {
+            resource = factory.get();
+            this.resources.put(key, resource);
+        }
+        return (R) resource;
+    }
+
+    /**
+     * Drops a resource bound to this unit of work, e.g. because the entities it was built from
+     * changed.
+     *
+     * @param key The key of the resource
+     */
+    public void removeResource(Object key) {
+        this.resources.remove(key);
+    }
+
+    /**
+     * Marks the transaction of this unit of work so that it is rolled back on close.
+     */
+    public void setRollbackOnly() {
+        this.rollbackOnly = true;
+        if (this.entityManager != null) {
+            EntityTransaction transaction = this.entityManager.getTransaction();
+            if (transaction.isActive()) {
+                transaction.setRollbackOnly();
+            }
+        }
+    }
+
+    /**
+     * Returns whether the transaction of this unit of work is rolled back on close, e.g. because
+     * a write of a DAO failed.
+     *
+     * @return True if the transaction is rolled back, false otherwise
+     */
+    public boolean isRollbackOnly() {
+        if (this.rollbackOnly) {
+            return true;
+        }
+        if (this.entityManager == null) {
+            return false;
+        }
+        EntityTransaction transaction = this.entityManager.getTransaction();
+        return transaction.isActive() && transaction.getRollbackOnly();
+    }
+
+    /**
+     * Closes this unit of work. The outermost close commits or rolls back a pending transaction
+     * and closes the EntityManager.
+     */
+    @Override
+    public void close() {
+        if (--this.depth > 0) {
+            return;
+        }
+        CURRENT.remove();
+        this.resources.clear();
+        if (this.entityManager == null) {
+            return;
+        }
+
+        try {
+            EntityTransaction transaction = this.entityManager.getTransaction();
+            if (transaction.isActive()) {
+                if (this.rollbackOnly || transaction.getRollbackOnly()) {
+                    transaction.rollback();
+                } else {
+                    transaction.commit();
+                }
+            }
+        } catch (RuntimeException e) {
+            LOG.error("Could not complete unit of work", e);
+            EntityTransaction transaction = this.entityManager.getTransaction();
+            if (transaction.isActive()) {
+                transaction.rollback();
+            }
+            throw e;
+        } finally {
+            this.entityManager.close();
+            LOG.debug("Unit of work closed on {}", Thread.currentThread().getName());
+        }
+    }
+}
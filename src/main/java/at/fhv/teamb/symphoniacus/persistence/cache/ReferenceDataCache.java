@@ -0,0 +1,177 @@
+package at.fhv.teamb.symphoniacus.persistence.cache;
+
+import at.fhv.teamb.symphoniacus.persistence.model.DutyCategoryEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.InstrumentCategoryEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.InstrumentationEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.MusicalPieceEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.MusicianRoleEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.SectionEntity;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.TypedQuery;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+/**
+ * Second-level cache of the reference data entities, which are read often but hardly ever
+ * change.
+ *
+ * <p>The entities listed in {@link #REFERENCE_ENTITIES} are cached in their own regions and
+ * queries marked by {@link #cacheable(TypedQuery)} are cached in the {@link #QUERY_REGION}.
+ * Size and expiry of all regions are configured in {@code ehcache.xml}. Every write of a
+ * reference data entity invalidates its region and the query region. The statistics are
+ * registered as {@link ReferenceDataCacheStatistics} MBean under
+ * {@code at.fhv.teamb.symphoniacus:type=Cache,name=ReferenceData}.
+ */
+public class ReferenceDataCache {
+    /**
+     * Name of the cache region holding the results of reference data queries.
+     */
+    public static final String QUERY_REGION = "reference-data-queries";
+
+    /**
+     * Entities whose instances are cached.
+     */
+    public static final List<Class<?>> REFERENCE_ENTITIES = List.of(
+        DutyCategoryEntity.class,
+        SectionEntity.class,
+        InstrumentCategoryEntity.class,
+        MusicianRoleEntity.class,
+        InstrumentationEntity.class,
+        MusicalPieceEntity.class
+    );
+
+    private static final Logger LOG = LogManager.getLogger(ReferenceDataCache.class);
+    private static final String JMX_NAME = "at.fhv.teamb.symphoniacus:type=Cache,name=";
+    private static final String HINT_CACHEABLE = "org.hibernate.cacheable";
+    private static final String HINT_CACHE_REGION = "org.hibernate.cacheRegion";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ReferenceDataCacheStatistics statistics;
+
+    /**
+     * Initializes the reference data cache of an {@link EntityManagerFactory} and registers
+     * its statistics.
+     *
+     * @param entityManagerFactory The factory whose second-level cache is used
+     */
+    public ReferenceDataCache(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.statistics = new ReferenceDataCacheStatistics(this);
+        this.registerStatistics();
+    }
+
+    /**
+     * Marks a query to be cached in the reference data query region. Must only be used for
+     * queries selecting reference data entities.
+     *
+     * @param query The query to cache
+     * @param <X>   The type of the query results
+     * @return The given query
+     */
+    public static <X> TypedQuery<X> cacheable(TypedQuery<X> query) {
+        query.setHint(HINT_CACHEABLE, true);
+        query.setHint(HINT_CACHE_REGION, QUERY_REGION);
+        return query;
+    }
+
+    /**
+     * Returns whether the instances of a class are cached as reference data.
+     *
+     * @param entityClass The entity class to check
+     * @return True if the class is a reference data entity, false otherwise
+     */
+    public static boolean isReferenceData(Class<?> entityClass) {
+        return REFERENCE_ENTITIES.contains(entityClass);
+    }
+
+    /**
+     * Invalidates the cached instances of a reference data entity and all cached reference
+     * data queries. Does nothing for other classes.
+     *
+     * @param entityClass The class of the written entity
+     */
+    public void invalidate(Class<?> entityClass) {
+        if (!isReferenceData(entityClass)) {
+            return;
+        }
+        this.entityManagerFactory.getCache().evict(entityClass);
+        this.getHibernateCache().evictQueryRegion(QUERY_REGION);
+        this.statistics.recordInvalidation();
+        LOG.debug("Invalidated cached reference data of {}", entityClass.getSimpleName());
+    }
+
+    /**
+     * Removes all reference data from the cache.
+     */
+    public void evictAll() {
+        for (Class<?> entityClass : REFERENCE_ENTITIES) {
+            this.entityManagerFactory.getCache().evict(entityClass);
+        }
+        this.getHibernateCache().evictQueryRegion(QUERY_REGION);
+        LOG.info("Evicted all cached reference data");
+    }
+
+    /**
+     * Returns the statistics of the reference data cache.
+     *
+     * @return The statistics
+     */
+    public ReferenceDataCacheStatistics getStatistics() {
+        return this.statistics;
+    }
+
+    /**
+     * Returns the Hibernate statistics of the region of a reference data entity.
+     *
+     * @param entityClass The entity class
+     * @return The statistics or null if the region does not exist
+     */
+    CacheRegionStatistics getEntityRegionStatistics(Class<?> entityClass) {
+        try {
+            return this.getHibernateStatistics().getDomainDataRegionStatistics(
+                entityClass.getName()
+            );
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the Hibernate statistics of the {@link #QUERY_REGION}.
+     *
+     * @return The statistics or null if the region does not exist
+     */
+    CacheRegionStatistics getQueryRegionStatistics() {
+        try {
+            return this.getHibernateStatistics().getQueryRegionStatistics(QUERY_REGION);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private Statistics getHibernateStatistics() {
+        return this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private org.hibernate.Cache getHibernateCache() {
+        return this.entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    private void registerStatistics() {
+        try {
+            ObjectName name = new ObjectName(JMX_NAME + "ReferenceData");
+            if (!ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(this.statistics, name);
+            }
+        } catch (JMException e) {
+            LOG.error("Could not register reference data cache statistics", e);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package at.fhv.teamb.symphoniacus.persistence.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+import org.hibernate.stat.CacheRegionStatistics;
+
+/**
+ * Collects the statistics of the reference data cache regions and exposes them via JMX.
+ *
+ * <p>Hits, misses and puts are read from the Hibernate statistics of the reference data
+ * regions, invalidations are counted by the {@link ReferenceDataCache} itself.
+ */
+public class ReferenceDataCacheStatistics implements ReferenceDataCacheStatisticsMBean {
+    private final ReferenceDataCache cache;
+    private final LongAdder invalidationCount = new LongAdder();
+
+    public ReferenceDataCacheStatistics(ReferenceDataCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Records that the reference data regions were invalidated.
+     */
+    void recordInvalidation() {
+        this.invalidationCount.increment();
+    }
+
+    @Override
+    public long getEntityHitCount() {
+        return this.sumEntityRegions(CacheRegionStatistics::getHitCount);
+    }
+
+    @Override
+    public long getEntityMissCount() {
+        return this.sumEntityRegions(CacheRegionStatistics::getMissCount);
+    }
+
+    @Override
+    public long getEntityPutCount() {
+        return this.sumEntityRegions(CacheRegionStatistics::getPutCount);
+    }
+
+    @Override
+    public long getQueryHitCount() {
+        return this.queryRegion(CacheRegionStatistics::getHitCount);
+    }
+
+    @Override
+    public long getQueryMissCount() {
+        return this.queryRegion(CacheRegionStatistics::getMissCount);
+    }
+
+    @Override
+    public long getQueryPutCount() {
+        return this.queryRegion(CacheRegionStatistics::getPutCount);
+    }
+
+    @Override
+    public double getHitRatio() {
+        long hits = this.getEntityHitCount() + this.getQueryHitCount();
+        long lookups = hits + this.getEntityMissCount() + this.getQueryMissCount();
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    @Override
+    public long getInvalidationCount() {
+        return this.invalidationCount.sum();
+    }
+
+    @Override
+    public void evictAll() {
+        this.cache.evictAll();
+    }
+
+    private long sumEntityRegions(ToLongFunction<CacheRegionStatistics> counter) {
+        long sum = 0;
+        for (Class<?> entityClass : ReferenceDataCache.REFERENCE_ENTITIES) {
+            CacheRegionStatistics statistics = this.cache.getEntityRegionStatistics(entityClass);
+            if (statistics != null) {
+                sum += counter.applyAsLong(statistics);
+            }
+        }
+        return sum;
+    }
+
+    private long queryRegion(ToLongFunction<CacheRegionStatistics> counter) {
+        CacheRegionStatistics statistics = this.cache.getQueryRegionStatistics();
+        return statistics == null ? 0 : counter.applyAsLong(statistics);
+    }
+}
@@ -0,0 +1,70 @@
+package at.fhv.teamb.symphoniacus.persistence.cache;
+
+/**
+ * JMX view on the second-level cache regions of the reference data entities.
+ *
+ * @see ReferenceDataCache
+ */
+public interface ReferenceDataCacheStatisticsMBean {
+
+    /**
+     * Returns how often a reference data entity was found in the cache.
+     *
+     * @return Number of entity cache hits
+     */
+    long getEntityHitCount();
+
+    /**
+     * Returns how often a reference data entity was looked up but not found in the cache.
+     *
+     * @return Number of entity cache misses
+     */
+    long getEntityMissCount();
+
+    /**
+     * Returns how often a reference data entity was put into the cache.
+     *
+     * @return Number of entity cache puts
+     */
+    long getEntityPutCount();
+
+    /**
+     * Returns how often the result of a reference data query was found in the cache.
+     *
+     * @return Number of query cache hits
+     */
+    long getQueryHitCount();
+
+    /**
+     * Returns how often the result of a reference data query was not found in the cache.
+     *
+     * @return Number of query cache misses
+     */
+    long getQueryMissCount();
+
+    /**
+     * Returns how often the result of a reference data query was put into the cache.
+     *
+     * @return Number of query cache puts
+     */
+    long getQueryPutCount();
+
+    /**
+     * Returns the share of entity and query lookups that were answered by the cache.
+     *
+     * @return Hit ratio between 0 and 1
+     */
+    double getHitRatio();
+
+    /**
+     * Returns how often the reference data regions were invalidated because of a write.
+     *
+     * @return Number of invalidations
+     */
+    long getInvalidationCount();
+
+    /**
+     * Removes all reference data from the cache.
+     */
+    void evictAll();
+}
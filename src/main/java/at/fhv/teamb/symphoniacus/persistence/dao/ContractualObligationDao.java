@@ -51,7 +51,7 @@ public class ContractualObligationDao extends BaseDao<IContractualObligationEnti
      */
     @Override
     public IContractualObligationEntity getContractualObligation(IMusicianEntity musician) {
-        TypedQuery<ContractualObligationEntity> query = entityManager.createQuery(
+        TypedQuery<ContractualObligationEntity> query = getEntityManager().createQuery(
             "SELECT co FROM ContractualObligationEntity co "
                 + "WHERE co.musician = :musician "
                 + "AND co.startDate <= :currentDate "
@@ -6,6 +6,7 @@ import at.fhv.teamb.symphoniacus.persistence.model.DutyCategoryChangelogEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyCategoryChangelogEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyCategoryEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyEntity;
+import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
@@ -55,7 +56,7 @@ public class DutyCategoryChangeLogDao extends BaseDao<IDutyCategoryChangelogEnti
     public List<IDutyCategoryChangelogEntity> getDutyCategoryChangelogs(
         IDutyCategoryEntity categoryEntity
     ) {
-        TypedQuery<DutyCategoryChangelogEntity> query = entityManager.createQuery(
+        TypedQuery<DutyCategoryChangelogEntity> query = getEntityManager().createQuery(
             "SELECT changelog FROM DutyCategoryChangelogEntity changelog "
                 + "WHERE changelog.dutyCategory = :givenCategory",
             DutyCategoryChangelogEntity.class
@@ -66,12 +67,34 @@ public class DutyCategoryChangeLogDao extends BaseDao<IDutyCategoryChangelogEnti
         return new LinkedList<>(query.getResultList());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<IDutyCategoryChangelogEntity> getDutyCategoryChangelogs(
+        Collection<IDutyCategoryEntity> categoryEntities
+    ) {
+        if (categoryEntities.isEmpty()) {
+            return new LinkedList<>();
+        }
+        TypedQuery<DutyCategoryChangelogEntity> query = getEntityManager().createQuery(
+            "SELECT changelog FROM DutyCategoryChangelogEntity changelog "
+                + "WHERE changelog.dutyCategory IN :givenCategories "
+                + "ORDER BY changelog.startDate, changelog.dutyCategoryChangelogId",
+            DutyCategoryChangelogEntity.class
+        );
+
+        query.setParameter("givenCategories", categoryEntities);
+
+        return new LinkedList<>(query.getResultList());
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public boolean doesLogAlreadyExists(IDutyEntity duty) {
-        TypedQuery<Long> query = entityManager.createQuery(
+        TypedQuery<Long> query = getEntityManager().createQuery(
             "SELECT COUNT(changelog) FROM DutyCategoryChangelogEntity changelog "
                 + "WHERE changelog.dutyCategory = :givenCategory "
                 + "AND changelog.startDate = :givenStartDate",
@@ -89,7 +112,7 @@ public class DutyCategoryChangeLogDao extends BaseDao<IDutyCategoryChangelogEnti
      */
     @Override
     public Optional<IDutyCategoryChangelogEntity> getChangelogByDetails(IDutyEntity duty) {
-        TypedQuery<DutyCategoryChangelogEntity> query = entityManager.createQuery(
+        TypedQuery<DutyCategoryChangelogEntity> query = getEntityManager().createQuery(
             "SELECT changelog FROM DutyCategoryChangelogEntity changelog "
                 + "WHERE changelog.dutyCategory = :givenCategory "
                 + "AND changelog.startDate = :givenStartDate ",
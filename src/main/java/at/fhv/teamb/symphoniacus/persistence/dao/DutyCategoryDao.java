@@ -1,6 +1,7 @@
 package at.fhv.teamb.symphoniacus.persistence.dao;
 
 import at.fhv.teamb.symphoniacus.persistence.BaseDao;
+import at.fhv.teamb.symphoniacus.persistence.cache.ReferenceDataCache;
 import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.IDutyCategoryDao;
 import at.fhv.teamb.symphoniacus.persistence.model.DutyCategoryEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyCategoryEntity;
@@ -25,10 +26,11 @@ public class DutyCategoryDao extends BaseDao<IDutyCategoryEntity>
      */
     @Override
     public List<IDutyCategoryEntity> getAll() {
-        TypedQuery<DutyCategoryEntity> query = entityManager.createQuery(
+        TypedQuery<DutyCategoryEntity> query = getEntityManager().createQuery(
             "SELECT dC FROM DutyCategoryEntity dC",
             DutyCategoryEntity.class
         );
+        ReferenceDataCache.cacheable(query);
 
         return new LinkedList<>(query.getResultList());
     }
@@ -38,13 +40,14 @@ public class DutyCategoryDao extends BaseDao<IDutyCategoryEntity>
      */
     @Override
     public Optional<IDutyCategoryEntity> getDutyCategoryFromName(String type) {
-        TypedQuery<DutyCategoryEntity> query = entityManager.createQuery(
+        TypedQuery<DutyCategoryEntity> query = getEntityManager().createQuery(
             "SELECT dc FROM DutyCategoryEntity dc "
                 + "WHERE dc.type = :nameOfCategory",
             DutyCategoryEntity.class
         );
 
         query.setParameter("nameOfCategory", type);
+        ReferenceDataCache.cacheable(query);
 
         return Optional.of(query.getSingleResult());
     }
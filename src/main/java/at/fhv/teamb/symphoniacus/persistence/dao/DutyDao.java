@@ -2,6 +2,7 @@ package at.fhv.teamb.symphoniacus.persistence.dao;
 
 import at.fhv.teamb.symphoniacus.persistence.BaseDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.IDutyDao;
+import at.fhv.teamb.symphoniacus.persistence.model.DutyCalendarRow;
 import at.fhv.teamb.symphoniacus.persistence.model.DutyEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyCategoryEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyEntity;
@@ -18,6 +19,8 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 /**
  * DAO for Duty class.
@@ -26,6 +29,33 @@ import java.util.Set;
  * @author Dominic Luidold
  */
 public class DutyDao extends BaseDao<IDutyEntity> implements IDutyDao {
+    /**
+     * Amount of duties loaded per query when walking through a range of duties.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 100;
+    private static final String KEYSET_CONDITION =
+        "AND (d.start > :lastStart OR (d.start = :lastStart AND d.dutyId > :lastDutyId)) ";
+    private static final String KEYSET_ORDER = "ORDER BY d.start, d.dutyId";
+    private static final String CALENDAR_ROW_SELECT =
+        "SELECT NEW " + DutyCalendarRow.class.getName() + "("
+            + "d.dutyId, d.start, d.end, dc.type, sop.description, d.description) ";
+    private static final String IN_RANGE_CONDITION =
+        "FROM DutyEntity d "
+            + "JOIN %s d.dutyCategory dc "
+            + "LEFT JOIN %s d.seriesOfPerformances sop "
+            + "WHERE d.start >= :start "
+            + "AND d.end <= :end ";
+    private static final String IN_RANGE_WITH_SECTION_CONDITION =
+        "FROM DutyEntity d "
+            + "INNER JOIN d.sectionMonthlySchedules sms "
+            + "INNER JOIN sms.section s "
+            + "JOIN %s d.dutyCategory dc "
+            + "LEFT JOIN %s d.seriesOfPerformances sop "
+            + "WHERE d.start >= :start AND d.end <= :end "
+            + "AND s.sectionId = :sectionId "
+            + "AND sms.isReadyForDutyScheduler = :isReadyForDutyScheduler "
+            + "AND sms.isReadyForOrganisationManager = :isReadyForOrganisationManager "
+            + "AND sms.isPublished = :isPublished ";
 
     /**
      * {@inheritDoc}
@@ -35,6 +65,27 @@ public class DutyDao extends BaseDao<IDutyEntity> implements IDutyDao {
         return this.find(DutyEntity.class, key);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<IDutyEntity> findWithDetails(Integer dutyId) {
+        TypedQuery<DutyEntity> query = getEntityManager().createQuery(
+            "SELECT d FROM DutyEntity d "
+                + "JOIN FETCH d.dutyCategory "
+                + "LEFT JOIN FETCH d.seriesOfPerformances "
+                + "WHERE d.dutyId = :dutyId",
+            DutyEntity.class
+        );
+        query.setParameter("dutyId", dutyId);
+
+        List<DutyEntity> result = query.getResultList();
+        if (result.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(result.get(0));
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -69,20 +120,57 @@ public class DutyDao extends BaseDao<IDutyEntity> implements IDutyDao {
      */
     @Override
     public List<IDutyEntity> findAllInRange(LocalDateTime start, LocalDateTime end) {
-        TypedQuery<DutyEntity> query = entityManager.createQuery(
-            "SELECT d FROM DutyEntity d "
-                + "JOIN FETCH d.dutyCategory dc "
-                + "LEFT JOIN FETCH d.seriesOfPerformances sop "
-                + "WHERE d.start >= :start "
-                + "AND d.end <= :end",
-            DutyEntity.class
-        );
+        List<IDutyEntity> duties = new LinkedList<>();
+        this.streamAllInRange(start, end, DEFAULT_CHUNK_SIZE, duties::addAll);
+        return duties;
+    }
 
-        query.setMaxResults(300);
-        query.setParameter("start", start);
-        query.setParameter("end", end);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void streamAllInRange(
+        LocalDateTime start,
+        LocalDateTime end,
+        int chunkSize,
+        Consumer<List<IDutyEntity>> consumer
+    ) {
+        this.walkByKeyset(
+            "SELECT d " + String.format(IN_RANGE_CONDITION, "FETCH", "FETCH"),
+            DutyEntity.class,
+            DutyEntity::getStart,
+            DutyEntity::getDutyId,
+            query -> {
+                query.setParameter("start", start);
+                query.setParameter("end", end);
+            },
+            chunkSize,
+            chunk -> consumer.accept(new LinkedList<>(chunk))
+        );
+    }
 
-        return new LinkedList<>(query.getResultList());
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void streamCalendarRowsInRange(
+        LocalDateTime start,
+        LocalDateTime end,
+        int chunkSize,
+        Consumer<List<DutyCalendarRow>> consumer
+    ) {
+        this.walkByKeyset(
+            CALENDAR_ROW_SELECT + String.format(IN_RANGE_CONDITION, "", ""),
+            DutyCalendarRow.class,
+            DutyCalendarRow::getStart,
+            DutyCalendarRow::getDutyId,
+            query -> {
+                query.setParameter("start", start);
+                query.setParameter("end", end);
+            },
+            chunkSize,
+            consumer
+        );
     }
 
     /**
@@ -118,29 +206,104 @@ public class DutyDao extends BaseDao<IDutyEntity> implements IDutyDao {
         boolean isReadyForOrganisationManager,
         boolean isPublished
     ) {
-        TypedQuery<DutyEntity> query = entityManager.createQuery(
-            "SELECT d FROM DutyEntity d "
-                + "INNER JOIN d.sectionMonthlySchedules sms "
-                + "INNER JOIN sms.section s "
-                + "JOIN FETCH d.dutyCategory dc "
-                + "LEFT JOIN FETCH d.seriesOfPerformances sop "
-                + "WHERE d.start >= :start AND d.end <= :end "
-                + "AND s.sectionId = :sectionId "
-                + "AND sms.isReadyForDutyScheduler = :isReadyForDutyScheduler "
-                + "AND sms.isReadyForOrganisationManager = :isReadyForOrganisationManager "
-                + "AND sms.isPublished = :isPublished",
-            DutyEntity.class
+        List<IDutyEntity> duties = new LinkedList<>();
+        this.streamAllInRangeWithSection(
+            section,
+            start,
+            end,
+            isReadyForDutyScheduler,
+            isReadyForOrganisationManager,
+            isPublished,
+            DEFAULT_CHUNK_SIZE,
+            duties::addAll
         );
+        return duties;
+    }
 
-        query.setMaxResults(300);
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void streamAllInRangeWithSection(
+        ISectionEntity section,
+        LocalDateTime start,
+        LocalDateTime end,
+        boolean isReadyForDutyScheduler,
+        boolean isReadyForOrganisationManager,
+        boolean isPublished,
+        int chunkSize,
+        Consumer<List<IDutyEntity>> consumer
+    ) {
+        this.walkByKeyset(
+            "SELECT d " + String.format(IN_RANGE_WITH_SECTION_CONDITION, "FETCH", "FETCH"),
+            DutyEntity.class,
+            DutyEntity::getStart,
+            DutyEntity::getDutyId,
+            query -> setSectionParameters(
+                query,
+                section,
+                start,
+                end,
+                isReadyForDutyScheduler,
+                isReadyForOrganisationManager,
+                isPublished
+            ),
+            chunkSize,
+            chunk -> consumer.accept(new LinkedList<>(chunk))
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void streamCalendarRowsInRangeWithSection(
+        ISectionEntity section,
+        LocalDateTime start,
+        LocalDateTime end,
+        boolean isReadyForDutyScheduler,
+        boolean isReadyForOrganisationManager,
+        boolean isPublished,
+        int chunkSize,
+        Consumer<List<DutyCalendarRow>> consumer
+    ) {
+        this.walkByKeyset(
+            CALENDAR_ROW_SELECT + String.format(IN_RANGE_WITH_SECTION_CONDITION, "", ""),
+            DutyCalendarRow.class,
+            DutyCalendarRow::getStart,
+            DutyCalendarRow::getDutyId,
+            query -> setSectionParameters(
+                query,
+                section,
+                start,
+                end,
+                isReadyForDutyScheduler,
+                isReadyForOrganisationManager,
+                isPublished
+            ),
+            chunkSize,
+            consumer
+        );
+    }
+
+    /**
+     * Sets the parameters of a query based on {@link #IN_RANGE_WITH_SECTION_CONDITION}.
+     */
+    private static void setSectionParameters(
+        TypedQuery<?> query,
+        ISectionEntity section,
+        LocalDateTime start,
+        LocalDateTime end,
+        boolean isReadyForDutyScheduler,
+        boolean isReadyForOrganisationManager,
+        boolean isPublished
+    ) {
         query.setParameter("start", start);
         query.setParameter("end", end);
         query.setParameter("sectionId", section.getSectionId());
         query.setParameter("isReadyForDutyScheduler", isReadyForDutyScheduler);
         query.setParameter("isReadyForOrganisationManager", isReadyForOrganisationManager);
         query.setParameter("isPublished", isPublished);
-
-        return new LinkedList<>(query.getResultList());
     }
 
     /**
@@ -157,7 +320,7 @@ public class DutyDao extends BaseDao<IDutyEntity> implements IDutyDao {
         LocalDateTime startWithTime = start.atStartOfDay();
         LocalDateTime endWithTime = end.atStartOfDay();
 
-        TypedQuery<DutyEntity> query = entityManager.createQuery(
+        TypedQuery<DutyEntity> query = getEntityManager().createQuery(
             "SELECT d FROM DutyEntity d "
                 + "JOIN FETCH d.dutyPositions dp "
                 + "JOIN FETCH dp.musician m "
@@ -188,27 +351,48 @@ public class DutyDao extends BaseDao<IDutyEntity> implements IDutyDao {
         LocalDate month
     ) {
         YearMonth yearMonth = YearMonth.from(month);
-        LocalDate start = yearMonth.atDay(1); // Find first day of month
-        LocalDate end = yearMonth.atEndOfMonth(); // Find last day of month
-        LocalDateTime startWithTime = start.atStartOfDay();
-        LocalDateTime endWithTime = end.atStartOfDay();
+        LocalDateTime start = yearMonth.atDay(1).atStartOfDay(); // Find first day of month
+        LocalDateTime end = yearMonth.plusMonths(1).atDay(1).atStartOfDay(); // Next month
 
-        TypedQuery<DutyEntity> query = entityManager.createQuery(
+        TypedQuery<DutyEntity> query = getEntityManager().createQuery(
             "SELECT d FROM DutyEntity d "
                 + "INNER JOIN d.dutyPositions dp "
                 + "INNER JOIN dp.musician m "
-                + "WHERE d.end <= :end "
+                + "WHERE d.start < :end "
                 + "AND d.start >= :start AND m IN :musicians",
             DutyEntity.class
         );
 
-        query.setParameter("start", startWithTime);
-        query.setParameter("end", endWithTime);
+        query.setParameter("start", start);
+        query.setParameter("end", end);
         query.setParameter("musicians", musicians);
 
         return new LinkedHashSet<>(query.getResultList());
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<IDutyEntity> findAllOfCategoryFrom(
+        IDutyCategoryEntity category,
+        LocalDateTime from
+    ) {
+        TypedQuery<DutyEntity> query = getEntityManager().createQuery(
+            "SELECT DISTINCT d FROM DutyEntity d "
+                + "LEFT JOIN FETCH d.dutyPositions dp "
+                + "LEFT JOIN FETCH dp.musician "
+                + "WHERE d.dutyCategory = :category "
+                + "AND d.start >= :from",
+            DutyEntity.class
+        );
+
+        query.setParameter("category", category);
+        query.setParameter("from", from);
+
+        return new LinkedList<>(query.getResultList());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -218,9 +402,10 @@ public class DutyDao extends BaseDao<IDutyEntity> implements IDutyDao {
         LocalDateTime dutyStart,
         Integer maxNumberOfDuties
     ) {
-        TypedQuery<DutyEntity> query = entityManager.createQuery(
+        TypedQuery<DutyEntity> query = getEntityManager().createQuery(
             "SELECT d FROM DutyEntity d "
-                + "INNER JOIN d.seriesOfPerformances sop "
+                + "JOIN FETCH d.dutyCategory "
+                + "INNER JOIN FETCH d.seriesOfPerformances sop "
                 + "WHERE sop.seriesOfPerformancesId = :sopId "
                 + "AND d.start < :dutyStart ",
             DutyEntity.class
@@ -242,9 +427,10 @@ public class DutyDao extends BaseDao<IDutyEntity> implements IDutyDao {
         ISectionEntity section,
         Integer maxNumberOfDuties
     ) {
-        TypedQuery<DutyEntity> query = entityManager.createQuery(
+        TypedQuery<DutyEntity> query = getEntityManager().createQuery(
             "SELECT d FROM DutyEntity d "
                 + "INNER JOIN d.sectionMonthlySchedules sms "
+                + "JOIN FETCH d.dutyCategory "
                 + "WHERE sms.section.sectionId = :sectionId "
                 + "AND d.seriesOfPerformances IS NULL "
                 + "AND d.dutyCategory.dutyCategoryId = :dutyCategoryId ",
@@ -268,7 +454,7 @@ public class DutyDao extends BaseDao<IDutyEntity> implements IDutyDao {
         LocalDateTime endingDate,
         IDutyCategoryEntity category
     ) {
-        TypedQuery<Long> query = entityManager.createQuery(
+        TypedQuery<Long> query = getEntityManager().createQuery(
             "SELECT COUNT(d) FROM DutyEntity d "
                 + "LEFT JOIN d.dutyPositions dp "
                 + "LEFT JOIN dp.instrumentationPosition ip "
@@ -295,29 +481,107 @@ public class DutyDao extends BaseDao<IDutyEntity> implements IDutyDao {
      * @return List of Duties
      */
     public List<IDutyEntity> findFutureUnscheduledDuties(ISectionEntity section) {
-        TypedQuery<DutyEntity> query = entityManager.createQuery(
+        List<IDutyEntity> duties = new LinkedList<>();
+        this.streamFutureUnscheduledDuties(section, DEFAULT_CHUNK_SIZE, duties::addAll);
+        return duties;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void streamFutureUnscheduledDuties(
+        ISectionEntity section,
+        int chunkSize,
+        Consumer<List<IDutyEntity>> consumer
+    ) {
+        LocalDateTime now = LocalDateTime.now();
+        this.walkByKeyset(
             "SELECT d FROM DutyEntity d "
-                    + "INNER JOIN d.sectionMonthlySchedules sms "
-                    + "INNER JOIN sms.monthlySchedule ms "
-                    + "INNER JOIN sms.section s "
-                    + "JOIN FETCH d.dutyCategory dc "
-                    + "LEFT JOIN FETCH d.seriesOfPerformances sop "
-                    + "WHERE d.start >= :start "
-                    + "AND s.sectionId = :sectionId "
-                    + "AND sms.isReadyForDutyScheduler = :isReadyForDutyScheduler "
-                    + "AND sms.isReadyForOrganisationManager = :isReadyForOrganisationManager "
-                    + "AND sms.isPublished = :isPublished "
-                    + "AND ms.endWish >= :start",
-            DutyEntity.class
+                + "INNER JOIN d.sectionMonthlySchedules sms "
+                + "INNER JOIN sms.monthlySchedule ms "
+                + "INNER JOIN sms.section s "
+                + "JOIN FETCH d.dutyCategory dc "
+                + "LEFT JOIN FETCH d.seriesOfPerformances sop "
+                + "WHERE d.start >= :start "
+                + "AND s.sectionId = :sectionId "
+                + "AND sms.isReadyForDutyScheduler = :isReadyForDutyScheduler "
+                + "AND sms.isReadyForOrganisationManager = :isReadyForOrganisationManager "
+                + "AND sms.isPublished = :isPublished "
+                + "AND ms.endWish >= :start ",
+            DutyEntity.class,
+            DutyEntity::getStart,
+            DutyEntity::getDutyId,
+            query -> {
+                query.setParameter("start", now);
+                query.setParameter("sectionId", section.getSectionId());
+                query.setParameter("isReadyForDutyScheduler", false);
+                query.setParameter("isReadyForOrganisationManager", false);
+                query.setParameter("isPublished", false);
+            },
+            chunkSize,
+            chunk -> consumer.accept(new LinkedList<>(chunk))
         );
+    }
 
-        query.setMaxResults(300);
-        query.setParameter("start", LocalDateTime.now());
-        query.setParameter("sectionId", section.getSectionId());
-        query.setParameter("isReadyForDutyScheduler", false);
-        query.setParameter("isReadyForOrganisationManager", false);
-        query.setParameter("isPublished", false);
-
-        return new LinkedList<>(query.getResultList());
+    /**
+     * Walks through all duties matching a query in chunks, ordered by start date and id.
+     *
+     * <p>Instead of using an offset, every chunk continues after the (start, dutyId) key of the
+     * last duty of the previous chunk. No duty is skipped or loaded twice, independent of how
+     * many duties match the query.
+     *
+     * @param baseQuery     The query, must end with its WHERE clause and use {@code d} as
+     *                      alias of the duty
+     * @param resultClass   The type of the query results
+     * @param startOf       Returns the start of a result
+     * @param dutyIdOf      Returns the duty id of a result
+     * @param parameterizer Sets the parameters used in the base query
+     * @param chunkSize     The maximum amount of duties per chunk
+     * @param consumer      Receives every chunk as soon as it is loaded
+     * @param <R>           The type of the query results
+     */
+    private <R> void walkByKeyset(
+        String baseQuery,
+        Class<R> resultClass,
+        Function<R, LocalDateTime> startOf,
+        Function<R, Integer> dutyIdOf,
+        Consumer<TypedQuery<R>> parameterizer,
+        int chunkSize,
+        Consumer<List<R>> consumer
+    ) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+
+        LocalDateTime lastStart = null;
+        Integer lastDutyId = null;
+        List<R> chunk;
+        do {
+            TypedQuery<R> query;
+            if (lastStart == null) {
+                query = getEntityManager().createQuery(
+                    baseQuery + KEYSET_ORDER,
+                    resultClass
+                );
+            } else {
+                query = getEntityManager().createQuery(
+                    baseQuery + KEYSET_CONDITION + KEYSET_ORDER,
+                    resultClass
+                );
+                query.setParameter("lastStart", lastStart);
+                query.setParameter("lastDutyId", lastDutyId);
+            }
+            parameterizer.accept(query);
+            query.setMaxResults(chunkSize);
+
+            chunk = query.getResultList();
+            if (!chunk.isEmpty()) {
+                R last = chunk.get(chunk.size() - 1);
+                lastStart = startOf.apply(last);
+                lastDutyId = dutyIdOf.apply(last);
+                consumer.accept(chunk);
+            }
+        } while (chunk.size() == chunkSize);
     }
 }
@@ -5,11 +5,16 @@ import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.IDutyPositionDao;
 import at.fhv.teamb.symphoniacus.persistence.model.DutyPositionEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyPositionEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IInstrumentCategoryEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IMusicianEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.ISectionEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.ISectionMonthlyScheduleEntity;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import javax.persistence.TypedQuery;
 
 /**
@@ -36,9 +41,11 @@ public class DutyPositionDao extends BaseDao<IDutyPositionEntity>
         IDutyEntity duty,
         ISectionEntity section
     ) {
-        TypedQuery<DutyPositionEntity> query = entityManager.createQuery(
+        TypedQuery<DutyPositionEntity> query = getEntityManager().createQuery(
             "SELECT p FROM DutyPositionEntity p "
-                + "JOIN FETCH p.instrumentationPosition "
+                + "JOIN FETCH p.instrumentationPosition ip "
+                + "JOIN FETCH ip.instrumentation i "
+                + "JOIN FETCH i.musicalPiece "
                 + "LEFT JOIN FETCH p.musician m "
                 + "LEFT JOIN FETCH m.user "
                 + "WHERE p.duty = :duty AND p.section = :section "
@@ -59,7 +66,7 @@ public class DutyPositionDao extends BaseDao<IDutyPositionEntity>
     public Long findCorrespondingPositionsWithoutMusician(
         ISectionMonthlyScheduleEntity sms
     ) {
-        TypedQuery<Long> query = entityManager.createQuery(
+        TypedQuery<Long> query = getEntityManager().createQuery(
             "SELECT COUNT(p) FROM DutyPositionEntity p "
                 + "INNER JOIN p.duty d "
                 + "INNER JOIN d.sectionMonthlySchedules sms "
@@ -74,6 +81,31 @@ public class DutyPositionDao extends BaseDao<IDutyPositionEntity>
         return query.getSingleResult();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<Integer> findDutyIdsWithInstrumentCategories(
+        Collection<IDutyEntity> duties,
+        Collection<IInstrumentCategoryEntity> categories
+    ) {
+        if (duties.isEmpty() || categories.isEmpty()) {
+            return new HashSet<>();
+        }
+        TypedQuery<Integer> query = getEntityManager().createQuery(
+            "SELECT DISTINCT p.duty.dutyId FROM DutyPositionEntity p "
+                + "INNER JOIN p.instrumentationPosition ip "
+                + "WHERE p.duty IN :duties "
+                + "AND ip.instrumentCategory IN :categories",
+            Integer.class
+        );
+
+        query.setParameter("duties", duties);
+        query.setParameter("categories", categories);
+
+        return new HashSet<>(query.getResultList());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -94,4 +126,28 @@ public class DutyPositionDao extends BaseDao<IDutyPositionEntity>
     public boolean remove(IDutyPositionEntity elem) {
         return false;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<IDutyPositionEntity> findSectionPositionsOfMusicianDuties(
+        IMusicianEntity musician
+    ) {
+        TypedQuery<DutyPositionEntity> query = getEntityManager().createQuery(
+            "SELECT p FROM DutyPositionEntity p "
+                + "JOIN FETCH p.instrumentationPosition "
+                + "LEFT JOIN FETCH p.musician m "
+                + "LEFT JOIN FETCH m.user "
+                + "WHERE p.section = :section "
+                + "AND p.duty IN ("
+                + "SELECT mp.duty FROM DutyPositionEntity mp WHERE mp.musician = :musician"
+                + ")",
+            DutyPositionEntity.class
+        );
+        query.setParameter("section", musician.getSection());
+        query.setParameter("musician", musician);
+
+        return new LinkedList<>(query.getResultList());
+    }
 }
@@ -50,7 +50,7 @@ public class InstrumentationDao extends BaseDao<IInstrumentationEntity>
     public Set<IInstrumentationEntity> getAllInstrumentationsToSeries(
         ISeriesOfPerformancesEntity series
     ) {
-        TypedQuery<InstrumentationEntity> query = entityManager.createQuery(
+        TypedQuery<InstrumentationEntity> query = getEntityManager().createQuery(
             "SELECT inst FROM InstrumentationEntity inst "
                 + "JOIN FETCH inst.musicalPiece instm"
                 + "INNER JOIN inst.seriesOfPerformances sp "
@@ -70,7 +70,7 @@ public class InstrumentationDao extends BaseDao<IInstrumentationEntity>
     public Set<IInstrumentationEntity> getInstrumentationsToMusicalPieces(
         Set<IMusicalPieceEntity> musicalPieces
     ) {
-        TypedQuery<InstrumentationEntity> query = entityManager.createQuery(
+        TypedQuery<InstrumentationEntity> query = getEntityManager().createQuery(
             "SELECT inst FROM InstrumentationEntity inst "
                 + "LEFT JOIN FETCH inst.sectionInstrumentations "
                 + "WHERE inst.musicalPiece IN :musicalPieces",
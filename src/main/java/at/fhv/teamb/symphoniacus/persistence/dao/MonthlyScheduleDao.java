@@ -26,7 +26,7 @@ public class MonthlyScheduleDao extends BaseDao<IMonthlyScheduleEntity>
      */
     @Override
     public Optional<IMonthlyScheduleEntity> findForMonthAndYear(int month, int year) {
-        TypedQuery<MonthlyScheduleEntity> query = entityManager.createQuery(
+        TypedQuery<MonthlyScheduleEntity> query = getEntityManager().createQuery(
             "SELECT m FROM MonthlyScheduleEntity m "
                 + "WHERE m.month = :month AND m.year = :year",
             MonthlyScheduleEntity.class
@@ -1,6 +1,7 @@
 package at.fhv.teamb.symphoniacus.persistence.dao;
 
 import at.fhv.teamb.symphoniacus.persistence.BaseDao;
+import at.fhv.teamb.symphoniacus.persistence.cache.ReferenceDataCache;
 import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.IMusicalPieceDao;
 import at.fhv.teamb.symphoniacus.persistence.model.MusicalPieceEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyEntity;
@@ -32,10 +33,11 @@ public class MusicalPieceDao extends BaseDao<IMusicalPieceEntity>
      */
     @Override
     public Set<IMusicalPieceEntity> getAll() {
-        TypedQuery<MusicalPieceEntity> query = entityManager.createQuery(
+        TypedQuery<MusicalPieceEntity> query = getEntityManager().createQuery(
             "SELECT mp FROM MusicalPieceEntity mp",
             MusicalPieceEntity.class
         );
+        ReferenceDataCache.cacheable(query);
 
         return new LinkedHashSet<>(query.getResultList());
     }
@@ -45,13 +47,14 @@ public class MusicalPieceDao extends BaseDao<IMusicalPieceEntity>
      */
     @Override
     public Optional<IMusicalPieceEntity> getMusicalPieceFromName(String name) {
-        TypedQuery<MusicalPieceEntity> query = entityManager.createQuery(
+        TypedQuery<MusicalPieceEntity> query = getEntityManager().createQuery(
             "SELECT mp FROM MusicalPieceEntity mp "
                 + "WHERE mp.name = :nameOfPiece",
             MusicalPieceEntity.class
         );
 
         query.setParameter("nameOfPiece", name);
+        ReferenceDataCache.cacheable(query);
 
         return Optional.of(query.getSingleResult());
     }
@@ -84,7 +87,7 @@ public class MusicalPieceDao extends BaseDao<IMusicalPieceEntity>
      * @return List of {@link MusicalPieceEntity} objects (empty when no series of performances)
      */
     public List<IMusicalPieceEntity> getMusicalPiecesOfDuty(IDutyEntity dutyEntity) {
-        TypedQuery<MusicalPieceEntity> query = entityManager.createQuery(
+        TypedQuery<MusicalPieceEntity> query = getEntityManager().createQuery(
             "SELECT m from DutyEntity d "
             + "INNER JOIN d.seriesOfPerformances sop "
             + "INNER JOIN sop.musicalPieces m "
@@ -34,7 +34,7 @@ public class MusicianDao extends BaseDao<IMusicianEntity>
      */
     @Override
     public List<IMusicianEntity> findAllWithSectionAndActiveContract(ISectionEntity section) {
-        TypedQuery<MusicianEntity> query = entityManager.createQuery(
+        TypedQuery<MusicianEntity> query = getEntityManager().createQuery(
             "SELECT m FROM MusicianEntity m "
                 + "JOIN FETCH m.user "
                 + "LEFT JOIN FETCH m.dutyPositions "
@@ -56,7 +56,7 @@ public class MusicianDao extends BaseDao<IMusicianEntity>
      */
     @Override
     public List<IMusicianEntity> findExternalsWithSection(ISectionEntity section) {
-        TypedQuery<MusicianEntity> query = entityManager.createQuery(
+        TypedQuery<MusicianEntity> query = getEntityManager().createQuery(
             "SELECT m FROM MusicianEntity m "
                 + "JOIN FETCH m.user u "
                 + "WHERE u.firstName = :firstName "
@@ -98,9 +98,12 @@ public class MusicianDao extends BaseDao<IMusicianEntity>
      * @return Optional Musician
      */
     public Optional<IMusicianEntity> findMusicianByUserId(int id) {
-        TypedQuery<MusicianEntity> query = entityManager.createQuery(
-            "SELECT m FROM MusicianEntity m "
-                + "WHERE m.user.userId = :uid",
+        TypedQuery<MusicianEntity> query = getEntityManager().createQuery(
+            "SELECT DISTINCT m FROM MusicianEntity m "
+                + "JOIN FETCH m.user u "
+                + "JOIN FETCH m.section "
+                + "LEFT JOIN FETCH m.musicianRoles "
+                + "WHERE u.userId = :uid",
             MusicianEntity.class
         );
 
@@ -115,7 +118,7 @@ public class MusicianDao extends BaseDao<IMusicianEntity>
      * @return Musician if found, else Optional empty
      */
     public Optional<IMusicianEntity> findMusicianByShortcut(String userShortcut) {
-        TypedQuery<MusicianEntity> query = entityManager.createQuery(
+        TypedQuery<MusicianEntity> query = getEntityManager().createQuery(
                 "SELECT m FROM MusicianEntity m "
                         + "WHERE m.user.shortcut = :us",
                 MusicianEntity.class
@@ -125,4 +128,31 @@ public class MusicianDao extends BaseDao<IMusicianEntity>
 
         return Optional.of(query.getSingleResult());
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<IMusicianEntity> findWithDutyPositions(Integer musicianId) {
+        TypedQuery<MusicianEntity> query = getEntityManager().createQuery(
+            "SELECT DISTINCT m FROM MusicianEntity m "
+                + "JOIN FETCH m.user "
+                + "JOIN FETCH m.section "
+                + "LEFT JOIN FETCH m.dutyPositions p "
+                + "LEFT JOIN FETCH p.instrumentationPosition "
+                + "LEFT JOIN FETCH p.duty d "
+                + "LEFT JOIN FETCH d.dutyCategory "
+                + "LEFT JOIN FETCH d.weeklySchedule "
+                + "LEFT JOIN FETCH d.seriesOfPerformances "
+                + "WHERE m.musicianId = :musicianId",
+            MusicianEntity.class
+        );
+        query.setParameter("musicianId", musicianId);
+
+        List<MusicianEntity> result = query.getResultList();
+        if (result.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(result.get(0));
+    }
 }
@@ -0,0 +1,105 @@
+package at.fhv.teamb.symphoniacus.persistence.dao;
+
+import at.fhv.teamb.symphoniacus.persistence.BaseDao;
+import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.IMusicianMonthPointsDao;
+import at.fhv.teamb.symphoniacus.persistence.model.MusicianMonthPointsEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IMusicianEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IMusicianMonthPointsEntity;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import javax.persistence.TypedQuery;
+
+/**
+ * DAO for the musician month points ledger.
+ */
+public class MusicianMonthPointsDao extends BaseDao<IMusicianMonthPointsEntity>
+    implements IMusicianMonthPointsDao {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<IMusicianMonthPointsEntity> find(Integer key) {
+        return this.find(MusicianMonthPointsEntity.class, key);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<IMusicianMonthPointsEntity> persist(IMusicianMonthPointsEntity elem) {
+        return this.persist(MusicianMonthPointsEntity.class, elem);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<IMusicianMonthPointsEntity> update(IMusicianMonthPointsEntity elem) {
+        return this.update(MusicianMonthPointsEntity.class, elem);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean remove(IMusicianMonthPointsEntity elem) {
+        return this.removeElement(elem);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<IMusicianMonthPointsEntity> findAllOfMonth(
+        Collection<IMusicianEntity> musicians,
+        LocalDate month
+    ) {
+        if (musicians.isEmpty()) {
+            return new LinkedList<>();
+        }
+        TypedQuery<MusicianMonthPointsEntity> query = getEntityManager().createQuery(
+            "SELECT ledger FROM MusicianMonthPointsEntity ledger "
+                + "WHERE ledger.month = :month "
+                + "AND ledger.musician IN :musicians",
+            MusicianMonthPointsEntity.class
+        );
+
+        query.setParameter("month", month);
+        query.setParameter("musicians", musicians);
+
+        return new LinkedList<>(query.getResultList());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addPoints(
+        Integer musicianId,
+        LocalDate month,
+        int dutyPoints,
+        int categoryPoints,
+        int dutyCount
+    ) {
+        return executeInTransaction(em -> {
+            em.createQuery(
+                "UPDATE MusicianMonthPointsEntity ledger "
+                    + "SET ledger.dutyPoints = ledger.dutyPoints + :dutyPoints, "
+                    + "ledger.categoryPoints = ledger.categoryPoints + :categoryPoints, "
+                    + "ledger.dutyCount = ledger.dutyCount + :dutyCount "
+                    + "WHERE ledger.musician.musicianId = :musicianId "
+                    + "AND ledger.month = :month"
+            )
+                .setParameter("dutyPoints", dutyPoints)
+                .setParameter("categoryPoints", categoryPoints)
+                .setParameter("dutyCount", dutyCount)
+                .setParameter("musicianId", musicianId)
+                .setParameter("month", month)
+                .executeUpdate();
+        }, "Could not add points to ledger");
+    }
+}
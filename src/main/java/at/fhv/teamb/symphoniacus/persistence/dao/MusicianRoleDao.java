@@ -3,7 +3,6 @@ package at.fhv.teamb.symphoniacus.persistence.dao;
 import at.fhv.teamb.symphoniacus.persistence.BaseDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.IMusicianRoleDao;
 import at.fhv.teamb.symphoniacus.persistence.model.MusicianRoleEntity;
-import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IMusicianEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IMusicianRoleEntity;
 import java.util.LinkedList;
 import java.util.List;
@@ -16,7 +15,7 @@ public class MusicianRoleDao extends BaseDao<IMusicianRoleEntity> implements IMu
      */
     @Override
     public Optional<IMusicianRoleEntity> find(Integer key) {
-        return this.find(IMusicianEntity.class, key);
+        return this.find(MusicianRoleEntity.class, key);
     }
 
     /**
@@ -24,7 +23,7 @@ public class MusicianRoleDao extends BaseDao<IMusicianRoleEntity> implements IMu
      */
     @Override
     public Optional<IMusicianRoleEntity> persist(IMusicianRoleEntity elem) {
-        return this.persist(IMusicianRoleEntity.class, elem);
+        return this.persist(MusicianRoleEntity.class, elem);
     }
 
     /**
@@ -32,7 +31,7 @@ public class MusicianRoleDao extends BaseDao<IMusicianRoleEntity> implements IMu
      */
     @Override
     public Optional<IMusicianRoleEntity> update(IMusicianRoleEntity elem) {
-        return this.update(IMusicianRoleEntity.class, elem);
+        return this.update(MusicianRoleEntity.class, elem);
     }
 
     @Override
@@ -40,14 +40,7 @@ public class NegativeDateWishDao extends BaseDao<INegativeDateWishEntity>
 
     @Override
     public boolean remove(INegativeDateWishEntity elem) {
-        try {
-            entityManager.getTransaction().begin();
-            entityManager.remove(elem);
-            entityManager.getTransaction().commit();
-        } catch (Exception e) {
-            return false;
-        }
-        return true;
+        return this.removeElement(elem);
     }
 
     /**
@@ -55,7 +48,7 @@ public class NegativeDateWishDao extends BaseDao<INegativeDateWishEntity>
      */
     @Override
     public List<WishRequestable> getAllNegativeDateWishes(IDutyEntity duty) {
-        TypedQuery<WishRequestable> query = entityManager.createQuery(
+        TypedQuery<WishRequestable> query = getEntityManager().createQuery(
             "SELECT nd FROM NegativeDateWishEntity nd "
                 + "JOIN nd.monthlySchedules ms "
                 + "JOIN ms.weeklySchedules ws "
@@ -79,7 +72,7 @@ public class NegativeDateWishDao extends BaseDao<INegativeDateWishEntity>
     public List<INegativeDateWishEntity> getAllNegativeDateWishesOfMusician(
             IMusicianEntity musician
     ) {
-        TypedQuery<INegativeDateWishEntity> query = entityManager.createQuery(
+        TypedQuery<INegativeDateWishEntity> query = getEntityManager().createQuery(
                 "SELECT nd FROM NegativeDateWishEntity nd "
                 + "WHERE nd.musician = :musician ",
                 INegativeDateWishEntity.class
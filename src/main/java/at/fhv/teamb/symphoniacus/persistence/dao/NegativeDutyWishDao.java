@@ -53,7 +53,7 @@ public class NegativeDutyWishDao extends BaseDao<INegativeDutyWishEntity>
      */
     @Override
     public List<WishRequestable> getAllNegativeDutyWishes(IDutyEntity duty) {
-        TypedQuery<WishRequestable> query = entityManager.createQuery(
+        TypedQuery<WishRequestable> query = getEntityManager().createQuery(
             "SELECT nw FROM NegativeDutyWishEntity nw "
                 + "JOIN nw.seriesOfPerformances sop "
                 + "JOIN sop.dutyEntities de "
@@ -70,7 +70,7 @@ public class NegativeDutyWishDao extends BaseDao<INegativeDutyWishEntity>
     public boolean hasWishRequestForGivenDutyAndMusicalPiece(IMusicianEntity musician,
                                                              IMusicalPieceEntity musicalPiece,
                                                              IDutyEntity duty) {
-        TypedQuery<Long> query = entityManager
+        TypedQuery<Long> query = getEntityManager()
             .createQuery("SELECT COUNT(nw) FROM NegativeDutyWishEntity nw "
                 + "JOIN nw.wishEntries we "
                 + "JOIN we.musicalPieces mp "
@@ -93,7 +93,7 @@ public class NegativeDutyWishDao extends BaseDao<INegativeDutyWishEntity>
             IDutyEntity duty,
             IMusicianEntity musician
     ) {
-        TypedQuery<NegativeDutyWishEntity> query = entityManager
+        TypedQuery<NegativeDutyWishEntity> query = getEntityManager()
                 .createQuery("SELECT nw FROM NegativeDutyWishEntity nw "
                         + "JOIN nw.wishEntries we "
                         + "WHERE we.duty = :duty "
@@ -114,7 +114,7 @@ public class NegativeDutyWishDao extends BaseDao<INegativeDutyWishEntity>
             IDutyEntity dutyEntity
     ) {
 
-        TypedQuery<WishEntryEntity> query = entityManager
+        TypedQuery<WishEntryEntity> query = getEntityManager()
                 .createQuery("SELECT we FROM NegativeDutyWishEntity nw "
                         + "JOIN nw.wishEntries we "
                         + "WHERE we.duty = :duty "
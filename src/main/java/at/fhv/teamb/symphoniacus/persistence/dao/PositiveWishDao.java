@@ -52,7 +52,7 @@ public class PositiveWishDao extends BaseDao<IPositiveWishEntity>
      */
     @Override
     public List<WishRequestable> getAllPositiveWishes(IDutyEntity duty) {
-        TypedQuery<WishRequestable> query = entityManager.createQuery(
+        TypedQuery<WishRequestable> query = getEntityManager().createQuery(
             "SELECT pw FROM PositiveWishEntity pw "
                 + "JOIN pw.seriesOfPerformances sop "
                 + "JOIN sop.dutyEntities de "
@@ -70,7 +70,7 @@ public class PositiveWishDao extends BaseDao<IPositiveWishEntity>
                                                              IMusicalPieceEntity musicalPiece,
                                                              IDutyEntity duty) {
 
-        TypedQuery<Long> query = entityManager
+        TypedQuery<Long> query = getEntityManager()
             .createQuery("SELECT COUNT(pw) FROM PositiveWishEntity pw "
                 + "JOIN pw.wishEntries we "
                 + "JOIN we.musicalPieces mp "
@@ -92,7 +92,7 @@ public class PositiveWishDao extends BaseDao<IPositiveWishEntity>
             IDutyEntity duty,
             IMusicianEntity musician
     ) {
-        TypedQuery<PositiveWishEntity> query = entityManager
+        TypedQuery<PositiveWishEntity> query = getEntityManager()
                 .createQuery("SELECT pw FROM PositiveWishEntity pw "
                         + "JOIN pw.wishEntries we "
                         + "WHERE we.duty = :duty "
@@ -111,7 +111,7 @@ public class PositiveWishDao extends BaseDao<IPositiveWishEntity>
             IPositiveWishEntity wish,
             IDutyEntity dutyEntity
     ) {
-        TypedQuery<WishEntryEntity> query = entityManager
+        TypedQuery<WishEntryEntity> query = getEntityManager()
                 .createQuery("SELECT we FROM PositiveWishEntity pw "
                         + "JOIN pw.wishEntries we "
                         + "WHERE we.duty = :duty "
@@ -1,6 +1,7 @@
 package at.fhv.teamb.symphoniacus.persistence.dao;
 
 import at.fhv.teamb.symphoniacus.persistence.BaseDao;
+import at.fhv.teamb.symphoniacus.persistence.cache.ReferenceDataCache;
 import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.ISectionDao;
 import at.fhv.teamb.symphoniacus.persistence.model.SectionEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.ISectionEntity;
@@ -21,7 +22,7 @@ public class SectionDao extends BaseDao<ISectionEntity> implements ISectionDao {
      */
     @Override
     public Optional<ISectionEntity> find(Integer key) {
-        return this.find(ISectionEntity.class, key);
+        return this.find(SectionEntity.class, key);
     }
 
     /**
@@ -29,10 +30,11 @@ public class SectionDao extends BaseDao<ISectionEntity> implements ISectionDao {
      */
     @Override
     public List<ISectionEntity> getAll() {
-        TypedQuery<SectionEntity> query = entityManager.createQuery(
+        TypedQuery<SectionEntity> query = getEntityManager().createQuery(
             "SELECT s FROM SectionEntity s",
             SectionEntity.class
         );
+        ReferenceDataCache.cacheable(query);
 
         return new LinkedList<>(query.getResultList());
     }
@@ -20,7 +20,7 @@ public class SectionInstrumentationDao extends BaseDao<ISectionInstrumentationEn
     public List<ISectionInstrumentationEntity> getSectionInstrumentationToInstrumentation(
         IInstrumentationEntity instrumentation
     ) {
-        TypedQuery<SectionInstrumentationEntity> query = entityManager.createQuery(
+        TypedQuery<SectionInstrumentationEntity> query = getEntityManager().createQuery(
             "SELECT si from SectionInstrumentationEntity si "
                 + "WHERE si.instrumentation = :inst",
             SectionInstrumentationEntity.class
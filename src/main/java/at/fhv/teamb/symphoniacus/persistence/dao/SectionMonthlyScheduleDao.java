@@ -33,7 +33,7 @@ public class SectionMonthlyScheduleDao extends BaseDao<ISectionMonthlyScheduleEn
      */
     @Override
     public List<ISectionMonthlyScheduleEntity> findAllInYear(ISectionEntity section, Year year) {
-        TypedQuery<SectionMonthlyScheduleEntity> query = entityManager.createQuery(
+        TypedQuery<SectionMonthlyScheduleEntity> query = getEntityManager().createQuery(
             "SELECT sms FROM SectionMonthlyScheduleEntity sms "
                 + "JOIN FETCH sms.monthlySchedule ms "
                 + "WHERE sms.section = :section "
@@ -52,7 +52,7 @@ public class SectionMonthlyScheduleDao extends BaseDao<ISectionMonthlyScheduleEn
      */
     @Override
     public List<ISectionMonthlyScheduleEntity> findAllInYearAndMonth(Year year, Month month) {
-        TypedQuery<SectionMonthlyScheduleEntity> query = entityManager.createQuery(
+        TypedQuery<SectionMonthlyScheduleEntity> query = getEntityManager().createQuery(
             "SELECT sms FROM SectionMonthlyScheduleEntity sms "
                 + "JOIN FETCH sms.monthlySchedule ms "
                 + "WHERE ms.year = :year AND ms.month = :month",
@@ -71,7 +71,7 @@ public class SectionMonthlyScheduleDao extends BaseDao<ISectionMonthlyScheduleEn
         Year year,
         Month month
     ) {
-        TypedQuery<SectionMonthlyScheduleEntity> query = entityManager.createQuery(
+        TypedQuery<SectionMonthlyScheduleEntity> query = getEntityManager().createQuery(
             "SELECT sms FROM SectionMonthlyScheduleEntity sms "
                 + "JOIN FETCH sms.monthlySchedule ms "
                 + "WHERE sms.section = :section "
@@ -5,6 +5,7 @@ import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.ISeriesOfPerformance
 import at.fhv.teamb.symphoniacus.persistence.model.SeriesOfPerformancesEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.ISeriesOfPerformancesEntity;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
@@ -25,7 +26,7 @@ public class SeriesOfPerformancesDao extends BaseDao<ISeriesOfPerformancesEntity
      * {@inheritDoc}
      */
     public List<ISeriesOfPerformancesEntity> getAll() {
-        TypedQuery<SeriesOfPerformancesEntity> query = entityManager.createQuery(
+        TypedQuery<SeriesOfPerformancesEntity> query = getEntityManager().createQuery(
             "SELECT sop FROM SeriesOfPerformancesEntity sop",
             SeriesOfPerformancesEntity.class
         );
@@ -62,7 +63,7 @@ public class SeriesOfPerformancesDao extends BaseDao<ISeriesOfPerformancesEntity
         LocalDate startingDate,
         LocalDate endingDate
     ) {
-        TypedQuery<Long> query = entityManager.createQuery(
+        TypedQuery<Long> query = getEntityManager().createQuery(
             "SELECT COUNT(sp) FROM SeriesOfPerformancesEntity sp "
                 + "WHERE UPPER(sp.description) = :title "
                 + "AND sp.startDate = :sDate "
@@ -77,4 +78,27 @@ public class SeriesOfPerformancesDao extends BaseDao<ISeriesOfPerformancesEntity
         System.out.println(query.getSingleResult());
         return (query.getSingleResult() >= 1);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<ISeriesOfPerformancesEntity> findAllWithDetails(
+        Collection<ISeriesOfPerformancesEntity> series
+    ) {
+        if (series.isEmpty()) {
+            return new LinkedList<>();
+        }
+        // Both collections are sets, so they can be fetched together
+        TypedQuery<SeriesOfPerformancesEntity> query = getEntityManager().createQuery(
+            "SELECT DISTINCT sp FROM SeriesOfPerformancesEntity sp "
+                + "LEFT JOIN FETCH sp.musicalPieces "
+                + "LEFT JOIN FETCH sp.instrumentations "
+                + "WHERE sp IN :series",
+            SeriesOfPerformancesEntity.class
+        );
+        query.setParameter("series", series);
+
+        return new LinkedList<>(query.getResultList());
+    }
 }
@@ -2,11 +2,15 @@ package at.fhv.teamb.symphoniacus.persistence.dao;
 
 import at.fhv.teamb.symphoniacus.persistence.BaseDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.IUserDao;
+import at.fhv.teamb.symphoniacus.persistence.model.MusicianEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.UserEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.UserLoginRow;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IAdministrativeAssistantEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IUserEntity;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import javax.persistence.EntityManager;
 import javax.persistence.TypedQuery;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -56,7 +60,7 @@ public class UserDao extends BaseDao<IUserEntity>
     @Override
     public Optional<IUserEntity> loadUser(String userShortCut) {
         List<UserEntity> result = null;
-        TypedQuery<UserEntity> query = entityManager.createQuery(
+        TypedQuery<UserEntity> query = getEntityManager().createQuery(
             "SELECT u FROM UserEntity u WHERE u.shortcut = :shortc",
             UserEntity.class
         );
@@ -71,12 +75,41 @@ public class UserDao extends BaseDao<IUserEntity>
         return Optional.empty();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<UserLoginRow> loadUserForLogin(String userShortcut) {
+        TypedQuery<Object[]> query = getEntityManager().createQuery(
+            "SELECT u, aa FROM UserEntity u "
+                + "LEFT JOIN FETCH u.musician m "
+                + "LEFT JOIN FETCH m.section "
+                + "LEFT JOIN FETCH m.musicianRoles "
+                + "LEFT JOIN AdministrativeAssistantEntity aa ON aa.user = u "
+                + "WHERE u.shortcut = :shortcut",
+            Object[].class
+        );
+        query.setParameter("shortcut", userShortcut);
+
+        // Every role of the musician results in a row with the same user
+        List<Object[]> result = query.getResultList();
+        if (result.isEmpty()) {
+            return Optional.empty();
+        }
+        IUserEntity user = (IUserEntity) result.get(0)[0];
+        return Optional.of(new UserLoginRow(
+            user,
+            user.getMusician(),
+            (IAdministrativeAssistantEntity) result.get(0)[1]
+        ));
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public boolean isLoginCorrect(String userShortCut, String inputPasswordHash) {
-        TypedQuery<Long> query = entityManager.createQuery(
+        TypedQuery<Long> query = getEntityManager().createQuery(
             "SELECT COUNT(u) FROM UserEntity u "
                 + "WHERE u.shortcut = :userShortCut "
                 + "AND u.password = :inputPasswordHash",
@@ -100,7 +133,7 @@ public class UserDao extends BaseDao<IUserEntity>
     @Override
     public boolean isUserMusician(IUserEntity currentUser) {
         Optional<Long> result = Optional.empty();
-        TypedQuery<Long> query = entityManager.createQuery(
+        TypedQuery<Long> query = getEntityManager().createQuery(
             "SELECT COUNT(m) FROM MusicianEntity m WHERE m.user = :user",
             Long.class
         );
@@ -125,7 +158,7 @@ public class UserDao extends BaseDao<IUserEntity>
     @Override
     public boolean isUserAdministrativeAssistant(IUserEntity currentUser) {
         Optional<Long> result = Optional.empty();
-        TypedQuery<Long> query = entityManager.createQuery(
+        TypedQuery<Long> query = getEntityManager().createQuery(
             "SELECT COUNT(aae) FROM AdministrativeAssistantEntity aae WHERE aae.user = :user",
             Long.class
         );
@@ -146,6 +179,8 @@ public class UserDao extends BaseDao<IUserEntity>
 
     @Override
     public synchronized List<IUserEntity> getAll() {
+        EntityManager entityManager = getEntityManager();
+
         // Fixes a problem caused by integrating code from Team C
         entityManager.getTransaction().begin();
 
@@ -161,4 +196,31 @@ public class UserDao extends BaseDao<IUserEntity>
 
         return wrappedusers;
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<IUserEntity> getAllWithDetails() {
+        TypedQuery<UserEntity> query = getEntityManager().createQuery(
+            "SELECT DISTINCT u FROM UserEntity u "
+                + "LEFT JOIN FETCH u.musician m "
+                + "LEFT JOIN FETCH m.section "
+                + "LEFT JOIN FETCH u.administrativeAssistants",
+            UserEntity.class
+        );
+        List<IUserEntity> users = new ArrayList<>(query.getResultList());
+
+        // Hibernate cannot fetch several lists at once, so every list of the musicians is
+        // initialized by its own query within the same persistence context
+        for (String collection
+            : List.of("musicianRoles", "instrumentCategories", "contractualObligations")) {
+            getEntityManager().createQuery(
+                "SELECT DISTINCT m FROM MusicianEntity m LEFT JOIN FETCH m." + collection,
+                MusicianEntity.class
+            ).getResultList();
+        }
+
+        return users;
+    }
 }
@@ -24,7 +24,7 @@ public class WeeklyScheduleDao extends BaseDao<IWeeklyScheduleEntity>
      */
     @Override
     public Optional<IWeeklyScheduleEntity> findForDayAndYear(LocalDate day, int year) {
-        TypedQuery<WeeklyScheduleEntity> query = entityManager.createQuery(
+        TypedQuery<WeeklyScheduleEntity> query = getEntityManager().createQuery(
             "SELECT w FROM WeeklyScheduleEntity w "
                 + "WHERE :day BETWEEN w.startDate AND w.endDate "
                 + "AND w.year = :year",
@@ -3,8 +3,11 @@ package at.fhv.teamb.symphoniacus.persistence.dao;
 import at.fhv.teamb.symphoniacus.persistence.BaseDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.IWishEntryDao;
 import at.fhv.teamb.symphoniacus.persistence.model.WishEntryEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IMusicianEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IWishEntryEntity;
 import javax.persistence.TypedQuery;
+import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
@@ -45,29 +48,59 @@ public class WishEntryDao extends BaseDao<IWishEntryEntity> implements IWishEntr
 
     @Override
     public boolean remove(IWishEntryEntity elem) {
-        try {
-            entityManager.getTransaction().begin();
-            entityManager.remove(elem);
-            entityManager.getTransaction().commit();
-        } catch (Exception e) {
-            return false;
-        }
-        return true;
+        return this.removeElement(elem);
     }
 
 
     /**
-     * Preloading all WishEntries.
-     * //@param duty given duty
-     *
-     * @return list of wishentries
+     * {@inheritDoc}
+     */
+    @Override
+    public List<IWishEntryEntity> findAllOfDuty(IDutyEntity duty) {
+        StringBuilder jpql = new StringBuilder(
+            "SELECT DISTINCT we FROM WishEntryEntity we "
+                + "LEFT JOIN FETCH we.musicalPieces "
+                + "LEFT JOIN FETCH we.positiveWish "
+                + "LEFT JOIN FETCH we.negativeDutyWish "
+                + "WHERE we.duty = :duty"
+        );
+        if (duty.getSeriesOfPerformances() != null) {
+            jpql.append(" OR we.seriesOfPerformances = :series");
+        }
+
+        TypedQuery<WishEntryEntity> query = getEntityManager()
+            .createQuery(jpql.toString(), WishEntryEntity.class);
+        query.setParameter("duty", duty);
+        if (duty.getSeriesOfPerformances() != null) {
+            query.setParameter("series", duty.getSeriesOfPerformances());
+        }
+        return new LinkedList<>(query.getResultList());
+    }
+
+    /**
+     * {@inheritDoc}
      */
-    public List<IWishEntryEntity> findAll() {
-        TypedQuery<WishEntryEntity> query = entityManager
-            .createQuery("SELECT we FROM WishEntryEntity we",
-                WishEntryEntity.class);
+    @Override
+    public List<IWishEntryEntity> findAllOfMusicianForDuties(
+        IMusicianEntity musician,
+        Collection<IDutyEntity> duties
+    ) {
+        if (duties.isEmpty()) {
+            return new LinkedList<>();
+        }
+        TypedQuery<WishEntryEntity> query = getEntityManager().createQuery(
+            "SELECT DISTINCT we FROM WishEntryEntity we "
+                + "LEFT JOIN FETCH we.musicalPieces "
+                + "LEFT JOIN FETCH we.positiveWish pw "
+                + "LEFT JOIN FETCH we.negativeDutyWish nw "
+                + "WHERE we.duty IN :duties "
+                + "AND (pw.musician = :musician OR nw.musician = :musician)",
+            WishEntryEntity.class
+        );
+
+        query.setParameter("duties", duties);
+        query.setParameter("musician", musician);
 
-        //query.setParameter("duty", duty);
         return new LinkedList<>(query.getResultList());
     }
 }
@@ -7,6 +7,7 @@ import at.fhv.teamb.symphoniacus.persistence.model.DutyEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyCategoryChangelogEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyCategoryEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyEntity;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +24,17 @@ public interface IDutyCategoryChangeLogDao extends Dao<IDutyCategoryChangelogEnt
         IDutyCategoryEntity categoryEntity
     );
 
+    /**
+     * Finds all {@link DutyCategoryChangelogEntity} objects of the given
+     * {@link DutyCategoryEntity} objects with a single query, ordered by their start date.
+     *
+     * @param categoryEntities The duty categories to use
+     * @return A List of DutyCategoryChangelogEntity objects
+     */
+    List<IDutyCategoryChangelogEntity> getDutyCategoryChangelogs(
+        Collection<IDutyCategoryEntity> categoryEntities
+    );
+
     /**
      * Checks whether a {@link DutyCategoryChangelogEntity} exists for a {@link DutyEntity}.
      *
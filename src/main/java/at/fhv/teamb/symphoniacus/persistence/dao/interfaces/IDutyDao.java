@@ -1,6 +1,7 @@
 package at.fhv.teamb.symphoniacus.persistence.dao.interfaces;
 
 import at.fhv.teamb.symphoniacus.persistence.Dao;
+import at.fhv.teamb.symphoniacus.persistence.model.DutyCalendarRow;
 import at.fhv.teamb.symphoniacus.persistence.model.DutyEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyCategoryEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyEntity;
@@ -11,10 +12,21 @@ import at.fhv.teamb.symphoniacus.persistence.model.interfaces.ISeriesOfPerforman
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 
 public interface IDutyDao extends Dao<IDutyEntity> {
 
+    /**
+     * Finds a duty together with its category and series of performances, which are needed
+     * to show the duty after the unit of work is closed.
+     *
+     * @param dutyId The identifier of the duty
+     * @return The duty if found, else Optional empty
+     */
+    Optional<IDutyEntity> findWithDetails(Integer dutyId);
+
     /**
      * Finds all duties in a week. The start date must be a Monday.
      *
@@ -33,6 +45,22 @@ public interface IDutyDao extends Dao<IDutyEntity> {
      */
     List<IDutyEntity> findAllInRange(LocalDateTime start, LocalDateTime end);
 
+    /**
+     * Loads all duties between the given start and end date in chunks ordered by start date.
+     *
+     * @param start     A LocalDateTime that represents the start
+     * @param end       A LocalDateTime that represents the end
+     * @param chunkSize The maximum amount of duties per chunk
+     * @param consumer  Receives every chunk as soon as it is loaded
+     * @see #findAllInRange(LocalDateTime, LocalDateTime)
+     */
+    void streamAllInRange(
+        LocalDateTime start,
+        LocalDateTime end,
+        int chunkSize,
+        Consumer<List<IDutyEntity>> consumer
+    );
+
     /**
      * Finds all duties in a week.
      *
@@ -69,6 +97,68 @@ public interface IDutyDao extends Dao<IDutyEntity> {
         boolean isPublished
     );
 
+    /**
+     * Loads all duties of a section in a specific time range in chunks ordered by start date.
+     *
+     * @param section   The section of the current user
+     * @param start     A LocalDateTime that represents the start
+     * @param end       A LocalDateTime that represents the end
+     * @param chunkSize The maximum amount of duties per chunk
+     * @param consumer  Receives every chunk as soon as it is loaded
+     * @see #findAllInRangeWithSection
+     * (ISectionEntity, LocalDateTime, LocalDateTime, boolean, boolean, boolean)
+     */
+    void streamAllInRangeWithSection(
+        ISectionEntity section,
+        LocalDateTime start,
+        LocalDateTime end,
+        boolean isReadyForDutyScheduler,
+        boolean isReadyForOrganisationManager,
+        boolean isPublished,
+        int chunkSize,
+        Consumer<List<IDutyEntity>> consumer
+    );
+
+    /**
+     * Loads read-only calendar rows of all duties between the given start and end date in
+     * chunks ordered by start date.
+     *
+     * @param start     A LocalDateTime that represents the start
+     * @param end       A LocalDateTime that represents the end
+     * @param chunkSize The maximum amount of rows per chunk
+     * @param consumer  Receives every chunk as soon as it is loaded
+     * @see #streamAllInRange(LocalDateTime, LocalDateTime, int, Consumer)
+     */
+    void streamCalendarRowsInRange(
+        LocalDateTime start,
+        LocalDateTime end,
+        int chunkSize,
+        Consumer<List<DutyCalendarRow>> consumer
+    );
+
+    /**
+     * Loads read-only calendar rows of all duties of a section in a specific time range in
+     * chunks ordered by start date.
+     *
+     * @param section   The section of the current user
+     * @param start     A LocalDateTime that represents the start
+     * @param end       A LocalDateTime that represents the end
+     * @param chunkSize The maximum amount of rows per chunk
+     * @param consumer  Receives every chunk as soon as it is loaded
+     * @see #streamAllInRangeWithSection
+     * (ISectionEntity, LocalDateTime, LocalDateTime, boolean, boolean, boolean, int, Consumer)
+     */
+    void streamCalendarRowsInRangeWithSection(
+        ISectionEntity section,
+        LocalDateTime start,
+        LocalDateTime end,
+        boolean isReadyForDutyScheduler,
+        boolean isReadyForOrganisationManager,
+        boolean isPublished,
+        int chunkSize,
+        Consumer<List<DutyCalendarRow>> consumer
+    );
+
     /**
      * returns all duties of a musician in the period of the entered month.
      *
@@ -93,6 +183,16 @@ public interface IDutyDao extends Dao<IDutyEntity> {
         LocalDate month
     );
 
+    /**
+     * Finds all duties of a duty category starting at or after a given date together with
+     * their duty positions and assigned musicians.
+     *
+     * @param category The duty category to use
+     * @param from     The earliest start of the duties
+     * @return A List of duties
+     */
+    List<IDutyEntity> findAllOfCategoryFrom(IDutyCategoryEntity category, LocalDateTime from);
+
     /**
      * Returns {@link DutyEntity} objects belonging to a {@link SeriesOfPerformancesEntity}
      * based on provided data.
@@ -148,4 +248,18 @@ public interface IDutyDao extends Dao<IDutyEntity> {
      * @return List of Duties
      */
     public List<IDutyEntity> findFutureUnscheduledDuties(ISectionEntity section);
+
+    /**
+     * Loads future unscheduled duties of a section in chunks ordered by start date.
+     *
+     * @param section   Section of User
+     * @param chunkSize The maximum amount of duties per chunk
+     * @param consumer  Receives every chunk as soon as it is loaded
+     * @see #findFutureUnscheduledDuties(ISectionEntity)
+     */
+    void streamFutureUnscheduledDuties(
+        ISectionEntity section,
+        int chunkSize,
+        Consumer<List<IDutyEntity>> consumer
+    );
 }
@@ -8,9 +8,13 @@ import at.fhv.teamb.symphoniacus.persistence.model.SectionEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.SectionMonthlyScheduleEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyPositionEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IInstrumentCategoryEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IMusicianEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.ISectionEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.ISectionMonthlyScheduleEntity;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 public interface IDutyPositionDao extends Dao<IDutyPositionEntity> {
 
@@ -37,4 +41,27 @@ public interface IDutyPositionDao extends Dao<IDutyPositionEntity> {
     Long findCorrespondingPositionsWithoutMusician(
         ISectionMonthlyScheduleEntity sms
     );
+
+    /**
+     * Finds the identifiers of all given duties having at least one {@link DutyPositionEntity}
+     * for one of the given instrument categories.
+     *
+     * @param duties     The duties to check
+     * @param categories The instrument categories to use
+     * @return A Set of identifiers of the matching duties
+     */
+    Set<Integer> findDutyIdsWithInstrumentCategories(
+        Collection<IDutyEntity> duties,
+        Collection<IInstrumentCategoryEntity> categories
+    );
+
+    /**
+     * Finds all {@link DutyPositionEntity} objects of the section of the given
+     * {@link MusicianEntity} that belong to a duty the musician is assigned to. The
+     * instrumentation position and the assigned musician with its user are fetched as well.
+     *
+     * @param musician The musician to use
+     * @return A List of corresponding DutyPosition entities
+     */
+    List<IDutyPositionEntity> findSectionPositionsOfMusicianDuties(IMusicianEntity musician);
 }
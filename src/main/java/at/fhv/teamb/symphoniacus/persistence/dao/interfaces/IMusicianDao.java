@@ -42,4 +42,13 @@ public interface IMusicianDao extends Dao<IMusicianEntity> {
      * @return Musician if found, else Optional empty
      */
     Optional<IMusicianEntity> findMusicianByShortcut(String userShortcut);
+
+    /**
+     * Returns the musician together with its duty positions and their duties, instrumentation
+     * positions, categories, weekly schedules and series of performances.
+     *
+     * @param musicianId The identifier of the musician
+     * @return Musician if found, else Optional empty
+     */
+    Optional<IMusicianEntity> findWithDutyPositions(Integer musicianId);
 }
@@ -0,0 +1,49 @@
+package at.fhv.teamb.symphoniacus.persistence.dao.interfaces;
+
+import at.fhv.teamb.symphoniacus.persistence.Dao;
+import at.fhv.teamb.symphoniacus.persistence.model.MusicianMonthPointsEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IMusicianEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IMusicianMonthPointsEntity;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface IMusicianMonthPointsDao extends Dao<IMusicianMonthPointsEntity> {
+
+    /**
+     * Finds the {@link MusicianMonthPointsEntity} objects of the given musicians in a month
+     * with a single query.
+     *
+     * @param musicians The musicians to use
+     * @param month     The first day of the month
+     * @return A List of MusicianMonthPointsEntity objects, musicians without ledger row are
+     *     missing
+     */
+    List<IMusicianMonthPointsEntity> findAllOfMonth(
+        Collection<IMusicianEntity> musicians,
+        LocalDate month
+    );
+
+    /**
+     * Adds the given deltas to the ledger row of a musician in a month. Nothing is changed if
+     * the musician has no row in the month, a new row has to be calculated from all duties of
+     * the month instead.
+     *
+     * <p>The deltas are applied by the database, so concurrent changes of the same row are
+     * not lost.
+     *
+     * @param musicianId     The identifier of the musician
+     * @param month          The first day of the month
+     * @param dutyPoints     The delta of the points valid on the days of the duties
+     * @param categoryPoints The delta of the current points of the duty categories
+     * @param dutyCount      The delta of the number of duties
+     * @return True if the deltas were applied, false otherwise
+     */
+    boolean addPoints(
+        Integer musicianId,
+        LocalDate month,
+        int dutyPoints,
+        int categoryPoints,
+        int dutyCount
+    );
+}
@@ -4,6 +4,7 @@ import at.fhv.teamb.symphoniacus.persistence.Dao;
 import at.fhv.teamb.symphoniacus.persistence.model.SeriesOfPerformancesEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.ISeriesOfPerformancesEntity;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 public interface ISeriesOfPerformancesDao extends Dao<ISeriesOfPerformancesEntity> {
@@ -28,4 +29,16 @@ public interface ISeriesOfPerformancesDao extends Dao<ISeriesOfPerformancesEntit
         LocalDate startingDate,
         LocalDate endingDate
     );
+
+    /**
+     * Loads the musical pieces and instrumentations of the given series of performances. The
+     * collections of the given entities are initialized if they belong to the current
+     * persistence context.
+     *
+     * @param series The series of performances to use
+     * @return A List of the series of performances with their details
+     */
+    List<ISeriesOfPerformancesEntity> findAllWithDetails(
+        Collection<ISeriesOfPerformancesEntity> series
+    );
 }
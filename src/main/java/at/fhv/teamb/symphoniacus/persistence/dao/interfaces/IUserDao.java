@@ -3,8 +3,10 @@ package at.fhv.teamb.symphoniacus.persistence.dao.interfaces;
 import at.fhv.teamb.symphoniacus.persistence.Dao;
 import at.fhv.teamb.symphoniacus.persistence.model.AdministrativeAssistantEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.MusicianEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.UserLoginRow;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IUserEntity;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface IUserDao extends Dao<IUserEntity> {
@@ -17,6 +19,17 @@ public interface IUserDao extends Dao<IUserEntity> {
      */
     Optional<IUserEntity> loadUser(String userShortCut);
 
+    /**
+     * Loads a user together with the musician or administrative assistant the user is, using
+     * a single query.
+     *
+     * <p>The musician is loaded with its section and roles.
+     *
+     * @param userShortcut The shortcut to identify the user
+     * @return The login row of the user, if a user with the shortcut exists
+     */
+    Optional<UserLoginRow> loadUserForLogin(String userShortcut);
+
     /**
      * Checks whether the given userShortcut + password hash are valid.
      *
@@ -48,4 +61,13 @@ public interface IUserDao extends Dao<IUserEntity> {
      * @return List of all users.
      */
     Collection<IUserEntity> getAll();
+
+    /**
+     * Integration of Team - C. Returns all users together with their administrative assistant
+     * roles and, for musicians, the section, roles, instrument categories and contracts shown
+     * by the user management.
+     *
+     * @return List of all users.
+     */
+    List<IUserEntity> getAllWithDetails();
 }
@@ -1,8 +1,11 @@
 package at.fhv.teamb.symphoniacus.persistence.dao.interfaces;
 
 import at.fhv.teamb.symphoniacus.persistence.Dao;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IMusicianEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IWishEntryEntity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,7 +17,27 @@ public interface IWishEntryDao extends Dao<IWishEntryEntity> {
 
     Optional<IWishEntryEntity> update(IWishEntryEntity elem);
 
-    List<IWishEntryEntity> findAll();
+    /**
+     * Finds all wish entries for a duty or its series of performances, including their
+     * musical pieces and wishes.
+     *
+     * @param duty The duty to use
+     * @return The wish entries of the duty
+     */
+    List<IWishEntryEntity> findAllOfDuty(IDutyEntity duty);
+
+    /**
+     * Finds all wish entries of a musician for the given duties, including their musical
+     * pieces and wishes.
+     *
+     * @param musician The musician to use
+     * @param duties   The duties to use
+     * @return The wish entries of the musician
+     */
+    List<IWishEntryEntity> findAllOfMusicianForDuties(
+        IMusicianEntity musician,
+        Collection<IDutyEntity> duties
+    );
 
     boolean remove(IWishEntryEntity elem);
 }
@@ -0,0 +1,106 @@
+package at.fhv.teamb.symphoniacus.persistence.model;
+
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyEntity;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * Immutable, read-only projection of a duty containing only what is needed to display it
+ * in a calendar.
+ *
+ * <p>Instances are created directly by JPQL constructor expressions, so they are neither
+ * managed nor dirty-checked by the persistence context.
+ */
+public final class DutyCalendarRow {
+    private final Integer dutyId;
+    private final LocalDateTime start;
+    private final LocalDateTime end;
+    private final String categoryType;
+    private final String seriesDescription;
+    private final String description;
+
+    /**
+     * Creates a new calendar row.
+     *
+     * @param dutyId            The identifier of the duty
+     * @param start             The start of the duty
+     * @param end               The end of the duty
+     * @param categoryType      The type of the duty category
+     * @param seriesDescription The description of the series of performances, may be null
+     * @param description       The description of the duty, may be null
+     */
+    public DutyCalendarRow(
+        Integer dutyId,
+        LocalDateTime start,
+        LocalDateTime end,
+        String categoryType,
+        String seriesDescription,
+        String description
+    ) {
+        this.dutyId = dutyId;
+        this.start = start;
+        this.end = end;
+        this.categoryType = categoryType;
+        this.seriesDescription = seriesDescription;
+        this.description = description;
+    }
+
+    /**
+     * Creates a calendar row from an already loaded duty entity.
+     *
+     * @param entity The duty entity to use
+     * @return A calendar row of the duty
+     */
+    public static DutyCalendarRow of(IDutyEntity entity) {
+        return new DutyCalendarRow(
+            entity.getDutyId(),
+            entity.getStart(),
+            entity.getEnd(),
+            entity.getDutyCategory() == null ? null : entity.getDutyCategory().getType(),
+            entity.getSeriesOfPerformances() == null
+                ? null : entity.getSeriesOfPerformances().getDescription(),
+            entity.getDescription()
+        );
+    }
+
+    public Integer getDutyId() {
+        return this.dutyId;
+    }
+
+    public LocalDateTime getStart() {
+        return this.start;
+    }
+
+    public LocalDateTime getEnd() {
+        return this.end;
+    }
+
+    public String getCategoryType() {
+        return this.categoryType;
+    }
+
+    public String getSeriesDescription() {
+        return this.seriesDescription;
+    }
+
+    public String getDescription() {
+        return this.description;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        DutyCalendarRow that = (DutyCalendarRow) o;
+        return Objects.equals(this.dutyId, that.dutyId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.dutyId);
+    }
+}
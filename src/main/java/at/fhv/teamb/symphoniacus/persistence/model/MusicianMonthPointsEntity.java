@@ -0,0 +1,110 @@
+package at.fhv.teamb.symphoniacus.persistence.model;
+
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IMusicianEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IMusicianMonthPointsEntity;
+import java.time.LocalDate;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.GeneratedValue;
+import javax.persistence.GenerationType;
+import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+
+/**
+ * Ledger row holding the points of all duties a musician is assigned to within one month.
+ *
+ * <p>{@code dutyPoints} sums up the points valid on the day of each duty according to the
+ * duty category changelogs, {@code categoryPoints} sums up the current points of the duty
+ * categories. Every duty is counted once per musician.
+ */
+@Entity
+@Table(
+    name = "musicianMonthPoints",
+    uniqueConstraints = @UniqueConstraint(columnNames = {"musicianId", "month"})
+)
+public class MusicianMonthPointsEntity implements IMusicianMonthPointsEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "musicianMonthPointsId")
+    private Integer musicianMonthPointsId;
+
+    @ManyToOne(fetch = FetchType.LAZY, targetEntity = MusicianEntity.class)
+    @JoinColumn(name = "musicianId")
+    private IMusicianEntity musician;
+
+    @Column(name = "month")
+    private LocalDate month;
+
+    @Column(name = "dutyPoints")
+    private Integer dutyPoints;
+
+    @Column(name = "categoryPoints")
+    private Integer categoryPoints;
+
+    @Column(name = "dutyCount")
+    private Integer dutyCount;
+
+    @Override
+    public Integer getMusicianMonthPointsId() {
+        return this.musicianMonthPointsId;
+    }
+
+    @Override
+    public void setMusicianMonthPointsId(Integer musicianMonthPointsId) {
+        this.musicianMonthPointsId = musicianMonthPointsId;
+    }
+
+    @Override
+    public IMusicianEntity getMusician() {
+        return this.musician;
+    }
+
+    @Override
+    public void setMusician(IMusicianEntity musician) {
+        this.musician = musician;
+    }
+
+    @Override
+    public LocalDate getMonth() {
+        return this.month;
+    }
+
+    @Override
+    public void setMonth(LocalDate month) {
+        this.month = month;
+    }
+
+    @Override
+    public Integer getDutyPoints() {
+        return this.dutyPoints;
+    }
+
+    @Override
+    public void setDutyPoints(Integer dutyPoints) {
+        this.dutyPoints = dutyPoints;
+    }
+
+    @Override
+    public Integer getCategoryPoints() {
+        return this.categoryPoints;
+    }
+
+    @Override
+    public void setCategoryPoints(Integer categoryPoints) {
+        this.categoryPoints = categoryPoints;
+    }
+
+    @Override
+    public Integer getDutyCount() {
+        return this.dutyCount;
+    }
+
+    @Override
+    public void setDutyCount(Integer dutyCount) {
+        this.dutyCount = dutyCount;
+    }
+}
@@ -5,11 +5,13 @@ import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IAdministrativeAss
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IMusicianEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IUserEntity;
 import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.SecureRandom;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import javax.persistence.Column;
 import javax.persistence.Entity;
@@ -251,6 +253,27 @@ public class UserEntity implements IUserEntity, PasswordableUser {
         administrativeAssistant.setUser(null);
     }
 
+    /**
+     * Checks whether the given password matches the stored password hash.
+     *
+     * <p>The hashes are compared in constant time, regardless of where they differ.
+     *
+     * @param password Password as plaintext
+     * @return True if the password is correct, false otherwise
+     * @throws NoSuchAlgorithmException When SHA-512 is lost
+     */
+    @Override
+    public boolean isPasswordCorrect(String password) throws NoSuchAlgorithmException {
+        Optional<String> hash = getHashFromPlaintext(password);
+        if (hash.isEmpty() || this.password == null) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+            hash.get().toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8),
+            this.password.toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
     /**
      * Generates a SHA-512 hash from a given password.
      *
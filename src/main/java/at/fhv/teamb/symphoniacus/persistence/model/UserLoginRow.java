@@ -0,0 +1,44 @@
+package at.fhv.teamb.symphoniacus.persistence.model;
+
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IAdministrativeAssistantEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IMusicianEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IUserEntity;
+
+/**
+ * Everything needed to log in a user, loaded with a single query: the user including the
+ * password hash and the musician or administrative assistant the user is.
+ */
+public final class UserLoginRow {
+    private final IUserEntity user;
+    private final IMusicianEntity musician;
+    private final IAdministrativeAssistantEntity administrativeAssistant;
+
+    /**
+     * Creates a new login row.
+     *
+     * @param user                    The user
+     * @param musician                The musician of the user, may be null
+     * @param administrativeAssistant The administrative assistant of the user, may be null
+     */
+    public UserLoginRow(
+        IUserEntity user,
+        IMusicianEntity musician,
+        IAdministrativeAssistantEntity administrativeAssistant
+    ) {
+        this.user = user;
+        this.musician = musician;
+        this.administrativeAssistant = administrativeAssistant;
+    }
+
+    public IUserEntity getUser() {
+        return this.user;
+    }
+
+    public IMusicianEntity getMusician() {
+        return this.musician;
+    }
+
+    public IAdministrativeAssistantEntity getAdministrativeAssistant() {
+        return this.administrativeAssistant;
+    }
+}
@@ -0,0 +1,29 @@
+package at.fhv.teamb.symphoniacus.persistence.model.interfaces;
+
+import java.time.LocalDate;
+
+public interface IMusicianMonthPointsEntity {
+    Integer getMusicianMonthPointsId();
+
+    void setMusicianMonthPointsId(Integer musicianMonthPointsId);
+
+    IMusicianEntity getMusician();
+
+    void setMusician(IMusicianEntity musician);
+
+    LocalDate getMonth();
+
+    void setMonth(LocalDate month);
+
+    Integer getDutyPoints();
+
+    void setDutyPoints(Integer dutyPoints);
+
+    Integer getCategoryPoints();
+
+    void setCategoryPoints(Integer categoryPoints);
+
+    Integer getDutyCount();
+
+    void setDutyCount(Integer dutyCount);
+}
@@ -67,6 +67,8 @@ public interface IUserEntity {
 
     Optional<String> getHashFromPlaintext(String password) throws NoSuchAlgorithmException;
 
+    boolean isPasswordCorrect(String password) throws NoSuchAlgorithmException;
+
     String generateSalt();
 
     String getPassword();
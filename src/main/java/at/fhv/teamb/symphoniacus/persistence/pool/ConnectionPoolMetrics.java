@@ -0,0 +1,87 @@
+package at.fhv.teamb.symphoniacus.persistence.pool;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.PoolStats;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects the metrics of one connection pool and exposes them via JMX.
+ *
+ * <p>Pool sizes are read from the {@link PoolStats} of the pool, acquire latencies are recorded
+ * by the pool itself through the {@link IMetricsTracker} callbacks.
+ */
+public class ConnectionPoolMetrics implements IMetricsTracker, ConnectionPoolMetricsMBean {
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+    private final PoolStats poolStats;
+    private final LongAdder acquireCount = new LongAdder();
+    private final LongAdder acquireNanos = new LongAdder();
+    private final AtomicLong maxAcquireNanos = new AtomicLong();
+    private final LongAdder timeoutCount = new LongAdder();
+
+    public ConnectionPoolMetrics(PoolStats poolStats) {
+        this.poolStats = poolStats;
+    }
+
+    @Override
+    public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+        this.acquireCount.increment();
+        this.acquireNanos.add(elapsedAcquiredNanos);
+        this.maxAcquireNanos.accumulateAndGet(elapsedAcquiredNanos, Math::max);
+    }
+
+    @Override
+    public void recordConnectionTimeout() {
+        this.timeoutCount.increment();
+    }
+
+    @Override
+    public int getActiveConnections() {
+        return this.poolStats.getActiveConnections();
+    }
+
+    @Override
+    public int getIdleConnections() {
+        return this.poolStats.getIdleConnections();
+    }
+
+    @Override
+    public int getPendingThreads() {
+        return this.poolStats.getPendingThreads();
+    }
+
+    @Override
+    public int getTotalConnections() {
+        return this.poolStats.getTotalConnections();
+    }
+
+    @Override
+    public int getMaxConnections() {
+        return this.poolStats.getMaxConnections();
+    }
+
+    @Override
+    public long getAcquireCount() {
+        return this.acquireCount.sum();
+    }
+
+    @Override
+    public double getAverageAcquireMillis() {
+        long count = this.acquireCount.sum();
+        if (count == 0) {
+            return 0;
+        }
+        return this.acquireNanos.sum() / NANOS_PER_MILLI / count;
+    }
+
+    @Override
+    public double getMaxAcquireMillis() {
+        return this.maxAcquireNanos.get() / NANOS_PER_MILLI;
+    }
+
+    @Override
+    public long getTimeoutCount() {
+        return this.timeoutCount.sum();
+    }
+}
@@ -0,0 +1,72 @@
+package at.fhv.teamb.symphoniacus.persistence.pool;
+
+/**
+ * JMX view on the state of a JDBC connection pool.
+ *
+ * @see ConnectionPoolMetrics
+ */
+public interface ConnectionPoolMetricsMBean {
+
+    /**
+     * Returns the number of connections currently in use.
+     *
+     * @return Number of active connections
+     */
+    int getActiveConnections();
+
+    /**
+     * Returns the number of connections currently idle in the pool.
+     *
+     * @return Number of idle connections
+     */
+    int getIdleConnections();
+
+    /**
+     * Returns the number of threads waiting for a connection.
+     *
+     * @return Number of pending threads
+     */
+    int getPendingThreads();
+
+    /**
+     * Returns the total number of connections in the pool.
+     *
+     * @return Number of connections
+     */
+    int getTotalConnections();
+
+    /**
+     * Returns the maximum number of connections the pool may hold.
+     *
+     * @return Maximum pool size
+     */
+    int getMaxConnections();
+
+    /**
+     * Returns how often a connection has been acquired from the pool.
+     *
+     * @return Number of acquired connections
+     */
+    long getAcquireCount();
+
+    /**
+     * Returns the average time it took to acquire a connection.
+     *
+     * @return Average acquire latency in milliseconds
+     */
+    double getAverageAcquireMillis();
+
+    /**
+     * Returns the longest time it took to acquire a connection.
+     *
+     * @return Maximum acquire latency in milliseconds
+     */
+    double getMaxAcquireMillis();
+
+    /**
+     * Returns how often acquiring a connection timed out.
+     *
+     * @return Number of timeouts
+     */
+    long getTimeoutCount();
+}
@@ -0,0 +1,212 @@
+package at.fhv.teamb.symphoniacus.persistence.pool;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.sql.DataSource;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.jdbc.connections.spi.ConnectionProvider;
+import org.hibernate.service.UnknownUnwrapTypeException;
+import org.hibernate.service.spi.Configurable;
+import org.hibernate.service.spi.Stoppable;
+
+/**
+ * Hibernate {@link ConnectionProvider} backed by a bounded HikariCP connection pool.
+ *
+ * <p>The JDBC connection data is taken from the persistence unit. The pool itself is configured
+ * through the {@code symphoniacus.pool.*} properties, see the {@code PROPERTY_*} constants for
+ * the available keys. Properties starting with {@code symphoniacus.pool.dataSource.} are passed
+ * on to the JDBC driver. The metrics of every pool are registered as {@link ConnectionPoolMetrics}
+ * MBean under {@code at.fhv.teamb.symphoniacus:type=ConnectionPool,name=<pool name>}.
+ */
+public class PooledConnectionProvider implements ConnectionProvider, Configurable, Stoppable {
+    public static final String PROPERTY_PREFIX = "symphoniacus.pool.";
+    public static final String PROPERTY_MAXIMUM_POOL_SIZE = PROPERTY_PREFIX + "maximumPoolSize";
+    public static final String PROPERTY_MINIMUM_IDLE = PROPERTY_PREFIX + "minimumIdle";
+    public static final String PROPERTY_CONNECTION_TIMEOUT = PROPERTY_PREFIX + "connectionTimeout";
+    public static final String PROPERTY_IDLE_TIMEOUT = PROPERTY_PREFIX + "idleTimeout";
+    public static final String PROPERTY_MAX_LIFETIME = PROPERTY_PREFIX + "maxLifetime";
+    public static final String PROPERTY_VALIDATION_QUERY = PROPERTY_PREFIX + "validationQuery";
+    public static final String PROPERTY_VALIDATION_TIMEOUT = PROPERTY_PREFIX + "validationTimeout";
+    public static final String PROPERTY_LEAK_DETECTION_THRESHOLD =
+        PROPERTY_PREFIX + "leakDetectionThreshold";
+    public static final String PROPERTY_DATA_SOURCE_PREFIX = PROPERTY_PREFIX + "dataSource.";
+
+    private static final Logger LOG = LogManager.getLogger(PooledConnectionProvider.class);
+    private static final String JMX_NAME = "at.fhv.teamb.symphoniacus:type=ConnectionPool,name=";
+    private static final AtomicInteger POOL_COUNTER = new AtomicInteger();
+
+    private HikariDataSource dataSource;
+    private ConnectionPoolMetrics metrics;
+    private ObjectName metricsName;
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void configure(Map settings) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(
+            getString(settings, AvailableSettings.PERSISTENCE_UNIT_NAME, "symphoniacus")
+                + "-" + POOL_COUNTER.incrementAndGet()
+        );
+
+        config.setJdbcUrl(
+            getString(settings, AvailableSettings.JPA_JDBC_URL,
+                getString(settings, AvailableSettings.URL, null))
+        );
+        config.setUsername(
+            getString(settings, AvailableSettings.JPA_JDBC_USER,
+                getString(settings, AvailableSettings.USER, null))
+        );
+        config.setPassword(
+            getString(settings, AvailableSettings.JPA_JDBC_PASSWORD,
+                getString(settings, AvailableSettings.PASS, null))
+        );
+        String driver = getString(settings, AvailableSettings.JPA_JDBC_DRIVER,
+            getString(settings, AvailableSettings.DRIVER, null));
+        if (driver != null) {
+            config.setDriverClassName(driver);
+        }
+        config.setAutoCommit(
+            Boolean.parseBoolean(getString(settings, AvailableSettings.AUTOCOMMIT, "false"))
+        );
+
+        config.setMaximumPoolSize(getInt(settings, PROPERTY_MAXIMUM_POOL_SIZE, 10));
+        config.setMinimumIdle(getInt(settings, PROPERTY_MINIMUM_IDLE, 2));
+        config.setConnectionTimeout(getLong(settings, PROPERTY_CONNECTION_TIMEOUT, 30_000L));
+        config.setIdleTimeout(getLong(settings, PROPERTY_IDLE_TIMEOUT, 600_000L));
+        config.setMaxLifetime(getLong(settings, PROPERTY_MAX_LIFETIME, 1_800_000L));
+        config.setConnectionTestQuery(getString(settings, PROPERTY_VALIDATION_QUERY, "SELECT 1"));
+        config.setValidationTimeout(getLong(settings, PROPERTY_VALIDATION_TIMEOUT, 5_000L));
+        config.setLeakDetectionThreshold(
+            getLong(settings, PROPERTY_LEAK_DETECTION_THRESHOLD, 60_000L)
+        );
+        for (Object key : settings.keySet()) {
+            String name = key.toString();
+            if (name.startsWith(PROPERTY_DATA_SOURCE_PREFIX)) {
+                config.addDataSourceProperty(
+                    name.substring(PROPERTY_DATA_SOURCE_PREFIX.length()),
+                    settings.get(key)
+                );
+            }
+        }
+        config.setRegisterMbeans(true);
+        config.setMetricsTrackerFactory((poolName, poolStats) -> {
+            this.metrics = new ConnectionPoolMetrics(poolStats);
+            return this.metrics;
+        });
+
+        this.dataSource = new HikariDataSource(config);
+        this.registerMetrics(config.getPoolName());
+        LOG.info(
+            "Connection pool {} started with at most {} connections",
+            config.getPoolName(),
+            config.getMaximumPoolSize()
+        );
+    }
+
+    /**
+     * Returns the metrics of this connection pool.
+     *
+     * @return The metrics
+     */
+    public ConnectionPoolMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return this.dataSource.getConnection();
+    }
+
+    @Override
+    public void closeConnection(Connection conn) throws SQLException {
+        conn.close();
+    }
+
+    @Override
+    public boolean supportsAggressiveRelease() {
+        return false;
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public boolean isUnwrappableAs(Class unwrapType) {
+        return ConnectionProvider.class.equals(unwrapType)
+            || PooledConnectionProvider.class.isAssignableFrom(unwrapType)
+            || DataSource.class.isAssignableFrom(unwrapType);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T unwrap(Class<T> unwrapType) {
+        if (ConnectionProvider.class.equals(unwrapType)
+            || PooledConnectionProvider.class.isAssignableFrom(unwrapType)) {
+            return (T) this;
+        } else if (DataSource.class.isAssignableFrom(unwrapType)) {
+            return (T) this.dataSource;
+        }
+        throw new UnknownUnwrapTypeException(unwrapType);
+    }
+
+    @Override
+    public void stop() {
+        this.unregisterMetrics();
+        if (this.dataSource != null) {
+            this.dataSource.close();
+            LOG.info("Connection pool {} stopped", this.dataSource.getPoolName());
+        }
+    }
+
+    private void registerMetrics(String poolName) {
+        if (this.metrics == null) {
+            return;
+        }
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            this.metricsName = new ObjectName(JMX_NAME + ObjectName.quote(poolName));
+            server.registerMBean(this.metrics, this.metricsName);
+        } catch (JMException e) {
+            LOG.error("Could not register metrics of connection pool {}", poolName, e);
+            this.metricsName = null;
+        }
+    }
+
+    private void unregisterMetrics() {
+        if (this.metricsName == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(this.metricsName);
+        } catch (JMException e) {
+            LOG.error("Could not unregister metrics {}", this.metricsName, e);
+        }
+        this.metricsName = null;
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static String getString(Map settings, String key, String defaultValue) {
+        Object value = settings.get(key);
+        return value == null ? defaultValue : value.toString();
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static int getInt(Map settings, String key, int defaultValue) {
+        Object value = settings.get(key);
+        return value == null ? defaultValue : Integer.parseInt(value.toString().trim());
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static long getLong(Map settings, String key, long defaultValue) {
+        Object value = settings.get(key);
+        return value == null ? defaultValue : Long.parseLong(value.toString().trim());
+    }
+}
@@ -3,17 +3,33 @@ package at.fhv.teamb.symphoniacus.presentation;
 import at.fhv.teamb.symphoniacus.application.DutyManager;
 import at.fhv.teamb.symphoniacus.application.dto.DutyDto;
 import at.fhv.teamb.symphoniacus.domain.Duty;
-import at.fhv.teamb.symphoniacus.persistence.model.DutyEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.DutyCalendarRow;
 import at.fhv.teamb.symphoniacus.presentation.internal.Parentable;
+import at.fhv.teamb.symphoniacus.presentation.internal.tasks.GetDutyCalendarRowTask;
 import at.fhv.teamb.symphoniacus.presentation.internal.tasks.LoadingAnimationTask;
+import at.fhv.teamb.symphoniacus.presentation.internal.tasks.TaskScheduler;
 import com.calendarfx.model.Calendar;
 import com.calendarfx.model.CalendarSource;
 import com.calendarfx.model.Entry;
 import com.calendarfx.model.Interval;
 import com.calendarfx.view.CalendarView;
 import java.time.LocalDate;
+import java.time.Month;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.ResourceBundle;
+import java.util.Set;
+import java.util.function.Consumer;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.layout.AnchorPane;
@@ -27,14 +43,10 @@ import javafx.scene.layout.AnchorPane;
  */
 public abstract class CalendarController implements Initializable, Parentable<TabPaneController> {
     /**
-     * Default interval start date represents {@link LocalDate#now()}.
+     * Maximum number of months kept in the calendar. When more months are loaded, the months
+     * shown least recently are removed from the calendar.
      */
-    protected static final LocalDate DEFAULT_INTERVAL_START = LocalDate.now().minusMonths(2);
-
-    /**
-     * Default interval end date represents {@link LocalDate#now()} plus two years.
-     */
-    protected static final LocalDate DEFAULT_INTERVAL_END = LocalDate.now().plusMonths(24);
+    protected static final int LOADED_MONTHS_LIMIT = 24;
 
     protected DutyManager dutyManager;
 
@@ -46,8 +58,31 @@ public abstract class CalendarController implements Initializable, Parentable<Ta
 
     protected Calendar calendar;
 
+    private final ResourceBundle titleResources;
+    private final Map<Integer, Entry<DutyCalendarRow>> entriesByDutyId;
+    private final Map<Integer, YearMonth> ownerMonthsByDutyId;
+    private final Map<YearMonth, Set<Integer>> loadedMonths;
+    private final Map<YearMonth, MonthLoad> loadingMonths;
+
+    /**
+     * Initializes the CalendarController.
+     */
     public CalendarController() {
         this.dutyManager = new DutyManager();
+        this.titleResources = ResourceBundle.getBundle("bundles.language", new Locale("en", "UK"));
+        this.entriesByDutyId = new HashMap<>();
+        this.ownerMonthsByDutyId = new HashMap<>();
+        this.loadedMonths = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<YearMonth, Set<Integer>> eldest) {
+                if (this.size() <= LOADED_MONTHS_LIMIT) {
+                    return false;
+                }
+                CalendarController.this.removeDuties(eldest.getKey(), eldest.getValue());
+                return true;
+            }
+        };
+        this.loadingMonths = new HashMap<>();
     }
 
     /**
@@ -61,13 +96,51 @@ public abstract class CalendarController implements Initializable, Parentable<Ta
     protected abstract void setEntryDetailsCallback();
 
     /**
-     * Returns a task containing the requested {@link Duty} objects.
+     * Returns a task loading the requested duties as {@link DutyCalendarRow} objects.
      *
-     * @param start A LocalDate representing the start
-     * @param end   A LocalDate representing the end
+     * @param start         A LocalDate representing the start
+     * @param end           A LocalDate representing the end
+     * @param chunkConsumer Receives the rows chunk by chunk on the JavaFX application thread
      * @return A subclass of {@link LoadingAnimationTask}
      */
-    protected abstract LoadingAnimationTask<?> loadDuties(LocalDate start, LocalDate end);
+    protected abstract LoadingAnimationTask<?> loadDuties(
+        LocalDate start,
+        LocalDate end,
+        Consumer<List<DutyCalendarRow>> chunkConsumer
+    );
+
+    /**
+     * Loads the duties of the months shown by the {@link CalendarView} whenever its date or
+     * page changes.
+     *
+     * <p>Besides the visible month, the months of the previous and the next page are loaded in
+     * the background. A year page loads all months of the year. Loads of months that are not
+     * wanted anymore are cancelled and at most {@link #LOADED_MONTHS_LIMIT} months are kept.
+     */
+    protected void enableLazyLoading() {
+        this.calendarView.dateProperty().addListener(
+            (observable, oldDate, newDate) -> this.loadVisibleMonths()
+        );
+        this.calendarView.selectedPageProperty().addListener(
+            (observable, oldPage, newPage) -> this.loadVisibleMonths()
+        );
+        this.loadVisibleMonths();
+    }
+
+    /**
+     * Loads all months shown in the calendar again and applies only the changes to the
+     * existing entries.
+     *
+     * <p>Entries of new duties are added, entries of deleted duties are removed and the
+     * interval or title of changed duties is updated in place.
+     */
+    protected void refreshLoadedMonths() {
+        for (YearMonth month : new LinkedList<>(this.loadedMonths.keySet())) {
+            if (!this.loadingMonths.containsKey(month)) {
+                this.loadMonth(month);
+            }
+        }
+    }
 
     /**
      * Creates a {@link Calendar}.
@@ -88,28 +161,32 @@ public abstract class CalendarController implements Initializable, Parentable<Ta
         return calendar;
     }
 
-    /**
-     * Fills a {@link Calendar} with {@link Entry} objects.
-     *
-     * @param calendar The calendar to fill
-     * @param duties   A List of Duties
-     */
-    protected void fillCalendar(Calendar calendar, List<Duty> duties) {
-        for (Entry<Duty> entry : this.createDutyCalendarEntries(duties)) {
-            entry.setCalendar(calendar);
-        }
-    }
 
     /**
-     * Add a new Duty as Entry to the Calendar.
+     * Add a new Duty as Entry to the Calendar. The duty is loaded in the background and added
+     * once it is loaded.
      *
      * @param duty to add to Calendar
      */
     protected void addDuty(DutyDto duty) {
-        Duty newDuty = this.dutyManager.getDutyByDutyDto(duty);
+        GetDutyCalendarRowTask task =
+            new GetDutyCalendarRowTask(this.dutyManager, duty, this.calendarPane);
+        task.setOnSucceeded(event -> task.getValue().ifPresent(this::addCalendarRow));
+        TaskScheduler.execute(task);
+    }
 
-        if (newDuty != null) {
-            this.calendar.addEntry(createDutyCalendarEntry(newDuty));
+    private void addCalendarRow(DutyCalendarRow row) {
+        Entry<DutyCalendarRow> entry = this.fillCalendar(this.calendar, List.of(row)).get(0);
+
+        // Keep track of the entry so it is removed together with its month
+        YearMonth month = YearMonth.from(entry.getStartDate());
+        this.ownerMonthsByDutyId.put(row.getDutyId(), month);
+        Set<Integer> monthDutyIds = this.loadedMonths.get(month);
+        if (monthDutyIds == null && this.loadingMonths.containsKey(month)) {
+            monthDutyIds = this.loadingMonths.get(month).dutyIds;
+        }
+        if (monthDutyIds != null) {
+            monthDutyIds.add(row.getDutyId());
         }
     }
 
@@ -127,34 +204,237 @@ public abstract class CalendarController implements Initializable, Parentable<Ta
     }
 
     /**
-     * Returns a list of CalendarFX {@link Entry} objects based on {@link DutyEntity} objects.
+     * Fills a {@link Calendar} with {@link Entry} objects.
+     *
+     * <p>Duties already shown in the calendar keep their entry, only its interval and title
+     * are updated if they changed.
+     *
+     * @param calendar The calendar to fill
+     * @param duties   A List of calendar rows of the duties
+     * @return The entries of the duties
+     */
+    protected List<Entry<DutyCalendarRow>> fillCalendar(
+        Calendar calendar,
+        List<DutyCalendarRow> duties
+    ) {
+        List<Entry<DutyCalendarRow>> entries = new LinkedList<>();
+        List<Entry<?>> newEntries = new LinkedList<>();
+        for (DutyCalendarRow duty : duties) {
+            Entry<DutyCalendarRow> entry = this.entriesByDutyId.get(duty.getDutyId());
+            if (entry != null && entry.getCalendar() == calendar) {
+                this.updateDutyCalendarEntry(entry, duty);
+            } else {
+                entry = this.createDutyCalendarEntry(duty);
+                this.entriesByDutyId.put(duty.getDutyId(), entry);
+                newEntries.add(entry);
+            }
+            entries.add(entry);
+        }
+        calendar.addEntries(newEntries);
+        return entries;
+    }
+
+    private void loadVisibleMonths() {
+        LocalDate date = this.calendarView.getDate();
+        Set<YearMonth> wanted = new LinkedHashSet<>();
+        if (this.calendarView.getSelectedPage() == this.calendarView.getYearPage()) {
+            for (Month month : Month.values()) {
+                wanted.add(YearMonth.of(date.getYear(), month));
+            }
+        } else {
+            YearMonth month = YearMonth.from(date);
+            wanted.add(month);
+            wanted.add(month.minusMonths(1));
+            wanted.add(month.plusMonths(1));
+        }
+
+        // Navigation superseded loads of months that are not wanted anymore
+        Iterator<Map.Entry<YearMonth, MonthLoad>> loads =
+            this.loadingMonths.entrySet().iterator();
+        while (loads.hasNext()) {
+            Map.Entry<YearMonth, MonthLoad> load = loads.next();
+            if (!wanted.contains(load.getKey())) {
+                load.getValue().task.cancel(false);
+                loads.remove();
+                this.removeDuties(load.getKey(), load.getValue().getAddedDutyIds());
+            }
+        }
+
+        for (YearMonth month : wanted) {
+            // Looking the month up marks it as recently shown
+            if (this.loadedMonths.get(month) == null
+                && !this.loadingMonths.containsKey(month)) {
+                this.loadMonth(month);
+            }
+        }
+    }
+
+    private void loadMonth(YearMonth month) {
+        Set<Integer> previousDutyIds = this.loadedMonths.getOrDefault(month, Set.of());
+        Set<Integer> dutyIds = new HashSet<>();
+        LocalDate monthEnd = month.plusMonths(1).atDay(1);
+        // A duty belongs to the month it starts in, duties ending after midnight of the last
+        // day are only found with an extra day because the load also bounds the duty end
+        LoadingAnimationTask<?> task = this.loadDuties(
+            month.atDay(1),
+            monthEnd.plusDays(1),
+            duties -> {
+                // Skip chunks that arrive after the load was superseded
+                MonthLoad load = this.loadingMonths.get(month);
+                if (load == null || load.dutyIds != dutyIds) {
+                    return;
+                }
+                List<DutyCalendarRow> monthDuties = new LinkedList<>();
+                for (DutyCalendarRow duty : duties) {
+                    if (duty.getStart().toLocalDate().isBefore(monthEnd)) {
+                        monthDuties.add(duty);
+                    }
+                }
+                for (Entry<DutyCalendarRow> entry : this.fillCalendar(this.calendar, monthDuties)) {
+                    Integer dutyId = entry.getUserObject().getDutyId();
+                    dutyIds.add(dutyId);
+                    // A duty moved between two months belongs to the month loaded last
+                    this.ownerMonthsByDutyId.put(dutyId, month);
+                }
+            }
+        );
+        MonthLoad load = new MonthLoad(task, dutyIds, previousDutyIds);
+        this.loadingMonths.put(month, load);
+
+        task.setOnSucceeded(event -> {
+            this.loadingMonths.remove(month);
+            this.loadedMonths.put(month, dutyIds);
+            this.removeDuties(month, load.getRemovedDutyIds());
+        });
+        task.setOnFailed(event -> {
+            this.loadingMonths.remove(month);
+            this.removeDuties(month, load.getAddedDutyIds());
+        });
+        TaskScheduler.execute(task);
+    }
+
+    /**
+     * Removes the entries of duties a month does not contain anymore.
+     *
+     * <p>An entry is shared by all months containing its duty and belongs to the month that
+     * loaded it last. It is only removed if the given month still owns it, otherwise the duty
+     * was moved and the other month keeps showing it. If another month still contains the
+     * duty, the entry is handed over to that month instead.
      *
-     * @param duties A List of Duties
-     * @return A list of Entries
+     * @param month   The month whose duties are removed
+     * @param dutyIds The identifiers of the duties to remove
      */
-    private List<Entry<Duty>> createDutyCalendarEntries(List<Duty> duties) {
-        List<Entry<Duty>> calendarEntries = new LinkedList<>();
-        for (Duty duty : duties) {
-            calendarEntries.add(createDutyCalendarEntry(duty));
+    private void removeDuties(YearMonth month, Collection<Integer> dutyIds) {
+        List<Entry<?>> entries = new LinkedList<>();
+        for (Integer dutyId : dutyIds) {
+            if (!month.equals(this.ownerMonthsByDutyId.get(dutyId))) {
+                continue;
+            }
+            YearMonth otherMonth = this.findOtherMonthOf(dutyId, month);
+            if (otherMonth != null) {
+                this.ownerMonthsByDutyId.put(dutyId, otherMonth);
+                continue;
+            }
+            this.ownerMonthsByDutyId.remove(dutyId);
+            Entry<DutyCalendarRow> entry = this.entriesByDutyId.remove(dutyId);
+            if (entry != null) {
+                entries.add(entry);
+            }
         }
-        return calendarEntries;
+        this.calendar.removeEntries(entries);
+    }
+
+    private YearMonth findOtherMonthOf(Integer dutyId, YearMonth month) {
+        // Iterating does not change the access order of the loaded months
+        for (Map.Entry<YearMonth, Set<Integer>> loaded : this.loadedMonths.entrySet()) {
+            if (!loaded.getKey().equals(month) && loaded.getValue().contains(dutyId)) {
+                return loaded.getKey();
+            }
+        }
+        for (Map.Entry<YearMonth, MonthLoad> loading : this.loadingMonths.entrySet()) {
+            if (!loading.getKey().equals(month) && loading.getValue().dutyIds.contains(dutyId)) {
+                return loading.getKey();
+            }
+        }
+        return null;
     }
 
     /**
-     * Returns a CalendarFX {@link Entry} object of a Duty.
+     * Returns a CalendarFX {@link Entry} object of a duty.
+     *
+     * <p>The entry only holds the calendar row of the duty, the {@link Duty} itself is loaded
+     * as soon as its details are requested.
      *
-     * @param duty to convert to Entry
-     * @return Entry of the given Duty
+     * @param duty The calendar row of the duty to convert to Entry
+     * @return Entry of the given duty
      */
-    private Entry<Duty> createDutyCalendarEntry(Duty duty) {
-        Interval interval = new Interval(
-            duty.getEntity().getStart().toLocalDate(),
-            duty.getEntity().getStart().toLocalTime(),
-            duty.getEntity().getEnd().toLocalDate(),
-            duty.getEntity().getEnd().toLocalTime()
+    private Entry<DutyCalendarRow> createDutyCalendarEntry(DutyCalendarRow duty) {
+        Entry<DutyCalendarRow> entry = new Entry<>(
+            this.createTitle(duty),
+            this.createInterval(duty)
         );
-        Entry<Duty> entry = new Entry<>(duty.getTitle(), interval);
         entry.setUserObject(duty);
         return entry;
     }
+
+    private void updateDutyCalendarEntry(Entry<DutyCalendarRow> entry, DutyCalendarRow duty) {
+        Interval interval = this.createInterval(duty);
+        if (!interval.equals(entry.getInterval())) {
+            entry.setInterval(interval);
+        }
+        String title = this.createTitle(duty);
+        if (!Objects.equals(title, entry.getTitle())) {
+            entry.setTitle(title);
+        }
+        entry.setUserObject(duty);
+    }
+
+    private Interval createInterval(DutyCalendarRow duty) {
+        return new Interval(
+            duty.getStart().toLocalDate(),
+            duty.getStart().toLocalTime(),
+            duty.getEnd().toLocalDate(),
+            duty.getEnd().toLocalTime()
+        );
+    }
+
+    private String createTitle(DutyCalendarRow duty) {
+        return Duty.createTitle(
+            duty.getCategoryType(),
+            duty.getSeriesDescription(),
+            duty.getDescription(),
+            this.titleResources
+        );
+    }
+
+    /**
+     * A month whose duties are currently loaded.
+     */
+    private static class MonthLoad {
+        private final LoadingAnimationTask<?> task;
+        private final Set<Integer> dutyIds;
+        private final Set<Integer> previousDutyIds;
+
+        private MonthLoad(
+            LoadingAnimationTask<?> task,
+            Set<Integer> dutyIds,
+            Set<Integer> previousDutyIds
+        ) {
+            this.task = task;
+            this.dutyIds = dutyIds;
+            this.previousDutyIds = previousDutyIds;
+        }
+
+        private Set<Integer> getAddedDutyIds() {
+            Set<Integer> added = new HashSet<>(this.dutyIds);
+            added.removeAll(this.previousDutyIds);
+            return added;
+        }
+
+        private Set<Integer> getRemovedDutyIds() {
+            Set<Integer> removed = new HashSet<>(this.previousDutyIds);
+            removed.removeAll(this.dutyIds);
+            return removed;
+        }
+    }
 }
@@ -6,6 +6,7 @@ import at.fhv.teamb.symphoniacus.application.PointsManager;
 import at.fhv.teamb.symphoniacus.application.WishRequestManager;
 import at.fhv.teamb.symphoniacus.application.dto.SectionDto;
 import at.fhv.teamb.symphoniacus.domain.ActualSectionInstrumentation;
+import at.fhv.teamb.symphoniacus.domain.AvailabilityMatrix;
 import at.fhv.teamb.symphoniacus.domain.Duty;
 import at.fhv.teamb.symphoniacus.domain.DutyPosition;
 import at.fhv.teamb.symphoniacus.domain.MusicalPiece;
@@ -22,9 +23,10 @@ import at.fhv.teamb.symphoniacus.presentation.internal.OldDutyComboView;
 import at.fhv.teamb.symphoniacus.presentation.internal.Parentable;
 import at.fhv.teamb.symphoniacus.presentation.internal.ScheduleButtonTableCell;
 import at.fhv.teamb.symphoniacus.presentation.internal.TabPaneEntry;
-import at.fhv.teamb.symphoniacus.presentation.internal.tasks.GetMusiciansAvailableForPositionTask;
+import at.fhv.teamb.symphoniacus.presentation.internal.tasks.GetAvailabilityMatrixTask;
 import at.fhv.teamb.symphoniacus.presentation.internal.tasks.GetOtherDutiesTask;
 import at.fhv.teamb.symphoniacus.presentation.internal.tasks.GetPositionsWithMusiciansTask;
+import at.fhv.teamb.symphoniacus.presentation.internal.tasks.TaskScheduler;
 import java.net.URL;
 import java.text.MessageFormat;
 import java.time.format.DateTimeFormatter;
@@ -89,6 +91,7 @@ public class DutyScheduleController
     private PointsManager pointsManager;
     private WishRequestManager wishRequestManager;
     private ActualSectionInstrumentation actualSectionInstrumentation;
+    private AvailabilityMatrix availabilityMatrix;
     private HashMap<DutyPosition, Optional<Musician>> oldMusicianOnPosition = new HashMap<>();
     private DutyPosition selectedDutyPosition;
     private ResourceBundle resources;
@@ -211,94 +214,107 @@ public class DutyScheduleController
         MasterController mc = MasterController.getInstance();
         mc.showStatusBarLoading();
 
-        GetMusiciansAvailableForPositionTask task = new GetMusiciansAvailableForPositionTask(
+        // Availability of all positions is loaded once and updated on every assignment
+        if (this.availabilityMatrix != null) {
+            this.initMusicianTables(
+                this.availabilityMatrix.getAvailableMusicians(this.selectedDutyPosition)
+            );
+            return;
+        }
+
+        GetAvailabilityMatrixTask task = new GetAvailabilityMatrixTask(
             this.dutyScheduleManager,
-            this.actualSectionInstrumentation.getDuty(),
-            this.selectedDutyPosition,
+            this.actualSectionInstrumentation,
             this.dutySchedule
         );
         task.setOnSucceeded(event -> {
-            Set<Musician> musiciansWithoutWishRequest = task.getValue();
-            Set<Musician> musiciansWithWishRequest = new HashSet<>();
-
-            // when there is no chosen musical piece
-            //-> sum up all wishes to table for all musical pieces to this duty
-            if (this.musicalPieceSelect.getSelectionModel().isEmpty()) {
-                for (MusicalPieceComboView mpC : this.musicalPieceSelect.getItems()) {
-                    MusicalPiece mp = mpC.getMusicalPiece();
-
-                    Iterator<Musician> itr = musiciansWithoutWishRequest.iterator();
-                    while (itr.hasNext()) {
-                        Musician m = itr.next();
-
-                        if (m.getWishRequest().isPresent() && this.wishRequestManager
-                            .hasWishRequestForGivenDutyAndMusicalPiece(m, mp, this.duty)) {
-                            musiciansWithWishRequest.add(m);
-                            itr.remove();
-                        }
-                    }
-                }
-                //when there is a chosen musical piece
-                //if there is only 1 musical piece, its preselected
-                // -> display all wishes to this duty+musical piece
-            } else {
+            this.availabilityMatrix = task.getValue();
+            this.initMusicianTables(
+                this.availabilityMatrix.getAvailableMusicians(this.selectedDutyPosition)
+            );
+        });
+        task.setOnFailed(event -> AlertHelper.showAlert(
+            Alert.AlertType.ERROR,
+            this.scheduleSaveBtn.getScene().getWindow(),
+            this.resources.getString("alert.duty.schedule.musicians.load.failed.title"),
+            this.resources.getString("alert.duty.schedule.musicians.load.failed.message")
+        ));
+        TaskScheduler.executeLatest(this, task);
+    }
+
+    private void initMusicianTables(Set<Musician> musiciansWithoutWishRequest) {
+        Set<Musician> musiciansWithWishRequest = new HashSet<>();
+
+        // when there is no chosen musical piece
+        //-> sum up all wishes to table for all musical pieces to this duty
+        if (this.musicalPieceSelect.getSelectionModel().isEmpty()) {
+            for (MusicalPieceComboView mpC : this.musicalPieceSelect.getItems()) {
+                MusicalPiece mp = mpC.getMusicalPiece();
+
                 Iterator<Musician> itr = musiciansWithoutWishRequest.iterator();
                 while (itr.hasNext()) {
                     Musician m = itr.next();
 
                     if (m.getWishRequest().isPresent() && this.wishRequestManager
-                        .hasWishRequestForGivenDutyAndMusicalPiece(m, this
-                            .musicalPieceSelect.getSelectionModel()
-                            .getSelectedItem().getMusicalPiece(), this.duty)) {
+                        .hasWishRequestForGivenDutyAndMusicalPiece(m, mp, this.duty)) {
                         musiciansWithWishRequest.add(m);
                         itr.remove();
                     }
                 }
             }
+            //when there is a chosen musical piece
+            //if there is only 1 musical piece, its preselected
+            // -> display all wishes to this duty+musical piece
+        } else {
+            Iterator<Musician> itr = musiciansWithoutWishRequest.iterator();
+            while (itr.hasNext()) {
+                Musician m = itr.next();
+
+                if (m.getWishRequest().isPresent() && this.wishRequestManager
+                    .hasWishRequestForGivenDutyAndMusicalPiece(m, this
+                        .musicalPieceSelect.getSelectionModel()
+                        .getSelectedItem().getMusicalPiece(), this.duty)) {
+                    musiciansWithWishRequest.add(m);
+                    itr.remove();
+                }
+            }
+        }
 
-            this.initMusicianTableWithRequests(musiciansWithWishRequest);
-            List<MusicianTableModel> guiList = new LinkedList<>();
-            int i = 0;
-            int selectedIndex = 0;
-            MusicianTableModel selected = null;
-            for (Musician domainMusician : musiciansWithoutWishRequest) {
-                MusicianTableModel mtm = new MusicianTableModel(domainMusician);
-                guiList.add(mtm);
-                if (this.selectedDutyPosition != null
-                    && this.selectedDutyPosition.getAssignedMusician().isPresent()
-                ) {
-                    LOG.debug("There is already a musician assigned for this position");
-                    if (domainMusician.getShortcut().equals(
-                        this.selectedDutyPosition.getAssignedMusician().get().getShortcut()
-                    )) {
-                        LOG.debug("Selecting index {}", i);
-                        selectedIndex = i;
-                        selected = mtm;
-                    }
+        this.initMusicianTableWithRequests(musiciansWithWishRequest);
+        List<MusicianTableModel> guiList = new LinkedList<>();
+        int i = 0;
+        int selectedIndex = 0;
+        MusicianTableModel selected = null;
+        for (Musician domainMusician : musiciansWithoutWishRequest) {
+            MusicianTableModel mtm = new MusicianTableModel(domainMusician);
+            guiList.add(mtm);
+            if (this.selectedDutyPosition != null
+                && this.selectedDutyPosition.getAssignedMusician().isPresent()
+            ) {
+                LOG.debug("There is already a musician assigned for this position");
+                if (domainMusician.getShortcut().equals(
+                    this.selectedDutyPosition.getAssignedMusician().get().getShortcut()
+                )) {
+                    LOG.debug("Selecting index {}", i);
+                    selectedIndex = i;
+                    selected = mtm;
                 }
-                i++;
             }
+            i++;
+        }
 
-            ObservableList<MusicianTableModel> observableListWithoutRequests =
-                FXCollections.observableArrayList();
-            observableListWithoutRequests.addAll(guiList);
-            this.musicianTableWithoutRequests.setItems(observableListWithoutRequests);
+        ObservableList<MusicianTableModel> observableListWithoutRequests =
+            FXCollections.observableArrayList();
+        observableListWithoutRequests.addAll(guiList);
+        this.musicianTableWithoutRequests.setItems(observableListWithoutRequests);
 
-            // auto select current musician.
-            if (selected != null) {
-                this.musicianTableWithoutRequests.requestFocus();
-                this.musicianTableWithoutRequests.getSelectionModel().select(selected);
-                this.musicianTableWithoutRequests.scrollTo(selectedIndex);
-            }
-            mc.showStatusBarLoaded();
-        });
-        task.setOnFailed(event -> AlertHelper.showAlert(
-            Alert.AlertType.ERROR,
-            this.scheduleSaveBtn.getScene().getWindow(),
-            this.resources.getString("alert.duty.schedule.musicians.load.failed.title"),
-            this.resources.getString("alert.duty.schedule.musicians.load.failed.message")
-        ));
-        new Thread(task).start();
+        // auto select current musician.
+        if (selected != null) {
+            this.musicianTableWithoutRequests.requestFocus();
+            this.musicianTableWithoutRequests.getSelectionModel().select(selected);
+            this.musicianTableWithoutRequests.scrollTo(selectedIndex);
+        }
+        MasterController.getInstance().showStatusBarLoaded();
     }
 
     private void initMusicianTableWithRequests(Set<Musician> musiciansWithRequests) {
@@ -396,6 +412,7 @@ public class DutyScheduleController
                     LOG.error("Found no asi for duty");
                 } else {
                     this.actualSectionInstrumentation = currentAsi.get();
+                    this.availabilityMatrix = null;
                     this.duty = this.actualSectionInstrumentation.getDuty();
                     //preload wishEntries for further working
                     this.wishRequestManager.loadAllWishEntriesForDuty(this.duty);
@@ -484,7 +501,7 @@ public class DutyScheduleController
                     mc.showStatusBarLoaded();
                 }
             });
-            new Thread(task).start();
+            TaskScheduler.executeLatest(this, task);
         }
     }
 
@@ -529,7 +546,7 @@ public class DutyScheduleController
                 }
             });
         });
-        new Thread(task).start();
+        TaskScheduler.executeLatest(this, task);
     }
 
     private void loadOldDuty() {
@@ -564,7 +581,8 @@ public class DutyScheduleController
                         for (DutyPosition dp : this.actualSectionInstrumentation.getDuty()
                             .getDutyPositions()) {
                             Set<Musician> avMusicians = this.dutyScheduleManager
-                                .getMusiciansAvailableForPosition(this.duty, dp);
+                                .getAvailabilityMatrix(this.actualSectionInstrumentation)
+                                .getAvailableMusicians(dp);
                             Optional<Musician> oldMusician = Optional.empty();
                             List<DutyPosition> oldDutyPositions =
                                 oldasi.get().getDuty().getDutyPositions();
@@ -604,7 +622,7 @@ public class DutyScheduleController
                         }
                     }
                 });
-                new Thread(task).start();
+                TaskScheduler.execute(task);
             }
         }
     }
@@ -991,6 +1009,7 @@ public class DutyScheduleController
         );
         this.showPositionUpdatedNotif = true;
         this.actualSectionInstrumentation = null;
+        this.availabilityMatrix = null;
         this.dutyScheduleManager = null;
         this.selectedDutyPosition = null;
         this.duty = null;
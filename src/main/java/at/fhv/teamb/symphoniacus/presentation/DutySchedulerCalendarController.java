@@ -5,6 +5,7 @@ import at.fhv.teamb.symphoniacus.application.dto.SectionDto;
 import at.fhv.teamb.symphoniacus.application.type.DomainUserType;
 import at.fhv.teamb.symphoniacus.domain.Musician;
 import at.fhv.teamb.symphoniacus.domain.SectionMonthlySchedule;
+import at.fhv.teamb.symphoniacus.persistence.model.DutyCalendarRow;
 import at.fhv.teamb.symphoniacus.presentation.internal.CustomCalendarButtonEvent;
 import at.fhv.teamb.symphoniacus.presentation.internal.popover.CustomDutyPopoverNode;
 import at.fhv.teamb.symphoniacus.presentation.internal.skin.DutySchedulerCalendarSkin;
@@ -16,9 +17,11 @@ import java.time.LocalDate;
 import java.time.Month;
 import java.time.Year;
 import java.time.format.TextStyle;
+import java.util.List;
 import java.util.Locale;
 import java.util.ResourceBundle;
 import java.util.Set;
+import java.util.function.Consumer;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.geometry.Pos;
@@ -78,12 +81,6 @@ public class DutySchedulerCalendarController extends CalendarController implemen
         sectionDtoBuilder
             .withSectionShortcut(musician.getEntity().getSection().getSectionShortcut());
         sectionDtoBuilder.withDescription(musician.getEntity().getSection().getDescription());
-        sectionDtoBuilder.withSectionMonthlySchedules(
-            musician.getEntity().getSection().getSectionMonthlySchedules());
-        sectionDtoBuilder.withMusicians(musician.getEntity().getSection().getMusicians());
-        sectionDtoBuilder.withDutyPositions(musician.getEntity().getSection().getDutyPositions());
-        sectionDtoBuilder.withSectionInstrumentations(
-            musician.getSection().getEntity().getSectionInstrumentations());
         this.section = sectionDtoBuilder.build();
 
         // Tell CalendarFX to use custom skin
@@ -95,32 +92,24 @@ public class DutySchedulerCalendarController extends CalendarController implemen
         // Event handler for clicking the "Forward" button
         this.addForwardButtonHandler();
 
-        // Fetch duties from database
-        FindAllInRangeWithSectionTask task =
-            this.loadDuties(DEFAULT_INTERVAL_START, DEFAULT_INTERVAL_END);
-        new Thread(task).start();
-
-        task.setOnSucceeded(event -> {
-            // Create calendar
-            Calendar calendar = this.createCalendar(
-                this.section.getDescription(),
-                this.section.getSectionShortcut(),
-                true
-            );
-
-            // Fill calendar
-            this.fillCalendar(calendar, task.getValue());
-
-            // Make Calendar ready to display
-            this.calendarView.getCalendarSources().setAll(
-                this.prepareCalendarSource(
-                    resources.getString("domain.section.sections"),
-                    calendar
-                )
-            );
-
-            LOG.debug("Initialized DutySchedulerCalendarController with parent");
-        });
+        // Create calendar
+        Calendar calendar = this.createCalendar(
+            this.section.getDescription(),
+            this.section.getSectionShortcut(),
+            true
+        );
+
+        // Make Calendar ready to display
+        this.calendarView.getCalendarSources().setAll(
+            this.prepareCalendarSource(
+                resources.getString("domain.section.sections"),
+                calendar
+            )
+        );
+
+        // Fetch the duties of the visible months, the calendar is filled chunk by chunk
+        this.enableLazyLoading();
+        LOG.debug("Initialized DutySchedulerCalendarController with parent");
     }
 
     /**
@@ -379,13 +368,18 @@ public class DutySchedulerCalendarController extends CalendarController implemen
      * {@inheritDoc}
      */
     @Override
-    protected FindAllInRangeWithSectionTask loadDuties(LocalDate start, LocalDate end) {
+    protected FindAllInRangeWithSectionTask loadDuties(
+        LocalDate start,
+        LocalDate end,
+        Consumer<List<DutyCalendarRow>> chunkConsumer
+    ) {
         return new FindAllInRangeWithSectionTask(
             this.dutyManager,
             this.section,
             start,
             end,
-            this.calendarPane
+            this.calendarPane,
+            chunkConsumer
         );
     }
 
@@ -398,6 +392,9 @@ public class DutySchedulerCalendarController extends CalendarController implemen
     @Override
     public void show() {
         this.calendarView.setVisible(true);
+
+        // Duties might have been changed while the calendar was hidden
+        this.refreshLoadedMonths();
     }
 
     @Override
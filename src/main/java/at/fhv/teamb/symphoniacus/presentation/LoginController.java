@@ -4,6 +4,7 @@ import at.fhv.teamb.symphoniacus.application.LoginManager;
 import at.fhv.teamb.symphoniacus.application.dto.LoginUserDto;
 import at.fhv.teamb.symphoniacus.presentation.internal.AlertHelper;
 import at.fhv.teamb.symphoniacus.presentation.internal.tasks.LoginTask;
+import at.fhv.teamb.symphoniacus.presentation.internal.tasks.TaskScheduler;
 import java.io.IOException;
 import java.net.URL;
 import java.util.Locale;
@@ -120,8 +121,7 @@ public class LoginController implements Initializable {
             this.passwordField,
             this.pane
         );
-        Thread thread = new Thread(task, "Login Task");
-        thread.start();
+        TaskScheduler.execute(task);
 
         task.setOnSucceeded(event -> {
             Optional<LoginUserDto> userOptional = task.getValue();
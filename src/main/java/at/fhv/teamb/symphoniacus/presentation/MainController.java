@@ -66,11 +66,14 @@ public class MainController implements Initializable {
         this.currentUser = user;
 
         if (this.currentUser.getType().equals(DomainUserType.DOMAIN_MUSICIAN)) {
-            if (musicianManager == null) {
-                musicianManager = new MusicianManager();
+            // The login usually resolved the musician already
+            Optional<Musician> musician = this.currentUser.getMusician();
+            if (musician.isEmpty()) {
+                if (musicianManager == null) {
+                    musicianManager = new MusicianManager();
+                }
+                musician = musicianManager.loadMusician(this.currentUser.getUserId());
             }
-            Optional<Musician> musician = musicianManager
-                .loadMusician(this.currentUser.getUserId());
 
             if (musician.isPresent()) {
                 LOG.debug("Musician successfully loaded");
@@ -81,13 +84,16 @@ public class MainController implements Initializable {
         }
         if (this.currentUser.getType()
             .equals(DomainUserType.DOMAIN_ADMINISTRATIVE_ASSISTANT)) {
-            if (administrativeManager == null) {
-                administrativeManager = new AdministrativeAssistantManager();
-            }
             Optional<AdministrativeAssistant> administrativeAssistant =
-                administrativeManager.loadAdministrativeAssistant(
+                this.currentUser.getAdministrativeAssistant();
+            if (administrativeAssistant.isEmpty()) {
+                if (administrativeManager == null) {
+                    administrativeManager = new AdministrativeAssistantManager();
+                }
+                administrativeAssistant = administrativeManager.loadAdministrativeAssistant(
                     this.currentUser.getUserId()
                 );
+            }
             if (administrativeAssistant.isPresent()) {
                 LOG.debug("AdministrativeAssistant successfully loaded");
                 this.currentAssistant = administrativeAssistant.get();
@@ -2,6 +2,7 @@ package at.fhv.teamb.symphoniacus.presentation;
 
 import at.fhv.teamb.symphoniacus.application.type.DomainUserType;
 import at.fhv.teamb.symphoniacus.domain.AdministrativeAssistant;
+import at.fhv.teamb.symphoniacus.persistence.model.DutyCalendarRow;
 import at.fhv.teamb.symphoniacus.presentation.internal.CustomCalendarButtonEvent;
 import at.fhv.teamb.symphoniacus.presentation.internal.Parentable;
 import at.fhv.teamb.symphoniacus.presentation.internal.TabPaneEntry;
@@ -11,8 +12,10 @@ import at.fhv.teamb.symphoniacus.presentation.internal.tasks.FindAllInRangeTask;
 import com.calendarfx.model.Calendar;
 import java.net.URL;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import java.util.ResourceBundle;
+import java.util.function.Consumer;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
@@ -42,38 +45,33 @@ public class OrganizationalOfficerCalendarController extends CalendarController
             return;
         }
 
-        // Fetch duties from database
-        FindAllInRangeTask task = this.loadDuties(DEFAULT_INTERVAL_START, DEFAULT_INTERVAL_END);
-
-        task.setOnSucceeded(event -> {
-            // Create calendar
-            Calendar calendar = this.createCalendar(
-                this.bundle.getString("oo.calendar.name"),
-                this.bundle.getString("oo.calendar.shortname"),
-                true
-            );
-
-            // Fill calendar
-            this.fillCalendar(calendar, task.getValue());
-
-            // Make Calendar ready to display
-            this.calendarView.getCalendarSources().setAll(
-                this.prepareCalendarSource(
-                    bundle.getString("oo.calendar.source"),
-                    calendar
-                )
-            );
-            this.calendarView.addEventHandler(
-                CustomCalendarButtonEvent.ADD_SERIES_OF_PERFORMANCES,
-                addSOPEvent -> this.openNewSopTab()
-            );
-            this.calendarView.addEventHandler(
-                CustomCalendarButtonEvent.ADD_DUTY,
-                addDutyEvent -> this.parentController.addTab(TabPaneEntry.ADD_DUTY, this)
-            );
-            LOG.debug("Initialized OrganizationalOfficerCalendarController with parent");
-        });
-        new Thread(task).start();
+        // Create calendar
+        Calendar calendar = this.createCalendar(
+            this.bundle.getString("oo.calendar.name"),
+            this.bundle.getString("oo.calendar.shortname"),
+            true
+        );
+
+        // Make Calendar ready to display
+        this.calendarView.getCalendarSources().setAll(
+            this.prepareCalendarSource(
+                bundle.getString("oo.calendar.source"),
+                calendar
+            )
+        );
+
+        this.calendarView.addEventHandler(
+            CustomCalendarButtonEvent.ADD_SERIES_OF_PERFORMANCES,
+            addSOPEvent -> this.openNewSopTab()
+        );
+        this.calendarView.addEventHandler(
+            CustomCalendarButtonEvent.ADD_DUTY,
+            addDutyEvent -> this.parentController.addTab(TabPaneEntry.ADD_DUTY, this)
+        );
+
+        // Fetch the duties of the visible months, the calendar is filled chunk by chunk
+        this.enableLazyLoading();
+        LOG.debug("Initialized OrganizationalOfficerCalendarController with parent");
     }
 
     @Override
@@ -101,12 +99,17 @@ public class OrganizationalOfficerCalendarController extends CalendarController
     }
 
     @Override
-    protected FindAllInRangeTask loadDuties(LocalDate start, LocalDate end) {
+    protected FindAllInRangeTask loadDuties(
+        LocalDate start,
+        LocalDate end,
+        Consumer<List<DutyCalendarRow>> chunkConsumer
+    ) {
         return new FindAllInRangeTask(
             this.dutyManager,
             start,
             end,
-            this.calendarPane
+            this.calendarPane,
+            chunkConsumer
         );
     }
 
@@ -1,5 +1,6 @@
 package at.fhv.teamb.symphoniacus.presentation.internal.popover;
 
+import at.fhv.teamb.symphoniacus.application.DutyManager;
 import at.fhv.teamb.symphoniacus.application.DutyScheduleManager;
 import at.fhv.teamb.symphoniacus.application.PointsManager;
 import at.fhv.teamb.symphoniacus.application.SectionManager;
@@ -9,22 +10,28 @@ import at.fhv.teamb.symphoniacus.domain.Duty;
 import at.fhv.teamb.symphoniacus.domain.DutyPosition;
 import at.fhv.teamb.symphoniacus.domain.MusicalPiece;
 import at.fhv.teamb.symphoniacus.domain.Points;
+import at.fhv.teamb.symphoniacus.persistence.UnitOfWork;
+import at.fhv.teamb.symphoniacus.persistence.model.DutyCalendarRow;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IInstrumentationEntity;
 import at.fhv.teamb.symphoniacus.presentation.DutyPopoverController;
+import at.fhv.teamb.symphoniacus.presentation.internal.tasks.TaskScheduler;
 import com.calendarfx.model.Entry;
 import com.calendarfx.view.DateControl;
 import com.calendarfx.view.popover.PopOverContentPane;
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.ResourceBundle;
-import java.util.Set;
+import javafx.concurrent.Task;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Node;
 import javafx.scene.Parent;
 import javafx.scene.control.Label;
+import javafx.scene.control.ProgressIndicator;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.controlsfx.control.PopOver;
@@ -33,11 +40,14 @@ public class CustomDutyPopoverNode extends PopOverContentPane {
 
     private static final Logger LOG = LogManager.getLogger(CustomDutyPopoverNode.class);
 
-    private Entry<?> entry;
     private Duty duty;
     private SectionDto section;
     private DutyPopoverController popoverController;
     private PointsManager pointsManager;
+    private int points;
+    private List<String> instrumentations = new LinkedList<>();
+    private Map<Integer, Boolean> sectionStatus = new HashMap<>();
+    private List<Label> instrumentationStatus = new LinkedList<>();
 
     /**
      * Custom Popover for Dutyscheduler.
@@ -49,12 +59,8 @@ public class CustomDutyPopoverNode extends PopOverContentPane {
         Entry<?> entry,
         SectionDto section
     ) {
-        if (entry.getUserObject() != null) {
-            this.duty = (Duty) entry.getUserObject();
-            this.section = section;
-            loadBasePorperties();
-            loadDutySchedulerProperties();
-        }
+        this.section = section;
+        this.load(entry);
     }
 
     /**
@@ -66,11 +72,85 @@ public class CustomDutyPopoverNode extends PopOverContentPane {
         Node node,
         Entry<?> entry
     ) {
-        if (entry.getUserObject() != null) {
-            this.duty = (Duty) entry.getUserObject();
-            loadBasePorperties();
-            loadOrganizationOfficerPoperties();
+        this.load(entry);
+    }
+
+    /**
+     * Shows a placeholder and loads the details of the duty in the background, the
+     * popover is filled once they are loaded.
+     */
+    private void load(Entry<?> entry) {
+        setCenter(new ProgressIndicator());
+
+        Task<Boolean> task = new Task<>() {
+            @Override
+            protected Boolean call() {
+                return UnitOfWork.call(() -> CustomDutyPopoverNode.this.loadDetails(entry));
+            }
+        };
+        task.setOnSucceeded(event -> {
+            if (task.getValue()) {
+                loadBasePorperties();
+                if (this.section != null) {
+                    loadDutySchedulerProperties();
+                } else {
+                    loadOrganizationOfficerPoperties();
+                }
+            } else {
+                setCenter(null);
+            }
+        });
+        task.setOnFailed(event -> {
+            LOG.error("Could not load details of duty", task.getException());
+            setCenter(null);
+        });
+        TaskScheduler.execute(task);
+    }
+
+    /**
+     * Loads everything shown in the popover, runs on a worker thread.
+     *
+     * @return Whether the duty of the entry could be loaded
+     */
+    private boolean loadDetails(Entry<?> entry) {
+        this.duty = resolveDuty(entry);
+        if (this.duty == null) {
+            return false;
+        }
+
+        this.points = getPointsOfDuty(this.duty);
+        if (this.duty.getEntity().getSeriesOfPerformances() != null) {
+            for (IInstrumentationEntity ie
+                : this.duty.getEntity().getSeriesOfPerformances().getInstrumentations()) {
+                this.instrumentations.add(ie.getName());
+            }
+        }
+
+        if (this.section != null) {
+            this.loadInstrumentationStatus();
+        } else {
+            this.loadSectionStatus();
+        }
+        return true;
+    }
+
+    /**
+     * Returns the duty of a calendar entry. Entries created from a {@link DutyCalendarRow}
+     * only hold the projection, so the duty is loaded on demand.
+     */
+    private static Duty resolveDuty(Entry<?> entry) {
+        Object userObject = entry.getUserObject();
+        if (userObject instanceof Duty) {
+            return (Duty) userObject;
+        } else if (userObject instanceof DutyCalendarRow) {
+            Integer dutyId = ((DutyCalendarRow) userObject).getDutyId();
+            Optional<Duty> duty = new DutyManager().loadDutyDetails(dutyId);
+            if (duty.isEmpty()) {
+                LOG.error("Duty {} of calendar entry could not be loaded", dutyId);
+            }
+            return duty.orElse(null);
         }
+        return null;
     }
 
     private int getPointsOfDuty(Duty duty) {
@@ -106,19 +186,14 @@ public class CustomDutyPopoverNode extends PopOverContentPane {
                 this.popoverController = loader.getController();
                 this.popoverController.setTitleText(this.duty.getTitle());
                 this.popoverController.setDescriptionText(this.duty.getEntity().getDescription());
+                this.popoverController.setPointsText(Integer.toString(this.points));
 
-                int points = getPointsOfDuty(this.duty);
-                this.popoverController.setPointsText(Integer.toString(points));
-
-                if (this.duty.getEntity().getSeriesOfPerformances() != null) {
-                    Set<IInstrumentationEntity> instrumentationSet =
-                        this.duty.getEntity().getSeriesOfPerformances().getInstrumentations();
-                    List<Label> instrumentations = new LinkedList<>();
-
-                    for (IInstrumentationEntity ie : instrumentationSet) {
-                        instrumentations.add(new Label(ie.getName()));
+                if (!this.instrumentations.isEmpty()) {
+                    List<Label> labels = new LinkedList<>();
+                    for (String instrumentation : this.instrumentations) {
+                        labels.add(new Label(instrumentation));
                     }
-                    this.popoverController.setInstrumentationText(instrumentations);
+                    this.popoverController.setInstrumentationText(labels);
                 }
             } catch (IOException e) {
                 LOG.error(e);
@@ -130,6 +205,18 @@ public class CustomDutyPopoverNode extends PopOverContentPane {
      * Load details for Organization Officer.
      */
     public void loadOrganizationOfficerPoperties() {
+        for (Map.Entry<Integer, Boolean> status : this.sectionStatus.entrySet()) {
+            this.popoverController.setStatusSection(status.getValue(), status.getKey());
+        }
+
+        this.popoverController.disableEditDutyBtn();
+        this.popoverController.disableEditScheduleBtn();
+    }
+
+    /**
+     * Loads whether the positions of each section are assigned.
+     */
+    private void loadSectionStatus() {
         List<SectionDto> sections = new SectionManager().getAll();
         DutyScheduleManager dutyScheduleManager = new DutyScheduleManager();
 
@@ -147,13 +234,10 @@ public class CustomDutyPopoverNode extends PopOverContentPane {
                         break;
                     }
                 }
-                this.popoverController.setStatusSection(ready, section.getSectionId());
+                this.sectionStatus.put(section.getSectionId(), ready);
             }
 
         }
-
-        this.popoverController.disableEditDutyBtn();
-        this.popoverController.disableEditScheduleBtn();
     }
 
     /**
@@ -164,7 +248,13 @@ public class CustomDutyPopoverNode extends PopOverContentPane {
         this.popoverController.setSection(this.section);
         this.popoverController.removeSections();
         this.popoverController.removeEditDutyBtn();
+        this.popoverController.setInstrumentationStatus(this.instrumentationStatus);
+    }
 
+    /**
+     * Loads the duty positions of the section and whether they are assigned.
+     */
+    private void loadInstrumentationStatus() {
         DutyScheduleManager dutyScheduleManager = new DutyScheduleManager();
         Optional<ActualSectionInstrumentation> asi = dutyScheduleManager
             .getInstrumentationDetails(
@@ -210,6 +300,6 @@ public class CustomDutyPopoverNode extends PopOverContentPane {
                 ldps.add(new Label());
             }
         }
-        this.popoverController.setInstrumentationStatus(ldps);
+        this.instrumentationStatus = ldps;
     }
 }
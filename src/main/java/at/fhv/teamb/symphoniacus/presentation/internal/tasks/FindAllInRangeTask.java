@@ -1,23 +1,27 @@
 package at.fhv.teamb.symphoniacus.presentation.internal.tasks;
 
 import at.fhv.teamb.symphoniacus.application.DutyManager;
-import at.fhv.teamb.symphoniacus.domain.Duty;
+import at.fhv.teamb.symphoniacus.persistence.model.DutyCalendarRow;
 import java.time.LocalDate;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.function.Consumer;
+import javafx.application.Platform;
 import javafx.scene.layout.AnchorPane;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 /**
- * Async task to load all {@link Duty} objects in range.
+ * Async task to load all {@link DutyCalendarRow} objects in range.
  *
  * @author Dominic Luidold
  */
-public class FindAllInRangeTask extends LoadingAnimationTask<List<Duty>> {
+public class FindAllInRangeTask extends LoadingAnimationTask<List<DutyCalendarRow>> {
     private static final Logger LOG = LogManager.getLogger(FindAllInRangeWithSectionTask.class);
     private final DutyManager dutyManager;
     private final LocalDate end;
     private final LocalDate start;
+    private final Consumer<List<DutyCalendarRow>> chunkConsumer;
 
     /**
      * Constructs a new {@code FindAllInRange} task.
@@ -32,20 +36,54 @@ public class FindAllInRangeTask extends LoadingAnimationTask<List<Duty>> {
         LocalDate start,
         LocalDate end,
         AnchorPane pane
+    ) {
+        this(dutyManager, start, end, pane, null);
+    }
+
+    /**
+     * Constructs a new {@code FindAllInRange} task that hands over the rows chunk by chunk
+     * while they are loaded.
+     *
+     * @param dutyManager   The duty manager to use
+     * @param start         A LocalDate that represents the start
+     * @param end           A LocalDate that represents the end
+     * @param pane          The root anchor pane to use
+     * @param chunkConsumer Receives every loaded chunk on the JavaFX application thread
+     */
+    public FindAllInRangeTask(
+        DutyManager dutyManager,
+        LocalDate start,
+        LocalDate end,
+        AnchorPane pane,
+        Consumer<List<DutyCalendarRow>> chunkConsumer
     ) {
         super(pane);
         this.dutyManager = dutyManager;
         this.end = end;
         this.start = start;
+        this.chunkConsumer = chunkConsumer;
     }
 
     @Override
-    protected List<Duty> call() throws Exception {
+    protected List<DutyCalendarRow> call() throws Exception {
         super.call();
         LOG.debug("Loading duties in range..");
-        return this.dutyManager.findAllInRange(
+        List<DutyCalendarRow> rows = new LinkedList<>();
+        this.dutyManager.streamCalendarRowsInRange(
             this.start,
-            this.end
+            this.end,
+            chunk -> {
+                rows.addAll(chunk);
+                // A superseded task must not reach the calendar anymore
+                if (this.chunkConsumer != null && !this.isCancelled()) {
+                    Platform.runLater(() -> {
+                        if (!this.isCancelled()) {
+                            this.chunkConsumer.accept(chunk);
+                        }
+                    });
+                }
+            }
         );
+        return rows;
     }
-}
\ No newline at end of file
+}
@@ -2,25 +2,28 @@ package at.fhv.teamb.symphoniacus.presentation.internal.tasks;
 
 import at.fhv.teamb.symphoniacus.application.DutyManager;
 import at.fhv.teamb.symphoniacus.application.dto.SectionDto;
-import at.fhv.teamb.symphoniacus.domain.Duty;
-import at.fhv.teamb.symphoniacus.persistence.model.SectionEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.DutyCalendarRow;
 import java.time.LocalDate;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.function.Consumer;
+import javafx.application.Platform;
 import javafx.scene.layout.AnchorPane;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 /**
- * Async task to load all {@link Duty} objects in range and section.
+ * Async task to load all {@link DutyCalendarRow} objects in range and section.
  *
  * @author Dominic Luidold
  */
-public class FindAllInRangeWithSectionTask extends LoadingAnimationTask<List<Duty>> {
+public class FindAllInRangeWithSectionTask extends LoadingAnimationTask<List<DutyCalendarRow>> {
     private static final Logger LOG = LogManager.getLogger(FindAllInRangeWithSectionTask.class);
     private final DutyManager dutyManager;
     private final LocalDate end;
     private final SectionDto section;
     private final LocalDate start;
+    private final Consumer<List<DutyCalendarRow>> chunkConsumer;
 
     /**
      * Constructs a new {@code FindAllInRange} task.
@@ -37,22 +40,58 @@ public class FindAllInRangeWithSectionTask extends LoadingAnimationTask<List<Dut
         LocalDate start,
         LocalDate end,
         AnchorPane pane
+    ) {
+        this(dutyManager, section, start, end, pane, null);
+    }
+
+    /**
+     * Constructs a new {@code FindAllInRange} task that hands over the rows chunk by chunk
+     * while they are loaded.
+     *
+     * @param dutyManager   The duty manager to use
+     * @param section       The section to use
+     * @param start         A LocalDate representing the start
+     * @param end           A LocalDate representing the end
+     * @param pane          The root anchor pane to use
+     * @param chunkConsumer Receives every loaded chunk on the JavaFX application thread
+     */
+    public FindAllInRangeWithSectionTask(
+        DutyManager dutyManager,
+        SectionDto section,
+        LocalDate start,
+        LocalDate end,
+        AnchorPane pane,
+        Consumer<List<DutyCalendarRow>> chunkConsumer
     ) {
         super(pane);
         this.dutyManager = dutyManager;
         this.end = end;
         this.section = section;
         this.start = start;
+        this.chunkConsumer = chunkConsumer;
     }
 
     @Override
-    protected List<Duty> call() throws Exception {
+    protected List<DutyCalendarRow> call() throws Exception {
         super.call();
         LOG.debug("Loading duties in range with section..");
-        return this.dutyManager.findAllInRangeWithSection(
+        List<DutyCalendarRow> rows = new LinkedList<>();
+        this.dutyManager.streamCalendarRowsInRangeWithSection(
             this.section,
             this.start,
-            this.end
+            this.end,
+            chunk -> {
+                rows.addAll(chunk);
+                // A superseded task must not reach the calendar anymore
+                if (this.chunkConsumer != null && !this.isCancelled()) {
+                    Platform.runLater(() -> {
+                        if (!this.isCancelled()) {
+                            this.chunkConsumer.accept(chunk);
+                        }
+                    });
+                }
+            }
         );
+        return rows;
     }
 }
@@ -0,0 +1,45 @@
+package at.fhv.teamb.symphoniacus.presentation.internal.tasks;
+
+import at.fhv.teamb.symphoniacus.application.DutyScheduleManager;
+import at.fhv.teamb.symphoniacus.domain.ActualSectionInstrumentation;
+import at.fhv.teamb.symphoniacus.domain.AvailabilityMatrix;
+import at.fhv.teamb.symphoniacus.presentation.DutyScheduleController;
+import javafx.scene.layout.AnchorPane;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Async Task to load the available musicians for all positions of an instrumentation.
+ * Used in {@link DutyScheduleController}
+ *
+ * @author Valentin Goronjic
+ */
+public class GetAvailabilityMatrixTask extends LoadingAnimationTask<AvailabilityMatrix> {
+    private static final Logger LOG = LogManager.getLogger(GetAvailabilityMatrixTask.class);
+    private final DutyScheduleManager dutyScheduleManager;
+    private final ActualSectionInstrumentation instrumentation;
+
+    /**
+     * Constructs a new Task.
+     *
+     * @param dsm             DutyScheduleManager which was defined in
+     *                        {@link DutyScheduleController}
+     * @param instrumentation Current instrumentation
+     */
+    public GetAvailabilityMatrixTask(
+        DutyScheduleManager dsm,
+        ActualSectionInstrumentation instrumentation,
+        AnchorPane pane
+    ) {
+        super(pane);
+        this.dutyScheduleManager = dsm;
+        this.instrumentation = instrumentation;
+    }
+
+    @Override
+    protected AvailabilityMatrix call() throws Exception {
+        super.call();
+        LOG.debug("GetAvailabilityMatrixTask called");
+        return this.dutyScheduleManager.getAvailabilityMatrix(this.instrumentation);
+    }
+}
@@ -0,0 +1,35 @@
+package at.fhv.teamb.symphoniacus.presentation.internal.tasks;
+
+import at.fhv.teamb.symphoniacus.application.DutyManager;
+import at.fhv.teamb.symphoniacus.application.dto.DutyDto;
+import at.fhv.teamb.symphoniacus.persistence.model.DutyCalendarRow;
+import java.util.Optional;
+import javafx.scene.layout.AnchorPane;
+
+/**
+ * Async task to load the {@link DutyCalendarRow} of a duty, e.g. after it was created.
+ * Used in {@link at.fhv.teamb.symphoniacus.presentation.CalendarController}
+ */
+public class GetDutyCalendarRowTask extends LoadingAnimationTask<Optional<DutyCalendarRow>> {
+    private final DutyManager dutyManager;
+    private final DutyDto duty;
+
+    /**
+     * Constructs a new GetDutyCalendarRowTask.
+     *
+     * @param dutyManager The duty manager to use
+     * @param duty        The duty to load
+     * @param pane        The root anchor pane to use
+     */
+    public GetDutyCalendarRowTask(DutyManager dutyManager, DutyDto duty, AnchorPane pane) {
+        super(pane);
+        this.dutyManager = dutyManager;
+        this.duty = duty;
+    }
+
+    @Override
+    protected Optional<DutyCalendarRow> call() throws Exception {
+        super.call();
+        return this.dutyManager.getCalendarRowByDutyDto(this.duty);
+    }
+}
@@ -4,6 +4,7 @@ import at.fhv.teamb.symphoniacus.application.DutyManager;
 import at.fhv.teamb.symphoniacus.application.dto.SectionDto;
 import at.fhv.teamb.symphoniacus.domain.Duty;
 import at.fhv.teamb.symphoniacus.domain.Section;
+import at.fhv.teamb.symphoniacus.persistence.UnitOfWork;
 import java.util.List;
 import javafx.concurrent.Task;
 
@@ -41,10 +42,10 @@ public class GetOtherDutiesTask extends Task<List<Duty>> {
 
     @Override
     protected List<Duty> call() {
-        return this.dutyManager.getOtherDutiesForSopOrSection(
+        return UnitOfWork.call(() -> this.dutyManager.getOtherDutiesForSopOrSection(
             this.duty,
             this.section,
             this.numberOfMaxDuties
-        );
+        ));
     }
 }
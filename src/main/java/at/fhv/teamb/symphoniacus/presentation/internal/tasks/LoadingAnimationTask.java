@@ -1,5 +1,6 @@
 package at.fhv.teamb.symphoniacus.presentation.internal.tasks;
 
+import at.fhv.teamb.symphoniacus.persistence.UnitOfWork;
 import at.fhv.teamb.symphoniacus.presentation.MasterController;
 import javafx.application.Platform;
 import javafx.concurrent.Task;
@@ -11,6 +12,8 @@ import org.apache.logging.log4j.Logger;
  * Async Task that enables a Loading Spinner on a given @{link {@link AnchorPane}.
  * The Spinner is shown before starting the task and disabled on success/failure.
  * Extend this class in your own Task so that you profit from a cool Loading Animation!
+ * Every task runs in its own {@link UnitOfWork}, so tasks can load data in parallel.
+ * Start tasks with the {@link TaskScheduler}.
  *
  * @author Valentin Goronjic
  */
@@ -23,6 +26,13 @@ public abstract class LoadingAnimationTask<T> extends Task<T> {
         this.pane = pane;
     }
 
+    @Override
+    public void run() {
+        try (UnitOfWork unitOfWork = UnitOfWork.begin()) {
+            super.run();
+        }
+    }
+
     @Override
     protected T call() throws Exception {
         LOG.debug("Task called: {}", this.getClass().getName());
@@ -49,6 +59,15 @@ public abstract class LoadingAnimationTask<T> extends Task<T> {
         super.succeeded();
     }
 
+    @Override
+    protected void cancelled() {
+        LOG.debug("Task cancelled: {}", this.getClass().getName());
+        Platform.runLater(
+            () -> MasterController.disableSpinner(this.pane)
+        );
+        super.cancelled();
+    }
+
     @Override
     protected void failed() {
         LOG.error("Task failed: {}", this.getClass().getName());
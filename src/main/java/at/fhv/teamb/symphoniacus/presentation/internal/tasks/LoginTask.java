@@ -1,5 +1,6 @@
 package at.fhv.teamb.symphoniacus.presentation.internal.tasks;
 
+import at.fhv.teamb.symphoniacus.application.ApplicationBootstrap;
 import at.fhv.teamb.symphoniacus.application.LoginManager;
 import at.fhv.teamb.symphoniacus.application.dto.LoginUserDto;
 import java.util.Optional;
@@ -45,6 +46,10 @@ public class LoginTask extends LoadingAnimationTask<Optional<LoginUserDto>> {
     @Override
     protected Optional<LoginUserDto> call() throws Exception {
         super.call();
+        if (!ApplicationBootstrap.isReady()) {
+            LOG.debug("Waiting for the persistence layer to be warmed up");
+            ApplicationBootstrap.awaitReady();
+        }
         LOG.debug("Processing login");
         // userId -1 in args => not yet available at this stage, not needed here
         LoginUserDto dto = new LoginUserDto.UserDtoBuilder(-1)
@@ -0,0 +1,244 @@
+package at.fhv.teamb.symphoniacus.presentation.internal.tasks;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javafx.concurrent.Task;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Runs all background {@link Task}s of the GUI on a bounded pool of named worker threads.
+ *
+ * <p>Views load their data with {@link #executeLatest(Object, Task)}: a task supersedes the
+ * task of the same type that was started by the same view before, which is cancelled. A
+ * cancelled task never reports its result, so only the most recent request reaches the view.
+ * Cancelled tasks are not interrupted, so a running database query can finish cleanly.
+ *
+ * <p>The scheduler keeps track of the queue depth and the time tasks spend waiting and running.
+ * The metrics are registered as {@link TaskSchedulerMetrics} MBean under
+ * {@code at.fhv.teamb.symphoniacus:type=TaskScheduler,name=Gui}.
+ */
+public final class TaskScheduler {
+    private static final Logger LOG = LogManager.getLogger(TaskScheduler.class);
+    private static final String JMX_NAME = "at.fhv.teamb.symphoniacus:type=TaskScheduler,name=Gui";
+    private static final int POOL_SIZE =
+        Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+    private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(
+        POOL_SIZE,
+        POOL_SIZE,
+        30L,
+        TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(),
+        new WorkerThreadFactory()
+    );
+    private static final Map<List<Object>, Task<?>> LATEST_TASKS = new ConcurrentHashMap<>();
+    private static final AtomicLong COMPLETED_TASKS = new AtomicLong();
+    private static final AtomicLong CANCELLED_TASKS = new AtomicLong();
+    private static final AtomicLong TOTAL_WAIT_NANOS = new AtomicLong();
+    private static final AtomicLong TOTAL_RUN_NANOS = new AtomicLong();
+
+    static {
+        EXECUTOR.allowCoreThreadTimeOut(true);
+        registerMetrics();
+    }
+
+    private TaskScheduler() {
+    }
+
+    /**
+     * Runs a task on the worker pool.
+     *
+     * @param task The task to run
+     * @param <T>  The type of the task
+     * @return The given task
+     */
+    public static <T extends Task<?>> T execute(T task) {
+        long submitted = System.nanoTime();
+        EXECUTOR.execute(() -> run(task, submitted));
+        return task;
+    }
+
+    /**
+     * Runs a task on the worker pool and cancels the task of the same type that was started
+     * by the same view before, if it is still queued or running.
+     *
+     * @param view The view starting the task, usually its controller
+     * @param task The task to run
+     * @param <T>  The type of the task
+     * @return The given task
+     */
+    public static <T extends Task<?>> T executeLatest(Object view, T task) {
+        List<Object> key = List.of(view, task.getClass());
+        Task<?> superseded = LATEST_TASKS.put(key, task);
+        if (superseded != null && superseded.cancel(false)) {
+            LOG.debug("Cancelled superseded {}", superseded.getClass().getSimpleName());
+        }
+
+        long submitted = System.nanoTime();
+        EXECUTOR.execute(() -> {
+            try {
+                run(task, submitted);
+            } finally {
+                LATEST_TASKS.remove(key, task);
+            }
+        });
+        return task;
+    }
+
+    /**
+     * Returns the number of tasks waiting for a worker thread.
+     *
+     * @return The queue depth
+     */
+    public static int getQueueDepth() {
+        return EXECUTOR.getQueue().size();
+    }
+
+    /**
+     * Returns the number of worker threads currently running a task.
+     *
+     * @return The number of active threads
+     */
+    public static int getActiveThreads() {
+        return EXECUTOR.getActiveCount();
+    }
+
+    /**
+     * Returns the number of tasks that were run by a worker thread. Tasks cancelled before they
+     * started are not counted.
+     *
+     * @return The number of completed tasks
+     */
+    public static long getCompletedTasks() {
+        return COMPLETED_TASKS.get();
+    }
+
+    /**
+     * Returns the average time the completed tasks waited for a worker thread.
+     *
+     * @return The average waiting time in milliseconds
+     */
+    public static double getAverageWaitMillis() {
+        return average(TOTAL_WAIT_NANOS.get());
+    }
+
+    /**
+     * Returns the average time the completed tasks took to run.
+     *
+     * @return The average running time in milliseconds
+     */
+    public static double getAverageRunMillis() {
+        return average(TOTAL_RUN_NANOS.get());
+    }
+
+    /**
+     * Returns the number of tasks that were cancelled before or while they ran, e.g. because a
+     * newer task superseded them.
+     *
+     * @return The number of cancelled tasks
+     */
+    public static long getCancelledTasks() {
+        return CANCELLED_TASKS.get();
+    }
+
+    /**
+     * Stops all worker threads, tasks that are still queued are not run anymore.
+     */
+    public static void shutdown() {
+        EXECUTOR.shutdownNow();
+        unregisterMetrics();
+        LOG.debug(
+            "Task scheduler stopped after {} tasks, {} cancelled, {} ms wait, {} ms run on average",
+            COMPLETED_TASKS.get(),
+            CANCELLED_TASKS.get(),
+            getAverageWaitMillis(),
+            getAverageRunMillis()
+        );
+    }
+
+    private static void run(Task<?> task, long submitted) {
+        if (task.isCancelled()) {
+            CANCELLED_TASKS.incrementAndGet();
+            LOG.debug("Skipped cancelled {}", task.getClass().getSimpleName());
+            return;
+        }
+
+        long started = System.nanoTime();
+        task.run();
+        long finished = System.nanoTime();
+
+        TOTAL_WAIT_NANOS.addAndGet(started - submitted);
+        TOTAL_RUN_NANOS.addAndGet(finished - started);
+        COMPLETED_TASKS.incrementAndGet();
+        if (task.isCancelled()) {
+            CANCELLED_TASKS.incrementAndGet();
+        }
+        LOG.debug(
+            "{} waited {} ms and ran {} ms, {} tasks queued",
+            task.getClass().getSimpleName(),
+            TimeUnit.NANOSECONDS.toMillis(started - submitted),
+            TimeUnit.NANOSECONDS.toMillis(finished - started),
+            getQueueDepth()
+        );
+    }
+
+    private static void registerMetrics() {
+        try {
+            ObjectName name = new ObjectName(JMX_NAME);
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (!server.isRegistered(name)) {
+                server.registerMBean(new TaskSchedulerMetrics(), name);
+            }
+        } catch (JMException e) {
+            LOG.error("Could not register task scheduler metrics", e);
+        }
+    }
+
+    private static void unregisterMetrics() {
+        try {
+            ObjectName name = new ObjectName(JMX_NAME);
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+        } catch (JMException e) {
+            LOG.error("Could not unregister task scheduler metrics", e);
+        }
+    }
+
+    private static double average(long totalNanos) {
+        long completed = COMPLETED_TASKS.get();
+        if (completed == 0) {
+            return 0;
+        }
+        return totalNanos / (double) completed / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Creates named daemon threads, so open tasks never keep the application alive.
+     */
+    private static class WorkerThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(
+                runnable,
+                "symphoniacus-task-" + this.threadNumber.getAndIncrement()
+            );
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package at.fhv.teamb.symphoniacus.presentation.internal.tasks;
+
+/**
+ * Exposes the metrics of the {@link TaskScheduler} via JMX.
+ */
+public class TaskSchedulerMetrics implements TaskSchedulerMetricsMBean {
+
+    @Override
+    public int getQueueDepth() {
+        return TaskScheduler.getQueueDepth();
+    }
+
+    @Override
+    public int getActiveThreads() {
+        return TaskScheduler.getActiveThreads();
+    }
+
+    @Override
+    public long getCompletedTasks() {
+        return TaskScheduler.getCompletedTasks();
+    }
+
+    @Override
+    public long getCancelledTasks() {
+        return TaskScheduler.getCancelledTasks();
+    }
+
+    @Override
+    public double getAverageWaitMillis() {
+        return TaskScheduler.getAverageWaitMillis();
+    }
+
+    @Override
+    public double getAverageRunMillis() {
+        return TaskScheduler.getAverageRunMillis();
+    }
+}
@@ -0,0 +1,51 @@
+package at.fhv.teamb.symphoniacus.presentation.internal.tasks;
+
+/**
+ * JMX view on the worker pool running the background tasks of the GUI.
+ *
+ * @see TaskScheduler
+ */
+public interface TaskSchedulerMetricsMBean {
+
+    /**
+     * Returns the number of tasks waiting for a worker thread.
+     *
+     * @return Number of queued tasks
+     */
+    int getQueueDepth();
+
+    /**
+     * Returns the number of worker threads currently running a task.
+     *
+     * @return Number of active threads
+     */
+    int getActiveThreads();
+
+    /**
+     * Returns the number of tasks that were run by a worker thread.
+     *
+     * @return Number of completed tasks
+     */
+    long getCompletedTasks();
+
+    /**
+     * Returns the number of tasks that were cancelled before or while they ran.
+     *
+     * @return Number of cancelled tasks
+     */
+    long getCancelledTasks();
+
+    /**
+     * Returns the average time the completed tasks waited for a worker thread.
+     *
+     * @return Average waiting time in milliseconds
+     */
+    double getAverageWaitMillis();
+
+    /**
+     * Returns the average time the completed tasks took to run.
+     *
+     * @return Average running time in milliseconds
+     */
+    double getAverageRunMillis();
+}
@@ -0,0 +1,15 @@
+-- Ledger of the points of all duties a musician is assigned to within one month.
+-- Maintained by PointsLedgerManager, rebuild with: gradle rebuildPointsLedger -Pfrom=2020-01 -Pto=2020-12
+CREATE TABLE IF NOT EXISTS musicianMonthPoints (
+    musicianMonthPointsId INT NOT NULL AUTO_INCREMENT,
+    musicianId            INT NOT NULL,
+    month                 DATE NOT NULL,
+    dutyPoints            INT NOT NULL DEFAULT 0,
+    categoryPoints        INT NOT NULL DEFAULT 0,
+    dutyCount             INT NOT NULL DEFAULT 0,
+    PRIMARY KEY (musicianMonthPointsId),
+    UNIQUE KEY uq_musicianMonthPoints_musician_month (musicianId, month),
+    KEY idx_musicianMonthPoints_month (month),
+    CONSTRAINT fk_musicianMonthPoints_musician
+        FOREIGN KEY (musicianId) REFERENCES musician (musicianId)
+);
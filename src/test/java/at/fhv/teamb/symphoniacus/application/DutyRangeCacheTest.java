@@ -0,0 +1,131 @@
+package at.fhv.teamb.symphoniacus.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import at.fhv.teamb.symphoniacus.persistence.model.DutyCalendarRow;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link DutyRangeCache}.
+ */
+class DutyRangeCacheTest {
+    private static final LocalDate MONDAY = LocalDate.of(2020, 6, 1);
+    private List<DutyCalendarRow> rows;
+    private int loads;
+
+    /**
+     * Initial setup for each test.
+     */
+    @BeforeEach
+    void setUp() {
+        this.rows = Arrays.asList(
+            this.createRow(1, MONDAY),
+            this.createRow(2, MONDAY.plusDays(3)),
+            this.createRow(3, MONDAY.plusWeeks(1))
+        );
+        this.loads = 0;
+    }
+
+    @Test
+    void stream_ShouldServeRepeatedRangesFromMemory() {
+        // Given
+        DutyRangeCache cache = new DutyRangeCache(DutyRangeCache.DEFAULT_MAX_WEEKS);
+
+        // When
+        List<DutyCalendarRow> first = this.stream(cache, MONDAY, MONDAY.plusWeeks(2));
+        List<DutyCalendarRow> second = this.stream(cache, MONDAY, MONDAY.plusWeeks(2));
+
+        // Then
+        assertEquals(first, second, "Cached duties should be the loaded ones");
+        assertEquals(3, first.size(), "All duties should be loaded");
+        assertEquals(1, this.loads, "Database should only be queried once");
+    }
+
+    @Test
+    void stream_ShouldOnlyServeDutiesWithinTheRange() {
+        // Given
+        DutyRangeCache cache = new DutyRangeCache(DutyRangeCache.DEFAULT_MAX_WEEKS);
+        this.stream(cache, MONDAY, MONDAY.plusWeeks(2));
+
+        // When
+        List<DutyCalendarRow> part = this.stream(cache, MONDAY.plusDays(2), MONDAY.plusDays(5));
+
+        // Then
+        assertEquals(1, part.size(), "Only duties within the range should be served");
+        assertEquals(2, part.get(0).getDutyId(), "Duty within the range should be served");
+        assertEquals(1, this.loads, "Database should only be queried once");
+    }
+
+    @Test
+    void invalidate_ShouldReloadChangedWeeksOnly() {
+        // Given
+        DutyRangeCache cache = new DutyRangeCache(DutyRangeCache.DEFAULT_MAX_WEEKS);
+        this.stream(cache, MONDAY, MONDAY.plusWeeks(2));
+
+        // When
+        cache.invalidate(
+            MONDAY.plusWeeks(1).atTime(LocalTime.NOON),
+            MONDAY.plusWeeks(1).atTime(LocalTime.NOON)
+        );
+        this.stream(cache, MONDAY, MONDAY.plusWeeks(1));
+        this.stream(cache, MONDAY.plusWeeks(1), MONDAY.plusWeeks(2));
+
+        // Then
+        assertEquals(2, this.loads, "Only the invalidated week should be loaded again");
+    }
+
+    @Test
+    void stream_ShouldEvictLeastRecentlyRequestedWeeks() {
+        // Given
+        DutyRangeCache cache = new DutyRangeCache(1);
+
+        // When
+        this.stream(cache, MONDAY, MONDAY.plusWeeks(1));
+        this.stream(cache, MONDAY.plusWeeks(1), MONDAY.plusWeeks(2));
+        this.stream(cache, MONDAY.plusWeeks(1), MONDAY.plusWeeks(2));
+        this.stream(cache, MONDAY, MONDAY.plusWeeks(1));
+
+        // Then
+        assertEquals(3, this.loads, "Evicted week should be loaded again");
+    }
+
+    private List<DutyCalendarRow> stream(DutyRangeCache cache, LocalDate start, LocalDate end) {
+        List<DutyCalendarRow> result = new LinkedList<>();
+        cache.stream(List.of(), start, end, this::load, result::addAll);
+        return result;
+    }
+
+    private void load(
+        LocalDateTime start,
+        LocalDateTime end,
+        Consumer<List<DutyCalendarRow>> consumer
+    ) {
+        this.loads++;
+        List<DutyCalendarRow> chunk = new LinkedList<>();
+        for (DutyCalendarRow row : this.rows) {
+            if (!row.getStart().isBefore(start) && !row.getEnd().isAfter(end)) {
+                chunk.add(row);
+            }
+        }
+        consumer.accept(chunk);
+    }
+
+    private DutyCalendarRow createRow(int id, LocalDate day) {
+        return new DutyCalendarRow(
+            id,
+            day.atTime(10, 0),
+            day.atTime(12, 0),
+            "Rehearsal",
+            null,
+            null
+        );
+    }
+}
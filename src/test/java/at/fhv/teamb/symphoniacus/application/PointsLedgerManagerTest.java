@@ -0,0 +1,229 @@
+package at.fhv.teamb.symphoniacus.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.IDutyCategoryChangeLogDao;
+import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.IDutyDao;
+import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.IMusicianDao;
+import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.IMusicianMonthPointsDao;
+import at.fhv.teamb.symphoniacus.persistence.model.DutyCategoryChangelogEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.DutyCategoryEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.DutyEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.DutyPositionEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.MusicianEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.MusicianMonthPointsEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyCategoryChangelogEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyCategoryEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyPositionEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IMusicianEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IMusicianMonthPointsEntity;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+/**
+ * Tests for the {@link PointsLedgerManager}.
+ */
+class PointsLedgerManagerTest {
+    private static final LocalDate MONTH = LocalDate.of(2020, 5, 1);
+
+    private PointsLedgerManager ledgerManager;
+    private IMusicianMonthPointsDao ledgerDao;
+    private IDutyCategoryEntity category;
+    private IMusicianEntity musician;
+    private Set<IDutyEntity> dutiesOfMonth;
+
+    /**
+     * Initial setup for each test.
+     */
+    @BeforeEach
+    void setUp() {
+        this.category = new DutyCategoryEntity();
+        this.category.setDutyCategoryId(4711);
+        this.category.setPoints(3);
+
+        this.musician = new MusicianEntity();
+        this.musician.setMusicianId(1);
+        this.dutiesOfMonth = new LinkedHashSet<>();
+
+        this.ledgerManager = new PointsLedgerManager();
+        this.ledgerManager.changelogDao = Mockito.mock(IDutyCategoryChangeLogDao.class);
+        this.ledgerManager.dutyDao = Mockito.mock(IDutyDao.class);
+        this.ledgerManager.musicianDao = Mockito.mock(IMusicianDao.class);
+        this.ledgerDao = Mockito.mock(IMusicianMonthPointsDao.class);
+        this.ledgerManager.ledgerDao = this.ledgerDao;
+
+        when(this.ledgerManager.musicianDao.find(1)).thenReturn(Optional.of(this.musician));
+        when(this.ledgerManager.dutyDao.getAllDutiesOfMusicians(anyList(), any(LocalDate.class)))
+            .thenReturn(this.dutiesOfMonth);
+        List<IDutyCategoryChangelogEntity> changelogs = new LinkedList<>();
+        changelogs.add(this.createChangelog());
+        when(this.ledgerManager.changelogDao.getDutyCategoryChangelogs(this.category))
+            .thenReturn(changelogs);
+        when(this.ledgerManager.changelogDao.getDutyCategoryChangelogs(anyCollection()))
+            .thenReturn(changelogs);
+        when(this.ledgerDao.persistAll(anyCollection())).thenReturn(true);
+        when(this.ledgerDao.updateAll(anyCollection())).thenReturn(true);
+    }
+
+    @Test
+    void applyAssignmentChange_ShouldAddPointsToExistingRow() {
+        // Given
+        IDutyEntity duty = this.createDuty(1);
+        this.givenLedgerRow();
+        when(this.ledgerDao.addPoints(1, MONTH, 2, 3, 1)).thenReturn(true);
+
+        // When
+        boolean applied = this.ledgerManager.applyAssignmentChange(duty, Set.of(), Set.of(1));
+
+        // Then
+        assertTrue(applied, "Ledger should be updated");
+        verify(this.ledgerDao).addPoints(1, MONTH, 2, 3, 1);
+        verify(this.ledgerDao, never()).persistAll(anyCollection());
+    }
+
+    @Test
+    void applyAssignmentChange_ShouldCalculateMissingRowFromAllDutiesOfMonth() {
+        // Given
+        IDutyEntity duty = this.createDuty(1);
+        this.assign(duty);
+        this.assign(this.createDuty(2));
+        this.givenNoLedgerRow();
+
+        // When
+        boolean applied = this.ledgerManager.applyAssignmentChange(duty, Set.of(), Set.of(1));
+
+        // Then
+        assertTrue(applied, "Ledger should be updated");
+        verify(this.ledgerDao, never()).addPoints(anyInt(), any(), anyInt(), anyInt(), anyInt());
+        IMusicianMonthPointsEntity row = this.capturePersistedRow();
+        assertEquals(4, row.getDutyPoints(), "Row should contain both duties of the month");
+        assertEquals(6, row.getCategoryPoints(), "Row should contain both duties of the month");
+        assertEquals(2, row.getDutyCount(), "Row should count both duties of the month");
+    }
+
+    @Test
+    void applyAssignmentChange_ShouldNotCreateNegativeRowOnUnassign() {
+        // Given
+        IDutyEntity duty = this.createDuty(1);
+        this.assign(this.createDuty(2));
+        this.givenNoLedgerRow();
+
+        // When
+        boolean applied = this.ledgerManager.applyAssignmentChange(duty, Set.of(1), Set.of());
+
+        // Then
+        assertTrue(applied, "Ledger should be updated");
+        IMusicianMonthPointsEntity row = this.capturePersistedRow();
+        assertEquals(2, row.getDutyPoints(), "Row should contain the remaining duty");
+        assertEquals(3, row.getCategoryPoints(), "Row should contain the remaining duty");
+        assertEquals(1, row.getDutyCount(), "Row should count the remaining duty");
+    }
+
+    @Test
+    void applyAssignmentChange_ShouldFailIfAnyRowCannotBeUpdated() {
+        // Given
+        IMusicianEntity other = new MusicianEntity();
+        other.setMusicianId(2);
+        when(this.ledgerManager.musicianDao.find(2)).thenReturn(Optional.of(other));
+        List<IMusicianMonthPointsEntity> rows = new LinkedList<>();
+        rows.add(this.createRow(this.musician));
+        rows.add(this.createRow(other));
+        when(this.ledgerDao.findAllOfMonth(anyCollection(), eq(MONTH))).thenReturn(rows);
+        when(this.ledgerDao.addPoints(1, MONTH, 2, 3, 1)).thenReturn(true);
+        when(this.ledgerDao.addPoints(2, MONTH, -2, -3, -1)).thenReturn(false);
+        IDutyEntity duty = this.createDuty(1);
+
+        // When
+        boolean applied = this.ledgerManager.applyAssignmentChange(duty, Set.of(2), Set.of(1));
+
+        // Then
+        assertFalse(applied, "Ledger should not be updated if any change failed");
+    }
+
+    @Test
+    void recalculate_ShouldFailIfRowsCannotBeStored() {
+        // Given
+        this.assign(this.createDuty(1));
+        this.givenNoLedgerRow();
+        when(this.ledgerDao.persistAll(anyCollection())).thenReturn(false);
+
+        // When
+        Optional<Map<Integer, IMusicianMonthPointsEntity>> ledger =
+            this.ledgerManager.recalculate(List.of(this.musician), MONTH);
+
+        // Then
+        assertTrue(ledger.isEmpty(), "Ledger should not be returned if it was not stored");
+    }
+
+    @SuppressWarnings("unchecked")
+    private IMusicianMonthPointsEntity capturePersistedRow() {
+        ArgumentCaptor<Collection<IMusicianMonthPointsEntity>> created =
+            ArgumentCaptor.forClass(Collection.class);
+        verify(this.ledgerDao).persistAll(created.capture());
+        assertEquals(1, created.getValue().size(), "One row should be created");
+        return created.getValue().iterator().next();
+    }
+
+    private void givenLedgerRow() {
+        List<IMusicianMonthPointsEntity> rows = new LinkedList<>();
+        rows.add(this.createRow(this.musician));
+        when(this.ledgerDao.findAllOfMonth(anyCollection(), eq(MONTH))).thenReturn(rows);
+    }
+
+    private void givenNoLedgerRow() {
+        when(this.ledgerDao.findAllOfMonth(anyCollection(), eq(MONTH)))
+            .thenReturn(new LinkedList<>());
+    }
+
+    private IDutyCategoryChangelogEntity createChangelog() {
+        IDutyCategoryChangelogEntity changelog = new DutyCategoryChangelogEntity();
+        changelog.setDutyCategory(this.category);
+        changelog.setStartDate(LocalDate.of(2000, 1, 1));
+        changelog.setPoints(2);
+        return changelog;
+    }
+
+    private IMusicianMonthPointsEntity createRow(IMusicianEntity musician) {
+        IMusicianMonthPointsEntity row = new MusicianMonthPointsEntity();
+        row.setMusician(musician);
+        row.setMonth(MONTH);
+        return row;
+    }
+
+    private IDutyEntity createDuty(int dayOfMonth) {
+        IDutyEntity duty = new DutyEntity();
+        duty.setDutyCategory(this.category);
+        duty.setStart(LocalDateTime.of(2020, 5, dayOfMonth, 19, 0));
+        duty.setEnd(LocalDateTime.of(2020, 5, dayOfMonth, 22, 0));
+        return duty;
+    }
+
+    private void assign(IDutyEntity duty) {
+        IDutyPositionEntity position = new DutyPositionEntity();
+        position.setMusician(this.musician);
+        duty.addDutyPosition(position);
+        this.dutiesOfMonth.add(duty);
+    }
+}
@@ -0,0 +1,173 @@
+package at.fhv.teamb.symphoniacus.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import at.fhv.teamb.symphoniacus.persistence.model.DutyEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.DutyPositionEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.MusicalPieceEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.MusicianEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.UserEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IMusicalPieceEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IMusicianEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IUserEntity;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link AvailabilityMatrix} domain class.
+ */
+class AvailabilityMatrixTest {
+    private static final LocalDate DAY = LocalDate.of(2020, 6, 1);
+    private MusicalPiece symphony;
+    private MusicalPiece overture;
+    private Musician anna;
+    private Musician berta;
+    private Musician clara;
+
+    /**
+     * Initial setup for each test.
+     */
+    @BeforeEach
+    void setUp() {
+        this.symphony = this.createPiece(1);
+        this.overture = this.createPiece(2);
+        this.anna = this.createMusician(1, "Anna");
+        this.berta = this.createMusician(2, "Berta");
+        this.clara = this.createMusician(3, "Clara");
+    }
+
+    @Test
+    void getAvailableMusicians_ShouldOnlyBlockPositionsOfTheSamePiece() {
+        // Given
+        DutyPosition firstSymphony = this.createPosition(this.symphony);
+        DutyPosition secondSymphony = this.createPosition(this.symphony);
+        DutyPosition firstOverture = this.createPosition(this.overture);
+        this.anna.getEntity().addDutyPosition(firstSymphony.getEntity());
+        Duty duty = this.createDuty(
+            1,
+            Arrays.asList(firstSymphony, secondSymphony, firstOverture),
+            Arrays.asList(this.symphony, this.overture)
+        );
+
+        // When
+        AvailabilityMatrix matrix = this.createMatrix(duty);
+
+        // Then
+        assertFalse(
+            matrix.isAvailable(secondSymphony, this.anna),
+            "Musician should be blocked for the same piece"
+        );
+        assertTrue(
+            matrix.isAvailable(firstOverture, this.anna),
+            "Musician should be available for another piece"
+        );
+        assertEquals(
+            3,
+            matrix.getAvailableMusicians(firstOverture).size(),
+            "All musicians should be available for the other piece"
+        );
+    }
+
+    @Test
+    void getAvailableMusicians_ShouldBlockAllPositionsOfASinglePiece() {
+        // Given
+        DutyPosition first = this.createPosition(this.symphony);
+        DutyPosition second = this.createPosition(this.symphony);
+        Duty duty = this.createDuty(
+            1,
+            Arrays.asList(first, second),
+            Collections.singletonList(this.symphony)
+        );
+        Duty conflict = this.createDuty(2, Collections.emptyList(), Collections.emptyList());
+        DutyPosition conflictPosition = this.createPosition(this.symphony);
+        conflict.getEntity().addDutyPosition(conflictPosition.getEntity());
+        this.clara.getEntity().addDutyPosition(conflictPosition.getEntity());
+
+        // When
+        AvailabilityMatrix matrix = new AvailabilityMatrix(
+            duty,
+            Arrays.asList(this.anna, this.berta, this.clara),
+            new DutyConflictIndex(Arrays.asList(duty, conflict))
+        );
+        matrix.assign(this.anna, first);
+
+        // Then
+        assertEquals(
+            Collections.singleton(this.berta),
+            matrix.getAvailableMusicians(second),
+            "Assigned and busy musicians should not be available"
+        );
+    }
+
+    @Test
+    void assign_ShouldReleaseReplacedMusician() {
+        // Given
+        DutyPosition first = this.createPosition(this.symphony);
+        DutyPosition second = this.createPosition(this.symphony);
+        DutyPosition third = this.createPosition(this.symphony);
+        Duty duty = this.createDuty(
+            1,
+            Arrays.asList(first, second, third),
+            Collections.singletonList(this.symphony)
+        );
+        AvailabilityMatrix matrix = this.createMatrix(duty);
+
+        // When
+        matrix.assign(this.anna, first);
+        matrix.assign(this.anna, second);
+        matrix.assign(this.berta, first);
+
+        // Then
+        assertFalse(matrix.isAvailable(third, this.anna), "Anna is still assigned to second");
+        assertFalse(matrix.isAvailable(third, this.berta), "Berta replaced Anna on first");
+
+        matrix.unassign(second);
+        assertTrue(matrix.isAvailable(third, this.anna), "Anna should be available again");
+        assertFalse(matrix.isAvailable(third, this.berta), "Berta should still be blocked");
+    }
+
+    private AvailabilityMatrix createMatrix(Duty duty) {
+        return new AvailabilityMatrix(
+            duty,
+            Arrays.asList(this.anna, this.berta, this.clara),
+            new DutyConflictIndex(Collections.singletonList(duty))
+        );
+    }
+
+    private Duty createDuty(int id, List<DutyPosition> positions, List<MusicalPiece> pieces) {
+        IDutyEntity entity = new DutyEntity();
+        entity.setDutyId(id);
+        entity.setStart(LocalDateTime.of(DAY, LocalTime.of(10, 0)));
+        entity.setEnd(LocalDateTime.of(DAY, LocalTime.of(12, 0)));
+        return new Duty(entity, positions, pieces);
+    }
+
+    private DutyPosition createPosition(MusicalPiece piece) {
+        return new DutyPosition(new DutyPositionEntity(), piece);
+    }
+
+    private MusicalPiece createPiece(int id) {
+        IMusicalPieceEntity entity = new MusicalPieceEntity();
+        entity.setMusicalPieceId(id);
+        return new MusicalPiece(entity);
+    }
+
+    private Musician createMusician(int id, String firstName) {
+        IUserEntity user = new UserEntity();
+        user.setUserId(id);
+        user.setFirstName(firstName);
+        IMusicianEntity musician = new MusicianEntity();
+        musician.setMusicianId(id);
+        musician.setUser(user);
+        return new Musician(musician);
+    }
+}
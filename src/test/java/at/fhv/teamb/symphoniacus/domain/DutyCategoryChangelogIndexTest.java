@@ -0,0 +1,71 @@
+package at.fhv.teamb.symphoniacus.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import at.fhv.teamb.symphoniacus.persistence.model.DutyCategoryChangelogEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.DutyCategoryEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyCategoryChangelogEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyCategoryEntity;
+import java.time.LocalDate;
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link DutyCategoryChangelogIndex} domain class.
+ */
+class DutyCategoryChangelogIndexTest {
+    private DutyCategoryChangelogIndex index;
+
+    /**
+     * Initial setup for each test, changelogs are deliberately unordered.
+     */
+    @BeforeEach
+    void setUp() {
+        IDutyCategoryEntity category = new DutyCategoryEntity();
+        category.setDutyCategoryId(1);
+        IDutyCategoryEntity otherCategory = new DutyCategoryEntity();
+        otherCategory.setDutyCategoryId(2);
+
+        this.index = new DutyCategoryChangelogIndex(Arrays.asList(
+            this.createChangelog(category, LocalDate.of(2020, 3, 1), 5),
+            this.createChangelog(otherCategory, LocalDate.of(2020, 2, 1), 7),
+            this.createChangelog(category, LocalDate.of(2020, 1, 1), 2)
+        ));
+    }
+
+    @Test
+    void getPoints_ShouldUseLatestChangelogStartingOnOrBeforeDate() {
+        // When / Then
+        assertEquals(2, this.index.getPoints(1, LocalDate.of(2020, 2, 29)), "Should use january");
+        assertEquals(5, this.index.getPoints(1, LocalDate.of(2020, 3, 1)), "Should be inclusive");
+        assertEquals(7, this.index.getPoints(2, LocalDate.of(2020, 3, 1)), "Should use category");
+    }
+
+    @Test
+    void getPoints_ShouldFallBackToFirstChangelogOrZero() {
+        // When / Then
+        assertEquals(
+            2,
+            this.index.getPoints(1, LocalDate.of(2019, 1, 1)),
+            "Dates before the first changelog should use the first changelog"
+        );
+        assertEquals(
+            0,
+            this.index.getPoints(3, LocalDate.of(2020, 1, 1)),
+            "Categories without changelog should have no points"
+        );
+    }
+
+    private IDutyCategoryChangelogEntity createChangelog(
+        IDutyCategoryEntity category,
+        LocalDate startDate,
+        int points
+    ) {
+        IDutyCategoryChangelogEntity changelog = new DutyCategoryChangelogEntity();
+        changelog.setDutyCategory(category);
+        changelog.setStartDate(startDate);
+        changelog.setPoints(points);
+        return changelog;
+    }
+}
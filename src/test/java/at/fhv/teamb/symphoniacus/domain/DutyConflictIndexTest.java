@@ -0,0 +1,95 @@
+package at.fhv.teamb.symphoniacus.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import at.fhv.teamb.symphoniacus.persistence.model.DutyEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.DutyPositionEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.MusicianEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.UserEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyPositionEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IMusicianEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IUserEntity;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link DutyConflictIndex} domain class.
+ */
+class DutyConflictIndexTest {
+    private static final LocalDate DAY = LocalDate.of(2020, 6, 1);
+
+    @Test
+    void findOverlapping_ShouldOnlyReturnOverlappingDuties() {
+        // Given
+        Duty morning = this.createDuty(1, 9, 12);
+        Duty noon = this.createDuty(2, 11, 14);
+        Duty afternoon = this.createDuty(3, 14, 17);
+        Duty evening = this.createDuty(4, 19, 22);
+        Duty allDay = this.createDuty(5, 8, 23);
+        DutyConflictIndex index = new DutyConflictIndex(
+            Arrays.asList(evening, afternoon, allDay, noon, morning)
+        );
+
+        // When
+        List<Duty> overlapping = index.findOverlapping(noon);
+
+        // Then
+        assertEquals(5, index.size(), "All duties should be indexed");
+        assertEquals(
+            Arrays.asList(allDay, morning),
+            overlapping,
+            "Only overlapping duties should be returned, adjacent ones are no conflict"
+        );
+    }
+
+    @Test
+    void findBusyMusicians_ShouldIgnoreExternalsAndTheDutyItself() {
+        // Given
+        Duty current = this.createDuty(1, 9, 12);
+        Duty conflict = this.createDuty(2, 10, 13);
+        final Musician assigned = this.assign(current, 1, "Anna");
+        Musician busy = this.assign(conflict, 2, "Berta");
+        this.assign(conflict, 3, "Extern");
+        DutyConflictIndex index = new DutyConflictIndex(Arrays.asList(current, conflict));
+
+        // When
+        Set<Musician> busyMusicians = index.findBusyMusicians(current);
+
+        // Then
+        assertEquals(1, busyMusicians.size(), "Only one musician should be busy");
+        assertTrue(busyMusicians.contains(busy), "Musician of the conflict should be busy");
+        assertTrue(
+            index.findBusyMusicians(conflict).contains(assigned),
+            "Musician of the current duty should be busy for the conflict"
+        );
+    }
+
+    private Duty createDuty(int id, int startHour, int endHour) {
+        IDutyEntity entity = new DutyEntity();
+        entity.setDutyId(id);
+        entity.setStart(LocalDateTime.of(DAY, LocalTime.of(startHour, 0)));
+        entity.setEnd(LocalDateTime.of(DAY, LocalTime.of(endHour, 0)));
+        return new Duty(entity);
+    }
+
+    private Musician assign(Duty duty, int musicianId, String firstName) {
+        IUserEntity user = new UserEntity();
+        user.setUserId(musicianId);
+        user.setFirstName(firstName);
+        IMusicianEntity musician = new MusicianEntity();
+        musician.setMusicianId(musicianId);
+        musician.setUser(user);
+
+        IDutyPositionEntity position = new DutyPositionEntity();
+        position.setMusician(musician);
+        duty.getEntity().addDutyPosition(position);
+        return new Musician(musician);
+    }
+}
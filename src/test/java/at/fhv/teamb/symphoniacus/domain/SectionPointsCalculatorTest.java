@@ -0,0 +1,218 @@
+package at.fhv.teamb.symphoniacus.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import at.fhv.teamb.symphoniacus.domain.SectionPointsCalculator.MusicianPoints;
+import at.fhv.teamb.symphoniacus.persistence.model.ContractualObligationEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.DutyCategoryChangelogEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.DutyCategoryEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.DutyEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.DutyPositionEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.MusicianEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.MusicianMonthPointsEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.UserEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IContractualObligationEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyCategoryChangelogEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyCategoryEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyPositionEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IMusicianEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IMusicianMonthPointsEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IUserEntity;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link SectionPointsCalculator} domain class.
+ */
+class SectionPointsCalculatorTest {
+    private IDutyCategoryEntity category;
+    private List<IDutyCategoryChangelogEntity> changelogs;
+    private IMusicianEntity musician;
+    private IMusicianEntity external;
+
+    /**
+     * Initial setup for each test.
+     */
+    @BeforeEach
+    void setUp() {
+        this.category = new DutyCategoryEntity();
+        this.category.setDutyCategoryId(1);
+        this.category.setPoints(3);
+
+        this.changelogs = Arrays.asList(
+            this.createChangelog(LocalDate.of(2000, 1, 1), 2),
+            this.createChangelog(LocalDate.now().minusYears(1), 4)
+        );
+
+        this.musician = this.createMusician(1, "Testi", 120);
+        this.external = this.createMusician(2, "Extern", 0);
+    }
+
+    @Test
+    void calculate_ShouldCountDutyOnceForMusicianOnSeveralPositions() {
+        // Given
+        IDutyEntity duty = this.createDuty(LocalDateTime.now().minusMonths(1));
+        this.assign(duty, this.musician);
+        this.assign(duty, this.musician);
+
+        // When
+        MusicianPoints points = new SectionPointsCalculator(
+            Collections.singletonList(duty),
+            this.changelogs
+        ).calculate(this.musician);
+
+        // Then
+        assertEquals(120, points.getDebitPoints().getValue(), "Debit points should match");
+        assertEquals(
+            4,
+            points.getGainedPoints().getValue(),
+            "Gained points should use the latest changelog before the duty"
+        );
+        assertEquals(
+            0,
+            points.getBalancePoints().getValue(),
+            "Balance points of a past month should be zero"
+        );
+    }
+
+    @Test
+    void calculate_ShouldCalculatePointsOfAllMusiciansAtOnce() {
+        // Given
+        IDutyEntity first = this.createDuty(LocalDateTime.now().plusMonths(1));
+        IDutyEntity second = this.createDuty(LocalDateTime.now().plusMonths(1).plusHours(1));
+        this.assign(first, this.musician);
+        this.assign(first, this.external);
+        this.assign(second, this.musician);
+
+        // When
+        Map<Integer, MusicianPoints> points = new SectionPointsCalculator(
+            Arrays.asList(first, second),
+            this.changelogs
+        ).calculate(Arrays.asList(this.musician, this.external));
+
+        // Then
+        MusicianPoints musicianPoints = points.get(this.musician.getMusicianId());
+        assertEquals(
+            0,
+            musicianPoints.getGainedPoints().getValue(),
+            "Future duties should not be gained yet"
+        );
+        assertEquals(
+            6,
+            musicianPoints.getBalancePoints().getValue(),
+            "Balance points should sum up the points of all future duties"
+        );
+
+        MusicianPoints externalPoints = points.get(this.external.getMusicianId());
+        assertEquals(0, externalPoints.getDebitPoints().getValue(), "External has no debit");
+        assertEquals(0, externalPoints.getBalancePoints().getValue(), "External has no balance");
+    }
+
+    @Test
+    void calculate_ShouldReturnZeroPointsForMusicianWithoutDuties() {
+        // When
+        MusicianPoints points = new SectionPointsCalculator(
+            Collections.emptyList(),
+            this.changelogs
+        ).calculate(this.musician);
+
+        // Then
+        assertEquals(120, points.getDebitPoints().getValue(), "Debit points should match");
+        assertEquals(0, points.getGainedPoints().getValue(), "Gained points should be zero");
+        assertEquals(0, points.getBalancePoints().getValue(), "Balance points should be zero");
+    }
+
+    @Test
+    void sumPoints_ShouldSumUpChangelogAndCategoryPoints() {
+        // Given
+        IDutyEntity first = this.createDuty(LocalDateTime.now().minusMonths(1));
+        IDutyEntity second = this.createDuty(LocalDateTime.now().minusMonths(1).plusHours(2));
+        this.assign(first, this.musician);
+        this.assign(second, this.musician);
+
+        // When
+        SectionPointsCalculator calculator = new SectionPointsCalculator(
+            Arrays.asList(first, second),
+            this.changelogs
+        );
+
+        // Then
+        assertEquals(8, calculator.sumDutyPoints(this.musician), "Should use changelog points");
+        assertEquals(6, calculator.sumCategoryPoints(this.musician), "Should use category points");
+        assertEquals(2, calculator.countDuties(this.musician), "Should count both duties");
+    }
+
+    @Test
+    void ofLedger_ShouldSplitPointsByMonth() {
+        // Given
+        IMusicianMonthPointsEntity ledger = new MusicianMonthPointsEntity();
+        ledger.setMusician(this.musician);
+        ledger.setDutyPoints(8);
+        ledger.setCategoryPoints(6);
+
+        // When
+        ledger.setMonth(YearMonth.now().minusMonths(1).atDay(1));
+        MusicianPoints past = SectionPointsCalculator.ofLedger(this.musician, ledger);
+        ledger.setMonth(YearMonth.now().plusMonths(1).atDay(1));
+        MusicianPoints future = SectionPointsCalculator.ofLedger(this.musician, ledger);
+
+        // Then
+        assertEquals(8, past.getGainedPoints().getValue(), "Past duties should be gained");
+        assertEquals(0, past.getBalancePoints().getValue(), "Past month has no balance");
+        assertEquals(0, future.getGainedPoints().getValue(), "Future duties are not gained");
+        assertEquals(6, future.getBalancePoints().getValue(), "Future duties are balance");
+
+        ledger.setMonth(YearMonth.now().atDay(1));
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> SectionPointsCalculator.ofLedger(this.musician, ledger),
+            "Current month cannot be read from the ledger"
+        );
+    }
+
+    private IDutyCategoryChangelogEntity createChangelog(LocalDate startDate, int points) {
+        IDutyCategoryChangelogEntity changelog = new DutyCategoryChangelogEntity();
+        changelog.setDutyCategory(this.category);
+        changelog.setStartDate(startDate);
+        changelog.setPoints(points);
+        return changelog;
+    }
+
+    private IMusicianEntity createMusician(int id, String firstName, int pointsPerMonth) {
+        IUserEntity user = new UserEntity();
+        user.setFirstName(firstName);
+        user.setShortcut(firstName.substring(0, 2));
+
+        IMusicianEntity entity = new MusicianEntity();
+        entity.setMusicianId(id);
+        entity.setUser(user);
+
+        IContractualObligationEntity obligation = new ContractualObligationEntity();
+        obligation.setPointsPerMonth(pointsPerMonth);
+        entity.addContractualObligation(obligation);
+        return entity;
+    }
+
+    private IDutyEntity createDuty(LocalDateTime start) {
+        IDutyEntity duty = new DutyEntity();
+        duty.setDutyCategory(this.category);
+        duty.setStart(start);
+        duty.setEnd(start.plusHours(1));
+        return duty;
+    }
+
+    private void assign(IDutyEntity duty, IMusicianEntity musician) {
+        IDutyPositionEntity position = new DutyPositionEntity();
+        position.setMusician(musician);
+        duty.addDutyPosition(position);
+    }
+}
@@ -1,6 +1,8 @@
 package at.fhv.teamb.symphoniacus.domain;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import at.fhv.teamb.symphoniacus.application.type.DomainUserType;
 import at.fhv.teamb.symphoniacus.persistence.model.UserEntity;
@@ -58,4 +60,20 @@ public class UserTest {
             "Entity should be the same as previously set"
         );
     }
+
+    @Test
+    public void isPasswordCorrect_shouldOnlyAcceptStoredPassword() throws Exception {
+        // Given
+        this.userEntity.setPassword("verySecurePassword");
+
+        // When & Then
+        assertTrue(
+            this.userEntity.isPasswordCorrect("verySecurePassword"),
+            "Stored password should be correct"
+        );
+        assertFalse(
+            this.userEntity.isPasswordCorrect("wrongPassword"),
+            "Other password should not be correct"
+        );
+    }
 }
@@ -0,0 +1,92 @@
+package at.fhv.teamb.symphoniacus.domain;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import at.fhv.teamb.symphoniacus.persistence.model.DutyEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.MusicalPieceEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.MusicianEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.NegativeDutyWishEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.PositiveWishEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.SeriesOfPerformancesEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.WishEntryEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IMusicalPieceEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IMusicianEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.ISeriesOfPerformancesEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IWishEntryEntity;
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link WishEntryIndex} domain class.
+ */
+class WishEntryIndexTest {
+    private IDutyEntity duty;
+    private IDutyEntity otherDuty;
+    private IMusicalPieceEntity symphony;
+    private IMusicalPieceEntity overture;
+    private IMusicianEntity musician;
+
+    /**
+     * Initial setup for each test.
+     */
+    @BeforeEach
+    void setUp() {
+        ISeriesOfPerformancesEntity series = new SeriesOfPerformancesEntity();
+        series.setSeriesOfPerformancesId(1);
+
+        this.duty = new DutyEntity();
+        this.duty.setDutyId(1);
+        this.duty.setSeriesOfPerformances(series);
+        this.otherDuty = new DutyEntity();
+        this.otherDuty.setDutyId(2);
+
+        this.symphony = new MusicalPieceEntity();
+        this.symphony.setMusicalPieceId(1);
+        this.overture = new MusicalPieceEntity();
+        this.overture.setMusicalPieceId(2);
+
+        this.musician = new MusicianEntity();
+        this.musician.setMusicianId(1);
+    }
+
+    @Test
+    void hasWish_ShouldOnlyMatchMusicalPiecesOfTheDuty() {
+        // Given
+        PositiveWishEntity wish = new PositiveWishEntity();
+        wish.setMusician(this.musician);
+        IWishEntryEntity entry = new WishEntryEntity();
+        entry.setPositiveWish(wish);
+        entry.setDuty(this.duty);
+        entry.setMusicalPieces(Arrays.asList(this.symphony));
+
+        // When
+        WishEntryIndex index = new WishEntryIndex(Arrays.asList(entry));
+
+        // Then
+        assertTrue(index.hasWish(1, this.duty, 1), "Wish for the piece should be found");
+        assertFalse(index.hasWish(1, this.duty, 2), "Other piece should not be wished");
+        assertFalse(index.hasWish(1, this.otherDuty, 1), "Other duty should not be wished");
+        assertFalse(index.hasWish(2, this.duty, 1), "Other musician should have no wish");
+    }
+
+    @Test
+    void hasWish_ShouldMatchAllMusicalPiecesOfTheSeries() {
+        // Given
+        NegativeDutyWishEntity wish = new NegativeDutyWishEntity();
+        wish.setMusician(this.musician);
+        IWishEntryEntity entry = new WishEntryEntity();
+        entry.setNegativeDutyWish(wish);
+        entry.setSeriesOfPerformances(this.duty.getSeriesOfPerformances());
+        entry.setMusicalPieces(Arrays.asList(this.symphony, this.overture));
+
+        // When
+        WishEntryIndex index = new WishEntryIndex(Arrays.asList(entry));
+
+        // Then
+        assertTrue(index.hasWish(1, this.duty, 2), "Wish for the series should be found");
+        assertFalse(index.hasWish(1, this.otherDuty, 2), "Duty without series has no wish");
+    }
+}
@@ -0,0 +1,58 @@
+package at.fhv.teamb.symphoniacus.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import at.fhv.teamb.symphoniacus.domain.type.WishRequestType;
+import at.fhv.teamb.symphoniacus.persistence.model.MusicianEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.NegativeDateWishEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.PositiveWishEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IMusicianEntity;
+import java.util.Arrays;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link WishRequest} domain class.
+ */
+class WishRequestTest {
+
+    @Test
+    void mapByMusician_ShouldResolveFirstWishOfEveryMusician() {
+        // Given
+        IMusicianEntity first = this.createMusician(1);
+        IMusicianEntity second = this.createMusician(2);
+
+        PositiveWishEntity positive = new PositiveWishEntity();
+        positive.setMusician(first);
+        NegativeDateWishEntity negative = new NegativeDateWishEntity();
+        negative.setMusician(first);
+        NegativeDateWishEntity other = new NegativeDateWishEntity();
+        other.setMusician(second);
+
+        // When
+        Map<Integer, WishRequest> wishes = WishRequest.mapByMusician(
+            Arrays.asList(positive, negative, other)
+        );
+
+        // Then
+        assertEquals(2, wishes.size(), "Every musician should be mapped once");
+        assertSame(positive, wishes.get(1).getWishRequestEntity(), "First wish should win");
+        assertTrue(wishes.get(1).isWishPositive(), "Positive wish should be positive");
+        assertEquals(
+            WishRequestType.NEGATIVE_DATE_WISH,
+            wishes.get(2).getWishRequestType(),
+            "Type should be resolved"
+        );
+        assertFalse(wishes.get(2).isWishPositive(), "Negative wish should not be positive");
+        assertFalse(wishes.containsKey(3), "Musician without wish should not be mapped");
+    }
+
+    private IMusicianEntity createMusician(int id) {
+        IMusicianEntity musician = new MusicianEntity();
+        musician.setMusicianId(id);
+        return musician;
+    }
+}
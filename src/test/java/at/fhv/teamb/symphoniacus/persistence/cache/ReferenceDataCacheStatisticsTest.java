@@ -0,0 +1,71 @@
+package at.fhv.teamb.symphoniacus.persistence.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import at.fhv.teamb.symphoniacus.persistence.model.DutyCategoryEntity;
+import at.fhv.teamb.symphoniacus.persistence.model.DutyEntity;
+import javax.persistence.TypedQuery;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link ReferenceDataCacheStatistics} and {@link ReferenceDataCache} classes.
+ */
+class ReferenceDataCacheStatisticsTest {
+    private ReferenceDataCacheStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        CacheRegionStatistics entityRegion = mock(CacheRegionStatistics.class);
+        when(entityRegion.getHitCount()).thenReturn(6L);
+        when(entityRegion.getMissCount()).thenReturn(2L);
+        CacheRegionStatistics queryRegion = mock(CacheRegionStatistics.class);
+        when(queryRegion.getHitCount()).thenReturn(1L);
+        when(queryRegion.getMissCount()).thenReturn(1L);
+
+        ReferenceDataCache cache = mock(ReferenceDataCache.class);
+        when(cache.getEntityRegionStatistics(DutyCategoryEntity.class)).thenReturn(entityRegion);
+        when(cache.getQueryRegionStatistics()).thenReturn(queryRegion);
+        this.statistics = new ReferenceDataCacheStatistics(cache);
+    }
+
+    @Test
+    void getHitRatio_ShouldCombineEntityAndQueryRegions() {
+        // Then
+        assertEquals(6L, this.statistics.getEntityHitCount());
+        assertEquals(2L, this.statistics.getEntityMissCount());
+        assertEquals(0.7, this.statistics.getHitRatio(), 0.0001);
+    }
+
+    @Test
+    void recordInvalidation_ShouldCountInvalidations() {
+        // When
+        this.statistics.recordInvalidation();
+        this.statistics.recordInvalidation();
+
+        // Then
+        assertEquals(2L, this.statistics.getInvalidationCount());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void cacheable_ShouldMarkQueryAsCacheable() {
+        // Given
+        TypedQuery<DutyCategoryEntity> query = mock(TypedQuery.class);
+
+        // When
+        ReferenceDataCache.cacheable(query);
+
+        // Then
+        verify(query).setHint("org.hibernate.cacheable", true);
+        verify(query).setHint("org.hibernate.cacheRegion", ReferenceDataCache.QUERY_REGION);
+        assertTrue(ReferenceDataCache.isReferenceData(DutyCategoryEntity.class));
+        assertFalse(ReferenceDataCache.isReferenceData(DutyEntity.class));
+    }
+}
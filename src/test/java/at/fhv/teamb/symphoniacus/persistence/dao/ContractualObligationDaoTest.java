@@ -3,12 +3,15 @@ package at.fhv.teamb.symphoniacus.persistence.dao;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
+import at.fhv.teamb.symphoniacus.persistence.UnitOfWork;
 import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.IContractualObligationDao;
 import at.fhv.teamb.symphoniacus.persistence.model.MusicianEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IContractualObligationEntity;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 
@@ -21,12 +24,23 @@ import org.junit.jupiter.api.TestInstance;
 class ContractualObligationDaoTest {
     private static final Logger LOG = LogManager.getLogger(ContractualObligationDaoTest.class);
     private IContractualObligationDao dao;
+    private UnitOfWork unitOfWork;
 
     @BeforeAll
     void initialize() {
         this.dao = new ContractualObligationDao();
     }
 
+    @BeforeEach
+    void openUnitOfWork() {
+        this.unitOfWork = UnitOfWork.begin();
+    }
+
+    @AfterEach
+    void closeUnitOfWork() {
+        this.unitOfWork.close();
+    }
+
     /**
      * Tests if the Method returns a filled ContractualObligationEntity Object.
      * Tests if the ID from given musician matches with the returning ContractualObligationEntity
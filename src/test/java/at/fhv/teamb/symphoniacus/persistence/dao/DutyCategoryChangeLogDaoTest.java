@@ -3,6 +3,7 @@ package at.fhv.teamb.symphoniacus.persistence.dao;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
+import at.fhv.teamb.symphoniacus.persistence.UnitOfWork;
 import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.IDutyCategoryChangeLogDao;
 import at.fhv.teamb.symphoniacus.persistence.model.DutyCategoryEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyCategoryChangelogEntity;
@@ -10,7 +11,9 @@ import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyCategoryEntit
 import java.util.List;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 
@@ -23,12 +26,23 @@ import org.junit.jupiter.api.TestInstance;
 class DutyCategoryChangeLogDaoTest {
     private static final Logger LOG = LogManager.getLogger(DutyCategoryChangeLogDaoTest.class);
     private IDutyCategoryChangeLogDao dao;
+    private UnitOfWork unitOfWork;
 
     @BeforeAll
     void initialize() {
         dao = new DutyCategoryChangeLogDao();
     }
 
+    @BeforeEach
+    void openUnitOfWork() {
+        this.unitOfWork = UnitOfWork.begin();
+    }
+
+    @AfterEach
+    void closeUnitOfWork() {
+        this.unitOfWork.close();
+    }
+
     /**
      * Tests if returning List is not null.
      * Tests if the given DutyCategory.Id matches with every DutyCategoryChangeLog.DutyCategoryId
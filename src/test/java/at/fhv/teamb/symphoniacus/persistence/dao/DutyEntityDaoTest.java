@@ -1,17 +1,24 @@
 package at.fhv.teamb.symphoniacus.persistence.dao;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import at.fhv.teamb.symphoniacus.persistence.UnitOfWork;
 import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.IDutyDao;
+import at.fhv.teamb.symphoniacus.persistence.model.DutyCalendarRow;
 import at.fhv.teamb.symphoniacus.persistence.model.MusicianEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.SectionEntity;
 import at.fhv.teamb.symphoniacus.persistence.model.interfaces.IDutyEntity;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.LinkedList;
 import java.util.List;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 
@@ -19,12 +26,23 @@ import org.junit.jupiter.api.TestInstance;
 class DutyEntityDaoTest {
     private static final Logger LOG = LogManager.getLogger(DutyEntityDaoTest.class);
     private IDutyDao dao;
+    private UnitOfWork unitOfWork;
 
     @BeforeAll
     void initialize() {
         this.dao = new DutyDao();
     }
 
+    @BeforeEach
+    void openUnitOfWork() {
+        this.unitOfWork = UnitOfWork.begin();
+    }
+
+    @AfterEach
+    void closeUnitOfWork() {
+        this.unitOfWork.close();
+    }
+
     @Test
     void testFindAllDutiesForWeek_ShouldReturnNotNull() {
         // When
@@ -37,6 +55,60 @@ class DutyEntityDaoTest {
         assertNotNull(list);
     }
 
+    @Test
+    void streamAllInRange_ShouldReturnAllDutiesInOrderedChunks() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2020, 1, 1, 0, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2020, 12, 31, 0, 0, 0);
+        List<IDutyEntity> streamed = new LinkedList<>();
+
+        // When
+        this.dao.streamAllInRange(start, end, 10, chunk -> {
+            assertTrue(chunk.size() <= 10, "A chunk must not exceed the chunk size");
+            streamed.addAll(chunk);
+        });
+
+        // Then
+        assertEquals(
+            this.dao.findAllInRange(start, end).size(),
+            streamed.size(),
+            "All duties of the range have to be streamed"
+        );
+        for (int i = 1; i < streamed.size(); i++) {
+            assertTrue(
+                !streamed.get(i).getStart().isBefore(streamed.get(i - 1).getStart()),
+                "The duties have to be streamed ordered by their start"
+            );
+        }
+    }
+
+    @Test
+    void streamCalendarRowsInRange_ShouldMatchLoadedDuties() {
+        // Given
+        LocalDateTime start = LocalDateTime.of(2020, 1, 1, 0, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2020, 12, 31, 0, 0, 0);
+        List<DutyCalendarRow> rows = new LinkedList<>();
+
+        // When
+        this.dao.streamCalendarRowsInRange(start, end, 10, rows::addAll);
+
+        // Then
+        List<IDutyEntity> duties = this.dao.findAllInRange(start, end);
+        assertEquals(duties.size(), rows.size(), "Every duty of the range needs a row");
+        for (int i = 0; i < rows.size(); i++) {
+            assertEquals(
+                duties.get(i).getDutyId(),
+                rows.get(i).getDutyId(),
+                "The rows have to be in the order of the duties"
+            );
+            assertEquals(
+                duties.get(i).getDutyCategory().getType(),
+                rows.get(i).getCategoryType(),
+                "The row has to contain the category of its duty"
+            );
+        }
+    }
+
     @Test
     void findAllInRangeWithSection_ShouldReturnNotNull() {
         // Given
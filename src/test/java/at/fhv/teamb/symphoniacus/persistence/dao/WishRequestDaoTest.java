@@ -1,5 +1,6 @@
 package at.fhv.teamb.symphoniacus.persistence.dao;
 
+import at.fhv.teamb.symphoniacus.persistence.UnitOfWork;
 import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.IDutyDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.INegativeDateWishDao;
 import at.fhv.teamb.symphoniacus.persistence.dao.interfaces.INegativeDutyWishDao;
@@ -11,8 +12,10 @@ import java.util.Optional;
 import java.util.Random;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
 
@@ -22,6 +25,7 @@ class WishRequestDaoTest {
     private IPositiveWishDao pdao;
     private INegativeDutyWishDao ndutydao;
     private INegativeDateWishDao ndatedao;
+    private UnitOfWork unitOfWork;
 
     @BeforeAll
     void initialize() {
@@ -30,6 +34,16 @@ class WishRequestDaoTest {
         this.ndatedao = new NegativeDateWishDao();
     }
 
+    @BeforeEach
+    void openUnitOfWork() {
+        this.unitOfWork = UnitOfWork.begin();
+    }
+
+    @AfterEach
+    void closeUnitOfWork() {
+        this.unitOfWork.close();
+    }
+
     @Test
     void getAllWishes_ShouldNotReturnNullAndWishesAreValid() {
         Random rand = new Random();
@@ -0,0 +1,56 @@
+package at.fhv.teamb.symphoniacus.persistence.pool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.zaxxer.hikari.metrics.PoolStats;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the {@link ConnectionPoolMetrics} class.
+ */
+class ConnectionPoolMetricsTest {
+    private ConnectionPoolMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        PoolStats stats = new PoolStats(0) {
+            @Override
+            protected void update() {
+                this.activeConnections = 3;
+                this.idleConnections = 2;
+                this.pendingThreads = 1;
+                this.totalConnections = 5;
+                this.maxConnections = 10;
+            }
+        };
+        this.metrics = new ConnectionPoolMetrics(stats);
+    }
+
+    @Test
+    void getConnections_ShouldReturnPoolStats() {
+        assertEquals(3, this.metrics.getActiveConnections());
+        assertEquals(2, this.metrics.getIdleConnections());
+        assertEquals(1, this.metrics.getPendingThreads());
+        assertEquals(5, this.metrics.getTotalConnections());
+        assertEquals(10, this.metrics.getMaxConnections());
+    }
+
+    @Test
+    void recordConnectionAcquiredNanos_ShouldTrackLatency() {
+        // Given
+        assertEquals(0, this.metrics.getAverageAcquireMillis());
+
+        // When
+        this.metrics.recordConnectionAcquiredNanos(TimeUnit.MILLISECONDS.toNanos(2));
+        this.metrics.recordConnectionAcquiredNanos(TimeUnit.MILLISECONDS.toNanos(4));
+        this.metrics.recordConnectionTimeout();
+
+        // Then
+        assertEquals(2, this.metrics.getAcquireCount());
+        assertEquals(3, this.metrics.getAverageAcquireMillis(), 0.001);
+        assertEquals(4, this.metrics.getMaxAcquireMillis(), 0.001);
+        assertEquals(1, this.metrics.getTimeoutCount());
+    }
+}
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import at.fhv.teamb.symphoniacus.domain.Duty;
+import at.fhv.teamb.symphoniacus.persistence.model.DutyCalendarRow;
 import at.fhv.teamb.symphoniacus.persistence.model.DutyEntity;
 import com.calendarfx.model.Calendar;
 import com.calendarfx.model.CalendarSource;
@@ -54,8 +55,13 @@ class DutySchedulerCalendarControllerTest {
         Calendar calendar = new Calendar();
         List<Duty> testDuties = this.prepareTestDuties();
 
+        List<DutyCalendarRow> testRows = new LinkedList<>();
+        for (Duty duty : testDuties) {
+            testRows.add(DutyCalendarRow.of(duty.getEntity()));
+        }
+
         // When
-        controller.fillCalendar(calendar, testDuties);
+        controller.fillCalendar(calendar, testRows);
 
         // Then
         for (Duty duty : testDuties) {